@@ -164,7 +164,15 @@ public class DefaultClusterEventService
 
   /** Updates all active peers with a given subscription. */
   private CompletableFuture<Void> updateNodes() {
-    final String topicSubscribed = topicsAsString(new HashSet<>(topics.keySet()));
+    // only advertise the topics with local subscriptions, not the ones known from other members
+    final Set<String> localTopics = new HashSet<>();
+    topics.forEach(
+        (name, topic) -> {
+          if (topic.remoteSubscriptions().contains(localMemberId)) {
+            localTopics.add(name);
+          }
+        });
+    final String topicSubscribed = topicsAsString(localTopics);
     membershipService
         .getLocalMember()
         .properties()
@@ -249,13 +257,21 @@ public class DefaultClusterEventService
     final String topicSubscribedAsString =
         event.subject().properties().getProperty(SUBSCRIPTION_PROPERTY_NAME);
     if (topicSubscribedAsString != null) {
+      final MemberId memberId = event.subject().id();
       final Set<String> topicsSubscribed = topicsFromString(topicSubscribedAsString);
       topicsSubscribed.forEach(
           topic ->
               topics
                   .computeIfAbsent(topic, t -> new InternalTopic(topic))
-                  .addRemoteSubscription(event.subject().id()));
-      remoteMemberSubscriptions.put(event.subject().id(), topicsSubscribed);
+                  .addRemoteSubscription(memberId));
+
+      final Set<String> prevSubscriptions =
+          remoteMemberSubscriptions.put(memberId, topicsSubscribed);
+      if (prevSubscriptions != null) {
+        prevSubscriptions.stream()
+            .filter(topic -> !topicsSubscribed.contains(topic))
+            .forEach(topic -> topics.get(topic).removeRemoteSubscription(memberId));
+      }
     } else {
       removeAllSubscription(event.subject().id());
     }
@@ -39,6 +39,7 @@ import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -173,12 +174,16 @@ abstract class AbstractAppender implements AutoCloseable {
     member.startAppend();
 
     final long timestamp = System.currentTimeMillis();
+    final var appendRequestEvent =
+        FlightRecorderEvents.beginIfEnabled(AppendRequestEvent.class, AppendRequestEvent::new);
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
         .append(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
+              commitAppendRequestEvent(appendRequestEvent, member, request, error == null);
+
               // Complete the append to the member.
               final long appendLatency = System.currentTimeMillis() - timestamp;
               metrics.appendComplete(appendLatency, member.getMember().memberId().id());
@@ -204,6 +209,26 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  private void commitAppendRequestEvent(
+      final AppendRequestEvent appendRequestEvent,
+      final RaftMemberContext member,
+      final AppendRequest request,
+      final boolean succeeded) {
+    if (appendRequestEvent == null) {
+      return;
+    }
+
+    appendRequestEvent.end();
+    if (appendRequestEvent.shouldCommit()) {
+      appendRequestEvent.partitionName = raft.getName();
+      appendRequestEvent.memberId = member.getMember().memberId().id();
+      appendRequestEvent.previousIndex = request.prevLogIndex();
+      appendRequestEvent.entries = request.entries().size();
+      appendRequestEvent.succeeded = succeeded;
+      appendRequestEvent.commit();
+    }
+  }
+
   /** Handles an append failure. */
   protected void handleAppendResponseFailure(
       final RaftMemberContext member, final AppendRequest request, final Throwable error) {
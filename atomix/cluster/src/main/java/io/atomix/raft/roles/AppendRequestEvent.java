@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.roles;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for an append request which the leader sent to a follower, from sending
+ * the request until receiving the response or failure. Only requests which take longer than the
+ * threshold are recorded.
+ */
+@Name("io.atomix.raft.AppendRequest")
+@Label("Append Request")
+@Category({"Zeebe", "Raft"})
+@Description("An append request from the leader to a follower")
+@Threshold("20 ms")
+@StackTrace(false)
+final class AppendRequestEvent extends Event {
+
+  @Label("Partition")
+  String partitionName;
+
+  @Label("Member")
+  String memberId;
+
+  @Label("Previous Index")
+  long previousIndex;
+
+  @Label("Entries")
+  int entries;
+
+  @Label("Succeeded")
+  @Description("Whether a response was received, regardless of whether the follower accepted it")
+  boolean succeeded;
+}
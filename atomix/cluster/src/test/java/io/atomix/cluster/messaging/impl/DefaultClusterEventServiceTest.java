@@ -326,6 +326,172 @@ public class DefaultClusterEventServiceTest {
     assertEquals(1, events.size());
   }
 
+  @Test
+  public void shouldRemoveRemoteSubscriptionAfterUnsubscribe() {
+    // given
+    membersDiscovered = new CountDownLatch(4);
+    final Collection<Node> bootstrapLocations = buildBootstrapNodes(2);
+    final ClusterEventService eventService1 = buildServices(1, bootstrapLocations);
+    final ClusterEventService eventService2 = buildServices(2, bootstrapLocations);
+
+    final String topic = "test-topic";
+    final String otherTopic = "other-topic";
+    final var subscription =
+        eventService1
+            .<String>subscribe(
+                topic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+            .join();
+    eventService1
+        .<String>subscribe(
+            otherTopic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(topic).contains(MemberId.from("1")));
+    waitUntil(() -> eventService2.getSubscribers(otherTopic).contains(MemberId.from("1")));
+
+    // when
+    subscription.close().join();
+
+    // then
+    waitUntil(() -> eventService2.getSubscribers(topic).isEmpty());
+    assertThat(eventService2.getSubscribers(otherTopic)).containsExactly(MemberId.from("1"));
+  }
+
+  @Test
+  public void shouldNotAdvertiseTopicsOfOtherMembers() {
+    // given
+    membersDiscovered = new CountDownLatch(4);
+    final Collection<Node> bootstrapLocations = buildBootstrapNodes(2);
+    final ClusterEventService eventService1 = buildServices(1, bootstrapLocations);
+    final ClusterEventService eventService2 = buildServices(2, bootstrapLocations);
+
+    final String topic = "test-topic";
+    final String otherTopic = "other-topic";
+    eventService1
+        .<String>subscribe(topic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(topic).contains(MemberId.from("1")));
+
+    // when
+    eventService2
+        .<String>subscribe(
+            otherTopic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+        .join();
+
+    // then
+    waitUntil(() -> eventService1.getSubscribers(otherTopic).contains(MemberId.from("2")));
+    assertThat(eventService1.getSubscribers(topic)).containsExactly(MemberId.from("1"));
+  }
+
+  @Test
+  public void shouldKeepSubscriptionsOfOtherMembersAfterUnsubscribe() throws InterruptedException {
+    // given
+    membersDiscovered = new CountDownLatch(6);
+    final Collection<Node> bootstrapLocations = buildBootstrapNodes(3);
+    final ClusterEventService eventService1 = buildServices(1, bootstrapLocations);
+    final ClusterEventService eventService2 = buildServices(2, bootstrapLocations);
+    final ClusterEventService eventService3 = buildServices(3, bootstrapLocations);
+
+    final Set<Integer> events = new CopyOnWriteArraySet<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final String topic = "test-topic";
+    final var subscription =
+        eventService1
+            .<String>subscribe(
+                topic, SERIALIZER::decode, message -> events.add(1), MoreExecutors.directExecutor())
+            .join();
+    eventService3
+        .<String>subscribe(
+            topic,
+            SERIALIZER::decode,
+            message -> {
+              events.add(3);
+              latch.countDown();
+            },
+            MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(topic).size() == 2);
+
+    // when
+    subscription.close().join();
+    waitUntil(() -> !eventService2.getSubscribers(topic).contains(MemberId.from("1")));
+    eventService2.broadcast(topic, "Hello world!", SERIALIZER::encode);
+
+    // then
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(eventService2.getSubscribers(topic)).containsExactly(MemberId.from("3"));
+    assertThat(events).containsExactly(3);
+  }
+
+  @Test
+  public void shouldKeepAdvertisingTopicWhileLocalSubscriptionIsOpen() throws InterruptedException {
+    // given
+    membersDiscovered = new CountDownLatch(4);
+    final Collection<Node> bootstrapLocations = buildBootstrapNodes(2);
+    final ClusterEventService eventService1 = buildServices(1, bootstrapLocations);
+    final ClusterEventService eventService2 = buildServices(2, bootstrapLocations);
+
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final String topic = "test-topic";
+    final String otherTopic = "other-topic";
+    final var subscriptionToClose =
+        eventService1
+            .<String>subscribe(
+                topic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+            .join();
+    eventService1
+        .<String>subscribe(
+            topic, SERIALIZER::decode, message -> latch.countDown(), MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(topic).contains(MemberId.from("1")));
+
+    // when
+    subscriptionToClose.close().join();
+    // once the other topic is advertised, the subscriptions after the close were propagated
+    eventService1
+        .<String>subscribe(
+            otherTopic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(otherTopic).contains(MemberId.from("1")));
+    eventService2.broadcast(topic, "Hello world!", SERIALIZER::encode);
+
+    // then
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(eventService2.getSubscribers(topic)).containsExactly(MemberId.from("1"));
+  }
+
+  @Test
+  public void shouldKeepSubscriptionAfterSubscribingToOtherTopic() throws InterruptedException {
+    // given
+    membersDiscovered = new CountDownLatch(4);
+    final Collection<Node> bootstrapLocations = buildBootstrapNodes(2);
+    final ClusterEventService eventService1 = buildServices(1, bootstrapLocations);
+    final ClusterEventService eventService2 = buildServices(2, bootstrapLocations);
+
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final String topic = "test-topic";
+    final String otherTopic = "other-topic";
+    eventService1
+        .<String>subscribe(
+            topic, SERIALIZER::decode, message -> latch.countDown(), MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(topic).contains(MemberId.from("1")));
+
+    // when
+    eventService1
+        .<String>subscribe(
+            otherTopic, SERIALIZER::decode, message -> {}, MoreExecutors.directExecutor())
+        .join();
+    waitUntil(() -> eventService2.getSubscribers(otherTopic).contains(MemberId.from("1")));
+    eventService2.broadcast(topic, "Hello world!", SERIALIZER::encode);
+
+    // then
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(eventService2.getSubscribers(topic)).containsExactly(MemberId.from("1"));
+  }
+
   @Test
   public void shouldBroadcastAfterRestart() throws InterruptedException {
     // given
@@ -286,6 +286,21 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream}, like {@link
+   * #readModelFromStream(InputStream)}. The stream is validated against the BPMN schema while it is
+   * parsed, instead of validating the parsed document in a second pass, which reduces the time and
+   * the garbage of reading large models.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   * @throws ModelValidationException if the model is not valid
+   */
+  public static BpmnModelInstance readModelFromStreamInSinglePass(final InputStream stream) {
+    return INSTANCE.doReadModelFromInputStreamInSinglePass(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -392,6 +407,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadModelFromInputStreamInSinglePass(final InputStream is) {
+    return bpmnParser.parseModelFromStreamInSinglePass(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
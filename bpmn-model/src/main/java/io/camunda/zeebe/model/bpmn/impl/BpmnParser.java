@@ -20,13 +20,26 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_20_SCHEMA_LOCATION;
 
 import io.camunda.zeebe.model.bpmn.Bpmn;
+import java.io.IOException;
 import java.io.InputStream;
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+import org.camunda.bpm.model.xml.ModelParseException;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
+import org.camunda.bpm.model.xml.impl.instance.DomDocumentImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil.DomErrorHandler;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 /**
  * The parser used when parsing BPMN Files
@@ -42,9 +55,28 @@ public class BpmnParser extends AbstractModelParser {
 
   private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
 
+  private static final String DISALLOW_DOCTYPE_DECL =
+      "http://apache.org/xml/features/disallow-doctype-decl";
+  private static final String EXTERNAL_GENERAL_ENTITIES =
+      "http://xml.org/sax/features/external-general-entities";
+  private static final String EXTERNAL_PARAMETER_ENTITIES =
+      "http://xml.org/sax/features/external-parameter-entities";
+  private static final String LEXICAL_HANDLER = "http://xml.org/sax/properties/lexical-handler";
+
+  private final Schema bpmnSchema;
+  private final SAXParserFactory saxParserFactory;
+  private final DocumentBuilderFactory documentFactory;
+
   public BpmnParser() {
     schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA);
-    addSchema(BPMN20_NS, createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
+    bpmnSchema = createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader());
+    addSchema(BPMN20_NS, bpmnSchema);
+
+    saxParserFactory = SAXParserFactory.newInstance();
+    configureSaxParserFactory(saxParserFactory);
+
+    documentFactory = DocumentBuilderFactory.newInstance();
+    documentFactory.setNamespaceAware(true);
   }
 
   @Override
@@ -62,6 +94,45 @@ public class BpmnParser extends AbstractModelParser {
     return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
   }
 
+  /**
+   * Parses the model like {@link #parseModelFromStream(InputStream)}, but in a single pass over the
+   * document: the SAX events of the document are validated against the compiled BPMN schema and
+   * then build the DOM. The DOM path loads the schema again for every document, validates the
+   * document while it parses it, and then validates the parsed DOM a second time. The resulting
+   * model and the errors are the same for both.
+   *
+   * @param inputStream the stream to read the model from
+   * @return the model read
+   * @throws ModelParseException if the document is not well-formed or doesn't match the schema
+   */
+  public BpmnModelInstanceImpl parseModelFromStreamInSinglePass(final InputStream inputStream) {
+    final Document document;
+    try {
+      document = documentFactory.newDocumentBuilder().newDocument();
+      final DomErrorHandler errorHandler = new DomErrorHandler();
+
+      final ValidatorHandler validator = bpmnSchema.newValidatorHandler();
+      final DomBuilder domBuilder = new DomBuilder(document, validator.getTypeInfoProvider());
+      validator.setErrorHandler(errorHandler);
+      validator.setContentHandler(domBuilder);
+
+      final XMLReader reader = saxParserFactory.newSAXParser().getXMLReader();
+      reader.setErrorHandler(errorHandler);
+      reader.setContentHandler(validator);
+      reader.setProperty(LEXICAL_HANDLER, domBuilder);
+      reader.parse(new InputSource(inputStream));
+
+    } catch (final ParserConfigurationException e) {
+      throw new ModelParseException("ParserConfigurationException while parsing input stream", e);
+    } catch (final SAXException e) {
+      throw new ModelParseException("SAXException while parsing input stream", e);
+    } catch (final IOException e) {
+      throw new ModelParseException("IOException while parsing input stream", e);
+    }
+
+    return createModelInstance(new DomDocumentImpl(document));
+  }
+
   @Override
   public BpmnModelInstanceImpl getEmptyModel() {
     return (BpmnModelInstanceImpl) super.getEmptyModel();
@@ -72,4 +143,19 @@ public class BpmnParser extends AbstractModelParser {
     return new BpmnModelInstanceImpl(
         (ModelImpl) Bpmn.INSTANCE.getBpmnModel(), Bpmn.INSTANCE.getBpmnModelBuilder(), document);
   }
+
+  /** Configures the parser of the single pass like the document builder of the DOM path. */
+  private void configureSaxParserFactory(final SAXParserFactory factory) {
+    factory.setNamespaceAware(true);
+    factory.setValidating(false);
+    factory.setXIncludeAware(false);
+    try {
+      factory.setFeature(EXTERNAL_GENERAL_ENTITIES, false);
+      factory.setFeature(DISALLOW_DOCTYPE_DECL, true);
+      factory.setFeature(EXTERNAL_PARAMETER_ENTITIES, false);
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    } catch (final ParserConfigurationException | SAXException e) {
+      throw new ModelParseException("Unable to configure the SAX parser factory", e);
+    }
+  }
 }
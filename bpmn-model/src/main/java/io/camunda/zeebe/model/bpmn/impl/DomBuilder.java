@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.camunda.zeebe.model.bpmn.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.validation.TypeInfoProvider;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Builds the DOM of a document from its SAX events. The DOM is the same as the one of a namespace
+ * aware {@link javax.xml.parsers.DocumentBuilder} which keeps comments and CDATA sections.
+ *
+ * <p>Together with a {@link javax.xml.validation.ValidatorHandler} in front of it, the document can
+ * be validated while its DOM is built, in a single pass over the document. The attributes which the
+ * schema declares as IDs are marked as ID attributes, like the validating document builder does, so
+ * that the elements can be looked up by their ids.
+ */
+final class DomBuilder implements ContentHandler, LexicalHandler {
+
+  private final Document document;
+  private final TypeInfoProvider typeInfoProvider;
+  private final List<String[]> prefixMappings = new ArrayList<>();
+
+  private Node currentNode;
+  private boolean isInCdata;
+  private CDATASection currentCdata;
+
+  DomBuilder(final Document document, final TypeInfoProvider typeInfoProvider) {
+    this.document = document;
+    this.typeInfoProvider = typeInfoProvider;
+    currentNode = document;
+  }
+
+  @Override
+  public void setDocumentLocator(final Locator locator) {
+    // the DOM doesn't keep the location of the nodes
+  }
+
+  @Override
+  public void startDocument() {
+    // the document is created beforehand
+  }
+
+  @Override
+  public void endDocument() {
+    // nothing to complete
+  }
+
+  @Override
+  public void startPrefixMapping(final String prefix, final String uri) {
+    // the mappings are declared on the next element, which is started after them
+    prefixMappings.add(new String[] {prefix, uri});
+  }
+
+  @Override
+  public void endPrefixMapping(final String prefix) {
+    // the declaration ends with its element
+  }
+
+  @Override
+  public void startElement(
+      final String uri, final String localName, final String qName, final Attributes attributes) {
+    final Element element = document.createElementNS(emptyToNull(uri), qName);
+
+    for (final String[] prefixMapping : prefixMappings) {
+      final String prefix = prefixMapping[0];
+      final String attributeName =
+          prefix.isEmpty()
+              ? XMLConstants.XMLNS_ATTRIBUTE
+              : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+      element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attributeName, prefixMapping[1]);
+    }
+    prefixMappings.clear();
+
+    for (int i = 0; i < attributes.getLength(); i++) {
+      final String attributeUri = emptyToNull(attributes.getURI(i));
+      element.setAttributeNS(attributeUri, attributes.getQName(i), attributes.getValue(i));
+
+      if (typeInfoProvider.isIdAttribute(i)) {
+        element.setIdAttributeNS(attributeUri, attributes.getLocalName(i), true);
+      }
+    }
+
+    currentNode.appendChild(element);
+    currentNode = element;
+  }
+
+  @Override
+  public void endElement(final String uri, final String localName, final String qName) {
+    currentNode = currentNode.getParentNode();
+  }
+
+  @Override
+  public void characters(final char[] ch, final int start, final int length) {
+    if (currentNode == document) {
+      // the DOM doesn't keep the whitespace outside of the root element
+      return;
+    }
+
+    final Node lastChild = currentNode.getLastChild();
+    if (isInCdata && currentCdata == null) {
+      currentCdata = document.createCDATASection(new String(ch, start, length));
+      currentNode.appendChild(currentCdata);
+
+    } else if (isInCdata) {
+      currentCdata.appendData(new String(ch, start, length));
+
+    } else if (lastChild != null && lastChild.getNodeType() == Node.TEXT_NODE) {
+      // the parser may report the text of a node in multiple chunks
+      ((Text) lastChild).appendData(new String(ch, start, length));
+
+    } else {
+      currentNode.appendChild(document.createTextNode(new String(ch, start, length)));
+    }
+  }
+
+  @Override
+  public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+    characters(ch, start, length);
+  }
+
+  @Override
+  public void processingInstruction(final String target, final String data) {
+    currentNode.appendChild(document.createProcessingInstruction(target, data));
+  }
+
+  @Override
+  public void skippedEntity(final String name) {
+    // entities are not allowed, since doctype declarations are disallowed
+  }
+
+  @Override
+  public void startDTD(final String name, final String publicId, final String systemId) {
+    // doctype declarations are disallowed
+  }
+
+  @Override
+  public void endDTD() {
+    // doctype declarations are disallowed
+  }
+
+  @Override
+  public void startEntity(final String name) {
+    // the entities are expanded
+  }
+
+  @Override
+  public void endEntity(final String name) {
+    // the entities are expanded
+  }
+
+  @Override
+  public void startCDATA() {
+    isInCdata = true;
+  }
+
+  @Override
+  public void endCDATA() {
+    isInCdata = false;
+    currentCdata = null;
+  }
+
+  @Override
+  public void comment(final char[] ch, final int start, final int length) {
+    currentNode.appendChild(document.createComment(new String(ch, start, length)));
+  }
+
+  private static String emptyToNull(final String uri) {
+    return uri == null || uri.isEmpty() ? null : uri;
+  }
+}
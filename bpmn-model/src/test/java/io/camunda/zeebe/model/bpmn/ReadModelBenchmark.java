@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.model.bpmn;
+
+import com.sun.management.ThreadMXBean;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Compares the time and the allocated memory of reading a large generated model with the DOM path
+ * ({@link Bpmn#readModelFromStream(InputStream)}) and with the single pass ({@link
+ * Bpmn#readModelFromStreamInSinglePass(InputStream)}).
+ *
+ * <p>It is not run as part of the build; run it with the test classpath, optionally passing the
+ * number of service tasks of the model and the number of measured iterations.
+ */
+public final class ReadModelBenchmark {
+
+  private static final int WARMUP_ITERATIONS = 5;
+
+  private ReadModelBenchmark() {}
+
+  public static void main(final String[] args) {
+    final int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+    final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+    final byte[] xml =
+        Bpmn.convertToString(ReadModelInSinglePassTest.createLargeProcess(tasks))
+            .getBytes(StandardCharsets.UTF_8);
+    System.out.printf("Model with %d service tasks, %d KB%n", tasks, xml.length / 1024);
+
+    measure("DOM path", Bpmn::readModelFromStream, xml, iterations);
+    measure("Single pass", Bpmn::readModelFromStreamInSinglePass, xml, iterations);
+  }
+
+  private static void measure(
+      final String name,
+      final Function<InputStream, BpmnModelInstance> reader,
+      final byte[] xml,
+      final int iterations) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      reader.apply(new ByteArrayInputStream(xml));
+    }
+
+    final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().getId();
+
+    final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    final long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      reader.apply(new ByteArrayInputStream(xml));
+    }
+    final long elapsed = System.nanoTime() - start;
+    final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    System.out.printf(
+        "%-12s %8.1f ms/op %10.1f MB allocated/op%n",
+        name, elapsed / 1e6 / iterations, allocated / 1024.0 / 1024.0 / iterations);
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.model.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.model.bpmn.instance.ServiceTask;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.junit.Test;
+import org.w3c.dom.Node;
+
+public class ReadModelInSinglePassTest {
+
+  @Test
+  public void shouldReadSameModelAsDomPath() {
+    // given
+    final String xml = Bpmn.convertToString(createLargeProcess(100));
+
+    // when
+    final BpmnModelInstance model = readInSinglePass(xml);
+
+    // then
+    assertSameDocument(model, Bpmn.readModelFromStream(toStream(xml)));
+    assertThat(model.getModelElementsByType(ServiceTask.class)).hasSize(100);
+  }
+
+  @Test
+  public void shouldReadSameModelFromResources() {
+    // given
+    final String[] resources = {
+      "CollaborationParserTest.bpmn",
+      "DataObjectTest.bpmn",
+      "DataStoreTest.bpmn",
+      "DefinitionsTest.shouldNotAffectComments.bpmn",
+      "ProcessTest.shouldImportProcess.bpmn",
+      "ReferenceTest.shouldFindReferenceWithNamespace.bpmn",
+      "ResourceRolesTest.bpmn",
+      "validation/collaboration-with-lanes.bpmn"
+    };
+
+    for (final String resource : resources) {
+      // when
+      final BpmnModelInstance model =
+          Bpmn.readModelFromStreamInSinglePass(getClass().getResourceAsStream(resource));
+
+      // then
+      assertSameDocument(model, Bpmn.readModelFromStream(getClass().getResourceAsStream(resource)));
+    }
+  }
+
+  @Test
+  public void shouldResolveReferencesById() {
+    // given
+    final String xml = Bpmn.convertToString(createLargeProcess(2));
+
+    // when
+    final BpmnModelInstance model = readInSinglePass(xml);
+
+    // then
+    final ServiceTask task = model.getModelElementById("task-1");
+    assertThat(task).isNotNull();
+    assertThat(task.getIncoming())
+        .extracting(flow -> flow.getSource().getId())
+        .containsExactly("task-0");
+  }
+
+  @Test
+  public void shouldKeepCommentsAndCdata() {
+    // given
+    final String xml =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+            + " targetNamespace=\"test\">"
+            + "<!-- a comment -->"
+            + "<process id=\"process\"><documentation><![CDATA[a < b]]></documentation></process>"
+            + "</definitions>";
+
+    // when
+    final BpmnModelInstance model = readInSinglePass(xml);
+
+    // then
+    assertSameDocument(model, Bpmn.readModelFromStream(toStream(xml)));
+  }
+
+  @Test
+  public void shouldRejectInvalidModelLikeDomPath() {
+    // given
+    final String xml =
+        Bpmn.convertToString(createLargeProcess(1)).replace("startEvent", "unknownEvent");
+
+    // when
+    final Throwable singlePassFailure = catchThrowable(() -> readInSinglePass(xml));
+    final Throwable domFailure = catchThrowable(() -> Bpmn.readModelFromStream(toStream(xml)));
+
+    // then
+    assertThat(singlePassFailure)
+        .isInstanceOf(ModelParseException.class)
+        .hasMessage(domFailure.getMessage());
+    assertThat(singlePassFailure.getCause()).hasMessageContaining("cvc-complex-type");
+  }
+
+  @Test
+  public void shouldRejectMalformedModelLikeDomPath() {
+    // given
+    final String xml = "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">";
+
+    // when
+    final Throwable singlePassFailure = catchThrowable(() -> readInSinglePass(xml));
+    final Throwable domFailure = catchThrowable(() -> Bpmn.readModelFromStream(toStream(xml)));
+
+    // then
+    assertThat(singlePassFailure)
+        .isInstanceOf(ModelParseException.class)
+        .hasMessage(domFailure.getMessage());
+  }
+
+  @Test
+  public void shouldRejectDoctypeDeclaration() {
+    // given
+    final String xml =
+        "<?xml version=\"1.0\"?><!DOCTYPE definitions [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+            + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+            + " targetNamespace=\"&xxe;\"/>";
+
+    // when
+    final Throwable failure = catchThrowable(() -> readInSinglePass(xml));
+
+    // then
+    assertThat(failure).isInstanceOf(ModelParseException.class);
+    assertThat(failure.getCause()).hasMessageContaining("DOCTYPE");
+  }
+
+  static BpmnModelInstance createLargeProcess(final int tasks) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int i = 0; i < tasks; i++) {
+      builder =
+          builder.serviceTask(
+              "task-" + i,
+              t ->
+                  t.zeebeJobType("type")
+                      .zeebeInputExpression("x", "y")
+                      .zeebeOutputExpression("y", "z"));
+    }
+    return builder.endEvent().done();
+  }
+
+  private static BpmnModelInstance readInSinglePass(final String xml) {
+    return Bpmn.readModelFromStreamInSinglePass(toStream(xml));
+  }
+
+  private static InputStream toStream(final String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void assertSameDocument(
+      final BpmnModelInstance actual, final BpmnModelInstance expected) {
+    final Node actualDocument = actual.getDocument().getDomSource().getNode();
+    final Node expectedDocument = expected.getDocument().getDomSource().getNode();
+    assertThat(actualDocument.isEqualNode(expectedDocument))
+        .describedAs(
+            "Expected the document%n%s%nto be equal to%n%s",
+            Bpmn.convertToString(actual), Bpmn.convertToString(expected))
+        .isTrue();
+  }
+}
@@ -7,17 +7,21 @@
  */
 package io.camunda.zeebe.broker.bootstrap;
 
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.impl.NettyMessagingService;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiServiceImpl;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.transport.ServerTransport;
 import io.camunda.zeebe.transport.impl.AtomixServerTransport;
 import io.camunda.zeebe.util.sched.ConcurrencyControl;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import java.util.List;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 
 final class CommandApiServiceStep extends AbstractBrokerStartupStep {
@@ -151,13 +155,21 @@ final class CommandApiServiceStep extends AbstractBrokerStartupStep {
       limiter = PartitionAwareRequestLimiter.newLimiter(backpressureCfg);
     }
 
+    // shared by all partitions of the broker
+    final var deploymentResourcePreparer =
+        new DeploymentResourcePreparer(
+            Executors.newFixedThreadPool(
+                brokerCfg.getThreads().getDeploymentThreadCount(),
+                namedThreads("zb-deployment-preparer-%d", LOG)));
+
     final var commandApiService =
         new CommandApiServiceImpl(
             serverTransport,
             brokerInfo,
             limiter,
             schedulingService,
-            brokerCfg.getExperimental().getQueryApi());
+            brokerCfg.getExperimental().getQueryApi(),
+            deploymentResourcePreparer);
 
     concurrencyControl.runOnCompletion(
         schedulingService.submitActor(commandApiService),
@@ -8,16 +8,94 @@
 package io.camunda.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Notifies the gateways when jobs of a type become available, so that they can unblock their long
+ * polling requests for this type.
+ *
+ * <p>The first notification for a type is sent right away. Further notifications are coalesced per
+ * job type until the end of a short window, and then sent as a single notification which contains
+ * the number of jobs which became available in the meantime. The notifications are only sent to the
+ * gateways which subscribed for the job type.
+ *
+ * <p>Like the stream processor which invokes it, the notification must only be used from the given
+ * actor.
+ */
 public final class LongPollingJobNotification {
-  private static final String TOPIC = "jobsAvailable";
+
+  // the topic of gateways which don't subscribe per job type; the message is the job type
+  static final String LEGACY_TOPIC = "jobsAvailable";
+  static final Duration NOTIFICATION_WINDOW = Duration.ofMillis(5);
+
   private final ClusterEventService eventService;
+  private final ActorControl actor;
+
+  // job type -> number of jobs which became available since the last notification
+  private final Map<DirectBuffer, MutableInteger> pendingNotifications = new HashMap<>();
+  private final UnsafeBuffer jobTypeView = new UnsafeBuffer();
+  private boolean isWindowOpen;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  public LongPollingJobNotification(
+      final ClusterEventService eventService, final ActorControl actor) {
     this.eventService = eventService;
+    this.actor = actor;
+  }
+
+  public void onJobsAvailable(final DirectBuffer jobType) {
+    jobTypeView.wrap(jobType);
+    final var pendingJobs = pendingNotifications.get(jobTypeView);
+    if (pendingJobs != null) {
+      pendingJobs.increment();
+    } else {
+      pendingNotifications.put(
+          new UnsafeBuffer(BufferUtil.bufferAsArray(jobType)), new MutableInteger(1));
+    }
+
+    if (!isWindowOpen) {
+      notifyPendingJobs();
+      openWindow();
+    }
+  }
+
+  private void openWindow() {
+    isWindowOpen = true;
+    actor.runDelayed(NOTIFICATION_WINDOW, this::closeWindow);
+  }
+
+  private void closeWindow() {
+    if (notifyPendingJobs()) {
+      // keep coalescing as long as jobs become available
+      openWindow();
+    } else {
+      isWindowOpen = false;
+      pendingNotifications.clear();
+    }
+  }
+
+  private boolean notifyPendingJobs() {
+    boolean hasNotified = false;
+    for (final var pendingNotification : pendingNotifications.entrySet()) {
+      final var pendingJobs = pendingNotification.getValue();
+      if (pendingJobs.get() > 0) {
+        notify(BufferUtil.bufferAsString(pendingNotification.getKey()), pendingJobs.get());
+        pendingJobs.set(0);
+        hasNotified = true;
+      }
+    }
+    return hasNotified;
   }
 
-  public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+  private void notify(final String jobType, final int jobCount) {
+    eventService.broadcast(Protocol.getJobsAvailableTopic(jobType), jobCount);
+    eventService.broadcast(LEGACY_TOPIC, jobType);
   }
 }
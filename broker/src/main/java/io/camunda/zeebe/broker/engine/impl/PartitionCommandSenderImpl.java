@@ -7,26 +7,56 @@
  */
 package io.camunda.zeebe.broker.engine.impl;
 
+import static io.camunda.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_BATCH_TOPIC;
+import static io.camunda.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_TOPIC;
+
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.broker.partitioning.topology.TopologyPartitionListenerImpl;
+import io.camunda.zeebe.broker.system.configuration.SubscriptionBatchingCfg;
 import io.camunda.zeebe.engine.processing.message.command.PartitionCommandSender;
+import io.camunda.zeebe.transport.BatchFrames;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Sends subscription commands to the leader of the receiving partition.
+ *
+ * <p>If batching is enabled, the commands are collected per receiving broker and sent as a single
+ * message, framed with {@link BatchFrames}, when the flush interval elapsed or the batch would
+ * exceed its maximum size. The buffers of the batches are reused. Like the stream processor which
+ * sends the commands, the sender must only be used from the given actor.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
   private final ClusterCommunicationService communicationService;
 
   private final TopologyPartitionListenerImpl partitionListener;
 
+  private final ActorControl actor;
+  private final boolean isBatchingEnabled;
+  private final int maxBatchSize;
+  private final Duration flushInterval;
+  private final Int2ObjectHashMap<PendingBatch> pendingBatches = new Int2ObjectHashMap<>();
+  private boolean isFlushScheduled;
+
   public PartitionCommandSenderImpl(
       final ClusterCommunicationService communicationService,
-      final TopologyPartitionListenerImpl partitionListener) {
+      final TopologyPartitionListenerImpl partitionListener,
+      final ActorControl actor,
+      final SubscriptionBatchingCfg batchingCfg) {
     this.communicationService = communicationService;
     this.partitionListener = partitionListener;
+    this.actor = actor;
+    isBatchingEnabled = batchingCfg.isEnabled();
+    maxBatchSize = (int) batchingCfg.getMaxBatchSize().toBytes();
+    flushInterval = batchingCfg.getFlushInterval();
   }
 
   @Override
@@ -38,11 +68,115 @@ public final class PartitionCommandSenderImpl implements PartitionCommandSender
     }
     final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
-    final byte bytes[] = new byte[command.getLength()];
+    if (!isBatchingEnabled || BatchFrames.framingOverhead(1) + command.getLength() > maxBatchSize) {
+      send(partitionLeader, command);
+      return true;
+    }
+
+    final var batch = pendingBatches.computeIfAbsent(partitionLeader, PendingBatch::new);
+    if (batch.getLength() + BatchFrames.FRAME_HEADER_LENGTH + command.getLength() > maxBatchSize) {
+      flush(batch);
+    }
+    batch.add(command);
+    scheduleFlush();
+
+    return true;
+  }
+
+  private void send(final int memberId, final BufferWriter command) {
+    final byte[] bytes = new byte[command.getLength()];
     final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
     command.write(buffer, 0);
 
-    communicationService.unicast("subscription", bytes, MemberId.from("" + partitionLeader));
-    return true;
+    communicationService.unicast(SUBSCRIPTION_TOPIC, bytes, MemberId.from("" + memberId));
+  }
+
+  private void scheduleFlush() {
+    if (isFlushScheduled) {
+      return;
+    }
+
+    isFlushScheduled = true;
+    if (flushInterval.isZero()) {
+      actor.submit(this::flushAll);
+    } else {
+      actor.runDelayed(flushInterval, this::flushAll);
+    }
+  }
+
+  private void flushAll() {
+    isFlushScheduled = false;
+    pendingBatches.values().forEach(this::flush);
+  }
+
+  private void flush(final PendingBatch batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    final var memberId = MemberId.from("" + batch.getMemberId());
+    if (batch.getCommandCount() == 1) {
+      // a single command doesn't need the framing, and can be handled by any broker
+      communicationService.unicast(SUBSCRIPTION_TOPIC, batch.copySingleCommand(), memberId);
+    } else {
+      communicationService.unicast(SUBSCRIPTION_BATCH_TOPIC, batch.copyBatch(), memberId);
+    }
+    batch.reset();
+  }
+
+  private static final class PendingBatch {
+    private final int memberId;
+    private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+    private int commandCount;
+    private int length = BatchFrames.HEADER_LENGTH;
+
+    private PendingBatch(final int memberId) {
+      this.memberId = memberId;
+    }
+
+    private void add(final BufferWriter command) {
+      final int commandLength = command.getLength();
+      buffer.putInt(length, commandLength, BatchFrames.BYTE_ORDER);
+      command.write(buffer, length + BatchFrames.FRAME_HEADER_LENGTH);
+
+      length += BatchFrames.FRAME_HEADER_LENGTH + commandLength;
+      commandCount++;
+    }
+
+    private byte[] copyBatch() {
+      BatchFrames.writeHeader(buffer, 0, commandCount);
+
+      final byte[] bytes = new byte[length];
+      buffer.getBytes(0, bytes);
+      return bytes;
+    }
+
+    private byte[] copySingleCommand() {
+      final int frameOffset = BatchFrames.HEADER_LENGTH;
+      final byte[] bytes = new byte[buffer.getInt(frameOffset, BatchFrames.BYTE_ORDER)];
+      buffer.getBytes(frameOffset + BatchFrames.FRAME_HEADER_LENGTH, bytes);
+      return bytes;
+    }
+
+    private void reset() {
+      commandCount = 0;
+      length = BatchFrames.HEADER_LENGTH;
+    }
+
+    private boolean isEmpty() {
+      return commandCount == 0;
+    }
+
+    private int getMemberId() {
+      return memberId;
+    }
+
+    private int getCommandCount() {
+      return commandCount;
+    }
+
+    private int getLength() {
+      return length;
+    }
   }
 }
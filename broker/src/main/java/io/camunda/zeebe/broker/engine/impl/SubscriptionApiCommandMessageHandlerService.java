@@ -16,22 +16,27 @@ import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.camunda.zeebe.transport.BatchFrames;
 import io.camunda.zeebe.util.sched.Actor;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 public final class SubscriptionApiCommandMessageHandlerService extends Actor
     implements PartitionListener, DiskSpaceUsageListener {
 
-  private static final String SUBSCRIPTION_TOPIC = "subscription";
+  static final String SUBSCRIPTION_TOPIC = "subscription";
+  static final String SUBSCRIPTION_BATCH_TOPIC = "subscription-batch";
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
       new Int2ObjectHashMap<>();
   private final ClusterCommunicationService communicationService;
   private final String actorName;
+  private final BatchFrames.Reader batchReader = new BatchFrames.Reader();
   private SubscriptionCommandMessageHandler messageHandler;
 
   public SubscriptionApiCommandMessageHandlerService(
@@ -49,6 +54,27 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
   protected void onActorStarting() {
     messageHandler = new SubscriptionCommandMessageHandler(actor::call, leaderPartitions::get);
     communicationService.subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+    communicationService.subscribe(SUBSCRIPTION_BATCH_TOPIC, this::onBatch);
+  }
+
+  private CompletableFuture<Void> onBatch(final byte[] bytes) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    actor.call(
+        () -> {
+          final DirectBuffer buffer = new UnsafeBuffer(bytes);
+          try {
+            batchReader.wrap(buffer, 0, buffer.capacity());
+            while (batchReader.hasNext()) {
+              batchReader.next();
+              messageHandler.handleCommand(
+                  buffer, batchReader.getFrameOffset(), batchReader.getFrameLength());
+            }
+          } catch (final RuntimeException e) {
+            LOG.warn("Failed to handle batch of subscription commands, skip remaining commands", e);
+          }
+          future.complete(null);
+        });
+    return future;
   }
 
   @Override
@@ -104,9 +130,12 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
               "Broker is out of disk space. All requests with topic {} will be rejected.",
               SUBSCRIPTION_TOPIC);
           communicationService.unsubscribe(SUBSCRIPTION_TOPIC);
+          communicationService.unsubscribe(SUBSCRIPTION_BATCH_TOPIC);
           communicationService
               // SubscriptionMessageHandler does not send any response
               .subscribe(SUBSCRIPTION_TOPIC, b -> CompletableFuture.completedFuture(null));
+          communicationService.subscribe(
+              SUBSCRIPTION_BATCH_TOPIC, b -> CompletableFuture.completedFuture(null));
         });
   }
 
@@ -118,7 +147,9 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
               "Broker has disk space available again. All requests with topic {} will be accepted.",
               SUBSCRIPTION_TOPIC);
           communicationService.unsubscribe(SUBSCRIPTION_TOPIC);
+          communicationService.unsubscribe(SUBSCRIPTION_BATCH_TOPIC);
           communicationService.subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+          communicationService.subscribe(SUBSCRIPTION_BATCH_TOPIC, this::onBatch);
         });
   }
 }
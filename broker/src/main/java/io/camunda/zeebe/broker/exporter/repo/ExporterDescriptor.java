@@ -15,12 +15,22 @@ import java.util.Map;
 public class ExporterDescriptor {
   private final ExporterConfiguration configuration;
   private final Class<? extends Exporter> exporterClass;
+  private final long maxSpillBufferSize;
 
   public ExporterDescriptor(
       final String id,
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args) {
+    this(id, exporterClass, args, 0);
+  }
+
+  public ExporterDescriptor(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final long maxSpillBufferSize) {
     this.exporterClass = exporterClass;
+    this.maxSpillBufferSize = maxSpillBufferSize;
     configuration = new ExporterConfiguration(id, args);
   }
 
@@ -39,4 +49,9 @@ public class ExporterDescriptor {
   public String getId() {
     return configuration.getId();
   }
+
+  /** @return the maximum size of the spill buffer of the exporter in bytes, or 0 if disabled */
+  public long getMaxSpillBufferSize() {
+    return maxSpillBufferSize;
+  }
 }
@@ -48,10 +48,19 @@ public final class ExporterRepository {
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args)
       throws ExporterLoadException {
+    return load(id, exporterClass, args, 0);
+  }
+
+  private ExporterDescriptor load(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final long maxSpillBufferSize)
+      throws ExporterLoadException {
     ExporterDescriptor descriptor = exporters.get(id);
 
     if (descriptor == null) {
-      descriptor = new ExporterDescriptor(id, exporterClass, args);
+      descriptor = new ExporterDescriptor(id, exporterClass, args, maxSpillBufferSize);
       validate(descriptor);
 
       exporters.put(id, descriptor);
@@ -82,7 +91,10 @@ public final class ExporterRepository {
       throw new ExporterLoadException(id, "cannot load specified class", e);
     }
 
-    return load(id, exporterClass, config.getArgs());
+    final var spillBuffer = config.getSpillBuffer();
+    final long maxSpillBufferSize =
+        spillBuffer.isEnabled() ? spillBuffer.getMaxSize().toBytes() : 0;
+    return load(id, exporterClass, config.getArgs(), maxSpillBufferSize);
   }
 
   private void validate(final ExporterDescriptor descriptor) throws ExporterLoadException {
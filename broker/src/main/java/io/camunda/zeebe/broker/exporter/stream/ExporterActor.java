@@ -0,0 +1,503 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.metrics.RecordLatencyMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.util.exception.UnrecoverableException;
+import io.camunda.zeebe.util.health.FailureListener;
+import io.camunda.zeebe.util.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.util.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.util.retry.RetryStrategy;
+import io.camunda.zeebe.util.sched.Actor;
+import io.camunda.zeebe.util.sched.clock.ActorClock;
+import io.camunda.zeebe.util.sched.future.ActorFuture;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records of the log stream to a single exporter. Each exporter has its own reader and
+ * position, so that a slow or failing exporter doesn't hold back the other exporters of the
+ * partition.
+ *
+ * <p>The actor uses its own transaction context to update the position of the exporter in the
+ * {@link ExportersState}, which is aggregated by the {@link ExporterDirector}.
+ *
+ * <p>If the exporter has a spill buffer and fails to export a record, the actor starts to copy the
+ * records which the exporter still needs from the log into the {@link ExporterSpillBuffer}, using a
+ * second reader. The spilled position is stored in the state, so that the log can be compacted up
+ * to it although the exporter lags behind. The exporter reads the records from the spill buffer
+ * until it caught up, and then continues to read from the log. The spill buffer is reset when the
+ * exporter acknowledged all spilled records.
+ */
+final class ExporterActor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' with exporter '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FROM_POSITION_FAILED =
+      "Expected to find event with the position %s of exporter '%s' in log stream, but nothing was found.";
+  private static final int SPILL_BATCH_SIZE = 100;
+  private static final Duration SPILL_RETRY_DELAY = Duration.ofSeconds(1);
+  private static final Duration SPILL_RELEASE_INTERVAL = Duration.ofSeconds(10);
+
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private final ExporterMetrics metrics;
+  private final RecordLatencyMetrics latencyMetrics;
+  private final FailureListener failureListener;
+  private final Path spillDirectory;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+
+  private final RecordValues recordValues = new RecordValues();
+  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final RecordMetadata spillMetadata = new RecordMetadata();
+  private final TypedEventImpl typedEvent;
+
+  private LogStreamReader logStreamReader;
+  private LogStreamReader spillReader;
+  private ExporterSpillBuffer spillBuffer;
+  private ExportersState exportersState;
+  private RecordFilter recordFilter;
+  private boolean isOpened;
+  private boolean isPaused;
+  private boolean inExportingPhase;
+  private boolean shouldExportRecord;
+  private boolean isSpilling;
+  private long lastPassedPosition;
+  private long spilledPosition = ExportersState.VALUE_NOT_FOUND;
+
+  ExporterActor(
+      final String directorName,
+      final int partitionId,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final ExporterMetrics metrics,
+      final boolean isPaused,
+      final FailureListener failureListener,
+      final Path spillDirectory) {
+    name = String.format("%s-%s", directorName, container.getId());
+    this.partitionId = partitionId;
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    latencyMetrics = new RecordLatencyMetrics(partitionId);
+    this.isPaused = isPaused;
+    this.failureListener = failureListener;
+    this.spillDirectory = spillDirectory;
+
+    typedEvent = new TypedEventImpl(partitionId);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  ActorFuture<Void> setPaused(final boolean paused) {
+    return actor.call(
+        () -> {
+          isPaused = paused;
+          if (!paused) {
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.runOnCompletionBlockingCurrentPhase(
+        logStream.newLogStreamReader(),
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            logStreamReader = reader;
+          } else {
+            LOG.error(
+                "Unexpected error on retrieving reader from log {}",
+                logStream.getLogName(),
+                errorOnReceivingReader);
+            actor.close();
+          }
+        });
+
+    if (isSpillBufferEnabled()) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          logStream.newLogStreamReader(),
+          (reader, errorOnReceivingReader) -> {
+            if (errorOnReceivingReader == null) {
+              spillReader = reader;
+            } else {
+              LOG.error(
+                  "Unexpected error on retrieving spill reader from log {}",
+                  logStream.getLogName(),
+                  errorOnReceivingReader);
+              actor.close();
+            }
+          });
+    }
+  }
+
+  @Override
+  protected void onActorStarted() {
+    exportersState = new ExportersState(zeebeDb, zeebeDb.createContext());
+    container.initContainer(actor, metrics, exportersState);
+    container.initPosition();
+    container.openExporter();
+    recordFilter = container.getContext().getFilter();
+
+    final long position = container.getPosition();
+    lastPassedPosition = position;
+    openSpillBuffer();
+
+    // the records up to the spilled position are either spilled or were exported already
+    final long readPosition = Math.max(position, spilledPosition);
+    if (!logStreamReader.seekToNextEvent(readPosition)) {
+      throw new IllegalStateException(
+          String.format(
+              ERROR_MESSAGE_RECOVER_FROM_POSITION_FAILED, readPosition, container.getId()));
+    }
+
+    isOpened = true;
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(this::readNextEvent);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    if (isOpened) {
+      isOpened = false;
+      container.close();
+    }
+  }
+
+  @Override
+  protected void onActorClosing() {
+    logStream.removeRecordAvailableListener(this);
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    if (spillReader != null) {
+      spillReader.close();
+    }
+    if (spillBuffer != null) {
+      spillBuffer.close();
+    }
+  }
+
+  @Override
+  protected void handleFailure(final Exception failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail();
+
+    if (failure instanceof UnrecoverableException) {
+      failureListener.onUnrecoverableFailure();
+    } else {
+      failureListener.onFailure();
+    }
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(
+        () -> {
+          readNextEvent();
+          spillNextEvents();
+        });
+  }
+
+  private void readNextEvent() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    if (isSpilling) {
+      readNextSpilledEvent();
+    } else if (logStreamReader.hasNext()) {
+      onEvent(logStreamReader.next());
+    }
+  }
+
+  private void readNextSpilledEvent() {
+    if (!spillBuffer.hasNext()) {
+      stopSpilling();
+      return;
+    }
+
+    final LoggedEvent spilledEvent;
+    try {
+      spilledEvent = spillBuffer.next();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    metrics.setSpillBufferAge(
+        container.getId(), ActorClock.currentTimeMillis() - spilledEvent.getTimestamp());
+
+    if (spilledEvent.getPosition() <= lastPassedPosition) {
+      // the record was passed to the exporter already before it was spilled
+      actor.submit(this::readNextEvent);
+    } else {
+      onEvent(spilledEvent);
+    }
+  }
+
+  private void onEvent(final LoggedEvent currentEvent) {
+    if (acceptsEvent(currentEvent, rawMetadata)) {
+      inExportingPhase = true;
+      lastPassedPosition = currentEvent.getPosition();
+      exportEvent(currentEvent);
+    } else {
+      skipRecord(currentEvent);
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened && !inExportingPhase && !isPaused;
+  }
+
+  private boolean acceptsEvent(final LoggedEvent event, final RecordMetadata metadata) {
+    event.readMetadata(metadata);
+    return recordFilter.acceptType(metadata.getRecordType())
+        && recordFilter.acceptValue(metadata.getValueType());
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    metrics.eventSkipped(rawMetadata.getValueType());
+
+    // the exporter is up to date if it acknowledged the last record we passed to it
+    container.updatePositionOnSkipIfUpToDate(currentEvent.getPosition());
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(this::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, container.getId(), throwable);
+                  isOpened = false;
+                  failureListener.onFailure();
+                } else {
+                  metrics.eventExported(typedEvent.getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private void wrap(final LoggedEvent rawEvent) {
+    rawEvent.readMetadata(rawMetadata);
+
+    final UnifiedRecordValue recordValue =
+        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+
+    shouldExportRecord = recordValue != null;
+    if (shouldExportRecord) {
+      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+    }
+  }
+
+  private boolean export() {
+    if (!shouldExportRecord) {
+      return true;
+    }
+
+    // current error handling strategy is simply to repeat forever until the record can be
+    // successfully exported.
+    if (container.exportRecord(rawMetadata, typedEvent)) {
+      metrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+      latencyMetrics.exported(
+          container.getId(),
+          typedEvent.getPosition(),
+          rawMetadata.getValueType(),
+          rawMetadata.getIntent(),
+          typedEvent.getTimestamp(),
+          ActorClock.currentTimeMillis());
+      return true;
+    }
+
+    startSpilling();
+    return false;
+  }
+
+  private boolean isSpillBufferEnabled() {
+    return spillDirectory != null && container.getMaxSpillBufferSize() > 0;
+  }
+
+  private void openSpillBuffer() {
+    final String exporterId = container.getId();
+    if (!isSpillBufferEnabled()
+        && (spillDirectory == null || !ExporterSpillBuffer.exists(spillDirectory, exporterId))) {
+      // there are no spilled records on this node
+      exportersState.removeSpilledPosition(exporterId);
+      return;
+    }
+
+    try {
+      // if the spill buffer is disabled, the records which were spilled before are still exported
+      spillBuffer =
+          ExporterSpillBuffer.open(spillDirectory, exporterId, container.getMaxSpillBufferSize());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    // only the records in the spill file of this node can be read again; the spilled position in
+    // the state may have been written by another node, or before this node's file was reset
+    spilledPosition = Math.max(spillBuffer.getSpilledPosition(), spillBuffer.getLastPosition());
+    if (spilledPosition == ExportersState.VALUE_NOT_FOUND) {
+      exportersState.removeSpilledPosition(exporterId);
+    } else {
+      exportersState.setSpilledPosition(exporterId, spilledPosition);
+    }
+    isSpilling = !spillBuffer.isEmpty();
+    if (isSpilling && spillReader != null) {
+      spillReader.seekToNextEvent(spilledPosition);
+      actor.submit(this::spillNextEvents);
+    }
+
+    metrics.setSpillBufferSize(exporterId, spillBuffer.getSize());
+    actor.runAtFixedRate(SPILL_RELEASE_INTERVAL, this::releaseSpilledRecords);
+  }
+
+  private void startSpilling() {
+    if (spillReader == null || isSpilling) {
+      return;
+    }
+
+    LOG.debug(
+        "Exporter '{}' failed to export, spill the records which it still needs",
+        container.getId());
+    isSpilling = true;
+
+    // the exporter still needs the records which it received but didn't acknowledge yet
+    spillReader.seekToNextEvent(Math.max(container.getPosition(), spilledPosition));
+    actor.submit(this::spillNextEvents);
+  }
+
+  private void spillNextEvents() {
+    if (!isOpened || !isSpilling || spillReader == null) {
+      return;
+    }
+
+    try {
+      long position = spilledPosition;
+      boolean isFull = false;
+
+      for (int i = 0; i < SPILL_BATCH_SIZE && spillReader.hasNext(); i++) {
+        final LoggedEvent event = spillReader.peekNext();
+        if (acceptsEvent(event, spillMetadata) && !spillBuffer.append(event)) {
+          isFull = true;
+          break;
+        }
+
+        position = event.getPosition();
+        spillReader.next();
+      }
+
+      if (position > spilledPosition) {
+        // the log may only be compacted up to the records which are durable in the spill buffer
+        spillBuffer.flush(position);
+        spilledPosition = position;
+        exportersState.setSpilledPosition(container.getId(), position);
+        metrics.setSpillBufferSize(container.getId(), spillBuffer.getSize());
+      }
+
+      if (isFull) {
+        actor.runDelayed(SPILL_RETRY_DELAY, this::spillNextEvents);
+      } else if (spillReader.hasNext()) {
+        actor.submit(this::spillNextEvents);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void stopSpilling() {
+    LOG.debug("Exporter '{}' read all spilled records, continue with the log", container.getId());
+    isSpilling = false;
+    metrics.setSpillBufferAge(container.getId(), 0);
+
+    // all records up to the spilled position were spilled or are not accepted by the exporter
+    logStreamReader.seekToNextEvent(Math.max(lastPassedPosition, spilledPosition));
+    actor.submit(this::readNextEvent);
+  }
+
+  private void releaseSpilledRecords() {
+    if (isSpilling
+        || spilledPosition == ExportersState.VALUE_NOT_FOUND
+        || container.getPosition() < spilledPosition) {
+      return;
+    }
+
+    try {
+      spillBuffer.reset();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    // the exporter position retains the log again
+    spilledPosition = ExportersState.VALUE_NOT_FOUND;
+    exportersState.removeSpilledPosition(container.getId());
+    metrics.setSpillBufferSize(container.getId(), 0);
+  }
+
+  private boolean isClosed() {
+    return !isOpened;
+  }
+}
@@ -32,6 +32,7 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final long maxSpillBufferSize;
   private long position;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
@@ -44,6 +45,7 @@ final class ExporterContainer implements Controller {
             Loggers.getExporterLogger(descriptor.getId()), descriptor.getConfiguration());
 
     exporter = descriptor.newInstance();
+    maxSpillBufferSize = descriptor.getMaxSpillBufferSize();
   }
 
   void initContainer(
@@ -83,6 +85,10 @@ final class ExporterContainer implements Controller {
     return lastUnacknowledgedPosition;
   }
 
+  long getMaxSpillBufferSize() {
+    return maxSpillBufferSize;
+  }
+
   /**
    * Updates the exporter's position if it is up to date - that is, if it's last acknowledged
    * position is greater than or equal to its last unacknowledged position. This is safe to do when
@@ -11,74 +11,61 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.engine.processing.streamprocessor.EventFilter;
-import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
-import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
-import io.camunda.zeebe.exporter.api.context.Context;
-import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
-import io.camunda.zeebe.logstreams.log.LogStreamReader;
-import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthStatus;
-import io.camunda.zeebe.util.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.util.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.util.retry.RetryStrategy;
 import io.camunda.zeebe.util.sched.Actor;
 import io.camunda.zeebe.util.sched.ActorSchedulingService;
 import io.camunda.zeebe.util.sched.SchedulingHints;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
-public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
+/**
+ * Directs the exporters of a partition. In the active mode, each exporter runs on its own {@link
+ * ExporterActor} with its own reader and position, so that the exporters don't block each other.
+ * The director aggregates the positions of the exporters, e.g. to determine the lowest exported
+ * position for the compaction of the log, and distributes them to the followers. In the passive
+ * mode, the director only stores the positions which it receives from the leader.
+ */
+public final class ExporterDirector extends Actor implements HealthMonitorable {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
-  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
-      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final List<ExporterActor> exporterActors = new ArrayList<>();
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
+  private ActorSchedulingService actorSchedulingService;
   private ExportersState state;
   private volatile HealthStatus healthStatus = HealthStatus.HEALTHY;
 
-  private boolean inExportingPhase;
   private boolean isPaused;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
   private final ExporterMode exporterMode;
   private final Duration distributionInterval;
+  private final Path spillDirectory;
   private ExporterPositionsDistributionService exporterDistributionService;
   private final int partitionId;
 
@@ -90,18 +77,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
     metrics = new ExporterMetrics(partitionId);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
     isPaused = shouldPauseOnStart;
     partitionMessagingService = context.getPartitionMessagingService();
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
+    spillDirectory = context.getSpillDirectory();
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -110,22 +96,33 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   public ActorFuture<Void> pauseExporting() {
-    return actor.call(
-        () -> {
-          isPaused = true;
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    return setPaused(true, ExporterPhase.PAUSED);
   }
 
   public ActorFuture<Void> resumeExporting() {
-    return actor.call(
+    return setPaused(false, ExporterPhase.EXPORTING);
+  }
+
+  private ActorFuture<Void> setPaused(final boolean paused, final ExporterPhase phase) {
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(
         () -> {
-          isPaused = false;
-          exporterPhase = ExporterPhase.EXPORTING;
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
-          }
+          isPaused = paused;
+          exporterPhase = phase;
+
+          final var futures = new ArrayList<ActorFuture<Void>>();
+          exporterActors.forEach(exporterActor -> futures.add(exporterActor.setPaused(paused)));
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
         });
+    return result;
   }
 
   public ActorFuture<ExporterPhase> getPhase() {
@@ -147,29 +144,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return name;
   }
 
-  @Override
-  protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
-      final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
-      actor.runOnCompletionBlockingCurrentPhase(
-          newReaderFuture,
-          (reader, errorOnReceivingReader) -> {
-            if (errorOnReceivingReader == null) {
-              logStreamReader = reader;
-            } else {
-              // TODO https://github.com/zeebe-io/zeebe/issues/3499
-              // ideally we could fail the actor start future such that we are able to propagate the
-              // error
-              LOG.error(
-                  "Unexpected error on retrieving reader from log {}",
-                  logStream.getLogName(),
-                  errorOnReceivingReader);
-              actor.close();
-            }
-          });
-    }
-  }
-
   @Override
   protected void onActorStarted() {
     try {
@@ -202,10 +176,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
+    // the positions of the exporters may be updated while they are closed
+    for (final ExporterActor exporterActor : exporterActors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          exporterActor.closeAsync(),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter actor '{}'", exporterActor.getName(), error);
+            }
+          });
     }
-    logStream.removeRecordAvailableListener(this);
   }
 
   @Override
@@ -217,9 +197,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
-      containers.forEach(ExporterContainer::close);
-    } else {
+    if (exporterMode == ExporterMode.PASSIVE) {
       exporterDistributionService.close();
     }
   }
@@ -261,9 +239,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.initContainer(actor, metrics, state);
       container.configureExporter();
     }
-
-    eventFilter = createEventFilter(containers);
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
   private void recoverFromSnapshot() {
@@ -275,65 +250,42 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
-  }
-
   private void onFailure() {
     isOpened.set(false);
     actor.close();
   }
 
   private void startActiveExportingMode() {
-    logStream.registerRecordAvailableListener(this);
+    if (containers.isEmpty()) {
+      actor.close();
+      return;
+    }
 
-    // start reading
+    // the exporters are opened and read from their own position on their own actor
     for (final ExporterContainer container : containers) {
-      container.initPosition();
-      container.openExporter();
+      final var exporterActor =
+          new ExporterActor(
+              name,
+              partitionId,
+              container,
+              logStream,
+              zeebeDb,
+              metrics,
+              isPaused,
+              new ExporterFailureListener(),
+              spillDirectory);
+      exporterActors.add(exporterActor);
+      actorSchedulingService.submitActor(exporterActor, SchedulingHints.ioBound());
     }
 
-    if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
-      final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-      if (failedToRecoverReader) {
-        throw new IllegalStateException(
-            String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, snapshotPosition, getName()));
-      }
-      if (!isPaused) {
-        exporterPhase = ExporterPhase.EXPORTING;
-        actor.submit(this::readNextEvent);
-      } else {
-        exporterPhase = ExporterPhase.PAUSED;
-      }
-
-      actor.runAtFixedRate(distributionInterval, this::distributeExporterPositions);
-
-    } else {
-      actor.close();
-    }
+    exporterPhase = isPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+    actor.runAtFixedRate(distributionInterval, this::distributeExporterPositions);
   }
 
   private void startPassiveExportingMode() {
     // Only initialize the positions, do not open and start exporting
+    // the spill files are kept: this node only compacts its log up to the records which it spilled
+    // itself, and exports them again once it becomes leader
     for (final ExporterContainer container : containers) {
       container.initPosition();
     }
@@ -351,70 +303,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterPositions(exportPositionsMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
-    }
-  }
-
-  private boolean shouldExport() {
-    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
-  }
-
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -423,6 +311,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         (exporterId, position) -> {
           if (!exporterIds.contains(exporterId)) {
             state.removePosition(exporterId);
+            removeSpillBuffer(exporterId);
             LOG.info(
                 "The exporter '{}' is not configured anymore. Its lastExportedPosition is removed from the state.",
                 exporterId);
@@ -430,8 +319,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
-  private boolean isClosed() {
-    return !isOpened.get();
+  private void removeSpillBuffer(final String exporterId) {
+    state.removeSpilledPosition(exporterId);
+    if (spillDirectory == null) {
+      return;
+    }
+
+    try {
+      ExporterSpillBuffer.delete(spillDirectory, exporterId);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete the spill buffer of exporter '{}'", exporterId, e);
+    }
   }
 
   @Override
@@ -449,11 +347,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     actor.run(() -> listeners.remove(failureListener));
   }
 
-  @Override
-  public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
-  }
-
   public ActorFuture<Long> getLowestPosition() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExportersState.VALUE_NOT_FOUND);
@@ -461,98 +354,29 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return actor.call(() -> state.getLowestPosition());
   }
 
-  private static class RecordExporter {
+  private final class ExporterFailureListener implements FailureListener {
 
-    private final RecordValues recordValues = new RecordValues();
-    private final RecordMetadata rawMetadata = new RecordMetadata();
-    private final List<ExporterContainer> containers;
-    private final TypedEventImpl typedEvent;
-    private final ExporterMetrics exporterMetrics;
-
-    private boolean shouldExport;
-    private int exporterIndex;
-
-    RecordExporter(
-        final ExporterMetrics exporterMetrics,
-        final List<ExporterContainer> containers,
-        final int partitionId) {
-      this.containers = containers;
-      typedEvent = new TypedEventImpl(partitionId);
-      this.exporterMetrics = exporterMetrics;
-    }
-
-    void wrap(final LoggedEvent rawEvent) {
-      rawEvent.readMetadata(rawMetadata);
-
-      final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
-
-      shouldExport = recordValue != null;
-      if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-        exporterIndex = 0;
-      }
-    }
-
-    public boolean export() {
-      if (!shouldExport) {
-        return true;
-      }
-
-      final int exportersCount = containers.size();
-
-      // current error handling strategy is simply to repeat forever until the record can be
-      // successfully exported.
-      while (exporterIndex < exportersCount) {
-        final ExporterContainer container = containers.get(exporterIndex);
-
-        if (container.exportRecord(rawMetadata, typedEvent)) {
-          exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-        } else {
-          return false;
-        }
-      }
-
-      return true;
-    }
-
-    TypedEventImpl getTypedEvent() {
-      return typedEvent;
-    }
-  }
-
-  private static class ExporterEventFilter implements EventFilter {
-
-    private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
-
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
+    @Override
+    public void onFailure() {
+      actor.run(
+          () -> {
+            healthStatus = HealthStatus.UNHEALTHY;
+            listeners.forEach(FailureListener::onFailure);
+          });
     }
 
     @Override
-    public boolean applies(final LoggedEvent event) {
-      event.readMetadata(metadata);
-
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+    public void onRecovered() {
+      // an exporter actor doesn't recover from a failure
     }
 
     @Override
-    public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + '}';
+    public void onUnrecoverableFailure() {
+      actor.run(
+          () -> {
+            healthStatus = HealthStatus.DEAD;
+            listeners.forEach(FailureListener::onUnrecoverableFailure);
+          });
     }
   }
 }
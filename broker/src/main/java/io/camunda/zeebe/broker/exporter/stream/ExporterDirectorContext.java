@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.logstreams.log.LogStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
 
@@ -26,6 +27,7 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private Path spillDirectory;
 
   public int getId() {
     return id;
@@ -59,6 +61,10 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public Path getSpillDirectory() {
+    return spillDirectory;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -100,6 +106,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * Sets the directory of the spill buffers of the exporters. If it is not set, the exporters don't
+   * spill any records.
+   */
+  public ExporterDirectorContext spillDirectory(final Path spillDirectory) {
+    this.spillDirectory = spillDirectory;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -37,6 +37,23 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Gauge SPILL_BUFFER_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_spill_buffer_size_bytes")
+          .help("The size of the records which are spilled by exporter and partition.")
+          .labelNames("exporter", "partition")
+          .register();
+
+  private static final Gauge SPILL_BUFFER_AGE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_spill_buffer_age_seconds")
+          .help(
+              "The age of the spilled record which is currently exported by exporter and partition.")
+          .labelNames("exporter", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -62,4 +79,12 @@ public final class ExporterMetrics {
   public void setLastExportedPosition(final String exporter, final long position) {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
+
+  public void setSpillBufferSize(final String exporter, final long size) {
+    SPILL_BUFFER_SIZE.labels(exporter, partitionIdLabel).set(size);
+  }
+
+  public void setSpillBufferAge(final String exporter, final long ageInMillis) {
+    SPILL_BUFFER_AGE.labels(exporter, partitionIdLabel).set(ageInMillis / 1000.0);
+  }
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.agrona.CloseHelper;
+import org.agrona.ExpandableDirectByteBuffer;
+
+/**
+ * An append-only side file of a single exporter, into which the records are copied which the
+ * exporter still needs while it lags behind, e.g. because its sink is not available. Since the
+ * records are kept in the file, the log can be compacted beyond the position of the exporter.
+ *
+ * <p>The file starts with the spilled position, i.e. the position up to which the records which the
+ * exporter still needs are durable in the file. Since the file only exists on the node which
+ * spilled the records, the log of a node may only be compacted up to the spilled position of its
+ * own files. Each entry after it consists of the length of the record, followed by the record as
+ * it is written in the log. If the broker crashed while an entry was appended, the incomplete entry
+ * is truncated when the file is opened again.
+ *
+ * <p>The buffer is not thread safe; it is only used by the actor of its exporter.
+ */
+public final class ExporterSpillBuffer implements AutoCloseable {
+
+  /** The name of the directory of the spill files in the data directory of a partition. */
+  public static final String DIRECTORY_NAME = "exporters";
+
+  private static final String FILE_SUFFIX = ".spill";
+  private static final int HEADER_SIZE = Long.BYTES;
+  private static final int LENGTH_SIZE = Integer.BYTES;
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  private final FileChannel channel;
+  private final long maxSize;
+  private final ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+  private final ByteBuffer lengthBuffer = ByteBuffer.allocate(LENGTH_SIZE).order(BYTE_ORDER);
+  private final ExpandableDirectByteBuffer writeBuffer = new ExpandableDirectByteBuffer();
+  private final ExpandableDirectByteBuffer readBuffer = new ExpandableDirectByteBuffer();
+  private final LoggedEventImpl readEvent = new LoggedEventImpl();
+
+  private long writeOffset = HEADER_SIZE;
+  private long readOffset = HEADER_SIZE;
+  private long lastPosition = -1;
+  private long spilledPosition = -1;
+
+  private ExporterSpillBuffer(final FileChannel channel, final long maxSize) {
+    this.channel = channel;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Opens the spill buffer of the given exporter. If the file exists already, the records which
+   * were spilled before are read again from its beginning.
+   *
+   * @param directory the directory of the spill files of the partition
+   * @param exporterId the id of the exporter
+   * @param maxSize the maximum size of the spilled records in bytes; no records are spilled if it
+   *     is zero
+   * @return the opened spill buffer
+   * @throws IOException if the file can't be opened or recovered
+   */
+  static ExporterSpillBuffer open(final Path directory, final String exporterId, final long maxSize)
+      throws IOException {
+    Files.createDirectories(directory);
+    final FileChannel channel =
+        FileChannel.open(
+            getFile(directory, exporterId),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+    final var spillBuffer = new ExporterSpillBuffer(channel, maxSize);
+    try {
+      spillBuffer.recover();
+    } catch (final IOException | RuntimeException e) {
+      CloseHelper.quietClose(channel);
+      throw e;
+    }
+    return spillBuffer;
+  }
+
+  /** @return {@code true} if the given exporter has a spill file */
+  static boolean exists(final Path directory, final String exporterId) {
+    return Files.exists(getFile(directory, exporterId));
+  }
+
+  /**
+   * Reads the spilled position of the given exporter from its spill file, without opening the
+   * buffer.
+   *
+   * @param directory the directory of the spill files of the partition
+   * @param exporterId the id of the exporter
+   * @return the position up to which the spilled records are durable in the file, or -1 if the
+   *     exporter has no spill file on this node
+   * @throws IOException if the file exists but can't be read
+   */
+  public static long readSpilledPosition(final Path directory, final String exporterId)
+      throws IOException {
+    final Path file = getFile(directory, exporterId);
+    if (Files.notExists(file)) {
+      return -1;
+    }
+
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+      while (header.hasRemaining()) {
+        if (channel.read(header, header.position()) < 0) {
+          return -1;
+        }
+      }
+      return header.getLong(0);
+    }
+  }
+
+  /**
+   * Deletes the spill file of the given exporter, if it exists.
+   *
+   * @throws IOException if the file exists but can't be deleted
+   */
+  static void delete(final Path directory, final String exporterId) throws IOException {
+    Files.deleteIfExists(getFile(directory, exporterId));
+  }
+
+  private static Path getFile(final Path directory, final String exporterId) {
+    return directory.resolve(exporterId + FILE_SUFFIX);
+  }
+
+  /**
+   * Appends the given record at the end of the file. The record is durable only after the next
+   * {@link #flush()}.
+   *
+   * @param event the record to spill
+   * @return {@code false} if the record doesn't fit into the file anymore
+   * @throws IOException if the record can't be written
+   */
+  boolean append(final LoggedEvent event) throws IOException {
+    final int length = event.getLength();
+    if (getSize() + LENGTH_SIZE + length > maxSize) {
+      return false;
+    }
+
+    writeBuffer.putInt(0, length, BYTE_ORDER);
+    event.write(writeBuffer, LENGTH_SIZE);
+
+    final ByteBuffer entry = writeBuffer.byteBuffer().duplicate();
+    entry.clear().limit(LENGTH_SIZE + length);
+    writeFully(entry, writeOffset);
+
+    writeOffset += LENGTH_SIZE + length;
+    lastPosition = event.getPosition();
+    return true;
+  }
+
+  /**
+   * Writes the appended records to the disk, and then the given spilled position. The records are
+   * forced before the position is written, so that the position never covers records which are not
+   * durable.
+   *
+   * @param spilledPosition the position up to which the records which the exporter still needs are
+   *     in the file; it may be higher than the position of the last record, if the records after it
+   *     are not accepted by the exporter
+   * @throws IOException if the records or the position can't be written
+   */
+  void flush(final long spilledPosition) throws IOException {
+    channel.force(false);
+    writeSpilledPosition(spilledPosition);
+  }
+
+  /** @return {@code true} if there are spilled records which were not read yet */
+  boolean hasNext() {
+    return readOffset < writeOffset;
+  }
+
+  /**
+   * Reads the next spilled record. The returned record is only valid until the next record is read.
+   *
+   * @return the next spilled record
+   * @throws IOException if the record can't be read
+   */
+  LoggedEvent next() throws IOException {
+    final int length = readLength(readOffset);
+    readEntry(readOffset + LENGTH_SIZE, length);
+    readOffset += LENGTH_SIZE + length;
+
+    readEvent.wrap(readBuffer, 0);
+    return readEvent;
+  }
+
+  /**
+   * Removes all spilled records, e.g. when the exporter acknowledged all of them.
+   *
+   * @throws IOException if the file can't be truncated
+   */
+  void reset() throws IOException {
+    channel.truncate(HEADER_SIZE);
+    writeOffset = HEADER_SIZE;
+    readOffset = HEADER_SIZE;
+    lastPosition = -1;
+    writeSpilledPosition(-1);
+  }
+
+  /** @return {@code true} if there are no spilled records */
+  boolean isEmpty() {
+    return writeOffset == HEADER_SIZE;
+  }
+
+  /** @return the size of the spilled records in bytes */
+  long getSize() {
+    return writeOffset - HEADER_SIZE;
+  }
+
+  /** @return the position up to which the spilled records are durable, or -1 if there are none */
+  long getSpilledPosition() {
+    return spilledPosition;
+  }
+
+  /** @return the position of the last spilled record, or -1 if there are no spilled records */
+  long getLastPosition() {
+    return lastPosition;
+  }
+
+  @Override
+  public void close() {
+    CloseHelper.quietClose(channel);
+  }
+
+  private void recover() throws IOException {
+    if (channel.size() < HEADER_SIZE) {
+      // the file was just created, or the broker crashed before the header was written
+      channel.truncate(0);
+      writeSpilledPosition(-1);
+    }
+
+    headerBuffer.clear();
+    readFully(headerBuffer, 0);
+    spilledPosition = headerBuffer.getLong(0);
+
+    final long fileSize = channel.size();
+    long offset = HEADER_SIZE;
+    while (offset + LENGTH_SIZE <= fileSize) {
+      final int length = readLength(offset);
+      if (length <= 0 || offset + LENGTH_SIZE + length > fileSize) {
+        break;
+      }
+
+      readEntry(offset + LENGTH_SIZE, length);
+      readEvent.wrap(readBuffer, 0);
+      lastPosition = readEvent.getPosition();
+      offset += LENGTH_SIZE + length;
+    }
+
+    if (offset < fileSize) {
+      // the last entry was not written completely
+      channel.truncate(offset);
+    }
+    writeOffset = offset;
+  }
+
+  private void writeSpilledPosition(final long position) throws IOException {
+    headerBuffer.clear();
+    headerBuffer.putLong(0, position);
+    writeFully(headerBuffer, 0);
+    channel.force(false);
+    spilledPosition = position;
+  }
+
+  private int readLength(final long offset) throws IOException {
+    lengthBuffer.clear();
+    readFully(lengthBuffer, offset);
+    return lengthBuffer.getInt(0);
+  }
+
+  private void readEntry(final long offset, final int length) throws IOException {
+    readBuffer.checkLimit(length);
+    final ByteBuffer entry = readBuffer.byteBuffer().duplicate();
+    entry.clear().limit(length);
+    readFully(entry, offset);
+  }
+
+  private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+    long currentOffset = offset;
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, currentOffset);
+      if (read < 0) {
+        throw new IOException(
+            String.format("Expected to read spilled record at offset %d, but reached end", offset));
+      }
+      currentOffset += read;
+    }
+  }
+
+  private void writeFully(final ByteBuffer buffer, final long offset) throws IOException {
+    long currentOffset = offset;
+    while (buffer.hasRemaining()) {
+      currentOffset += channel.write(buffer, currentOffset);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongArrayList;
 
@@ -23,6 +24,8 @@ public final class ExportersState {
   private final DbString exporterId;
   private final ExporterPosition position = new ExporterPosition();
   private final ColumnFamily<DbString, ExporterPosition> exporterPositionColumnFamily;
+  private final ExporterPosition spilledPosition = new ExporterPosition();
+  private final ColumnFamily<DbString, ExporterPosition> spilledPositionColumnFamily;
 
   public ExportersState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -30,6 +33,12 @@ public final class ExportersState {
     exporterPositionColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.EXPORTER, transactionContext, exporterId, position);
+    spilledPositionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.EXPORTER_SPILLED_POSITION,
+            transactionContext,
+            exporterId,
+            spilledPosition);
   }
 
   public void setPosition(final String exporterId, final long position) {
@@ -69,9 +78,58 @@ public final class ExportersState {
     return positions.longStream().min().orElse(-1L);
   }
 
+  /**
+   * Returns the lowest position which must be retained in the log of this node for the exporters.
+   * It is the lowest position of the exporters, unless an exporter spilled the records which it
+   * still needs into its spill buffer; then its spilled position is used instead, but only as far
+   * as the spilled records are available on this node. The spilled position in the state may have
+   * been written by another node, whose spill file is not available here.
+   *
+   * @param localSpilledPositions returns for an exporter id the position up to which the spilled
+   *     records of the exporter are available on this node, or -1 if there are none
+   * @return the lowest position which must be retained, or -1 if there are no exporters
+   */
+  public long getLowestRetainedPosition(final ToLongFunction<String> localSpilledPositions) {
+    final LongArrayList positions = new LongArrayList();
+
+    visitPositions(
+        (id, pos) -> {
+          final long spilledPosition = getSpilledPosition(id);
+          if (spilledPosition > pos) {
+            final long localSpilledPosition = localSpilledPositions.applyAsLong(id);
+            positions.addLong(Math.max(pos, Math.min(spilledPosition, localSpilledPosition)));
+          } else {
+            positions.addLong(pos);
+          }
+        });
+    return positions.longStream().min().orElse(-1L);
+  }
+
   public void removePosition(final String exporter) {
     exporterId.wrapString(exporter);
     exporterPositionColumnFamily.delete(exporterId);
+    spilledPositionColumnFamily.delete(exporterId);
+  }
+
+  /**
+   * Sets the position up to which the records which the exporter still needs are kept in its spill
+   * buffer, so that the log doesn't need to retain them.
+   */
+  public void setSpilledPosition(final String exporterId, final long position) {
+    this.exporterId.wrapString(exporterId);
+    spilledPosition.set(position);
+    spilledPositionColumnFamily.put(this.exporterId, spilledPosition);
+  }
+
+  public long getSpilledPosition(final String exporterId) {
+    this.exporterId.wrapString(exporterId);
+    final ExporterPosition pos = spilledPositionColumnFamily.get(this.exporterId);
+    return pos == null ? VALUE_NOT_FOUND : pos.get();
+  }
+
+  public void removeSpilledPosition(final String exporterId) {
+    this.exporterId.wrapString(exporterId);
+    spilledPositionColumnFamily.delete(this.exporterId);
   }
 
   public boolean hasExporters() {
@@ -7,18 +7,44 @@
  */
 package io.camunda.zeebe.broker.logstreams.state;
 
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.stream.ExporterSpillBuffer;
 import io.camunda.zeebe.broker.exporter.stream.ExportersState;
 import io.camunda.zeebe.db.ZeebeDb;
+import java.io.IOException;
+import java.nio.file.Path;
 
 public final class StatePositionSupplier {
   private StatePositionSupplier() {}
 
-  public static long getHighestExportedPosition(final ZeebeDb zeebeDb) {
+  /**
+   * Returns the position up to which the log of this node can be compacted for the exporters. The
+   * records which an exporter spilled are only taken into account if they are in a spill file in
+   * the given directory, i.e. if this node can read them again.
+   *
+   * @param zeebeDb the state of the partition
+   * @param spillDirectory the directory of the spill files of the partition on this node
+   * @return the lowest position which must be retained for the exporters
+   */
+  public static long getHighestExportedPosition(final ZeebeDb zeebeDb, final Path spillDirectory) {
     final var exporterState = new ExportersState(zeebeDb, zeebeDb.createContext());
     if (exporterState.hasExporters()) {
-      return exporterState.getLowestPosition();
+      return exporterState.getLowestRetainedPosition(
+          exporterId -> readSpilledPosition(spillDirectory, exporterId));
     } else {
       return Long.MAX_VALUE;
     }
   }
+
+  private static long readSpilledPosition(final Path spillDirectory, final String exporterId) {
+    try {
+      return ExporterSpillBuffer.readSpilledPosition(spillDirectory, exporterId);
+    } catch (final IOException e) {
+      Loggers.EXPORTER_LOGGER.warn(
+          "Failed to read the spilled position of exporter '{}', retain its records in the log",
+          exporterId,
+          e);
+      return -1;
+    }
+  }
 }
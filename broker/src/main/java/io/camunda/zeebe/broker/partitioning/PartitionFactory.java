@@ -18,6 +18,7 @@ import io.camunda.zeebe.broker.engine.impl.DeploymentDistributorImpl;
 import io.camunda.zeebe.broker.engine.impl.LongPollingJobNotification;
 import io.camunda.zeebe.broker.engine.impl.PartitionCommandSenderImpl;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
+import io.camunda.zeebe.broker.exporter.stream.ExporterSpillBuffer;
 import io.camunda.zeebe.broker.logstreams.state.StatePositionSupplier;
 import io.camunda.zeebe.broker.partitioning.topology.TopologyManager;
 import io.camunda.zeebe.broker.partitioning.topology.TopologyPartitionListenerImpl;
@@ -51,6 +52,7 @@ import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSen
 import io.camunda.zeebe.engine.processing.streamprocessor.ProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.snapshots.ConstructableSnapshotStore;
@@ -60,6 +62,7 @@ import io.camunda.zeebe.util.sched.ConcurrencyControl;
 import io.camunda.zeebe.util.startup.StartupStep;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 final class PartitionFactory {
@@ -87,6 +90,7 @@ final class PartitionFactory {
   private final ClusterServices clusterServices;
   private final ExporterRepository exporterRepository;
   private final BrokerHealthCheckService healthCheckService;
+  private final Executor recoveryExecutor;
 
   PartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -97,7 +101,8 @@ final class PartitionFactory {
       final FileBasedSnapshotStoreFactory snapshotStoreFactory,
       final ClusterServices clusterServices,
       final ExporterRepository exporterRepository,
-      final BrokerHealthCheckService healthCheckService) {
+      final BrokerHealthCheckService healthCheckService,
+      final Executor recoveryExecutor) {
     this.actorSchedulingService = actorSchedulingService;
     this.brokerCfg = brokerCfg;
     this.localBroker = localBroker;
@@ -107,6 +112,7 @@ final class PartitionFactory {
     this.clusterServices = clusterServices;
     this.exporterRepository = exporterRepository;
     this.healthCheckService = healthCheckService;
+    this.recoveryExecutor = recoveryExecutor;
   }
 
   List<ZeebePartition> constructPartitions(
@@ -133,6 +139,9 @@ final class PartitionFactory {
             eventService,
             deploymentRequestHandler);
 
+    // the partitions of the broker share the transformed processes of the deployed resources
+    final var executableProcessCache = new ExecutableProcessCache();
+
     for (final RaftPartition owningPartition : owningPartitions) {
       final var partitionId = owningPartition.id().id();
 
@@ -160,7 +169,9 @@ final class PartitionFactory {
               stateController,
               typedRecordProcessorsFactory,
               exporterRepository,
-              new PartitionProcessingState(owningPartition));
+              new PartitionProcessingState(owningPartition),
+              executableProcessCache,
+              commandApiService.getDeploymentResourcePreparer());
 
       final PartitionTransition newTransitionBehavior =
           new PartitionTransitionImpl(TRANSITION_STEPS);
@@ -182,6 +193,8 @@ final class PartitionFactory {
       final ConstructableSnapshotStore snapshotStore,
       final ConcurrencyControl concurrencyControl) {
     final var runtimeDirectory = raftPartition.dataDirectory().toPath().resolve("runtime");
+    final var spillDirectory =
+        raftPartition.dataDirectory().toPath().resolve(ExporterSpillBuffer.DIRECTORY_NAME);
     final var databaseCfg = brokerCfg.getExperimental().getRocksdb();
 
     return new StateControllerImpl(
@@ -189,8 +202,9 @@ final class PartitionFactory {
         snapshotStore,
         runtimeDirectory,
         new AtomixRecordEntrySupplierImpl(raftPartition.getServer()),
-        StatePositionSupplier::getHighestExportedPosition,
-        concurrencyControl);
+        zeebeDb -> StatePositionSupplier.getHighestExportedPosition(zeebeDb, spillDirectory),
+        concurrencyControl,
+        recoveryExecutor);
   }
 
   private TypedRecordProcessorsFactory createFactory(
@@ -213,12 +227,16 @@ final class PartitionFactory {
               communicationService, eventService, partitionListener, actor);
 
       final PartitionCommandSenderImpl partitionCommandSender =
-          new PartitionCommandSenderImpl(communicationService, partitionListener);
+          new PartitionCommandSenderImpl(
+              communicationService,
+              partitionListener,
+              actor,
+              brokerCfg.getExperimental().getSubscriptionBatching());
       final SubscriptionCommandSender subscriptionCommandSender =
           new SubscriptionCommandSender(stream.getPartitionId(), partitionCommandSender);
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(eventService);
+          new LongPollingJobNotification(eventService, actor);
 
       final var processor =
           EngineProcessors.createEngineProcessors(
@@ -227,7 +245,8 @@ final class PartitionFactory {
               subscriptionCommandSender,
               deploymentDistributor,
               deploymentRequestHandler,
-              jobsAvailableNotification::onJobsAvailable);
+              jobsAvailableNotification::onJobsAvailable,
+              brokerCfg.getExperimental().getEngine().createEngineConfiguration());
 
       return processor.withListener(
           new StreamProcessorLifecycleAware() {
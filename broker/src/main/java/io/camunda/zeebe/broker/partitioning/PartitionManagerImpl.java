@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.broker.partitioning;
 
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
 import io.atomix.primitive.partition.ManagedPartitionGroup;
 import io.atomix.primitive.partition.ManagedPartitionService;
 import io.atomix.primitive.partition.impl.DefaultPartitionService;
@@ -33,6 +35,8 @@ import io.camunda.zeebe.util.sched.ConcurrencyControl;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -61,6 +65,7 @@ public final class PartitionManagerImpl implements PartitionManager, TopologyMan
   private final ClusterServices clusterServices;
   private final CommandApiService commandApiService;
   private final ExporterRepository exporterRepository;
+  private final ExecutorService recoveryExecutor;
 
   public PartitionManagerImpl(
       final ActorSchedulingService actorSchedulingService,
@@ -87,6 +92,12 @@ public final class PartitionManagerImpl implements PartitionManager, TopologyMan
     this.commandApiService = commandApiService;
     this.exporterRepository = exporterRepository;
 
+    // shared by all partitions, such that at most this many partitions recover their state at once
+    recoveryExecutor =
+        Executors.newFixedThreadPool(
+            brokerCfg.getThreads().getRecoveryThreadCount(),
+            namedThreads("zb-partition-recovery-%d", LOGGER));
+
     partitionGroup =
         new RaftPartitionGroupFactory().buildRaftPartitionGroup(brokerCfg, snapshotStoreFactory);
 
@@ -145,7 +156,8 @@ public final class PartitionManagerImpl implements PartitionManager, TopologyMan
                       snapshotStoreFactory,
                       clusterServices,
                       exporterRepository,
-                      healthCheckService);
+                      healthCheckService,
+                      recoveryExecutor);
 
               partitions.addAll(
                   partitionFactory.constructPartitions(
@@ -181,6 +193,7 @@ public final class PartitionManagerImpl implements PartitionManager, TopologyMan
               .whenComplete(
                   (ok, error) -> {
                     logErrorIfApplicable(error);
+                    recoveryExecutor.shutdownNow();
                     partitionGroup = null;
                     partitionService = null;
                     topologyManager.close();
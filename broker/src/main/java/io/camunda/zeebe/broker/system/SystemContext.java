@@ -18,12 +18,19 @@ import io.camunda.zeebe.broker.system.configuration.ThreadsCfg;
 import io.camunda.zeebe.broker.system.configuration.partitioning.FixedPartitionCfg;
 import io.camunda.zeebe.broker.system.configuration.partitioning.Scheme;
 import io.camunda.zeebe.util.sched.ActorScheduler;
+import io.camunda.zeebe.util.sched.AdaptiveIdleStrategy;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
 import org.slf4j.Logger;
 
 public final class SystemContext {
@@ -42,6 +49,10 @@ public final class SystemContext {
       "Disabling explicit flushing is an experimental feature and can lead to inconsistencies "
           + "and/or data loss! Please refer to the documentation whether or not you should use this!";
 
+  private static final int IDLE_MAX_SPINS = 100;
+  private static final int IDLE_MAX_YIELDS = 100;
+  private static final long ADAPTIVE_MIN_PARK_PERIOD_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
   private final BrokerCfg brokerCfg;
   private Map<String, String> diagnosticContext;
   private ActorScheduler scheduler;
@@ -145,6 +156,12 @@ public final class SystemContext {
               electionTimeout, heartbeatInterval));
     }
 
+    final var maxParkPeriod = brokerCfg.getThreads().getMaxParkPeriod();
+    if (maxParkPeriod.isNegative() || maxParkPeriod.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("maxParkPeriod %s must be greater than zero", maxParkPeriod));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
@@ -230,10 +247,30 @@ public final class SystemContext {
         .setActorClock(clock)
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setIdleStrategySupplier(createIdleStrategySupplier(cfg))
         .setSchedulerName(brokerId)
         .build();
   }
 
+  private Supplier<IdleStrategy> createIdleStrategySupplier(final ThreadsCfg cfg) {
+    final long maxParkPeriodNs = cfg.getMaxParkPeriod().toNanos();
+
+    switch (cfg.getIdleStrategy()) {
+      case BUSY_SPIN:
+        return BusySpinIdleStrategy::new;
+      case ADAPTIVE:
+        final long minParkPeriodNs = Math.min(ADAPTIVE_MIN_PARK_PERIOD_NS, maxParkPeriodNs);
+        return () ->
+            new AdaptiveIdleStrategy(
+                IDLE_MAX_SPINS, IDLE_MAX_YIELDS, minParkPeriodNs, maxParkPeriodNs);
+      case PARK:
+        return () -> new SleepingIdleStrategy(maxParkPeriodNs);
+      case BACKOFF:
+      default:
+        return () -> new BackoffIdleStrategy(IDLE_MAX_SPINS, IDLE_MAX_YIELDS, 1, maxParkPeriodNs);
+    }
+  }
+
   public ActorScheduler getScheduler() {
     return scheduler;
   }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import java.io.File;
 import java.time.Duration;
 import java.util.Optional;
@@ -35,6 +36,8 @@ public final class DataCfg implements ConfigurationEntry {
 
   private int logIndexDensity = 100;
 
+  private LogBlockCompression logCompression = LogBlockCompression.NONE;
+
   private boolean diskUsageMonitoringEnabled = DEFAULT_DISK_USAGE_MONITORING_ENABLED;
   private double diskUsageReplicationWatermark = DEFAULT_DISK_USAGE_REPLICATION_WATERMARK;
   private double diskUsageCommandWatermark = DEFAULT_DISK_USAGE_COMMAND_WATERMARK;
@@ -89,6 +92,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.logIndexDensity = logIndexDensity;
   }
 
+  public LogBlockCompression getLogCompression() {
+    return logCompression;
+  }
+
+  public void setLogCompression(final String logCompression) {
+    this.logCompression = LogBlockCompression.valueOf(logCompression.toUpperCase());
+  }
+
   public boolean isDiskUsageMonitoringEnabled() {
     return diskUsageMonitoringEnabled;
   }
@@ -142,6 +153,8 @@ public final class DataCfg implements ConfigurationEntry {
         + snapshotPeriod
         + ", logIndexDensity="
         + logIndexDensity
+        + ", logCompression="
+        + logCompression
         + ", diskUsageMonitoringEnabled="
         + diskUsageMonitoringEnabled
         + ", diskUsageReplicationWatermark="
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
+
+/** Tunes the processing of the engine on each partition. */
+public final class EngineCfg {
+
+  private int multiInstanceActivationChunkSize =
+      EngineConfiguration.DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE;
+  private DataSize largeVariableValueThreshold =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_LARGE_VARIABLE_VALUE_THRESHOLD);
+  private int terminationChunkSize = EngineConfiguration.DEFAULT_TERMINATION_CHUNK_SIZE;
+  private DataSize correlationKeyFilterSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_CORRELATION_KEY_FILTER_SIZE);
+
+  public int getMultiInstanceActivationChunkSize() {
+    return multiInstanceActivationChunkSize;
+  }
+
+  public void setMultiInstanceActivationChunkSize(final int multiInstanceActivationChunkSize) {
+    this.multiInstanceActivationChunkSize = multiInstanceActivationChunkSize;
+  }
+
+  public DataSize getLargeVariableValueThreshold() {
+    return largeVariableValueThreshold;
+  }
+
+  public void setLargeVariableValueThreshold(final DataSize largeVariableValueThreshold) {
+    this.largeVariableValueThreshold = largeVariableValueThreshold;
+  }
+
+  public int getTerminationChunkSize() {
+    return terminationChunkSize;
+  }
+
+  public void setTerminationChunkSize(final int terminationChunkSize) {
+    this.terminationChunkSize = terminationChunkSize;
+  }
+
+  public DataSize getCorrelationKeyFilterSize() {
+    return correlationKeyFilterSize;
+  }
+
+  public void setCorrelationKeyFilterSize(final DataSize correlationKeyFilterSize) {
+    this.correlationKeyFilterSize = correlationKeyFilterSize;
+  }
+
+  public EngineConfiguration createEngineConfiguration() {
+    return new EngineConfiguration()
+        .setMultiInstanceActivationChunkSize(multiInstanceActivationChunkSize)
+        .setLargeVariableValueThreshold(Math.toIntExact(largeVariableValueThreshold.toBytes()))
+        .setTerminationChunkSize(terminationChunkSize)
+        .setCorrelationKeyFilterSize(Math.toIntExact(correlationKeyFilterSize.toBytes()));
+  }
+
+  @Override
+  public String toString() {
+    return "EngineCfg{"
+        + "multiInstanceActivationChunkSize="
+        + multiInstanceActivationChunkSize
+        + ", largeVariableValueThreshold="
+        + largeVariableValueThreshold
+        + ", terminationChunkSize="
+        + terminationChunkSize
+        + ", correlationKeyFilterSize="
+        + correlationKeyFilterSize
+        + '}';
+  }
+}
@@ -30,6 +30,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private RaftCfg raft = new RaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private SubscriptionBatchingCfg subscriptionBatching = new SubscriptionBatchingCfg();
+  private EngineCfg engine = new EngineCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -105,6 +107,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public SubscriptionBatchingCfg getSubscriptionBatching() {
+    return subscriptionBatching;
+  }
+
+  public void setSubscriptionBatching(final SubscriptionBatchingCfg subscriptionBatching) {
+    this.subscriptionBatching = subscriptionBatching;
+  }
+
+  public EngineCfg getEngine() {
+    return engine;
+  }
+
+  public void setEngine(final EngineCfg engine) {
+    this.engine = engine;
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
@@ -120,6 +138,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", subscriptionBatching="
+        + subscriptionBatching
+        + ", engine="
+        + engine
         + '}';
   }
 }
@@ -28,6 +28,9 @@ public final class ExporterCfg implements ConfigurationEntry {
   /** map of arguments to use when instantiating the exporter */
   private Map<String, Object> args;
 
+  /** the spill buffer of the exporter, which is disabled by default */
+  private ExporterSpillBufferCfg spillBuffer = new ExporterSpillBufferCfg();
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (isExternal()) {
@@ -63,13 +66,21 @@ public final class ExporterCfg implements ConfigurationEntry {
     this.args = args;
   }
 
+  public ExporterSpillBufferCfg getSpillBuffer() {
+    return spillBuffer;
+  }
+
+  public void setSpillBuffer(final ExporterSpillBufferCfg spillBuffer) {
+    this.spillBuffer = spillBuffer;
+  }
+
   private boolean isEmpty(final String value) {
     return value == null || value.isEmpty();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(jarPath, className, args);
+    return Objects.hash(jarPath, className, args, spillBuffer);
   }
 
   @Override
@@ -83,7 +94,8 @@ public final class ExporterCfg implements ConfigurationEntry {
     final ExporterCfg that = (ExporterCfg) o;
     return Objects.equals(jarPath, that.jarPath)
         && Objects.equals(className, that.className)
-        && Objects.equals(args, that.args);
+        && Objects.equals(args, that.args)
+        && Objects.equals(spillBuffer, that.spillBuffer);
   }
 
   @Override
@@ -97,6 +109,8 @@ public final class ExporterCfg implements ConfigurationEntry {
         + '\''
         + ", args="
         + args
+        + ", spillBuffer="
+        + spillBuffer
         + '}';
   }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.util.Objects;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures the spill buffer of an exporter. If it is enabled and the exporter lags behind, e.g.
+ * because its sink is not available, the records which it still needs are copied into a side file
+ * of the exporter, so that the log can still be compacted. The exporter reads the records from the
+ * side file when it recovers.
+ */
+public final class ExporterSpillBufferCfg {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final DataSize DEFAULT_MAX_SIZE = DataSize.ofGigabytes(1);
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private DataSize maxSize = DEFAULT_MAX_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, maxSize);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ExporterSpillBufferCfg that = (ExporterSpillBufferCfg) o;
+    return enabled == that.enabled && Objects.equals(maxSize, that.maxSize);
+  }
+
+  @Override
+  public String toString() {
+    return "ExporterSpillBufferCfg{" + "enabled=" + enabled + ", maxSize=" + maxSize + '}';
+  }
+}
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.BloomFilterType;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.CompressionProfile;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -25,6 +27,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
       RocksDbConfiguration.DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
+  private CompressionProfile compressionProfile =
+      RocksDbConfiguration.DEFAULT_COMPRESSION_PROFILE;
+  private BloomFilterType bloomFilterType = RocksDbConfiguration.DEFAULT_BLOOM_FILTER_TYPE;
+  private DataSize blockSize = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_BLOCK_SIZE);
+  private boolean cacheIndexAndFilterBlocks =
+      RocksDbConfiguration.DEFAULT_CACHE_INDEX_AND_FILTER_BLOCKS;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -110,6 +118,38 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.disableWal = disableWal;
   }
 
+  public CompressionProfile getCompressionProfile() {
+    return compressionProfile;
+  }
+
+  public void setCompressionProfile(final String compressionProfile) {
+    this.compressionProfile = CompressionProfile.valueOf(compressionProfile.toUpperCase());
+  }
+
+  public BloomFilterType getBloomFilterType() {
+    return bloomFilterType;
+  }
+
+  public void setBloomFilterType(final String bloomFilterType) {
+    this.bloomFilterType = BloomFilterType.valueOf(bloomFilterType.toUpperCase());
+  }
+
+  public DataSize getBlockSize() {
+    return blockSize;
+  }
+
+  public void setBlockSize(final DataSize blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  public boolean isCacheIndexAndFilterBlocks() {
+    return cacheIndexAndFilterBlocks;
+  }
+
+  public void setCacheIndexAndFilterBlocks(final boolean cacheIndexAndFilterBlocks) {
+    this.cacheIndexAndFilterBlocks = cacheIndexAndFilterBlocks;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -119,7 +159,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setMinWriteBufferNumberToMerge(minWriteBufferNumberToMerge)
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
-        .setWalDisabled(disableWal);
+        .setWalDisabled(disableWal)
+        .setCompressionProfile(compressionProfile)
+        .setBloomFilterType(bloomFilterType)
+        .setBlockSize(blockSize.toBytes())
+        .setCacheIndexAndFilterBlocks(cacheIndexAndFilterBlocks);
   }
 
   @Override
@@ -141,6 +185,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + ioRateBytesPerSecond
         + ", disableWal="
         + disableWal
+        + ", compressionProfile="
+        + compressionProfile
+        + ", bloomFilterType="
+        + bloomFilterType
+        + ", blockSize="
+        + blockSize
+        + ", cacheIndexAndFilterBlocks="
+        + cacheIndexAndFilterBlocks
         + '}';
   }
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures whether subscription commands between partitions (e.g. to open, correlate or close
+ * message subscriptions) are sent in batches, one per receiving broker, instead of one message per
+ * command. Brokers which do not support batches ignore them, so it should only be enabled once all
+ * brokers of the cluster are updated.
+ */
+public final class SubscriptionBatchingCfg {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ZERO;
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public Duration getFlushInterval() {
+    return flushInterval;
+  }
+
+  public void setFlushInterval(final Duration flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  @Override
+  public String toString() {
+    return "SubscriptionBatchingCfg{"
+        + "enabled="
+        + enabled
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", flushInterval="
+        + flushInterval
+        + '}';
+  }
+}
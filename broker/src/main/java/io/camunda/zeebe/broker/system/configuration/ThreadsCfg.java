@@ -7,9 +7,15 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int recoveryThreadCount = 4;
+  private int deploymentThreadCount = 2;
+  private IdleStrategyType idleStrategy = IdleStrategyType.BACKOFF;
+  private Duration maxParkPeriod = Duration.ofMillis(1);
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +33,38 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getRecoveryThreadCount() {
+    return recoveryThreadCount;
+  }
+
+  public void setRecoveryThreadCount(final int recoveryThreadCount) {
+    this.recoveryThreadCount = recoveryThreadCount;
+  }
+
+  public int getDeploymentThreadCount() {
+    return deploymentThreadCount;
+  }
+
+  public void setDeploymentThreadCount(final int deploymentThreadCount) {
+    this.deploymentThreadCount = deploymentThreadCount;
+  }
+
+  public IdleStrategyType getIdleStrategy() {
+    return idleStrategy;
+  }
+
+  public void setIdleStrategy(final String idleStrategy) {
+    this.idleStrategy = IdleStrategyType.valueOf(idleStrategy.toUpperCase());
+  }
+
+  public Duration getMaxParkPeriod() {
+    return maxParkPeriod;
+  }
+
+  public void setMaxParkPeriod(final Duration maxParkPeriod) {
+    this.maxParkPeriod = maxParkPeriod;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +72,26 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", recoveryThreadCount="
+        + recoveryThreadCount
+        + ", deploymentThreadCount="
+        + deploymentThreadCount
+        + ", idleStrategy="
+        + idleStrategy
+        + ", maxParkPeriod="
+        + maxParkPeriod
         + '}';
   }
+
+  /** Controls how actor threads wait for new work when they are idle. */
+  public enum IdleStrategyType {
+    /** Spins, then yields, then parks with an exponentially growing period; the default. */
+    BACKOFF,
+    /** Never parks; lowest latency, but each actor thread always uses a full core. */
+    BUSY_SPIN,
+    /** Only spins and yields if work recently arrived quickly, otherwise parks right away. */
+    ADAPTIVE,
+    /** Always parks right away; lowest CPU usage when idle, at the cost of latency. */
+    PARK
+  }
 }
@@ -14,6 +14,8 @@ public class BrokerStepMetrics {
 
   public static final String ZEEBE_NAMESPACE = "zeebe";
   public static final String STEP_NAME_LABEL = "stepName";
+  public static final String PARTITION_LABEL = "partition";
+  public static final String ROLE_LABEL = "role";
   private static final Gauge STARTUP_METRIC =
       Gauge.build()
           .namespace(ZEEBE_NAMESPACE)
@@ -30,6 +32,16 @@ public class BrokerStepMetrics {
           .labelNames(STEP_NAME_LABEL)
           .register();
 
+  private static final Gauge PARTITION_TRANSITION_METRIC =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("partition_transition_step_latency")
+          .help(
+              "Time for each partition transition step to complete, e.g. to recover the state when"
+                  + " the partition becomes leader or follower.")
+          .labelNames(PARTITION_LABEL, ROLE_LABEL, STEP_NAME_LABEL)
+          .register();
+
   /**
    * Meter the time to start for a single step.
    *
@@ -48,6 +60,13 @@ public class BrokerStepMetrics {
     return CLOSE_METRICS.labels(stepName).startTimer();
   }
 
+  public Timer createPartitionTransitionTimer(
+      final int partitionId, final String role, final String stepName) {
+    return PARTITION_TRANSITION_METRIC
+        .labels(String.valueOf(partitionId), role, stepName)
+        .startTimer();
+  }
+
   /**
    * Meter the the time to close for a single step.
    *
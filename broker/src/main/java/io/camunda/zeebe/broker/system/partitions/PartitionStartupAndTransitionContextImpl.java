@@ -18,11 +18,13 @@ import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.broker.system.partitions.impl.PartitionProcessingState;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.camunda.zeebe.snapshots.ConstructableSnapshotStore;
@@ -64,6 +66,8 @@ public class PartitionStartupAndTransitionContextImpl
   private final ExporterRepository exporterRepository;
   private final PartitionProcessingState partitionProcessingState;
   private final StateController stateController;
+  private final ExecutableProcessCache executableProcessCache;
+  private final DeploymentResourcePreparer deploymentResourcePreparer;
 
   private StreamProcessor streamProcessor;
   private LogStream logStream;
@@ -94,7 +98,9 @@ public class PartitionStartupAndTransitionContextImpl
       final StateController stateController,
       final TypedRecordProcessorsFactory typedRecordProcessorsFactory,
       final ExporterRepository exporterRepository,
-      final PartitionProcessingState partitionProcessingState) {
+      final PartitionProcessingState partitionProcessingState,
+      final ExecutableProcessCache executableProcessCache,
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
     this.nodeId = nodeId;
     this.raftPartition = raftPartition;
     this.messagingService = messagingService;
@@ -111,6 +117,8 @@ public class PartitionStartupAndTransitionContextImpl
     maxFragmentSize = (int) brokerCfg.getNetwork().getMaxMessageSizeInBytes();
     this.exporterRepository = exporterRepository;
     this.partitionProcessingState = partitionProcessingState;
+    this.executableProcessCache = executableProcessCache;
+    this.deploymentResourcePreparer = deploymentResourcePreparer;
   }
 
   public PartitionAdminControl getPartitionAdminControl() {
@@ -369,6 +377,16 @@ public class PartitionStartupAndTransitionContextImpl
     return typedRecordProcessorsFactory::createTypedStreamProcessor;
   }
 
+  @Override
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  @Override
+  public DeploymentResourcePreparer getDeploymentResourcePreparer() {
+    return deploymentResourcePreparer;
+  }
+
   public ExporterRepository getExporterRepository() {
     return exporterRepository;
   }
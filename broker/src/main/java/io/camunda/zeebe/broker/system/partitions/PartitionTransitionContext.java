@@ -14,11 +14,13 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.camunda.zeebe.util.sched.ActorSchedulingService;
@@ -62,6 +64,10 @@ public interface PartitionTransitionContext extends PartitionContext {
 
   TypedRecordProcessorFactory getStreamProcessorFactory();
 
+  ExecutableProcessCache getExecutableProcessCache();
+
+  DeploymentResourcePreparer getDeploymentResourcePreparer();
+
   void setExporterDirector(ExporterDirector exporterDirector);
 
   PartitionMessagingService getMessagingService();
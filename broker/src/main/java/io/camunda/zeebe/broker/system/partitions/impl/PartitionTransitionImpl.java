@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.monitoring.BrokerStepMetrics;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransition;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
@@ -24,6 +25,7 @@ public final class PartitionTransitionImpl implements PartitionTransition {
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
 
   private final List<PartitionTransitionStep> steps;
+  private final BrokerStepMetrics stepMetrics = new BrokerStepMetrics();
   private PartitionTransitionContext context;
   private ConcurrencyControl concurrencyControl;
   private PartitionTransitionProcess lastTransition;
@@ -72,7 +74,8 @@ public final class PartitionTransitionImpl implements PartitionTransition {
     concurrencyControl.run(
         () -> {
           final var nextTransition =
-              new PartitionTransitionProcess(steps, concurrencyControl, context, term, role);
+              new PartitionTransitionProcess(
+                  steps, concurrencyControl, context, stepMetrics, term, role);
           nextTransitionFuture.onComplete(
               (v, error) -> {
                 // term and role should only bet set after the transition is completed, since on
@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.monitoring.BrokerStepMetrics;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.util.sched.ConcurrencyControl;
@@ -28,6 +29,7 @@ final class PartitionTransitionProcess {
   private final Stack<PartitionTransitionStep> startedSteps = new Stack<>();
   private final ConcurrencyControl concurrencyControl;
   private final PartitionTransitionContext context;
+  private final BrokerStepMetrics stepMetrics;
   private final long term;
   private final Role role;
   private boolean cancelRequested = false;
@@ -36,11 +38,13 @@ final class PartitionTransitionProcess {
       final List<PartitionTransitionStep> pendingSteps,
       final ConcurrencyControl concurrencyControl,
       final PartitionTransitionContext context,
+      final BrokerStepMetrics stepMetrics,
       final long term,
       final Role role) {
     this.pendingSteps = new ArrayList<>(requireNonNull(pendingSteps));
     this.concurrencyControl = requireNonNull(concurrencyControl);
     this.context = requireNonNull(context);
+    this.stepMetrics = requireNonNull(stepMetrics);
     this.term = term;
     this.role = requireNonNull(role);
   }
@@ -72,9 +76,16 @@ final class PartitionTransitionProcess {
           LOG.info(
               "Transition to {} on term {} - transitioning {}", role, term, nextStep.getName());
 
+          final var timer =
+              stepMetrics.createPartitionTransitionTimer(
+                  context.getPartitionId(), role.name(), nextStep.getName());
           nextStep
               .transitionTo(context, term, role)
-              .onComplete((ok, error) -> onStepCompletion(future, error));
+              .onComplete(
+                  (ok, error) -> {
+                    timer.close();
+                    onStepCompletion(future, error);
+                  });
         });
   }
 
@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.snapshots.ConstructableSnapshotStore;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.StateClosedException;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
 import io.camunda.zeebe.util.FileUtil;
@@ -20,6 +21,8 @@ import io.camunda.zeebe.util.sched.ConcurrencyControl;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.ToLongFunction;
 import org.slf4j.Logger;
 
@@ -43,20 +46,30 @@ public class StateControllerImpl implements StateController {
 
   private final ConstructableSnapshotStore constructableSnapshotStore;
   private final ConcurrencyControl concurrencyControl;
+  private final Executor recoveryExecutor;
 
+  private ActorFuture<ZeebeDb> pendingRecovery;
+
+  /**
+   * @param recoveryExecutor executes the blocking part of the recovery, i.e. clearing the runtime
+   *     directory and opening the database; it is usually shared by all partitions of a broker, so
+   *     that its size bounds how many partitions recover concurrently
+   */
   public StateControllerImpl(
       @SuppressWarnings("rawtypes") final ZeebeDbFactory zeebeDbFactory,
       final ConstructableSnapshotStore constructableSnapshotStore,
       final Path runtimeDirectory,
       final AtomixRecordEntrySupplier entrySupplier,
       @SuppressWarnings("rawtypes") final ToLongFunction<ZeebeDb> exporterPositionSupplier,
-      final ConcurrencyControl concurrencyControl) {
+      final ConcurrencyControl concurrencyControl,
+      final Executor recoveryExecutor) {
     this.constructableSnapshotStore = constructableSnapshotStore;
     this.runtimeDirectory = runtimeDirectory;
     this.zeebeDbFactory = zeebeDbFactory;
     this.exporterPositionSupplier = exporterPositionSupplier;
     this.entrySupplier = entrySupplier;
     this.concurrencyControl = concurrencyControl;
+    this.recoveryExecutor = recoveryExecutor;
   }
 
   @Override
@@ -70,17 +83,42 @@ public class StateControllerImpl implements StateController {
   @Override
   public ActorFuture<ZeebeDb> recover() {
     final ActorFuture<ZeebeDb> future = concurrencyControl.createFuture();
-    concurrencyControl.run(() -> recoverInternal(future));
+    concurrencyControl.run(
+        () -> {
+          if (isRecovering()) {
+            future.completeExceptionally(
+                new IllegalStateException(
+                    "Expected to recover the state, but it is already being recovered."));
+            return;
+          }
+
+          pendingRecovery = future;
+          recoverInternal(future);
+        });
     return future;
   }
 
   @Override
   public ActorFuture<Void> closeDb() {
     final ActorFuture<Void> future = concurrencyControl.createFuture();
-    concurrencyControl.run(() -> closeDbInternal(future));
+    concurrencyControl.run(
+        () -> {
+          if (isRecovering()) {
+            // the recovery writes to the runtime directory and opens the database; close it once
+            // the recovery is done, so that neither is left behind
+            concurrencyControl.runOnCompletion(
+                pendingRecovery, (recoveredDb, error) -> closeDbInternal(future));
+          } else {
+            closeDbInternal(future);
+          }
+        });
     return future;
   }
 
+  private boolean isRecovering() {
+    return pendingRecovery != null && !pendingRecovery.isDone();
+  }
+
   private void closeDbInternal(final ActorFuture<Void> future) {
     try {
       if (db != null) {
@@ -99,34 +137,99 @@ public class StateControllerImpl implements StateController {
   }
 
   private void recoverInternal(final ActorFuture<ZeebeDb> future) {
+    if (isDbOpened()) {
+      future.completeExceptionally(
+          new IllegalStateException(
+              "Expected to recover the state, but the database is still open."));
+      return;
+    }
+
+    final var latestSnapshot = constructableSnapshotStore.getLatestSnapshot().orElse(null);
+    executeRecoveryStep(() -> deleteRuntimeDirectory(latestSnapshot, future), future);
+  }
+
+  /** Runs on the recovery executor, outside of the actor. */
+  private void deleteRuntimeDirectory(
+      final PersistedSnapshot snapshot, final ActorFuture<ZeebeDb> future) {
     try {
       FileUtil.deleteFolderIfExists(runtimeDirectory);
     } catch (final IOException e) {
-      future.completeExceptionally(
-          new RuntimeException(
-              "Failed to delete runtime folder. Cannot recover from snapshot.", e));
+      concurrencyControl.run(
+          () ->
+              future.completeExceptionally(
+                  new RuntimeException(
+                      "Failed to delete runtime folder. Cannot recover from snapshot.", e)));
+      return;
+    }
+
+    concurrencyControl.run(() -> copySnapshot(snapshot, future));
+  }
+
+  /**
+   * Copies the snapshot via the snapshot store, which does not delete it while it is copied. The
+   * snapshot may have been deleted before though, if a newer snapshot was persisted concurrently;
+   * in that case the recovery is retried with the newer snapshot.
+   */
+  private void copySnapshot(final PersistedSnapshot snapshot, final ActorFuture<ZeebeDb> future) {
+    if (snapshot == null) {
+      // if there is no snapshot, open an empty database
+      executeRecoveryStep(() -> openDb(future), future);
+      return;
     }
 
-    final var optLatestSnapshot = constructableSnapshotStore.getLatestSnapshot();
-    if (optLatestSnapshot.isPresent()) {
-      final var snapshot = optLatestSnapshot.get();
-      LOG.debug("Recovering state from available snapshot: {}", snapshot);
-      constructableSnapshotStore
-          .copySnapshot(snapshot, runtimeDirectory)
-          .onComplete(
-              (ok, error) -> {
-                if (error != null) {
-                  future.completeExceptionally(
-                      new RuntimeException(
-                          String.format("Failed to recover from snapshot %s", snapshot.getId()),
-                          error));
-                } else {
-                  openDb(future);
-                }
-              });
+    LOG.debug("Recovering state from available snapshot: {}", snapshot);
+    concurrencyControl.runOnCompletion(
+        constructableSnapshotStore.copySnapshot(snapshot, runtimeDirectory),
+        (ok, error) -> {
+          if (error != null) {
+            onSnapshotCopyFailed(snapshot, future, error);
+          } else {
+            executeRecoveryStep(() -> openDb(future), future);
+          }
+        });
+  }
+
+  /** Runs on the recovery executor, outside of the actor. */
+  @SuppressWarnings("rawtypes")
+  private void openDb(final ActorFuture<ZeebeDb> future) {
+    final ZeebeDb openedDb;
+    try {
+      openedDb = zeebeDbFactory.createDb(runtimeDirectory.toFile());
+    } catch (final Exception e) {
+      concurrencyControl.run(
+          () -> future.completeExceptionally(new RuntimeException("Failed to open database", e)));
+      return;
+    }
+
+    concurrencyControl.run(
+        () -> {
+          db = openedDb;
+          LOG.debug("Opened database from '{}'.", runtimeDirectory);
+          future.complete(openedDb);
+        });
+  }
+
+  private void executeRecoveryStep(final Runnable step, final ActorFuture<ZeebeDb> future) {
+    try {
+      recoveryExecutor.execute(step);
+    } catch (final RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private void onSnapshotCopyFailed(
+      final PersistedSnapshot snapshot, final ActorFuture<ZeebeDb> future, final Throwable error) {
+    final var latestSnapshot = constructableSnapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isPresent() && !latestSnapshot.get().getId().equals(snapshot.getId())) {
+      LOG.debug(
+          "Snapshot {} was replaced by {} while copying it, retry recovery",
+          snapshot.getId(),
+          latestSnapshot.get().getId());
+      recoverInternal(future);
     } else {
-      // If there is no snapshot, open empty database
-      openDb(future);
+      future.completeExceptionally(
+          new RuntimeException(
+              String.format("Failed to recover from snapshot %s", snapshot.getId()), error));
     }
   }
 
@@ -169,19 +272,6 @@ public class StateControllerImpl implements StateController {
     }
   }
 
-  @SuppressWarnings("rawtypes")
-  private void openDb(final ActorFuture<ZeebeDb> future) {
-    try {
-      if (db == null) {
-        db = zeebeDbFactory.createDb(runtimeDirectory.toFile());
-        LOG.debug("Opened database from '{}'.", runtimeDirectory);
-        future.complete(db);
-      }
-    } catch (final Exception error) {
-      future.completeExceptionally(new RuntimeException("Failed to open database", error));
-    }
-  }
-
   private void tryDeletingRuntimeDirectory() {
     try {
       FileUtil.deleteFolderIfExists(runtimeDirectory);
@@ -12,6 +12,7 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
+import io.camunda.zeebe.broker.exporter.stream.ExporterSpillBuffer;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.util.sched.Actor;
@@ -84,6 +85,12 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
 
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
+    final var spillDirectory =
+        context
+            .getRaftPartition()
+            .dataDirectory()
+            .toPath()
+            .resolve(ExporterSpillBuffer.DIRECTORY_NAME);
     final ExporterDirectorContext exporterCtx =
         new ExporterDirectorContext()
             .id(EXPORTER_PROCESSOR_ID)
@@ -92,7 +99,8 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .zeebeDb(context.getZeebeDb())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
-            .exporterMode(exporterMode);
+            .exporterMode(exporterMode)
+            .spillDirectory(spillDirectory);
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
 
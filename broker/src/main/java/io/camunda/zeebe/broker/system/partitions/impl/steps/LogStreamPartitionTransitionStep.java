@@ -95,6 +95,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withNodeId(context.getNodeId())
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withBlockCompression(context.getBrokerCfg().getData().getLogCompression())
         .withActorSchedulingService(context.getActorSchedulingService())
         .buildAsync();
   }
@@ -134,6 +134,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .listener(processedCommand -> context.getOnProcessedListener().accept(processedCommand))
         .streamProcessorFactory(context.getStreamProcessorFactory())
         .streamProcessorMode(streamProcessorMode)
+        .executableProcessCache(context.getExecutableProcessCache())
+        .deploymentResourcePreparer(context.getDeploymentResourcePreparer())
         .build();
   }
 }
@@ -10,6 +10,9 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.protocol.Protocol;
@@ -26,7 +29,9 @@ import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.transport.BatchFrames;
 import io.camunda.zeebe.transport.RequestHandler;
 import io.camunda.zeebe.transport.ServerOutput;
 import java.util.EnumMap;
@@ -35,6 +40,7 @@ import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 
@@ -48,17 +54,23 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
   private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingBatchWriters =
+      new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final RecordMetadata eventMetadata = new RecordMetadata();
 
   private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+  private final BatchFrames.Reader batchReader = new BatchFrames.Reader();
+  private final LongArrayList batchedRequestIds = new LongArrayList();
 
   private final Map<ValueType, UnpackedObject> recordsByType = new EnumMap<>(ValueType.class);
   private final BackpressureMetrics metrics;
+  private final DeploymentResourcePreparer deploymentResourcePreparer;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final DeploymentResourcePreparer deploymentResourcePreparer) {
+    this.deploymentResourcePreparer = deploymentResourcePreparer;
     metrics = new BackpressureMetrics();
     initEventTypeMap();
   }
@@ -74,14 +86,35 @@ final class CommandApiRequestHandler implements RequestHandler {
     recordsByType.put(ValueType.PROCESS_INSTANCE_CREATION, new ProcessInstanceCreationRecord());
   }
 
-  private void handleExecuteCommandRequest(
+  private boolean acceptCommand(
       final ServerOutput output,
       final int partitionId,
       final long requestId,
-      final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
-      final int messageOffset,
-      final int messageLength) {
+      final int messageOffset) {
+    messageHeaderDecoder.wrap(buffer, messageOffset);
+
+    final int templateId = messageHeaderDecoder.templateId();
+    final int clientVersion = messageHeaderDecoder.version();
+
+    if (clientVersion > Protocol.PROTOCOL_VERSION) {
+      errorResponseWriter
+          .invalidClientVersion(Protocol.PROTOCOL_VERSION, clientVersion)
+          .tryWriteResponse(output, partitionId, requestId);
+      return false;
+    }
+
+    eventMetadata.reset();
+    eventMetadata.protocolVersion(clientVersion);
+    eventMetadata.requestId(requestId);
+    eventMetadata.requestStreamId(partitionId);
+
+    if (templateId != ExecuteCommandRequestDecoder.TEMPLATE_ID) {
+      errorResponseWriter
+          .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
+          .tryWriteResponse(output, partitionId, requestId);
+      return false;
+    }
 
     if (!isDiskSpaceAvailable) {
       errorResponseWriter
@@ -90,7 +123,7 @@ final class CommandApiRequestHandler implements RequestHandler {
                   "Cannot accept requests for partition %d. Broker is out of disk space",
                   partitionId))
           .tryWriteResponse(output, partitionId, requestId);
-      return;
+      return false;
     }
 
     executeCommandRequestDecoder.wrap(
@@ -99,15 +132,11 @@ final class CommandApiRequestHandler implements RequestHandler {
         messageHeaderDecoder.blockLength(),
         messageHeaderDecoder.version());
 
-    final long key = executeCommandRequestDecoder.key();
-
-    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
-
-    if (logStreamWriter == null) {
+    if (!leadingStreams.containsKey(partitionId)) {
       errorResponseWriter
           .partitionLeaderMismatch(partitionId)
           .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
+      return false;
     }
 
     final ValueType eventType = executeCommandRequestDecoder.valueType();
@@ -118,11 +147,10 @@ final class CommandApiRequestHandler implements RequestHandler {
       errorResponseWriter
           .unsupportedMessage(eventType.name(), recordsByType.keySet().toArray())
           .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
+      return false;
     }
 
-    final int eventOffset =
-        executeCommandRequestDecoder.limit() + ExecuteCommandRequestDecoder.valueHeaderLength();
+    final int eventOffset = getEventOffset();
     final int eventLength = executeCommandRequestDecoder.valueLength();
 
     event.reset();
@@ -136,7 +164,7 @@ final class CommandApiRequestHandler implements RequestHandler {
       errorResponseWriter
           .malformedRequest(e)
           .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
+      return false;
     }
 
     eventMetadata.recordType(RecordType.COMMAND);
@@ -155,17 +183,49 @@ final class CommandApiRequestHandler implements RequestHandler {
           limiter.getInflightCount(),
           requestId);
       errorResponseWriter.resourceExhausted().tryWriteResponse(output, partitionId, requestId);
+      return false;
+    }
+
+    if (eventIntent == DeploymentIntent.CREATE) {
+      // prepare the resources while the command is written, so that processing it doesn't have to
+      deploymentResourcePreparer.prepare((DeploymentRecord) event);
+    }
+
+    return true;
+  }
+
+  private int getEventOffset() {
+    return executeCommandRequestDecoder.limit() + ExecuteCommandRequestDecoder.valueHeaderLength();
+  }
+
+  private void handleExecuteCommandRequest(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int messageOffset) {
+    if (!acceptCommand(output, partitionId, requestId, buffer, messageOffset)) {
       return;
     }
 
+    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
+    final Intent eventIntent = eventMetadata.getIntent();
+
     boolean written = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      written =
+          writeCommand(
+              eventMetadata,
+              buffer,
+              executeCommandRequestDecoder.key(),
+              logStreamWriter,
+              getEventOffset(),
+              executeCommandRequestDecoder.valueLength());
     } catch (final Exception ex) {
       LOG.error("Unexpected error on writing {} command", eventIntent, ex);
     } finally {
       if (!written) {
-        limiter.onIgnore(partitionId, requestId);
+        partitionLimiters.get(partitionId).onIgnore(partitionId, requestId);
       }
     }
   }
@@ -194,13 +254,83 @@ final class CommandApiRequestHandler implements RequestHandler {
     return eventPosition >= 0;
   }
 
+  private void handleExecuteCommandBatchRequest(
+      final ServerOutput output,
+      final int partitionId,
+      final long firstRequestId,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
+    try {
+      batchReader.wrap(buffer, offset, length);
+    } catch (final IllegalArgumentException e) {
+      LOG.error("Failed to read command batch in client API", e);
+      return;
+    }
+
+    final LogStreamBatchWriter batchWriter = leadingBatchWriters.get(partitionId);
+    batchedRequestIds.clear();
+    if (batchWriter != null) {
+      batchWriter.reset();
+    }
+
+    while (batchReader.hasNext()) {
+      batchReader.next();
+
+      final long requestId = firstRequestId + batchReader.getFrameIndex();
+      if (!acceptCommand(output, partitionId, requestId, buffer, batchReader.getFrameOffset())) {
+        continue;
+      }
+
+      final int eventOffset = getEventOffset();
+      final int eventLength = executeCommandRequestDecoder.valueLength();
+      if (!batchedRequestIds.isEmpty()
+          && !batchWriter.canWriteAdditionalEvent(eventMetadata.getLength() + eventLength)) {
+        writeCommandBatch(partitionId, batchWriter);
+      }
+
+      final long key = executeCommandRequestDecoder.key();
+      final LogEntryBuilder entry = batchWriter.event();
+      if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+        entry.key(key);
+      } else {
+        entry.keyNull();
+      }
+      entry.metadataWriter(eventMetadata).value(buffer, eventOffset, eventLength).done();
+      batchedRequestIds.addLong(requestId);
+    }
+
+    if (!batchedRequestIds.isEmpty()) {
+      writeCommandBatch(partitionId, batchWriter);
+    }
+  }
+
+  private void writeCommandBatch(final int partitionId, final LogStreamBatchWriter batchWriter) {
+    boolean written = false;
+    try {
+      written = batchWriter.tryWrite() >= 0;
+    } catch (final Exception ex) {
+      LOG.error("Unexpected error on writing batch of {} commands", batchedRequestIds.size(), ex);
+    } finally {
+      if (!written) {
+        final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+        batchedRequestIds.forEachOrderedLong(requestId -> limiter.onIgnore(partitionId, requestId));
+      }
+
+      batchWriter.reset();
+      batchedRequestIds.clear();
+    }
+  }
+
   void addPartition(
       final int partitionId,
       final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamBatchWriter,
       final RequestLimiter<Intent> limiter) {
     cmdQueue.add(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
+          leadingBatchWriters.put(partitionId, logStreamBatchWriter);
           partitionLimiters.put(partitionId, limiter);
         });
   }
@@ -209,6 +339,7 @@ final class CommandApiRequestHandler implements RequestHandler {
     cmdQueue.add(
         () -> {
           leadingStreams.remove(partitionId);
+          leadingBatchWriters.remove(partitionId);
           partitionLimiters.remove(partitionId);
         });
   }
@@ -234,33 +365,24 @@ final class CommandApiRequestHandler implements RequestHandler {
       final int offset,
       final int length) {
     drainCommandQueue();
+    handleExecuteCommandRequest(output, partitionId, requestId, buffer, offset);
+  }
 
-    messageHeaderDecoder.wrap(buffer, offset);
-
-    final int templateId = messageHeaderDecoder.templateId();
-    final int clientVersion = messageHeaderDecoder.version();
-
-    if (clientVersion > Protocol.PROTOCOL_VERSION) {
-      errorResponseWriter
-          .invalidClientVersion(Protocol.PROTOCOL_VERSION, clientVersion)
-          .tryWriteResponse(output, partitionId, requestId);
-      return;
-    }
-
-    eventMetadata.reset();
-    eventMetadata.protocolVersion(clientVersion);
-    eventMetadata.requestId(requestId);
-    eventMetadata.requestStreamId(partitionId);
-
-    if (templateId == ExecuteCommandRequestDecoder.TEMPLATE_ID) {
-      handleExecuteCommandRequest(
-          output, partitionId, requestId, eventMetadata, buffer, offset, length);
-      return;
-    }
-
-    errorResponseWriter
-        .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
-        .tryWriteResponse(output, partitionId, requestId);
+  /**
+   * Handles a batch of commands for the same partition, as sent by gateways which coalesce
+   * commands. Each command is validated and responded to on its own, but all accepted commands are
+   * written to the log stream as a single batch, as long as they fit into one.
+   */
+  @Override
+  public void onRequestBatch(
+      final ServerOutput output,
+      final int partitionId,
+      final long firstRequestId,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
+    drainCommandQueue();
+    handleExecuteCommandBatchRequest(output, partitionId, firstRequestId, buffer, offset, length);
   }
 
   private void drainCommandQueue() {
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.transport.commandapi;
 
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import java.util.function.Consumer;
@@ -16,4 +17,7 @@ public interface CommandApiService {
   CommandResponseWriter newCommandResponseWriter();
 
   Consumer<TypedRecord<?>> getOnProcessedListener(int partitionId);
+
+  /** @return prepares the resources of the received deployments for the stream processors */
+  DeploymentResourcePreparer getDeploymentResourcePreparer();
 }
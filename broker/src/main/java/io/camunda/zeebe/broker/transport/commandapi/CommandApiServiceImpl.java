@@ -13,10 +13,13 @@ import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
@@ -39,17 +42,20 @@ public final class CommandApiServiceImpl extends Actor
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
   private final ActorSchedulingService scheduler;
+  private final DeploymentResourcePreparer deploymentResourcePreparer;
 
   public CommandApiServiceImpl(
       final ServerTransport serverTransport,
       final BrokerInfo localBroker,
       final PartitionAwareRequestLimiter limiter,
       final ActorSchedulingService scheduler,
-      final QueryApiCfg queryApiCfg) {
+      final QueryApiCfg queryApiCfg,
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
     this.serverTransport = serverTransport;
     this.limiter = limiter;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    this.deploymentResourcePreparer = deploymentResourcePreparer;
+    commandHandler = new CommandApiRequestHandler(deploymentResourcePreparer);
     queryHandler = new QueryApiRequestHandler(queryApiCfg, localBroker.getNodeId());
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
@@ -70,6 +76,7 @@ public final class CommandApiServiceImpl extends Actor
       removeLeaderHandlers(leadPartition);
     }
     leadPartitions.clear();
+    deploymentResourcePreparer.close();
 
     actor.runOnCompletion(
         queryHandler.closeAsync(),
@@ -105,22 +112,42 @@ public final class CommandApiServiceImpl extends Actor
               .onComplete(
                   (recordWriter, error) -> {
                     if (error == null) {
-                      final var requestLimiter = limiter.getLimiter(partitionId);
-                      commandHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
-                      future.complete(null);
+                      logStream
+                          .newLogStreamBatchWriter()
+                          .onComplete(
+                              (batchWriter, batchWriterError) -> {
+                                if (batchWriterError == null) {
+                                  subscribeCommandHandler(partitionId, recordWriter, batchWriter);
+                                  future.complete(null);
+                                } else {
+                                  onWriterUnavailable(partitionId, batchWriterError, future);
+                                }
+                              });
                     } else {
-                      Loggers.SYSTEM_LOGGER.error(
-                          "Error on retrieving write buffer from log stream {}",
-                          partitionId,
-                          error);
-                      future.completeExceptionally(error);
+                      onWriterUnavailable(partitionId, error, future);
                     }
                   });
         });
     return future;
   }
 
+  private void subscribeCommandHandler(
+      final int partitionId,
+      final LogStreamRecordWriter recordWriter,
+      final LogStreamBatchWriter batchWriter) {
+    final var requestLimiter = limiter.getLimiter(partitionId);
+    commandHandler.addPartition(partitionId, recordWriter, batchWriter, requestLimiter);
+    serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
+    serverTransport.subscribe(partitionId, RequestType.COMMAND_BATCH, commandHandler);
+  }
+
+  private void onWriterUnavailable(
+      final int partitionId, final Throwable error, final CompletableActorFuture<Void> future) {
+    Loggers.SYSTEM_LOGGER.error(
+        "Error on retrieving write buffer from log stream {}", partitionId, error);
+    future.completeExceptionally(error);
+  }
+
   @Override
   public ActorFuture<Void> onBecomingInactive(final int partitionId, final long term) {
     return removeLeaderHandlersAsync(partitionId);
@@ -161,6 +188,11 @@ public final class CommandApiServiceImpl extends Actor
     };
   }
 
+  @Override
+  public DeploymentResourcePreparer getDeploymentResourcePreparer() {
+    return deploymentResourcePreparer;
+  }
+
   @Override
   public void onDiskSpaceNotAvailable() {
     actor.run(commandHandler::onDiskSpaceNotAvailable);
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.engine.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.sched.Actor;
+import io.camunda.zeebe.util.sched.ActorControl;
+import io.camunda.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class LongPollingJobNotificationTest {
+
+  private static final String TYPE = "type";
+  private static final String OTHER_TYPE = "other-type";
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final ClusterEventService eventService = mock(ClusterEventService.class);
+  private final NotifyingActor notifyingActor = new NotifyingActor();
+  private LongPollingJobNotification notification;
+
+  @Before
+  public void setUp() {
+    schedulerRule.submitActor(notifyingActor);
+    schedulerRule.workUntilDone();
+    notification = new LongPollingJobNotification(eventService, notifyingActor.getActor());
+  }
+
+  @Test
+  public void shouldNotifyFirstAvailableJobImmediately() {
+    // when
+    notifyJobsAvailable(TYPE);
+    schedulerRule.workUntilDone();
+
+    // then
+    verifyNotified(TYPE, 1);
+    verify(eventService).broadcast(LongPollingJobNotification.LEGACY_TOPIC, TYPE);
+    verifyNoMoreInteractions(eventService);
+  }
+
+  @Test
+  public void shouldCoalesceNotificationsWithinWindow() {
+    // given
+    notifyJobsAvailable(TYPE);
+    schedulerRule.workUntilDone();
+
+    // when
+    notifyJobsAvailable(TYPE, TYPE, OTHER_TYPE, TYPE);
+    schedulerRule.workUntilDone();
+    verify(eventService, times(2)).broadcast(any(), any());
+
+    schedulerRule.getClock().addTime(LongPollingJobNotification.NOTIFICATION_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // then
+    verifyNotified(TYPE, 3);
+    verifyNotified(OTHER_TYPE, 1);
+  }
+
+  @Test
+  public void shouldNotifyImmediatelyAfterEmptyWindow() {
+    // given
+    notifyJobsAvailable(TYPE);
+    schedulerRule.workUntilDone();
+    schedulerRule.getClock().addTime(LongPollingJobNotification.NOTIFICATION_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // when
+    notifyJobsAvailable(OTHER_TYPE);
+    schedulerRule.workUntilDone();
+
+    // then
+    verifyNotified(TYPE, 1);
+    verifyNotified(OTHER_TYPE, 1);
+    verify(eventService, times(4)).broadcast(any(), any());
+  }
+
+  @Test
+  public void shouldNotNotifyWithoutAvailableJobs() {
+    // when
+    schedulerRule.getClock().addTime(LongPollingJobNotification.NOTIFICATION_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // then
+    verifyNoInteractions(eventService);
+  }
+
+  private void notifyJobsAvailable(final String... jobTypes) {
+    notifyingActor.execute(
+        () -> {
+          for (final String jobType : jobTypes) {
+            notification.onJobsAvailable(BufferUtil.wrapString(jobType));
+          }
+        });
+  }
+
+  private void verifyNotified(final String jobType, final int jobCount) {
+    verify(eventService).broadcast(Protocol.getJobsAvailableTopic(jobType), jobCount);
+  }
+
+  private static final class NotifyingActor extends Actor {
+    private ActorControl getActor() {
+      return actor;
+    }
+
+    private void execute(final Runnable runnable) {
+      actor.call(runnable);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.broker.partitioning.topology.TopologyPartitionListenerImpl;
+import io.camunda.zeebe.broker.system.configuration.SubscriptionBatchingCfg;
+import io.camunda.zeebe.transport.BatchFrames;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.camunda.zeebe.util.sched.Actor;
+import io.camunda.zeebe.util.sched.ActorControl;
+import io.camunda.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+public final class PartitionCommandSenderImplTest {
+
+  private static final int LEADER_OF_PARTITIONS_1_AND_2 = 0;
+  private static final int LEADER_OF_PARTITION_3 = 1;
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final SubscriptionBatchingCfg batchingCfg = new SubscriptionBatchingCfg();
+  private final SenderActor senderActor = new SenderActor();
+  private TopologyPartitionListenerImpl partitionListener;
+
+  @Before
+  public void setUp() {
+    schedulerRule.submitActor(senderActor);
+    schedulerRule.workUntilDone();
+
+    partitionListener = new TopologyPartitionListenerImpl(senderActor.getActor());
+    partitionListener.getPartitionLeaders().put(1, LEADER_OF_PARTITIONS_1_AND_2);
+    partitionListener.getPartitionLeaders().put(2, LEADER_OF_PARTITIONS_1_AND_2);
+    partitionListener.getPartitionLeaders().put(3, LEADER_OF_PARTITION_3);
+  }
+
+  @Test
+  public void shouldSendEachCommandIfBatchingIsDisabled() {
+    // given
+    final var sender = newSender();
+
+    // when
+    send(sender, 1, "a");
+    send(sender, 2, "b");
+    schedulerRule.workUntilDone();
+
+    // then
+    assertThat(sentCommands(SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_TOPIC, 2))
+        .containsExactly("a", "b");
+  }
+
+  @Test
+  public void shouldBatchCommandsForTheSameBroker() {
+    // given
+    batchingCfg.setEnabled(true);
+    final var sender = newSender();
+
+    // when
+    senderActor.execute(
+        () -> {
+          sendCommand(sender, 1, "a");
+          sendCommand(sender, 2, "b");
+          sendCommand(sender, 3, "c");
+        });
+    schedulerRule.workUntilDone();
+
+    // then
+    final var batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_BATCH_TOPIC),
+            batchCaptor.capture(),
+            eq(MemberId.from("" + LEADER_OF_PARTITIONS_1_AND_2)));
+    assertThat(readFrames(batchCaptor.getValue())).containsExactly("a", "b");
+
+    // a single command is sent without framing
+    assertThat(sentCommands(SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_TOPIC, 1))
+        .containsExactly("c");
+  }
+
+  @Test
+  public void shouldFlushBatchWhenItExceedsTheMaxBatchSize() {
+    // given
+    batchingCfg.setEnabled(true);
+    batchingCfg.setMaxBatchSize(
+        DataSize.ofBytes(BatchFrames.framingOverhead(2) + "first".length() + "second".length()));
+    final var sender = newSender();
+
+    // when
+    senderActor.execute(
+        () -> {
+          sendCommand(sender, 1, "first");
+          sendCommand(sender, 1, "second");
+          sendCommand(sender, 1, "third");
+        });
+    schedulerRule.workUntilDone();
+
+    // then
+    final var batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_BATCH_TOPIC),
+            batchCaptor.capture(),
+            any(MemberId.class));
+    assertThat(readFrames(batchCaptor.getValue())).containsExactly("first", "second");
+    assertThat(sentCommands(SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_TOPIC, 1))
+        .containsExactly("third");
+  }
+
+  @Test
+  public void shouldIgnoreCommandsForPartitionsWithoutLeader() {
+    // given
+    batchingCfg.setEnabled(true);
+    final var sender = newSender();
+
+    // when
+    send(sender, 4, "a");
+    schedulerRule.workUntilDone();
+
+    // then
+    verifyNoMoreInteractions(communicationService);
+  }
+
+  private PartitionCommandSenderImpl newSender() {
+    return new PartitionCommandSenderImpl(
+        communicationService, partitionListener, senderActor.getActor(), batchingCfg);
+  }
+
+  private void send(
+      final PartitionCommandSenderImpl sender, final int partitionId, final String command) {
+    senderActor.execute(() -> sendCommand(sender, partitionId, command));
+  }
+
+  private void sendCommand(
+      final PartitionCommandSenderImpl sender, final int partitionId, final String command) {
+    sender.sendCommand(partitionId, new DirectBufferWriter().wrap(BufferUtil.wrapString(command)));
+  }
+
+  private List<String> sentCommands(final String topic, final int expectedCount) {
+    final var captor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService, times(expectedCount))
+        .unicast(eq(topic), captor.capture(), any(MemberId.class));
+
+    final var commands = new ArrayList<String>();
+    captor.getAllValues().forEach(bytes -> commands.add(new String(bytes)));
+    return commands;
+  }
+
+  private List<String> readFrames(final byte[] batch) {
+    final var buffer = new UnsafeBuffer(batch);
+    final var reader = new BatchFrames.Reader().wrap(buffer, 0, batch.length);
+    final var frames = new ArrayList<String>();
+    while (reader.hasNext()) {
+      reader.next();
+      frames.add(
+          BufferUtil.bufferAsString(
+              new UnsafeBuffer(buffer, reader.getFrameOffset(), reader.getFrameLength())));
+    }
+    return frames;
+  }
+
+  private static final class SenderActor extends Actor {
+    private ActorControl getActor() {
+      return actor;
+    }
+
+    private void execute(final Runnable runnable) {
+      actor.call(runnable);
+    }
+  }
+}
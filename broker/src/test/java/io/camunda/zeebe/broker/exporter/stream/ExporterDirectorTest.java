@@ -31,6 +31,11 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.awaitility.Awaitility;
@@ -54,9 +60,10 @@ public final class ExporterDirectorTest {
 
   private static final String EXPORTER_ID_1 = "exporter-1";
   private static final String EXPORTER_ID_2 = "exporter-2";
+  private static final String EXPORTER_ID_3 = "exporter-3";
 
   private static final VerificationWithTimeout TIMEOUT = timeout(5_000);
-  @Rule public final ExporterRule rule = ExporterRule.activeExporter();
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withSpillBuffers();
   private final List<ControlledTestExporter> exporters = new ArrayList<>();
   private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
 
@@ -70,10 +77,15 @@ public final class ExporterDirectorTest {
   }
 
   private void createExporter(final String exporterId, final Map<String, Object> arguments) {
+    createExporter(exporterId, arguments, 0);
+  }
+
+  private void createExporter(
+      final String exporterId, final Map<String, Object> arguments, final long maxSpillBufferSize) {
     final ControlledTestExporter exporter = spy(new ControlledTestExporter());
 
     final ExporterDescriptor descriptor =
-        spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments));
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments, maxSpillBufferSize));
     doAnswer(c -> exporter).when(descriptor).newInstance();
 
     exporters.add(exporter);
@@ -358,6 +370,30 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldNotBlockOtherExportersOnFailingExporter() {
+    // given
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -587,6 +623,156 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldSpillRecordsOfFailingExporter() throws Exception {
+    // given
+    createSpillingExporter();
+    final ControlledTestExporter spillingExporter = exporters.get(2);
+    final AtomicBoolean isFailing = new AtomicBoolean(true);
+    spillingExporter.onExport(
+        e -> {
+          if (isFailing.get()) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+
+    startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+
+    // then
+    waitUntil(() -> state.getSpilledPosition(EXPORTER_ID_3) == eventPosition3);
+    waitUntil(() -> getLowestRetainedPosition(state) == eventPosition3);
+    assertThat(state.getPosition(EXPORTER_ID_3)).isLessThan(eventPosition1);
+    assertThat(ExporterSpillBuffer.readSpilledPosition(rule.getSpillDirectory(), EXPORTER_ID_3))
+        .isEqualTo(eventPosition3);
+
+    // when
+    isFailing.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> state.getPosition(EXPORTER_ID_3) == eventPosition3);
+    assertThat(spillingExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+  }
+
+  @Test
+  public void shouldReleaseSpilledRecordsOnceExported() throws Exception {
+    // given
+    createSpillingExporter();
+    final ControlledTestExporter spillingExporter = exporters.get(2);
+    final AtomicBoolean isFailing = new AtomicBoolean(true);
+    spillingExporter.onExport(
+        e -> {
+          if (isFailing.get()) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+
+    startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+    final long eventPosition = writeEvent();
+    waitUntil(() -> state.getSpilledPosition(EXPORTER_ID_3) == eventPosition);
+
+    // when
+    isFailing.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> state.getSpilledPosition(EXPORTER_ID_3) == ExportersState.VALUE_NOT_FOUND);
+    assertThat(state.getPosition(EXPORTER_ID_3)).isEqualTo(eventPosition);
+    assertThat(getLowestRetainedPosition(state)).isEqualTo(eventPosition);
+    assertThat(ExporterSpillBuffer.readSpilledPosition(rule.getSpillDirectory(), EXPORTER_ID_3))
+        .isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldExportSpilledRecordsAfterRestart() throws Exception {
+    // given
+    createSpillingExporter();
+    final ControlledTestExporter spillingExporter = exporters.get(2);
+    spillingExporter.onExport(
+        e -> {
+          throw new RuntimeException("Export failed (expected)");
+        });
+
+    startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    waitUntil(() -> state.getSpilledPosition(EXPORTER_ID_3) == eventPosition2);
+
+    // when
+    rule.closeExporterDirector();
+    appendIncompleteEntry(rule.getSpillDirectory().resolve(EXPORTER_ID_3 + ".spill"));
+    spillingExporter.onExport(null);
+    startExporterDirector(exporterDescriptors);
+    final long eventPosition3 = writeEvent();
+
+    // then
+    waitUntil(() -> spillingExporter.getExportedRecords().size() == 3);
+    assertThat(spillingExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+  }
+
+  @Test
+  public void shouldRemoveSpillBufferOfRemovedExporter() throws Exception {
+    // given
+    createSpillingExporter();
+    exporters
+        .get(2)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+
+    startExporterDirector(exporterDescriptors);
+    final long eventPosition = writeEvent();
+    waitUntil(() -> rule.getExportersState().getSpilledPosition(EXPORTER_ID_3) == eventPosition);
+    rule.closeExporterDirector();
+
+    // when
+    startExporterDirector(exporterDescriptors.subList(0, 2));
+
+    // then
+    final Path spillFile = rule.getSpillDirectory().resolve(EXPORTER_ID_3 + ".spill");
+    waitUntil(
+        () ->
+            rule.getExportersState().getSpilledPosition(EXPORTER_ID_3)
+                    == ExportersState.VALUE_NOT_FOUND
+                && Files.notExists(spillFile));
+  }
+
+  private void createSpillingExporter() {
+    createExporter(EXPORTER_ID_3, Collections.emptyMap(), 1024 * 1024);
+  }
+
+  private long getLowestRetainedPosition(final ExportersState state) {
+    return state.getLowestRetainedPosition(
+        exporterId -> {
+          try {
+            return ExporterSpillBuffer.readSpilledPosition(rule.getSpillDirectory(), exporterId);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private static void appendIncompleteEntry(final Path spillFile) throws IOException {
+    // the broker crashed while it appended a record
+    Files.write(spillFile, new byte[] {100, 0, 0, 0, 1, 2}, StandardOpenOption.APPEND);
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
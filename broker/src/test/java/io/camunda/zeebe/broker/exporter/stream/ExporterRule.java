@@ -23,6 +23,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
 import io.camunda.zeebe.util.sched.clock.ControlledActorClock;
 import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import org.junit.rules.ExternalResource;
@@ -54,6 +55,7 @@ public final class ExporterRule implements TestRule {
   private PartitionMessagingService partitionMessagingService = new SimplePartitionMessageService();
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
+  private boolean withSpillBuffers;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -83,6 +85,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withSpillBuffers() {
+    withSpillBuffers = true;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -102,7 +109,8 @@ public final class ExporterRule implements TestRule {
             .exporterMode(exporterMode)
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
-            .descriptors(exporterDescriptors);
+            .descriptors(exporterDescriptors)
+            .spillDirectory(withSpillBuffers ? getSpillDirectory() : null);
 
     director = new ExporterDirector(context, false);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -112,6 +120,10 @@ public final class ExporterRule implements TestRule {
     return director;
   }
 
+  public Path getSpillDirectory() {
+    return tempFolder.getRoot().toPath().resolve("exporters");
+  }
+
   public ControlledActorClock getClock() {
     return clock;
   }
@@ -138,4 +138,53 @@ public final class ExportersStateTest {
     assertThat(state.hasExporters()).isFalse();
     assertThat(state.getLowestPosition()).isEqualTo(-1L);
   }
+
+  @Test
+  public void shouldRetainLogFromSpilledPosition() {
+    // given
+    state.setPosition("lagging", 10);
+    state.setPosition("spilling", 20);
+    state.setPosition("up-to-date", 200);
+
+    // when
+    state.setSpilledPosition("lagging", 5);
+    state.setSpilledPosition("spilling", 100);
+
+    // then
+    assertThat(state.getLowestPosition()).isEqualTo(10);
+    assertThat(state.getLowestRetainedPosition(id -> Long.MAX_VALUE)).isEqualTo(10);
+
+    // when
+    state.removeSpilledPosition("spilling");
+    state.setSpilledPosition("lagging", 150);
+
+    // then
+    assertThat(state.getLowestPosition()).isEqualTo(10);
+    assertThat(state.getLowestRetainedPosition(id -> Long.MAX_VALUE)).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldRetainLogFromSpilledPositionOnlyIfSpilledLocally() {
+    // given
+    state.setPosition("exporter", 10);
+    state.setSpilledPosition("exporter", 100);
+
+    // then
+    assertThat(state.getLowestRetainedPosition(id -> -1)).isEqualTo(10);
+    assertThat(state.getLowestRetainedPosition(id -> 50)).isEqualTo(50);
+    assertThat(state.getLowestRetainedPosition(id -> 150)).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldRemoveSpilledPositionWithPosition() {
+    // given
+    state.setPosition("exporter", 10);
+    state.setSpilledPosition("exporter", 100);
+
+    // when
+    state.removePosition("exporter");
+
+    // then
+    assertThat(state.getSpilledPosition("exporter")).isEqualTo(ExportersState.VALUE_NOT_FOUND);
+  }
 }
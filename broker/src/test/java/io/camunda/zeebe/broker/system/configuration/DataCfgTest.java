@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import org.junit.Test;
 
 public class DataCfgTest {
@@ -29,4 +30,28 @@ public class DataCfgTest {
     assertThat(dataCfg.getDiskUsageCommandWatermark()).isEqualTo(1.0);
     assertThat(dataCfg.getDiskUsageReplicationWatermark()).isEqualTo(1.0);
   }
+
+  @Test
+  public void shouldNotCompressLogByDefault() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getLogCompression()).isEqualTo(LogBlockCompression.NONE);
+  }
+
+  @Test
+  public void shouldSetLogCompressionIgnoringCase() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.setLogCompression("deflate");
+
+    // then
+    assertThat(dataCfg.getLogCompression()).isEqualTo(LogBlockCompression.DEFLATE);
+  }
 }
@@ -13,6 +13,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class ExperimentalCfgTest {
 
@@ -86,4 +87,112 @@ public class ExperimentalCfgTest {
     // then
     assertThat(raft.getMinStepDownFailureCount()).isEqualTo(10);
   }
+
+  @Test
+  public void shouldSetMultiInstanceActivationChunkSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getMultiInstanceActivationChunkSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldSetMultiInstanceActivationChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.multiInstanceActivationChunkSize", "50");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getMultiInstanceActivationChunkSize()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldNotStoreLargeVariableValuesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getLargeVariableValueThreshold()).isEqualTo(DataSize.ofBytes(0));
+    assertThat(engine.createEngineConfiguration().getLargeVariableValueThreshold()).isZero();
+  }
+
+  @Test
+  public void shouldSetLargeVariableValueThresholdFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getLargeVariableValueThreshold()).isEqualTo(DataSize.ofKilobytes(64));
+    assertThat(engine.createEngineConfiguration().getLargeVariableValueThreshold())
+        .isEqualTo(64 * 1024);
+  }
+
+  @Test
+  public void shouldSetLargeVariableValueThresholdFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.largeVariableValueThreshold", "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getLargeVariableValueThreshold()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  public void shouldSetTerminationChunkSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getTerminationChunkSize()).isEqualTo(200);
+    assertThat(engine.createEngineConfiguration().getTerminationChunkSize()).isEqualTo(200);
+  }
+
+  @Test
+  public void shouldSetTerminationChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.terminationChunkSize", "50");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getTerminationChunkSize()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldSetCorrelationKeyFilterSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getCorrelationKeyFilterSize()).isEqualTo(DataSize.ofKilobytes(256));
+    assertThat(engine.createEngineConfiguration().getCorrelationKeyFilterSize())
+        .isEqualTo(256 * 1024);
+  }
+
+  @Test
+  public void shouldSetCorrelationKeyFilterSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.correlationKeyFilterSize", "0KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.createEngineConfiguration().getCorrelationKeyFilterSize()).isZero();
+  }
 }
@@ -9,6 +9,8 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.BloomFilterType;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.CompressionProfile;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -77,6 +79,10 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isFalse();
+    assertThat(rocksDbConfiguration.getCompressionProfile()).isEqualTo(CompressionProfile.LZ4);
+    assertThat(rocksDbConfiguration.getBloomFilterType()).isEqualTo(BloomFilterType.WHOLE_KEY);
+    assertThat(rocksDbConfiguration.getBlockSize()).isEqualTo(DataSize.ofKilobytes(32).toBytes());
+    assertThat(rocksDbConfiguration.isCacheIndexAndFilterBlocks()).isTrue();
   }
 
   @Test
@@ -95,6 +101,10 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.isStatisticsEnabled()).isTrue();
     assertThat(rocksDbConfiguration.getMemoryLimit()).isEqualTo(DataSize.ofMegabytes(32).toBytes());
     assertThat(rocksDbConfiguration.getMaxOpenFiles()).isEqualTo(3);
+    assertThat(rocksDbConfiguration.getCompressionProfile()).isEqualTo(CompressionProfile.TIERED);
+    assertThat(rocksDbConfiguration.getBloomFilterType()).isEqualTo(BloomFilterType.PREFIX);
+    assertThat(rocksDbConfiguration.getBlockSize()).isEqualTo(DataSize.ofKilobytes(16).toBytes());
+    assertThat(rocksDbConfiguration.isCacheIndexAndFilterBlocks()).isFalse();
   }
 
   @Test
@@ -285,4 +295,96 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetCompressionProfileViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getCompressionProfile()).isEqualTo(CompressionProfile.TIERED);
+  }
+
+  @Test
+  public void shouldSetCompressionProfileViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.compressionProfile", "none");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getCompressionProfile()).isEqualTo(CompressionProfile.NONE);
+  }
+
+  @Test
+  public void shouldSetBloomFilterTypeViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getBloomFilterType()).isEqualTo(BloomFilterType.PREFIX);
+  }
+
+  @Test
+  public void shouldSetBloomFilterTypeViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.bloomFilterType", "whole_key");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getBloomFilterType()).isEqualTo(BloomFilterType.WHOLE_KEY);
+  }
+
+  @Test
+  public void shouldSetBlockSizeViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getBlockSize()).isEqualTo(DataSize.ofKilobytes(16));
+  }
+
+  @Test
+  public void shouldSetBlockSizeViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.blockSize", "64KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getBlockSize()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  public void shouldSetCacheIndexAndFilterBlocksViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isCacheIndexAndFilterBlocks()).isFalse();
+  }
+
+  @Test
+  public void shouldSetCacheIndexAndFilterBlocksViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.cacheIndexAndFilterBlocks", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isCacheIndexAndFilterBlocks()).isTrue();
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.system.configuration.ThreadsCfg.IdleStrategyType;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public final class ThreadsCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldUseDefaultIdleStrategy() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final ThreadsCfg threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.getIdleStrategy()).isEqualTo(IdleStrategyType.BACKOFF);
+    assertThat(threads.getMaxParkPeriod()).isEqualTo(Duration.ofMillis(1));
+    assertThat(threads.getRecoveryThreadCount()).isEqualTo(4);
+    assertThat(threads.getDeploymentThreadCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldSetIdleStrategyFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("threads-cfg", environment);
+    final ThreadsCfg threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.getCpuThreadCount()).isEqualTo(3);
+    assertThat(threads.getIoThreadCount()).isEqualTo(4);
+    assertThat(threads.getRecoveryThreadCount()).isEqualTo(8);
+    assertThat(threads.getDeploymentThreadCount()).isEqualTo(6);
+    assertThat(threads.getIdleStrategy()).isEqualTo(IdleStrategyType.ADAPTIVE);
+    assertThat(threads.getMaxParkPeriod()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  public void shouldSetIdleStrategyFromEnv() {
+    // given
+    environment.put("zeebe.broker.threads.idleStrategy", "busy_spin");
+    environment.put("zeebe.broker.threads.maxParkPeriod", "100us");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("threads-cfg", environment);
+    final ThreadsCfg threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.getIdleStrategy()).isEqualTo(IdleStrategyType.BUSY_SPIN);
+    assertThat(threads.getMaxParkPeriod()).isEqualTo(Duration.ofNanos(100_000));
+  }
+}
@@ -71,7 +71,8 @@ public final class AsyncSnapshotingTest {
                     new TestIndexedRaftLogEntry(
                         l + 100, 1, new ApplicationEntry(1, 10, new UnsafeBuffer()))),
             db -> Long.MAX_VALUE,
-            new TestConcurrencyControl());
+            new TestConcurrencyControl(),
+            Runnable::run);
 
     snapshotController.recover().join();
     autoCloseableRule.manage(snapshotController);
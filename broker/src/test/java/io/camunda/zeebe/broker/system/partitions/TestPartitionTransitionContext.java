@@ -16,11 +16,13 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.camunda.zeebe.util.health.HealthMonitor;
@@ -39,6 +41,9 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private long currentTerm;
   private HealthMonitor healthMonitor;
   private TypedRecordProcessorFactory streamProcessorFactory;
+  private final ExecutableProcessCache executableProcessCache = new ExecutableProcessCache();
+  private final DeploymentResourcePreparer deploymentResourcePreparer =
+      new DeploymentResourcePreparer();
   private ExporterDirector exporterDirector;
   private LogStream logStream;
   private StreamProcessor streamProcessor;
@@ -214,6 +219,16 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     return streamProcessorFactory;
   }
 
+  @Override
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  @Override
+  public DeploymentResourcePreparer getDeploymentResourcePreparer() {
+    return deploymentResourcePreparer;
+  }
+
   public void setStreamProcessorFactory(final TypedRecordProcessorFactory streamProcessorFactory) {
     this.streamProcessorFactory = streamProcessorFactory;
   }
@@ -20,16 +20,21 @@ import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotMetadata;
 import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotStore;
 import io.camunda.zeebe.snapshots.impl.SnapshotMetrics;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.util.sched.ActorThread;
 import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
 import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.awaitility.Awaitility;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -69,7 +74,8 @@ public final class StateControllerImplTest {
                     new TestIndexedRaftLogEntry(
                         l, 1, new ApplicationEntry(1, 10, new UnsafeBuffer()))),
             db -> exporterPosition.get(),
-            store);
+            store,
+            Runnable::run);
 
     autoCloseableRule.manage(snapshotController);
   }
@@ -216,6 +222,90 @@ public final class StateControllerImplTest {
     assertThat(snapshotController.isDbOpened()).isTrue();
   }
 
+  @Test
+  public void shouldRecoverOnRecoveryExecutor() throws Exception {
+    // given
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    wrapper.wrap(snapshotController.recover().join());
+    wrapper.putInt("x", 1);
+    takeSnapshot(1);
+    snapshotController.close();
+
+    final var recoveryThreads = new ArrayList<Thread>();
+    final var recoveryExecutor = Executors.newSingleThreadExecutor();
+    autoCloseableRule.manage(recoveryExecutor::shutdownNow);
+    final var controller =
+        new StateControllerImpl(
+            ZeebeRocksDbFactory.newFactory(),
+            store,
+            runtimeDirectory,
+            l ->
+                Optional.of(
+                    new TestIndexedRaftLogEntry(
+                        l, 1, new ApplicationEntry(1, 10, new UnsafeBuffer()))),
+            db -> exporterPosition.get(),
+            store,
+            task ->
+                recoveryExecutor.execute(
+                    () -> {
+                      recoveryThreads.add(Thread.currentThread());
+                      task.run();
+                    }));
+    autoCloseableRule.manage(controller);
+
+    // when
+    wrapper.wrap(controller.recover().join());
+
+    // then
+    assertThat(wrapper.getInt("x")).isEqualTo(1);
+    assertThat(recoveryThreads)
+        .isNotEmpty()
+        .allSatisfy(thread -> assertThat(thread).isNotInstanceOf(ActorThread.class));
+  }
+
+  @Test
+  public void shouldCloseDbOnlyAfterRecovery() {
+    // given
+    final var pendingRecoverySteps = new ConcurrentLinkedQueue<Runnable>();
+    final var controller =
+        new StateControllerImpl(
+            ZeebeRocksDbFactory.newFactory(),
+            store,
+            runtimeDirectory,
+            l ->
+                Optional.of(
+                    new TestIndexedRaftLogEntry(
+                        l, 1, new ApplicationEntry(1, 10, new UnsafeBuffer()))),
+            db -> exporterPosition.get(),
+            store,
+            pendingRecoverySteps::add);
+    autoCloseableRule.manage(controller);
+    final var recovered = controller.recover();
+
+    // when
+    final var closed = controller.closeDb();
+
+    // then
+    assertThatThrownBy(() -> controller.recover().join())
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(closed.isDone()).isFalse();
+
+    Awaitility.await("until the recovery is done")
+        .until(
+            () -> {
+              final var step = pendingRecoverySteps.poll();
+              if (step != null) {
+                step.run();
+              }
+              return recovered.isDone();
+            });
+    closed.join();
+
+    assertThat(recovered.join()).isNotNull();
+    assertThat(controller.isDbOpened()).isFalse();
+    assertThat(runtimeDirectory).doesNotExist();
+  }
+
   @Test
   public void shouldRecoverFromLatestSnapshot() throws Exception {
     // given two snapshots
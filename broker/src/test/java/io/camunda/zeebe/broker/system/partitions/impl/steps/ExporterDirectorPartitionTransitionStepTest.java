@@ -16,6 +16,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartition;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
@@ -23,6 +24,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import io.camunda.zeebe.util.sched.ActorSchedulingService;
 import io.camunda.zeebe.util.sched.future.TestActorFuture;
+import java.io.File;
 import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +47,10 @@ class ExporterDirectorPartitionTransitionStepTest {
     transitionContext.setLogStream(mock(LogStream.class));
     transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
 
+    final RaftPartition raftPartition = mock(RaftPartition.class);
+    when(raftPartition.dataDirectory()).thenReturn(new File("partition"));
+    transitionContext.setRaftPartition(raftPartition);
+
     when(exporterRepository.getExporters()).thenReturn(Map.of());
     transitionContext.setExporterRepository(exporterRepository);
 
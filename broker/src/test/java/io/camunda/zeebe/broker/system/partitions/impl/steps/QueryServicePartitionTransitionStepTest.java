@@ -32,7 +32,6 @@ class QueryServicePartitionTransitionStepTest {
 
   @BeforeEach
   void setup() {
-
     transitionContext.setZeebeDb(zeebeDb);
     step = new QueryServicePartitionTransitionStep();
   }
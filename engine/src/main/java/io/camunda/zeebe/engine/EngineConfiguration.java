@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine;
+
+/** Settings which tune the processing of the engine. */
+public final class EngineConfiguration {
+
+  public static final int DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE = 1_000;
+  public static final int DEFAULT_LARGE_VARIABLE_VALUE_THRESHOLD = 0;
+  public static final int DEFAULT_TERMINATION_CHUNK_SIZE = 1_000;
+  public static final int DEFAULT_CORRELATION_KEY_FILTER_SIZE = 1 << 20;
+
+  private int multiInstanceActivationChunkSize = DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE;
+  private int largeVariableValueThreshold = DEFAULT_LARGE_VARIABLE_VALUE_THRESHOLD;
+  private int terminationChunkSize = DEFAULT_TERMINATION_CHUNK_SIZE;
+  private int correlationKeyFilterSize = DEFAULT_CORRELATION_KEY_FILTER_SIZE;
+
+  /**
+   * @return the maximum number of inner instances of a parallel multi-instance body which are
+   *     activated by a single command
+   */
+  public int getMultiInstanceActivationChunkSize() {
+    return multiInstanceActivationChunkSize;
+  }
+
+  public EngineConfiguration setMultiInstanceActivationChunkSize(
+      final int multiInstanceActivationChunkSize) {
+    if (multiInstanceActivationChunkSize < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the multi-instance activation chunk size to be at least 1, but was %d",
+              multiInstanceActivationChunkSize));
+    }
+
+    this.multiInstanceActivationChunkSize = multiInstanceActivationChunkSize;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes from which on the value of a variable is stored once per partition,
+   *     by its digest, instead of with each variable; 0 if all values are stored with their
+   *     variables
+   */
+  public int getLargeVariableValueThreshold() {
+    return largeVariableValueThreshold;
+  }
+
+  public EngineConfiguration setLargeVariableValueThreshold(final int largeVariableValueThreshold) {
+    if (largeVariableValueThreshold < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the large variable value threshold to be at least 0, but was %d",
+              largeVariableValueThreshold));
+    }
+
+    this.largeVariableValueThreshold = largeVariableValueThreshold;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of child instances of a terminating element instance which are
+   *     terminated by a single command
+   */
+  public int getTerminationChunkSize() {
+    return terminationChunkSize;
+  }
+
+  public EngineConfiguration setTerminationChunkSize(final int terminationChunkSize) {
+    if (terminationChunkSize < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the termination chunk size to be at least 1, but was %d",
+              terminationChunkSize));
+    }
+
+    this.terminationChunkSize = terminationChunkSize;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of each in-memory filter which is used to skip the lookups of message
+   *     subscriptions, buffered messages and active process instances by correlation key; 0 if no
+   *     filters are used
+   */
+  public int getCorrelationKeyFilterSize() {
+    return correlationKeyFilterSize;
+  }
+
+  public EngineConfiguration setCorrelationKeyFilterSize(final int correlationKeyFilterSize) {
+    if (correlationKeyFilterSize != 0 && Integer.bitCount(correlationKeyFilterSize) != 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the correlation key filter size to be 0 or a power of two, but was %d",
+              correlationKeyFilterSize));
+    }
+
+    this.correlationKeyFilterSize = correlationKeyFilterSize;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "EngineConfiguration{"
+        + "multiInstanceActivationChunkSize="
+        + multiInstanceActivationChunkSize
+        + ", largeVariableValueThreshold="
+        + largeVariableValueThreshold
+        + ", terminationChunkSize="
+        + terminationChunkSize
+        + ", correlationKeyFilterSize="
+        + correlationKeyFilterSize
+        + '}';
+  }
+}
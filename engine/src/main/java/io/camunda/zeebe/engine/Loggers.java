@@ -19,6 +19,9 @@ public final class Loggers {
   public static final Logger PROCESS_PROCESSOR_LOGGER =
       LoggerFactory.getLogger("io.camunda.zeebe.broker.process");
 
+  public static final Logger RECORD_LATENCY_LOGGER =
+      LoggerFactory.getLogger("io.camunda.zeebe.broker.latency");
+
   public static Logger getExporterLogger(final String exporterId) {
     final String loggerName = String.format("io.camunda.zeebe.broker.exporter.%s", exporterId);
     return LoggerFactory.getLogger(loggerName);
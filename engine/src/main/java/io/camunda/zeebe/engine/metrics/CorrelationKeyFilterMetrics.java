@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class CorrelationKeyFilterMetrics {
+
+  private static final Counter FILTER_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("correlation_key_filter_lookups_total")
+          .help(
+              "Number of lookups in the in-memory correlation key filters, by result (negative, "
+                  + "true positive or false positive)")
+          .labelNames("partition", "filter", "result")
+          .register();
+
+  private static final Counter FILTER_REBUILDS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("correlation_key_filter_rebuilds_total")
+          .help("Number of times the in-memory correlation key filters were rebuilt from the state")
+          .labelNames("partition", "filter")
+          .register();
+
+  private final Counter.Child negatives;
+  private final Counter.Child truePositives;
+  private final Counter.Child falsePositives;
+  private final Counter.Child rebuilds;
+
+  public CorrelationKeyFilterMetrics(final int partitionId, final String filterName) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    negatives = FILTER_LOOKUPS.labels(partitionIdLabel, filterName, "negative");
+    truePositives = FILTER_LOOKUPS.labels(partitionIdLabel, filterName, "true-positive");
+    falsePositives = FILTER_LOOKUPS.labels(partitionIdLabel, filterName, "false-positive");
+    rebuilds = FILTER_REBUILDS.labels(partitionIdLabel, filterName);
+  }
+
+  public void countNegative() {
+    negatives.inc();
+  }
+
+  public void countTruePositive() {
+    truePositives.inc();
+  }
+
+  public void countFalsePositive() {
+    falsePositives.inc();
+  }
+
+  public void countRebuild() {
+    rebuilds.inc();
+  }
+}
@@ -45,6 +45,23 @@ public final class ProcessEngineMetrics {
           .labelNames("organizationId", "type", "action", "partition")
           .register();
 
+  private static final Gauge PENDING_TERMINATIONS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("element_instance_pending_terminations")
+          .help(
+              "Number of element instances whose termination is requested by a chunk, but not processed yet")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter TERMINATION_CHUNKS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("element_instance_termination_chunks_total")
+          .help("Number of chunks in which the child instances of terminating elements are terminated")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ProcessEngineMetrics(final int partitionId) {
@@ -108,6 +125,23 @@ public final class ProcessEngineMetrics {
     }
   }
 
+  public void terminationChunkWritten(final int chunkSize) {
+    TERMINATION_CHUNKS.labels(partitionIdLabel).inc();
+    PENDING_TERMINATIONS.labels(partitionIdLabel).inc(chunkSize);
+  }
+
+  public void terminationProcessed() {
+    final var pendingTerminations = PENDING_TERMINATIONS.labels(partitionIdLabel);
+    // the terminations which were pending on a previous leader are not counted
+    if (pendingTerminations.get() > 0) {
+      pendingTerminations.dec();
+    }
+  }
+
+  public void resetPendingTerminations() {
+    PENDING_TERMINATIONS.labels(partitionIdLabel).set(0);
+  }
+
   private boolean isProcessInstance(final BpmnElementType elementType) {
     return BpmnElementType.PROCESS == elementType;
   }
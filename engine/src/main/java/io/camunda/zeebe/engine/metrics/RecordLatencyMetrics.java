@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.prometheus.client.Histogram;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+
+/**
+ * Measures the latency of a record through its stages on the leader: from the moment it is written
+ * to the log stream, until it is committed, processed, responded to, and exported. All stages are
+ * measured from the time the record was written, so that a slow request can be attributed to the
+ * stage where the time was spent.
+ *
+ * <p>Only a sample of the records is observed, chosen by their position. The labeled histograms are
+ * resolved once per partition, value type and intent, and reused for the following records.
+ *
+ * <p>A smaller sample of the records is also traced to the {@link Loggers#RECORD_LATENCY_LOGGER} on
+ * debug level, one line per record after it was processed and one line per exporter after it was
+ * exported. The sample is chosen by the position of the record, so the same records are traced in
+ * all stages.
+ */
+public final class RecordLatencyMetrics {
+
+  /** The value of a timestamp of a stage which the record did not go through. */
+  public static final long NO_TIMESTAMP = -1L;
+
+  private static final Logger LOG = Loggers.RECORD_LATENCY_LOGGER;
+  private static final long OBSERVATION_SAMPLE_INTERVAL = 10;
+  // must be a multiple of the observation sample interval
+  private static final long TRACE_SAMPLE_INTERVAL = 1_000;
+
+  private static final String[] STAGES = {
+    "committed", "processing_started", "processed", "responded"
+  };
+  private static final int STAGE_COMMITTED = 0;
+  private static final int STAGE_PROCESSING_STARTED = 1;
+  private static final int STAGE_PROCESSED = 2;
+  private static final int STAGE_RESPONDED = 3;
+
+  private static final Histogram RECORD_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("record_latency")
+          .help(
+              "Time between a record is written and the end of a stage on the leader, "
+                  + "i.e. committed, processing_started, processed or responded (in seconds)")
+          .labelNames("partition", "valueType", "intent", "stage")
+          .register();
+
+  private static final Histogram RECORD_EXPORT_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("record_export_latency")
+          .help("Time between a record is written and exported by an exporter (in seconds)")
+          .labelNames("partition", "exporter", "valueType", "intent")
+          .register();
+
+  private final Map<ValueType, Map<Intent, Histogram.Child[]>> stageLatencies =
+      new EnumMap<>(ValueType.class);
+  private final Map<String, Map<ValueType, Map<Intent, Histogram.Child>>> exportLatencies =
+      new HashMap<>();
+  private final int partitionId;
+  private final String partitionIdLabel;
+
+  public RecordLatencyMetrics(final int partitionId) {
+    this.partitionId = partitionId;
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  /**
+   * @param position the position of a record
+   * @return true if the latency of the record is observed, otherwise the record is ignored
+   */
+  public boolean isSampled(final long position) {
+    return position % OBSERVATION_SAMPLE_INTERVAL == 0;
+  }
+
+  /**
+   * Observes the stages of a processed command, if it is sampled.
+   *
+   * @param position the position of the command
+   * @param valueType the value type of the command
+   * @param intent the intent of the command
+   * @param written when the command was written to the log stream
+   * @param committed when the command was committed, or {@link #NO_TIMESTAMP} if it is not known
+   * @param processingStarted when the processing of the command started
+   * @param processed when the results of the command were written and the state was committed
+   * @param responded when the response to the command was sent, or {@link #NO_TIMESTAMP} if the
+   *     command was not sent by a client
+   */
+  public void processed(
+      final long position,
+      final ValueType valueType,
+      final Intent intent,
+      final long written,
+      final long committed,
+      final long processingStarted,
+      final long processed,
+      final long responded) {
+    if (!isSampled(position)) {
+      return;
+    }
+
+    final var stages = getStageLatencies(valueType, intent);
+    observe(stages[STAGE_COMMITTED], written, committed);
+    observe(stages[STAGE_PROCESSING_STARTED], written, processingStarted);
+    observe(stages[STAGE_PROCESSED], written, processed);
+    observe(stages[STAGE_RESPONDED], written, responded);
+
+    if (isTraced(position)) {
+      LOG.debug(
+          "Processed record {} ({} {}) of partition {}: committed after {}, processing started after {}, processed after {}, responded after {}",
+          position,
+          valueType,
+          intent,
+          partitionId,
+          formatLatency(written, committed),
+          formatLatency(written, processingStarted),
+          formatLatency(written, processed),
+          formatLatency(written, responded));
+    }
+  }
+
+  /**
+   * Observes the export of a record by an exporter, if the record is sampled.
+   *
+   * @param exporterId the id of the exporter
+   * @param position the position of the record
+   * @param valueType the value type of the record
+   * @param intent the intent of the record
+   * @param written when the record was written to the log stream
+   * @param exported when the exporter exported the record
+   */
+  public void exported(
+      final String exporterId,
+      final long position,
+      final ValueType valueType,
+      final Intent intent,
+      final long written,
+      final long exported) {
+    if (!isSampled(position)) {
+      return;
+    }
+
+    getExportLatency(exporterId, valueType, intent).observe(toSeconds(exported - written));
+
+    if (isTraced(position)) {
+      LOG.debug(
+          "Exported record {} ({} {}) of partition {}: exported by {} after {}",
+          position,
+          valueType,
+          intent,
+          partitionId,
+          exporterId,
+          formatLatency(written, exported));
+    }
+  }
+
+  private Histogram.Child[] getStageLatencies(final ValueType valueType, final Intent intent) {
+    final var latenciesOfValueType =
+        stageLatencies.computeIfAbsent(valueType, ignored -> new HashMap<>());
+
+    var stages = latenciesOfValueType.get(intent);
+    if (stages == null) {
+      stages = new Histogram.Child[STAGES.length];
+      for (int i = 0; i < STAGES.length; i++) {
+        stages[i] =
+            RECORD_LATENCY.labels(partitionIdLabel, valueType.name(), intent.name(), STAGES[i]);
+      }
+      latenciesOfValueType.put(intent, stages);
+    }
+    return stages;
+  }
+
+  private Histogram.Child getExportLatency(
+      final String exporterId, final ValueType valueType, final Intent intent) {
+    final var latenciesOfValueType =
+        exportLatencies
+            .computeIfAbsent(exporterId, ignored -> new EnumMap<>(ValueType.class))
+            .computeIfAbsent(valueType, ignored -> new HashMap<>());
+
+    var latency = latenciesOfValueType.get(intent);
+    if (latency == null) {
+      latency =
+          RECORD_EXPORT_LATENCY.labels(
+              partitionIdLabel, exporterId, valueType.name(), intent.name());
+      latenciesOfValueType.put(intent, latency);
+    }
+    return latency;
+  }
+
+  private static void observe(
+      final Histogram.Child latency, final long written, final long timestamp) {
+    if (timestamp != NO_TIMESTAMP) {
+      latency.observe(toSeconds(timestamp - written));
+    }
+  }
+
+  private static boolean isTraced(final long position) {
+    return position % TRACE_SAMPLE_INTERVAL == 0 && LOG.isDebugEnabled();
+  }
+
+  private static String formatLatency(final long written, final long timestamp) {
+    return timestamp != NO_TIMESTAMP ? (timestamp - written) + " ms" : "-";
+  }
+
+  private static double toSeconds(final long millis) {
+    return Math.max(0, millis) / 1000d;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class StateCacheMetrics {
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("state_cache_lookups_total")
+          .help("Number of lookups in the in-memory state caches, by result (hit or miss)")
+          .labelNames("partition", "cache", "result")
+          .register();
+
+  private static final Counter CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("state_cache_evictions_total")
+          .help("Number of entries evicted from the in-memory state caches to make room")
+          .labelNames("partition", "cache")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+
+  public StateCacheMetrics(final int partitionId, final String cacheName) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    hits = CACHE_LOOKUPS.labels(partitionIdLabel, cacheName, "hit");
+    misses = CACHE_LOOKUPS.labels(partitionIdLabel, cacheName, "miss");
+    evictions = CACHE_EVICTIONS.labels(partitionIdLabel, cacheName);
+  }
+
+  public void countHit() {
+    hits.inc();
+  }
+
+  public void countMiss() {
+    misses.inc();
+  }
+
+  public void countEviction() {
+    evictions.inc();
+  }
+}
@@ -10,9 +10,12 @@ package io.camunda.zeebe.engine.processing;
 import static io.camunda.zeebe.protocol.record.intent.DeploymentIntent.CREATE;
 
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnEventPublicationBehavior;
 import io.camunda.zeebe.engine.processing.common.CatchEventBehavior;
+import io.camunda.zeebe.engine.processing.common.ChildTerminationBehavior;
 import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.DeploymentCreateProcessor;
@@ -21,6 +24,7 @@ import io.camunda.zeebe.engine.processing.deployment.distribute.CompleteDeployme
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributeProcessor;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributor;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentRedistributor;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.incident.IncidentEventProcessors;
 import io.camunda.zeebe.engine.processing.job.JobEventProcessors;
 import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
@@ -31,6 +35,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker;
 import io.camunda.zeebe.engine.state.KeyGenerator;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.immutable.ZeebeState;
 import io.camunda.zeebe.engine.state.migration.DbMigrationController;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
@@ -41,6 +46,7 @@ import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.util.sched.ActorControl;
 import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
 
 public final class EngineProcessors {
 
@@ -50,7 +56,8 @@ public final class EngineProcessors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final DeploymentDistributor deploymentDistributor,
       final DeploymentResponder deploymentResponder,
-      final Consumer<String> onJobsAvailableCallback) {
+      final Consumer<DirectBuffer> onJobsAvailableCallback,
+      final EngineConfiguration config) {
 
     final var actor = processingContext.getActor();
     final MutableZeebeState zeebeState = processingContext.getZeebeState();
@@ -68,6 +75,11 @@ public final class EngineProcessors {
     final int maxFragmentSize = processingContext.getMaxFragmentSize();
 
     final var variablesState = zeebeState.getVariableState();
+    variablesState.setLargeValueThreshold(config.getLargeVariableValueThreshold());
+    zeebeState.getMessageState().setCorrelationKeyFilterSize(config.getCorrelationKeyFilterSize());
+    zeebeState
+        .getMessageSubscriptionState()
+        .setCorrelationKeyFilterSize(config.getCorrelationKeyFilterSize());
     final var expressionProcessor =
         new ExpressionProcessor(
             ExpressionLanguageFactory.createExpressionLanguage(), variablesState::getVariable);
@@ -82,9 +94,19 @@ public final class EngineProcessors {
             timerChecker,
             partitionsCount);
 
+    final var childTerminationBehavior =
+        new ChildTerminationBehavior(
+            zeebeState.getElementInstanceState(),
+            writers.command(),
+            new ProcessEngineMetrics(partitionId),
+            config.getTerminationChunkSize());
     final var eventTriggerBehavior =
         new EventTriggerBehavior(
-            zeebeState.getKeyGenerator(), catchEventBehavior, writers, zeebeState);
+            zeebeState.getKeyGenerator(),
+            catchEventBehavior,
+            writers,
+            zeebeState,
+            childTerminationBehavior);
 
     final var eventPublicationBehavior =
         new BpmnEventPublicationBehavior(
@@ -101,7 +123,9 @@ public final class EngineProcessors {
         partitionsCount,
         actor,
         deploymentDistributor,
-        zeebeState.getKeyGenerator());
+        zeebeState.getKeyGenerator(),
+        processingContext.getExecutableProcessCache(),
+        processingContext.getDeploymentResourcePreparer());
     addMessageProcessors(
         eventTriggerBehavior,
         subscriptionCommandSender,
@@ -121,7 +145,8 @@ public final class EngineProcessors {
             eventTriggerBehavior,
             writers,
             timerChecker,
-            jobMetrics);
+            jobMetrics,
+            config);
 
     JobEventProcessors.addJobProcessors(
         typedRecordProcessors,
@@ -152,7 +177,8 @@ public final class EngineProcessors {
       final EventTriggerBehavior eventTriggerBehavior,
       final Writers writers,
       final DueDateTimerChecker timerChecker,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final EngineConfiguration config) {
     return ProcessEventProcessors.addProcessProcessors(
         zeebeState,
         expressionProcessor,
@@ -162,7 +188,8 @@ public final class EngineProcessors {
         timerChecker,
         eventTriggerBehavior,
         writers,
-        jobMetrics);
+        jobMetrics,
+        config);
   }
 
   private static void addDeploymentRelatedProcessorAndServices(
@@ -176,7 +203,9 @@ public final class EngineProcessors {
       final int partitionsCount,
       final ActorControl actor,
       final DeploymentDistributor deploymentDistributor,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final ExecutableProcessCache executableProcessCache,
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
 
     // on deployment partition CREATE Command is received and processed
     // it will cause a distribution to other partitions
@@ -189,7 +218,9 @@ public final class EngineProcessors {
             writers,
             actor,
             deploymentDistributor,
-            keyGenerator);
+            keyGenerator,
+            executableProcessCache,
+            deploymentResourcePreparer);
     typedRecordProcessors.onCommand(ValueType.DEPLOYMENT, CREATE, processor);
 
     // redistributes deployments after recovery
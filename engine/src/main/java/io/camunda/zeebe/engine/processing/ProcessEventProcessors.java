@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
 import io.camunda.zeebe.engine.processing.common.CatchEventBehavior;
@@ -54,7 +55,8 @@ public final class ProcessEventProcessors {
       final DueDateTimerChecker timerChecker,
       final EventTriggerBehavior eventTriggerBehavior,
       final Writers writers,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final EngineConfiguration config) {
     final MutableProcessMessageSubscriptionState subscriptionState =
         zeebeState.getProcessMessageSubscriptionState();
     final VariableBehavior variableBehavior =
@@ -71,7 +73,8 @@ public final class ProcessEventProcessors {
             eventTriggerBehavior,
             zeebeState,
             writers,
-            jobMetrics);
+            jobMetrics,
+            config);
     addBpmnStepProcessor(typedRecordProcessors, bpmnStreamProcessor);
 
     addMessageStreamProcessors(
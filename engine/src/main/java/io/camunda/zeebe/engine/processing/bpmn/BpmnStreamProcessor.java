@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.bpmn;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviorsImpl;
@@ -55,7 +56,8 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<ProcessIn
       final EventTriggerBehavior eventTriggerBehavior,
       final MutableZeebeState zeebeState,
       final Writers writers,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final EngineConfiguration config) {
     processState = zeebeState.getProcessState();
 
     final var bpmnBehaviors =
@@ -71,7 +73,7 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<ProcessIn
             jobMetrics);
     rejectionWriter = writers.rejection();
     incidentBehavior = bpmnBehaviors.incidentBehavior();
-    processors = new BpmnElementProcessors(bpmnBehaviors);
+    processors = new BpmnElementProcessors(bpmnBehaviors, config);
 
     stateTransitionGuard = bpmnBehaviors.stateTransitionGuard();
     stateTransitionBehavior = bpmnBehaviors.stateTransitionBehavior();
@@ -98,6 +100,13 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<ProcessIn
 
     context.init(record.getKey(), recordValue, intent);
 
+    if (intent == ProcessInstanceIntent.TERMINATE_CHILD_ELEMENTS) {
+      stateTransitionBehavior.continueTerminatingChildInstances(context);
+      return;
+    } else if (intent == ProcessInstanceIntent.TERMINATE_ELEMENT) {
+      stateTransitionBehavior.beforeElementTerminating(context);
+    }
+
     final var bpmnElementType = recordValue.getBpmnElementType();
     final var processor = processors.getProcessor(bpmnElementType);
     final ExecutableFlowElement element = getElement(recordValue, processor);
@@ -64,7 +64,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
             new ProcessEngineMetrics(zeebeState.getPartitionId()),
             processorLookup,
             writers,
-            zeebeState.getElementInstanceState());
+            zeebeState.getElementInstanceState(),
+            eventTriggerBehavior.getChildTerminationBehavior());
     eventSubscriptionBehavior =
         new BpmnEventSubscriptionBehavior(
             catchEventBehavior,
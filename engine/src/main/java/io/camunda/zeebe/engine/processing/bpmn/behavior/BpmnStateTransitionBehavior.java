@@ -12,6 +12,7 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContainerProcessor;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnProcessingException;
 import io.camunda.zeebe.engine.processing.bpmn.ProcessInstanceLifecycle;
+import io.camunda.zeebe.engine.processing.common.ChildTerminationBehavior;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCallActivity;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
@@ -49,6 +50,7 @@ public final class BpmnStateTransitionBehavior {
   private final StateWriter stateWriter;
   private final TypedCommandWriter commandWriter;
   private final ElementInstanceState elementInstanceState;
+  private final ChildTerminationBehavior childTerminationBehavior;
 
   public BpmnStateTransitionBehavior(
       final KeyGenerator keyGenerator,
@@ -57,7 +59,8 @@ public final class BpmnStateTransitionBehavior {
       final Function<BpmnElementType, BpmnElementContainerProcessor<ExecutableFlowElement>>
           processorLookUp,
       final Writers writers,
-      final ElementInstanceState elementInstanceState) {
+      final ElementInstanceState elementInstanceState,
+      final ChildTerminationBehavior childTerminationBehavior) {
     this.keyGenerator = keyGenerator;
     this.stateBehavior = stateBehavior;
     this.metrics = metrics;
@@ -65,6 +68,7 @@ public final class BpmnStateTransitionBehavior {
     stateWriter = writers.state();
     commandWriter = writers.command();
     this.elementInstanceState = elementInstanceState;
+    this.childTerminationBehavior = childTerminationBehavior;
   }
 
   /** @return context with updated intent */
@@ -316,19 +320,16 @@ public final class BpmnStateTransitionBehavior {
   /**
    * Terminate all child instances of the given scope.
    *
+   * <p>The child instances are terminated in chunks, see {@link ChildTerminationBehavior}. Only the
+   * first chunk is terminated together with the scope. The next chunks are terminated by processing
+   * the {@link ProcessInstanceIntent#TERMINATE_CHILD_ELEMENTS} command of the scope, see {@link
+   * #continueTerminatingChildInstances(BpmnElementContext)}.
+   *
    * @param context the scope to terminate the child instances of
    * @return {@code true} if the scope has no active child instances
    */
   public boolean terminateChildInstances(final BpmnElementContext context) {
-
-    stateBehavior.getChildInstances(context).stream()
-        .filter(child -> ProcessInstanceLifecycle.canTerminate(child.getIntent()))
-        .forEach(
-            childInstanceContext ->
-                commandWriter.appendFollowUpCommand(
-                    childInstanceContext.getElementInstanceKey(),
-                    ProcessInstanceIntent.TERMINATE_ELEMENT,
-                    childInstanceContext.getRecordValue()));
+    childTerminationBehavior.terminateChildInstances(context.getElementInstanceKey());
 
     final var elementInstance = stateBehavior.getElementInstance(context);
     final var activeChildInstances = elementInstance.getNumberOfActiveElementInstances();
@@ -336,6 +337,29 @@ public final class BpmnStateTransitionBehavior {
     return activeChildInstances == 0;
   }
 
+  /**
+   * Terminates the next chunk of the child instances of the given scope. Does nothing if the scope
+   * was left in the meantime.
+   *
+   * @param context the scope to continue terminating the child instances of
+   */
+  public void continueTerminatingChildInstances(final BpmnElementContext context) {
+    childTerminationBehavior.terminateChildInstances(context.getElementInstanceKey());
+  }
+
+  /**
+   * Must be called before a command to terminate the given element instance is processed, no matter
+   * if it is accepted or rejected.
+   *
+   * @param context the element instance to terminate
+   */
+  public void beforeElementTerminating(final BpmnElementContext context) {
+    final var flowScopeKey = context.getFlowScopeKey();
+    if (flowScopeKey > 0) {
+      childTerminationBehavior.onChildInstanceTerminationProcessed(flowScopeKey);
+    }
+  }
+
   public <T extends ExecutableFlowNode> void takeOutgoingSequenceFlows(
       final T element, final BpmnElementContext context) {
 
@@ -25,12 +25,25 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
-import java.util.List;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Processes the multi-instance body of an activity.
+ *
+ * <p>The inner instances of a parallel multi-instance body are activated in chunks, to limit the
+ * number of follow-up commands that are written for a single command. Only the first chunk is
+ * activated together with the body. When the first inner instance of a chunk is activated, the next
+ * chunk is activated. Since the commands of the next chunk are written before any inner instance of
+ * the current chunk can complete, the body can't complete before all inner instances are activated.
+ *
+ * <p>The commands of a chunk are processed one after another, without other commands in between.
+ * Hence, the input collection is only evaluated for the first inner instance of a chunk. The other
+ * inner instances of the chunk read their input element from a copy of it, continuing after the
+ * element of the previous inner instance.
+ */
 public final class MultiInstanceBodyProcessor
     implements BpmnElementContainerProcessor<ExecutableMultiInstanceBody> {
 
@@ -46,13 +59,19 @@ public final class MultiInstanceBodyProcessor
   private final ExpandableArrayBuffer variableBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultBuffer = new UnsafeBuffer(0, 0);
 
+  private final MsgPackReader inputCollectionReader = new MsgPackReader();
+  private final InputCollectionCursor inputCollectionCursor = new InputCollectionCursor();
+
   private final ExpressionProcessor expressionBehavior;
   private final BpmnStateTransitionBehavior stateTransitionBehavior;
   private final BpmnEventSubscriptionBehavior eventSubscriptionBehavior;
   private final BpmnStateBehavior stateBehavior;
   private final BpmnIncidentBehavior incidentBehavior;
+  private final int activationChunkSize;
 
-  public MultiInstanceBodyProcessor(final BpmnBehaviors bpmnBehaviors) {
+  public MultiInstanceBodyProcessor(
+      final BpmnBehaviors bpmnBehaviors, final int activationChunkSize) {
+    this.activationChunkSize = activationChunkSize;
     stateTransitionBehavior = bpmnBehaviors.stateTransitionBehavior();
     eventSubscriptionBehavior = bpmnBehaviors.eventSubscriptionBehavior();
     stateBehavior = bpmnBehaviors.stateBehavior();
@@ -69,14 +88,14 @@ public final class MultiInstanceBodyProcessor
   public void onActivate(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     // verify that the input collection variable is present and valid
-    readInputCollectionVariable(element, context)
+    readInputCollectionSize(element, context)
         .flatMap(
-            inputCollection ->
+            inputCollectionSize ->
                 eventSubscriptionBehavior
                     .subscribeToEvents(element, context)
-                    .map(ok -> inputCollection))
+                    .map(ok -> inputCollectionSize))
         .ifRightOrLeft(
-            inputCollection -> activate(element, context, inputCollection),
+            inputCollectionSize -> activate(element, context, inputCollectionSize),
             failure -> incidentBehavior.createIncident(failure, context));
   }
 
@@ -120,28 +139,39 @@ public final class MultiInstanceBodyProcessor
     final int loopCounter =
         stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
 
-    return readInputCollectionVariable(multiInstanceBody, childContext)
-        .flatMap(
-            collection -> {
-              // the loop counter starts at 1
-              final var index = loopCounter - 1;
-              if (index < collection.size()) {
-                final var item = collection.get(index);
-                return Either.right(item);
-              } else {
-                final var incidentMessage =
-                    String.format(
-                        "Expected to read item at index %d of the multiInstanceBody input collection but it contains only %d elements. The input collection might be modified while iterating over it.",
-                        index, collection.size());
-                final var failure = new Failure(incidentMessage, ErrorType.EXTRACT_VALUE_ERROR);
-                return Either.left(failure);
-              }
-            })
-        .map(
-            inputElement -> {
-              setLoopVariables(multiInstanceBody, childContext, loopCounter, inputElement);
-              return null;
-            });
+    // the loop counter starts at 1
+    final var index = loopCounter - 1;
+    final var isSequential = multiInstanceBody.getLoopCharacteristics().isSequential();
+    if (isSequential || !canContinueReadingInputCollection(flowScopeContext, loopCounter)) {
+      final var inputCollectionOrFailure =
+          readInputCollectionVariable(multiInstanceBody, childContext);
+      if (inputCollectionOrFailure.isLeft()) {
+        inputCollectionCursor.reset();
+        return inputCollectionOrFailure;
+      }
+
+      // the input collection is only a view on the state, it is copied before the state is accessed
+      inputCollectionCursor.wrap(
+          flowScopeContext.getElementInstanceKey(), inputCollectionOrFailure.get());
+    }
+
+    final var inputCollectionSize = inputCollectionCursor.size();
+    if (index >= inputCollectionSize) {
+      inputCollectionCursor.reset();
+      final var incidentMessage =
+          String.format(
+              "Expected to read item at index %d of the multiInstanceBody input collection but it contains only %d elements. The input collection might be modified while iterating over it.",
+              index, inputCollectionSize);
+      return Either.left(new Failure(incidentMessage, ErrorType.EXTRACT_VALUE_ERROR));
+    }
+
+    final var inputElement = inputCollectionCursor.read(index);
+    setLoopVariables(multiInstanceBody, childContext, loopCounter, inputElement);
+
+    if (!isSequential) {
+      activateNextChunk(multiInstanceBody, flowScopeContext, loopCounter, inputCollectionSize);
+    }
+    return Either.right(null);
   }
 
   @Override
@@ -173,18 +203,18 @@ public final class MultiInstanceBodyProcessor
     final var loopCharacteristics = element.getLoopCharacteristics();
     if (loopCharacteristics.isSequential()) {
 
-      final var inputCollectionOrFailure = readInputCollectionVariable(element, flowScopeContext);
-      if (inputCollectionOrFailure.isLeft()) {
+      final var inputCollectionSizeOrFailure = readInputCollectionSize(element, flowScopeContext);
+      if (inputCollectionSizeOrFailure.isLeft()) {
         // this incident is un-resolvable
-        incidentBehavior.createIncident(inputCollectionOrFailure.getLeft(), childContext);
+        incidentBehavior.createIncident(inputCollectionSizeOrFailure.getLeft(), childContext);
         return;
       }
 
-      final var inputCollection = inputCollectionOrFailure.get();
+      final int inputCollectionSize = inputCollectionSizeOrFailure.get();
       final var loopCounter =
           stateBehavior.getElementInstance(flowScopeContext).getMultiInstanceLoopCounter();
 
-      if (loopCounter < inputCollection.size()) {
+      if (loopCounter < inputCollectionSize) {
         createInnerInstance(element, flowScopeContext);
 
         // canBeCompleted() doesn't take the created child instance into account because
@@ -213,16 +243,16 @@ public final class MultiInstanceBodyProcessor
   private void activate(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext context,
-      final List<DirectBuffer> inputCollection) {
+      final int inputCollectionSize) {
     final BpmnElementContext activated = stateTransitionBehavior.transitionToActivated(context);
     final var loopCharacteristics = element.getLoopCharacteristics();
     loopCharacteristics
         .getOutputCollection()
         .ifPresent(
             variableName ->
-                initializeOutputCollection(activated, variableName, inputCollection.size()));
+                initializeOutputCollection(activated, variableName, inputCollectionSize));
 
-    if (inputCollection.isEmpty()) {
+    if (inputCollectionSize == 0) {
       // complete the multi-instance body immediately
       stateTransitionBehavior.completeElement(activated);
       return;
@@ -231,7 +261,35 @@ public final class MultiInstanceBodyProcessor
     if (loopCharacteristics.isSequential()) {
       createInnerInstance(element, activated);
     } else {
-      inputCollection.forEach(item -> createInnerInstance(element, activated));
+      // the next chunks are activated with the first inner instance of the previous chunk
+      createInnerInstances(element, activated, Math.min(inputCollectionSize, activationChunkSize));
+    }
+  }
+
+  private void activateNextChunk(
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext flowScopeContext,
+      final int loopCounter,
+      final int inputCollectionSize) {
+    final var isFirstOfChunk = (loopCounter - 1) % activationChunkSize == 0;
+    if (!isFirstOfChunk) {
+      return;
+    }
+
+    // the inner instances of the current chunk are activated before the ones of the next chunk;
+    // if an inner instance of the next chunk is activated already then the child is activated
+    // again while resolving an incident and the next chunk must not be activated twice
+    final var activatedInnerInstances =
+        stateBehavior.getElementInstance(flowScopeContext).getMultiInstanceLoopCounter();
+    final var createdInnerInstances = loopCounter - 1 + activationChunkSize;
+    if (activatedInnerInstances > createdInnerInstances) {
+      return;
+    }
+
+    final var remainingInnerInstances = inputCollectionSize - createdInnerInstances;
+    if (remainingInnerInstances > 0) {
+      createInnerInstances(
+          element, flowScopeContext, Math.min(remainingInnerInstances, activationChunkSize));
     }
   }
 
@@ -287,19 +345,58 @@ public final class MultiInstanceBodyProcessor
         childContext, LOOP_COUNTER_VARIABLE, wrapLoopCounter(loopCounter));
   }
 
-  private Either<Failure, List<DirectBuffer>> readInputCollectionVariable(
+  private Either<Failure, DirectBuffer> readInputCollectionVariable(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
-    return expressionBehavior.evaluateArrayExpression(
+    return expressionBehavior.evaluateArrayExpressionAsDirectBuffer(
         inputCollection, context.getElementInstanceKey());
   }
 
+  private Either<Failure, Integer> readInputCollectionSize(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    return readInputCollectionVariable(element, context)
+        .map(
+            inputCollection -> {
+              inputCollectionReader.wrap(inputCollection, 0, inputCollection.capacity());
+              return inputCollectionReader.readArrayHeader();
+            });
+  }
+
+  /**
+   * Returns true if the input element of the given inner instance can be read from the input
+   * collection of the previous inner instance. This is the case if both belong to the same chunk,
+   * and the inner instance is activated for the first time, i.e. not again while resolving an
+   * incident. Otherwise, the input collection may have been modified in the meantime.
+   */
+  private boolean canContinueReadingInputCollection(
+      final BpmnElementContext flowScopeContext, final int loopCounter) {
+    final var index = loopCounter - 1;
+    if (index % activationChunkSize == 0
+        || !inputCollectionCursor.isPositionedAt(flowScopeContext.getElementInstanceKey(), index)) {
+      return false;
+    }
+
+    // the loop counter of the body is incremented when an inner instance is activated
+    final var activatedInnerInstances =
+        stateBehavior.getElementInstance(flowScopeContext).getMultiInstanceLoopCounter();
+    return activatedInnerInstances == loopCounter;
+  }
+
   private void createInnerInstance(
       final ExecutableMultiInstanceBody multiInstanceBody, final BpmnElementContext context) {
     stateTransitionBehavior.activateChildInstanceWithKey(
         context, multiInstanceBody.getInnerActivity());
   }
 
+  private void createInnerInstances(
+      final ExecutableMultiInstanceBody multiInstanceBody,
+      final BpmnElementContext context,
+      final int count) {
+    for (int i = 0; i < count; i++) {
+      createInnerInstance(multiInstanceBody, context);
+    }
+  }
+
   private DirectBuffer wrapLoopCounter(final int loopCounter) {
     variableWriter.wrap(loopCounterVariableBuffer, 0);
 
@@ -393,4 +490,56 @@ public final class MultiInstanceBodyProcessor
     resultBuffer.wrap(variableBuffer, 0, length);
     return resultBuffer;
   }
+
+  /** A copy of an input collection, which is read from the first to the last element. */
+  private static final class InputCollectionCursor {
+
+    private final MsgPackReader reader = new MsgPackReader();
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final DirectBuffer view = new UnsafeBuffer(0, 0);
+    private final DirectBuffer elementView = new UnsafeBuffer(0, 0);
+
+    private long multiInstanceBodyKey = -1L;
+    private int size;
+    private int nextIndex;
+
+    void wrap(final long multiInstanceBodyKey, final DirectBuffer inputCollection) {
+      final var length = inputCollection.capacity();
+      buffer.putBytes(0, inputCollection, 0, length);
+      view.wrap(buffer, 0, length);
+      reader.wrap(view, 0, length);
+
+      this.multiInstanceBodyKey = multiInstanceBodyKey;
+      size = reader.readArrayHeader();
+      nextIndex = 0;
+    }
+
+    boolean isPositionedAt(final long multiInstanceBodyKey, final int index) {
+      return this.multiInstanceBodyKey == multiInstanceBodyKey && nextIndex == index;
+    }
+
+    int size() {
+      return size;
+    }
+
+    /**
+     * @param index the index of the element to read, which must not be lower than the index of the
+     *     next element
+     * @return a view on the element, which is valid until the cursor is wrapped again
+     */
+    DirectBuffer read(final int index) {
+      reader.skipValues(index - nextIndex);
+
+      final var offset = reader.getOffset();
+      reader.skipValue();
+      elementView.wrap(view, offset, reader.getOffset() - offset);
+
+      nextIndex = index + 1;
+      return elementView;
+    }
+
+    void reset() {
+      multiInstanceBodyKey = -1L;
+    }
+  }
 }
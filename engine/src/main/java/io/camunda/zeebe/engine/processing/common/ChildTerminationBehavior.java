@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.common;
+
+import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Terminates the child instances of a scope in chunks, to limit the number of follow-up commands
+ * that are written for a single command.
+ *
+ * <p>A chunk contains the child instances with the highest keys that can still be terminated. Its
+ * commands are written in ascending order of the keys. If the chunk is full, a {@link
+ * ProcessInstanceIntent#TERMINATE_CHILD_ELEMENTS} command for the scope is written after the
+ * commands of the chunk. Since both are written in the same batch, it is processed right after the
+ * terminations of the chunk, no matter if these were accepted or rejected, e.g. because a child
+ * instance left the scope in the meantime. Processing it terminates the next chunk. The progress is
+ * derived from the states of the child instances only, which are rolled back together with the
+ * processing of a command.
+ */
+public final class ChildTerminationBehavior {
+
+  private final List<ElementInstance> nextChunk = new ArrayList<>();
+
+  private final ElementInstanceState elementInstanceState;
+  private final TypedCommandWriter commandWriter;
+  private final ProcessEngineMetrics metrics;
+  private final int chunkSize;
+
+  public ChildTerminationBehavior(
+      final ElementInstanceState elementInstanceState,
+      final TypedCommandWriter commandWriter,
+      final ProcessEngineMetrics metrics,
+      final int chunkSize) {
+    this.elementInstanceState = elementInstanceState;
+    this.commandWriter = commandWriter;
+    this.metrics = metrics;
+    this.chunkSize = chunkSize;
+
+    // the terminations which were pending on a previous leader are not tracked by this one
+    metrics.resetPendingTerminations();
+  }
+
+  /**
+   * Terminates the next chunk of the child instances of the given scope, if it is terminating or
+   * interrupted by an event sub-process. The instance of the interrupting event sub-process is not
+   * terminated, unless the scope itself is terminating.
+   *
+   * @param scopeKey the key of the scope to terminate the child instances of
+   */
+  public void terminateChildInstances(final long scopeKey) {
+    final var scopeInstance = elementInstanceState.getInstance(scopeKey);
+    if (scopeInstance == null
+        || !(scopeInstance.isTerminating() || scopeInstance.isInterrupted())) {
+      // the scope was left in the meantime
+      return;
+    }
+
+    nextChunk.clear();
+    elementInstanceState.visitChildrenDescending(
+        scopeKey,
+        Long.MAX_VALUE,
+        childInstance -> {
+          if (childInstance.canTerminate() && !isInterruptingChild(scopeInstance, childInstance)) {
+            nextChunk.add(childInstance);
+          }
+          return nextChunk.size() < chunkSize;
+        });
+
+    if (nextChunk.isEmpty()) {
+      return;
+    }
+
+    for (int i = nextChunk.size() - 1; i >= 0; i--) {
+      final var childInstance = nextChunk.get(i);
+      commandWriter.appendFollowUpCommand(
+          childInstance.getKey(),
+          ProcessInstanceIntent.TERMINATE_ELEMENT,
+          childInstance.getValue());
+    }
+
+    if (nextChunk.size() == chunkSize) {
+      // there may be more child instances, which are terminated after the ones of this chunk
+      commandWriter.appendFollowUpCommand(
+          scopeKey, ProcessInstanceIntent.TERMINATE_CHILD_ELEMENTS, scopeInstance.getValue());
+    }
+    metrics.terminationChunkWritten(nextChunk.size());
+  }
+
+  /**
+   * Counts the processed termination command of a child instance of the given scope, if the scope
+   * is terminating its child instances.
+   *
+   * @param scopeKey the key of the flow scope of the child instance
+   */
+  public void onChildInstanceTerminationProcessed(final long scopeKey) {
+    final var scopeInstance = elementInstanceState.getInstance(scopeKey);
+    if (scopeInstance != null && (scopeInstance.isTerminating() || scopeInstance.isInterrupted())) {
+      metrics.terminationProcessed();
+    }
+  }
+
+  private static boolean isInterruptingChild(
+      final ElementInstance scopeInstance, final ElementInstance childInstance) {
+    return !scopeInstance.isTerminating()
+        && scopeInstance
+            .getInterruptingElementId()
+            .equals(childInstance.getValue().getElementIdBuffer());
+  }
+}
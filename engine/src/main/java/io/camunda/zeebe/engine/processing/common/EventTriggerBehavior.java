@@ -9,7 +9,6 @@ package io.camunda.zeebe.engine.processing.common;
 
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContextImpl;
-import io.camunda.zeebe.engine.processing.bpmn.ProcessInstanceLifecycle;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
 import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectQueue;
@@ -39,6 +38,7 @@ public class EventTriggerBehavior {
   private final StateWriter stateWriter;
   private final ElementInstanceState elementInstanceState;
   private final EventScopeInstanceState eventScopeInstanceState;
+  private final ChildTerminationBehavior childTerminationBehavior;
 
   private final VariableBehavior variableBehavior;
 
@@ -46,9 +46,11 @@ public class EventTriggerBehavior {
       final KeyGenerator keyGenerator,
       final CatchEventBehavior catchEventBehavior,
       final Writers writers,
-      final ZeebeState zeebeState) {
+      final ZeebeState zeebeState,
+      final ChildTerminationBehavior childTerminationBehavior) {
     this.keyGenerator = keyGenerator;
     this.catchEventBehavior = catchEventBehavior;
+    this.childTerminationBehavior = childTerminationBehavior;
     commandWriter = writers.command();
     stateWriter = writers.state();
 
@@ -59,6 +61,10 @@ public class EventTriggerBehavior {
         new VariableBehavior(zeebeState.getVariableState(), writers.state(), keyGenerator);
   }
 
+  public ChildTerminationBehavior getChildTerminationBehavior() {
+    return childTerminationBehavior;
+  }
+
   public void unsubscribeFromEvents(final BpmnElementContext context) {
     final var sideEffectQueue = new SideEffectQueue();
     catchEventBehavior.unsubscribeFromEvents(context, commandWriter, sideEffectQueue);
@@ -118,19 +124,8 @@ public class EventTriggerBehavior {
 
   private boolean terminateChildInstances(final BpmnElementContext flowScopeContext) {
     // we need to go to the parent and delete all children to trigger the interrupting event sub
-    // process
-    elementInstanceState.getChildren(flowScopeContext.getElementInstanceKey()).stream()
-        .filter(child -> ProcessInstanceLifecycle.canTerminate(child.getState()))
-        .map(
-            childInstance ->
-                flowScopeContext.copy(
-                    childInstance.getKey(), childInstance.getValue(), childInstance.getState()))
-        .forEach(
-            childInstanceContext ->
-                commandWriter.appendFollowUpCommand(
-                    childInstanceContext.getElementInstanceKey(),
-                    ProcessInstanceIntent.TERMINATE_ELEMENT,
-                    childInstanceContext.getRecordValue()));
+    // process; the children are terminated in chunks, like the children of a terminating scope
+    childTerminationBehavior.terminateChildInstances(flowScopeContext.getElementInstanceKey());
 
     final var elementInstance =
         elementInstanceState.getInstance(flowScopeContext.getElementInstanceKey());
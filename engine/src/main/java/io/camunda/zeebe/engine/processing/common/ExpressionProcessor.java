@@ -15,6 +15,8 @@ import io.camunda.zeebe.el.Expression;
 import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.el.ResultType;
 import io.camunda.zeebe.model.bpmn.util.time.Interval;
+import io.camunda.zeebe.msgpack.spec.MsgPackFormat;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import java.time.ZonedDateTime;
@@ -224,6 +226,55 @@ public final class ExpressionProcessor {
         .map(EvaluationResult::getList);
   }
 
+  /**
+   * Evaluates the given expression and returns the result as a MessagePack encoded array. Unlike
+   * {@link #evaluateArrayExpression(Expression, long)}, the entries are not materialized. If the
+   * expression only references a variable which contains an array, then the variable is returned as
+   * it is stored, without evaluating the expression.
+   *
+   * <p>The returned buffer is only valid until the next access of the state.
+   *
+   * @param expression the expression to evaluate
+   * @param scopeKey the scope to load the variables from (a negative key is intended to imply an
+   *     empty variable context)
+   * @return either the evaluation result as buffer, or a failure if the evaluation fails
+   */
+  public Either<Failure, DirectBuffer> evaluateArrayExpressionAsDirectBuffer(
+      final Expression expression, final long scopeKey) {
+    final var arrayVariable = getArrayVariable(expression, scopeKey);
+    if (arrayVariable != null) {
+      return Either.right(arrayVariable);
+    }
+
+    final var evaluationResult = evaluateExpressionAsEither(expression, scopeKey);
+    return evaluationResult
+        .flatMap(result -> typeCheck(result, ResultType.ARRAY, scopeKey))
+        .map(EvaluationResult::toBuffer);
+  }
+
+  private DirectBuffer getArrayVariable(final Expression expression, final long scopeKey) {
+    if (scopeKey < 0 || !expression.isValid() || expression.isStatic()) {
+      return null;
+    }
+
+    // only a plain variable reference, e.g. not a property of the variable
+    final var variableName =
+        expression.getVariableName().filter(name -> name.equals(expression.getExpression().trim()));
+    if (variableName.isEmpty()) {
+      return null;
+    }
+
+    evaluationContext.variableScopeKey = scopeKey;
+    final var variable = evaluationContext.getVariable(variableName.get());
+    if (variable == null
+        || variable.capacity() == 0
+        || MsgPackFormat.valueOf(variable.getByte(0)).getType() != MsgPackType.ARRAY) {
+      // let the evaluation of the expression handle the missing or invalid variable
+      return null;
+    }
+    return variable;
+  }
+
   /**
    * Evaluates the given expression and returns the result as String. If the evaluation result is a
    * number it is automatically converted to a string.
@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistri
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentTransformer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseW
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.KeyGenerator;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ZeebeState;
@@ -68,13 +70,21 @@ public final class DeploymentCreateProcessor implements TypedRecordProcessor<Dep
       final Writers writers,
       final ActorControl actor,
       final DeploymentDistributor deploymentDistributor,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final ExecutableProcessCache executableProcessCache,
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
     processState = zeebeState.getProcessState();
     timerInstanceState = zeebeState.getTimerState();
     this.keyGenerator = keyGenerator;
     stateWriter = writers.state();
     deploymentTransformer =
-        new DeploymentTransformer(stateWriter, zeebeState, expressionProcessor, keyGenerator);
+        new DeploymentTransformer(
+            stateWriter,
+            zeebeState,
+            expressionProcessor,
+            keyGenerator,
+            executableProcessCache,
+            deploymentResourcePreparer);
     this.catchEventBehavior = catchEventBehavior;
     this.expressionProcessor = expressionProcessor;
     messageStartEventSubscriptionManager =
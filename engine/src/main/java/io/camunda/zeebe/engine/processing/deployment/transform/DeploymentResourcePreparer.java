@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Reads, validates and transforms the resources of deployments on a separate thread pool, as soon
+ * as their commands are received, so that the stream processor doesn't have to do it while it
+ * processes the commands and all other commands of the partition wait.
+ *
+ * <p>The stream processor takes the prepared result of a resource when it processes the deployment.
+ * If the resource was not prepared, or its preparation is not completed yet, then the stream
+ * processor reads, validates and transforms it inline, as before. Both produce the same result,
+ * since it only depends on the content of the resource.
+ *
+ * <p>The preparer can be shared by the partitions of a broker. The total size of the resources
+ * which are prepared or kept until they are taken is bounded, since their parsed models take a
+ * multiple of their size; the least recently submitted resources are dropped, and their
+ * preparation is cancelled if it has not completed yet. Resources which are larger than the bound
+ * are not prepared at all.
+ */
+public final class DeploymentResourcePreparer implements AutoCloseable {
+
+  public static final long DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+
+  private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+
+  private final ExecutorService executor;
+  private final long maxSize;
+  // in the order in which the resources were submitted
+  private final Map<DirectBuffer, CompletableFuture<PreparedResource>> preparedResources =
+      new LinkedHashMap<>();
+  private final ThreadLocal<ResourceTransformer> resourceTransformers =
+      ThreadLocal.withInitial(ResourceTransformer::new);
+  private long size;
+
+  /**
+   * Creates a preparer without a thread pool. It doesn't prepare any resources, so all resources
+   * are read, validated and transformed inline by the stream processor.
+   */
+  public DeploymentResourcePreparer() {
+    this(null, 0);
+  }
+
+  public DeploymentResourcePreparer(final ExecutorService executor) {
+    this(executor, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param executor the thread pool which prepares the resources
+   * @param maxSize the maximum total size in bytes of the resources which are kept
+   */
+  public DeploymentResourcePreparer(final ExecutorService executor, final long maxSize) {
+    this.executor = executor;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Starts to prepare the resources of the given deployment. The resources are copied, so the
+   * record can be reused afterwards.
+   *
+   * @param deployment the received deployment command
+   */
+  public void prepare(final DeploymentRecord deployment) {
+    if (executor == null) {
+      return;
+    }
+
+    for (final DeploymentResource deploymentResource : deployment.resources()) {
+      final byte[] resource = deploymentResource.getResource();
+      if (resource.length > maxSize) {
+        continue;
+      }
+
+      final DirectBuffer key = new UnsafeBuffer(resource);
+      synchronized (preparedResources) {
+        if (preparedResources.containsKey(key)) {
+          continue;
+        }
+
+        try {
+          preparedResources.put(
+              key, CompletableFuture.supplyAsync(() -> prepareResource(resource), executor));
+        } catch (final RejectedExecutionException e) {
+          LOG.debug("Expected to prepare deployment resource, but the preparer is closed", e);
+          return;
+        }
+
+        size += resource.length;
+        evictEldestResources();
+      }
+    }
+  }
+
+  /**
+   * Takes the prepared result of the given resource.
+   *
+   * @param resource the deployment resource
+   * @return the prepared result, or {@code null} if the resource was not prepared or the
+   *     preparation is not completed yet
+   */
+  PreparedResource take(final DirectBuffer resource) {
+    final CompletableFuture<PreparedResource> preparation;
+    synchronized (preparedResources) {
+      preparation = preparedResources.remove(new UnsafeBuffer(resource, 0, resource.capacity()));
+      if (preparation != null) {
+        size -= resource.capacity();
+      }
+    }
+
+    if (preparation == null) {
+      return null;
+    }
+
+    // the stream processor doesn't wait for an incomplete preparation, but prepares it inline
+    preparation.cancel(false);
+    if (!preparation.isDone() || preparation.isCompletedExceptionally()) {
+      return null;
+    }
+    return preparation.join();
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    synchronized (preparedResources) {
+      preparedResources.values().forEach(preparation -> preparation.cancel(false));
+      preparedResources.clear();
+      size = 0;
+    }
+  }
+
+  private void evictEldestResources() {
+    final var iterator = preparedResources.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      final Entry<DirectBuffer, CompletableFuture<PreparedResource>> eldest = iterator.next();
+      iterator.remove();
+      size -= eldest.getKey().capacity();
+      eldest.getValue().cancel(false);
+    }
+  }
+
+  private PreparedResource prepareResource(final byte[] resource) {
+    return resourceTransformers.get().prepare(resource);
+  }
+
+  /**
+   * Reads, validates and transforms resources like the {@link DeploymentTransformer}; it is not
+   * thread safe, so each thread of the pool uses its own.
+   */
+  private static final class ResourceTransformer {
+
+    private final BpmnValidator validator;
+    private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+    private final MessageDigest digestGenerator;
+
+    private ResourceTransformer() {
+      // the validator evaluates only static expressions, which don't access any variables
+      validator =
+          BpmnFactory.createValidator(
+              new ExpressionProcessor(
+                  ExpressionLanguageFactory.createExpressionLanguage(), (scopeKey, name) -> null));
+
+      try {
+        // the same weak hash function as the deployment transformer, to get the same checksums
+        digestGenerator =
+            MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
+      } catch (final NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private PreparedResource prepare(final byte[] resource) {
+      try {
+        final BpmnModelInstance definition =
+            Bpmn.readModelFromStreamInSinglePass(new ByteArrayInputStream(resource));
+
+        final String validationError = validator.validate(definition);
+        if (validationError != null) {
+          return PreparedResource.invalid(definition, validationError);
+        }
+
+        return PreparedResource.transformed(
+            definition,
+            transformer.transformDefinitions(definition),
+            new UnsafeBuffer(digestGenerator.digest(resource)));
+
+      } catch (final RuntimeException e) {
+        return PreparedResource.failed(e);
+      }
+    }
+  }
+}
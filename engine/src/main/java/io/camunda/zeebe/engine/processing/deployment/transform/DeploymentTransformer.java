@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTr
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.KeyGenerator;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.immutable.ZeebeState;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -46,6 +47,8 @@ public final class DeploymentTransformer {
 
   private final BpmnTransformer bpmnTransformer = BpmnFactory.createTransformer();
 
+  private final ExecutableProcessCache executableProcessCache;
+  private final DeploymentResourcePreparer deploymentResourcePreparer;
   private final BpmnValidator validator;
   private final ProcessState processState;
   private final KeyGenerator keyGenerator;
@@ -61,8 +64,12 @@ public final class DeploymentTransformer {
       final StateWriter stateWriter,
       final ZeebeState zeebeState,
       final ExpressionProcessor expressionProcessor,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final ExecutableProcessCache executableProcessCache,
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
     this.stateWriter = stateWriter;
+    this.executableProcessCache = executableProcessCache;
+    this.deploymentResourcePreparer = deploymentResourcePreparer;
     processState = zeebeState.getProcessState();
     this.keyGenerator = keyGenerator;
     validator = BpmnFactory.createValidator(expressionProcessor);
@@ -115,17 +122,37 @@ public final class DeploymentTransformer {
     final String resourceName = deploymentResource.getResourceName();
 
     try {
-      final BpmnModelInstance definition = readProcessDefinition(deploymentResource);
-      final String validationError = validator.validate(definition);
+      // the resource may have been prepared already when the command was received
+      final PreparedResource prepared =
+          deploymentResourcePreparer.take(deploymentResource.getResourceBuffer());
+
+      final BpmnModelInstance definition;
+      final String validationError;
+      if (prepared != null) {
+        definition = prepared.getDefinition();
+        validationError = prepared.getValidationError();
+      } else {
+        definition = readProcessDefinition(deploymentResource);
+        validationError = validator.validate(definition);
+      }
 
       if (validationError == null) {
-        // transform the model to avoid unexpected failures that are not covered by the validator
-        bpmnTransformer.transformDefinitions(definition);
+        // transform the model to avoid unexpected failures that are not covered by the validator;
+        // the transformed processes are cached, so that the partitions don't transform them again
+        executableProcessCache.computeIfAbsent(
+            deploymentResource.getResourceBuffer(),
+            prepared != null
+                ? prepared::getExecutableProcesses
+                : () -> bpmnTransformer.transformDefinitions(definition));
 
         final String bpmnIdDuplicateError = checkForDuplicateBpmnId(definition, resourceName);
 
         if (bpmnIdDuplicateError == null) {
-          transformProcessResource(deploymentEvent, deploymentResource, definition);
+          final DirectBuffer resourceDigest =
+              prepared != null
+                  ? prepared.getChecksum()
+                  : new UnsafeBuffer(digestGenerator.digest(deploymentResource.getResource()));
+          transformProcessResource(deploymentEvent, deploymentResource, definition, resourceDigest);
           success = true;
         } else {
           errors.append("\n").append(bpmnIdDuplicateError);
@@ -161,7 +188,8 @@ public final class DeploymentTransformer {
   private void transformProcessResource(
       final DeploymentRecord deploymentEvent,
       final DeploymentResource deploymentResource,
-      final BpmnModelInstance definition) {
+      final BpmnModelInstance definition,
+      final DirectBuffer resourceDigest) {
     final Collection<Process> processes =
         definition.getDefinitions().getChildElementsByType(Process.class);
 
@@ -173,8 +201,6 @@ public final class DeploymentTransformer {
 
         final DirectBuffer lastDigest =
             processState.getLatestVersionDigest(wrapString(bpmnProcessId));
-        final DirectBuffer resourceDigest =
-            new UnsafeBuffer(digestGenerator.digest(deploymentResource.getResource()));
 
         // adds process record to deployment record
         final var processMetadata = deploymentEvent.processesMetadata().add();
@@ -216,7 +242,7 @@ public final class DeploymentTransformer {
   private BpmnModelInstance readProcessDefinition(final DeploymentResource deploymentResource) {
     final DirectBuffer resource = deploymentResource.getResourceBuffer();
     final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
-    return Bpmn.readModelFromStream(resourceStream);
+    return Bpmn.readModelFromStreamInSinglePass(resourceStream);
   }
 
   public RejectionType getRejectionType() {
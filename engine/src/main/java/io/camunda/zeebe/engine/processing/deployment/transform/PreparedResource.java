@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * The result of reading, validating and transforming a deployment resource ahead of the processing
+ * of its deployment. It is the same as if the resource was processed inline: either the resource
+ * could not be read or transformed, or it is invalid, or it is transformed into its executable
+ * processes.
+ */
+final class PreparedResource {
+
+  private final BpmnModelInstance definition;
+  private final String validationError;
+  private final List<ExecutableProcess> executableProcesses;
+  private final DirectBuffer checksum;
+  private final RuntimeException failure;
+
+  private PreparedResource(
+      final BpmnModelInstance definition,
+      final String validationError,
+      final List<ExecutableProcess> executableProcesses,
+      final DirectBuffer checksum,
+      final RuntimeException failure) {
+    this.definition = definition;
+    this.validationError = validationError;
+    this.executableProcesses = executableProcesses;
+    this.checksum = checksum;
+    this.failure = failure;
+  }
+
+  static PreparedResource transformed(
+      final BpmnModelInstance definition,
+      final List<ExecutableProcess> executableProcesses,
+      final DirectBuffer checksum) {
+    return new PreparedResource(definition, null, executableProcesses, checksum, null);
+  }
+
+  static PreparedResource invalid(
+      final BpmnModelInstance definition, final String validationError) {
+    return new PreparedResource(definition, validationError, null, null, null);
+  }
+
+  static PreparedResource failed(final RuntimeException failure) {
+    return new PreparedResource(null, null, null, null, failure);
+  }
+
+  /**
+   * @return the read resource
+   * @throws RuntimeException the failure which occurred while the resource was read or transformed
+   */
+  BpmnModelInstance getDefinition() {
+    if (failure != null) {
+      throw failure;
+    }
+    return definition;
+  }
+
+  /** @return the validation error of the resource, or {@code null} if it is valid */
+  String getValidationError() {
+    return validationError;
+  }
+
+  /** @return the executable processes of the resource, if it is valid */
+  List<ExecutableProcess> getExecutableProcesses() {
+    return executableProcesses;
+  }
+
+  /** @return the MD5 checksum of the resource, if it is valid */
+  DirectBuffer getChecksum() {
+    return checksum;
+  }
+}
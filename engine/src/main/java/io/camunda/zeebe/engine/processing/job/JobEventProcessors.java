@@ -20,13 +20,14 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
 
 public final class JobEventProcessors {
 
   public static void addJobProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final MutableZeebeState zeebeState,
-      final Consumer<String> onJobsAvailableCallback,
+      final Consumer<DirectBuffer> onJobsAvailableCallback,
       final BpmnEventPublicationBehavior eventPublicationBehavior,
       final int maxRecordSize,
       final Writers writers,
@@ -75,43 +75,49 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenProcessMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenProcessMessageSubscription(buffer, offset, length);
-                break;
-              case CorrelateProcessMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateProcessMessageSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseProcessMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseProcessMessageSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
-          }
+          handleCommand(buffer, 0, buffer.capacity());
           future.complete(null);
         });
     return future;
   }
 
+  /**
+   * Writes the given subscription command to the log stream of its receiving partition; must be
+   * called in the environment this handler runs in. Unknown commands are ignored.
+   */
+  public void handleCommand(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+
+      switch (messageHeaderDecoder.templateId()) {
+        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenMessageSubscription(buffer, offset, length);
+          break;
+        case OpenProcessMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenProcessMessageSubscription(buffer, offset, length);
+          break;
+        case CorrelateProcessMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateProcessMessageSubscription(buffer, offset, length);
+          break;
+        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseMessageSubscription(buffer, offset, length);
+          break;
+        case CloseProcessMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseProcessMessageSubscription(buffer, offset, length);
+          break;
+        case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onRejectCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
   private boolean onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.TypedStreamWriterProxy;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.EventApplyingStateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.NoopTypedStreamWriter;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.EventApplier;
 import io.camunda.zeebe.engine.state.KeyGeneratorControls;
 import io.camunda.zeebe.engine.state.ZeebeDbState;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.mutable.MutableLastProcessedPositionState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -50,6 +52,8 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
 
   private int maxFragmentSize;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
+  private ExecutableProcessCache executableProcessCache = new ExecutableProcessCache();
+  private DeploymentResourcePreparer deploymentResourcePreparer = new DeploymentResourcePreparer();
 
   public ProcessingContext() {
     streamWriterProxy.wrap(logStreamWriter);
@@ -132,6 +136,18 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext executableProcessCache(
+      final ExecutableProcessCache executableProcessCache) {
+    this.executableProcessCache = executableProcessCache;
+    return this;
+  }
+
+  public ProcessingContext deploymentResourcePreparer(
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
+    this.deploymentResourcePreparer = deploymentResourcePreparer;
+    return this;
+  }
+
   public KeyGeneratorControls getKeyGeneratorControls() {
     return zeebeState.getKeyGeneratorControls();
   }
@@ -215,6 +231,14 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     streamWriterProxy.wrap(noopTypedStreamWriter);
   }
 
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  public DeploymentResourcePreparer getDeploymentResourcePreparer() {
+    return deploymentResourcePreparer;
+  }
+
   public StreamProcessorMode getProcessorMode() {
     return streamProcessorMode;
   }
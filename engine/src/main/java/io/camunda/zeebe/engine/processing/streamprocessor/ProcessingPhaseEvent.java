@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for a phase of processing a command, i.e. process, writeEvent,
+ * updateState or executeSideEffects. A phase which runs asynchronously, e.g. which is retried, is
+ * measured until its completion. Only phases which take longer than the threshold are recorded.
+ */
+@Name("io.camunda.zeebe.ProcessingPhase")
+@Label("Processing Phase")
+@Category({"Zeebe", "Stream Processing"})
+@Description("A phase of processing a command on the leader")
+@Threshold("10 ms")
+@StackTrace(false)
+final class ProcessingPhaseEvent extends Event {
+
+  static final String PROCESS = "process";
+  static final String WRITE_EVENT = "writeEvent";
+  static final String UPDATE_STATE = "updateState";
+  static final String EXECUTE_SIDE_EFFECTS = "executeSideEffects";
+
+  @Label("Partition")
+  int partitionId;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Position")
+  long position;
+
+  @Label("Value Type")
+  String valueType;
+
+  @Label("Intent")
+  String intent;
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.engine.metrics.RecordLatencyMetrics;
 import io.camunda.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
 import io.camunda.zeebe.util.exception.RecoverableException;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
 import io.camunda.zeebe.util.retry.AbortableRetryStrategy;
 import io.camunda.zeebe.util.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.util.retry.RetryStrategy;
@@ -127,6 +129,7 @@ public final class ProcessingStateMachine {
   private final RecordProcessorMap recordProcessorMap;
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
+  private final RecordLatencyMetrics latencyMetrics;
   private final StreamProcessorListener streamProcessorListener;
 
   // current iteration
@@ -141,6 +144,9 @@ public final class ProcessingStateMachine {
   private int onErrorRetries;
   // Used for processing duration metrics
   private Histogram.Timer processingTimer;
+  // Used for record latency metrics
+  private long processingStartTime;
+  private long processedTime;
 
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
@@ -166,6 +172,7 @@ public final class ProcessingStateMachine {
     responseWriter = context.getWriters().response();
 
     metrics = new StreamProcessorMetrics(partitionId);
+    latencyMetrics = new RecordLatencyMetrics(partitionId);
     streamProcessorListener = context.getStreamProcessorListener();
   }
 
@@ -209,7 +216,7 @@ public final class ProcessingStateMachine {
     // Here we need to get the current time, since we want to calculate
     // how long it took between writing to the dispatcher and processing.
     // In all other cases we should prefer to use the Prometheus Timer API.
-    final var processingStartTime = ActorClock.currentTimeMillis();
+    processingStartTime = ActorClock.currentTimeMillis();
     processingTimer = metrics.startProcessingDurationTimer(metadata.getRecordType());
 
     try {
@@ -249,27 +256,33 @@ public final class ProcessingStateMachine {
   }
 
   private void processInTransaction(final TypedEventImpl typedRecord) throws Exception {
-    zeebeDbTransaction = transactionContext.getCurrentTransaction();
-    zeebeDbTransaction.run(
-        () -> {
-          final long position = typedRecord.getPosition();
-          resetOutput(position);
-
-          // default side effect is responses; can be changed by processor
-          sideEffectProducer = responseWriter;
-          final boolean isNotOnBlacklist =
-              !zeebeState.getBlackListState().isOnBlacklist(typedRecord);
-          if (isNotOnBlacklist) {
-            currentProcessor.processRecord(
-                position,
-                typedRecord,
-                responseWriter,
-                logStreamWriter,
-                this::setSideEffectProducer);
-          }
-
-          lastProcessedPositionState.markAsProcessed(position);
-        });
+    final var phaseEvent =
+        FlightRecorderEvents.beginIfEnabled(ProcessingPhaseEvent.class, ProcessingPhaseEvent::new);
+    try {
+      zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      zeebeDbTransaction.run(
+          () -> {
+            final long position = typedRecord.getPosition();
+            resetOutput(position);
+
+            // default side effect is responses; can be changed by processor
+            sideEffectProducer = responseWriter;
+            final boolean isNotOnBlacklist =
+                !zeebeState.getBlackListState().isOnBlacklist(typedRecord);
+            if (isNotOnBlacklist) {
+              currentProcessor.processRecord(
+                  position,
+                  typedRecord,
+                  responseWriter,
+                  logStreamWriter,
+                  this::setSideEffectProducer);
+            }
+
+            lastProcessedPositionState.markAsProcessed(position);
+          });
+    } finally {
+      endPhase(phaseEvent, ProcessingPhaseEvent.PROCESS);
+    }
   }
 
   private void resetOutput(final long sourceRecordPosition) {
@@ -341,6 +354,8 @@ public final class ProcessingStateMachine {
   }
 
   private void writeEvent() {
+    final var phaseEvent =
+        FlightRecorderEvents.beginIfEnabled(ProcessingPhaseEvent.class, ProcessingPhaseEvent::new);
     final ActorFuture<Boolean> retryFuture =
         writeRetryStrategy.runWithRetry(
             () -> {
@@ -358,6 +373,7 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, t) -> {
+          endPhase(phaseEvent, ProcessingPhaseEvent.WRITE_EVENT);
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, metadata, t);
             onError(t, this::writeEvent);
@@ -373,6 +389,8 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    final var phaseEvent =
+        FlightRecorderEvents.beginIfEnabled(ProcessingPhaseEvent.class, ProcessingPhaseEvent::new);
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
@@ -387,22 +405,27 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
+          endPhase(phaseEvent, ProcessingPhaseEvent.UPDATE_STATE);
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, metadata, throwable);
             onError(throwable, this::updateState);
           } else {
+            processedTime = ActorClock.currentTimeMillis();
             executeSideEffects();
           }
         });
   }
 
   private void executeSideEffects() {
+    final var phaseEvent =
+        FlightRecorderEvents.beginIfEnabled(ProcessingPhaseEvent.class, ProcessingPhaseEvent::new);
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(sideEffectProducer::flush, abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
+          endPhase(phaseEvent, ProcessingPhaseEvent.EXECUTE_SIDE_EFFECTS);
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, metadata, throwable);
           }
@@ -411,6 +434,7 @@ public final class ProcessingStateMachine {
 
           // observe the processing duration
           processingTimer.close();
+          observeRecordLatency();
 
           // continue with next event
           currentProcessor = null;
@@ -418,6 +442,48 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void endPhase(final ProcessingPhaseEvent phaseEvent, final String phase) {
+    if (phaseEvent == null) {
+      return;
+    }
+
+    phaseEvent.end();
+    // the fields are only filled if the phase took longer than the threshold of the event
+    if (phaseEvent.shouldCommit()) {
+      phaseEvent.partitionId = logStream.getPartitionId();
+      phaseEvent.phase = phase;
+      phaseEvent.position = currentEvent.getPosition();
+      phaseEvent.valueType = metadata.getValueType().name();
+      phaseEvent.intent = metadata.getIntent().name();
+      phaseEvent.commit();
+    }
+  }
+
+  private void observeRecordLatency() {
+    final long position = currentEvent.getPosition();
+    if (!latencyMetrics.isSampled(position)) {
+      return;
+    }
+
+    final long commitTime = logStream.getCommitTimestamp(position);
+    final long respondedTime =
+        typedEvent.hasRequestMetadata()
+            ? ActorClock.currentTimeMillis()
+            : RecordLatencyMetrics.NO_TIMESTAMP;
+
+    latencyMetrics.processed(
+        position,
+        metadata.getValueType(),
+        metadata.getIntent(),
+        currentEvent.getTimestamp(),
+        commitTime != LogStream.UNKNOWN_COMMIT_TIMESTAMP
+            ? commitTime
+            : RecordLatencyMetrics.NO_TIMESTAMP,
+        processingStartTime,
+        processedTime,
+        respondedTime);
+  }
+
   private void notifyProcessedListener(final TypedRecord processedRecord) {
     try {
       streamProcessorListener.onProcessed(processedRecord);
@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for replaying a batch of events, including its retries. Only batches
+ * which take longer than the threshold are recorded.
+ */
+@Name("io.camunda.zeebe.ReplayBatch")
+@Label("Replay Batch")
+@Category({"Zeebe", "Stream Processing"})
+@Description("Replaying a batch of events, which were written by the same command")
+@Threshold("10 ms")
+@StackTrace(false)
+final class ReplayBatchEvent extends Event {
+
+  @Label("Partition")
+  int partitionId;
+
+  @Label("Source Position")
+  @Description("The position of the command which caused the events of the batch")
+  long sourcePosition;
+}
@@ -25,6 +25,7 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
 import io.camunda.zeebe.util.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.util.retry.RetryStrategy;
 import io.camunda.zeebe.util.sched.ActorControl;
@@ -157,6 +158,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+        final var replayBatchEvent =
+            FlightRecorderEvents.beginIfEnabled(ReplayBatchEvent.class, ReplayBatchEvent::new);
         final var batch = logStreamBatchReader.next();
         replayStrategy
             .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
@@ -167,6 +170,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
+                    commitReplayBatchEvent(replayBatchEvent);
                     // the position should be visible only after the batch is replayed successfully
                     lastSourceEventPosition =
                         Math.max(lastSourceEventPosition, batchSourceEventPosition);
@@ -193,6 +197,19 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  private void commitReplayBatchEvent(final ReplayBatchEvent replayBatchEvent) {
+    if (replayBatchEvent == null) {
+      return;
+    }
+
+    replayBatchEvent.end();
+    if (replayBatchEvent.shouldCommit()) {
+      replayBatchEvent.partitionId = logStream.getPartitionId();
+      replayBatchEvent.sourcePosition = batchSourceEventPosition;
+      replayBatchEvent.commit();
+    }
+  }
+
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
@@ -294,7 +294,12 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
 
   private ZeebeDbState recoverState() {
     final TransactionContext transactionContext = zeebeDb.createContext();
-    final ZeebeDbState zeebeState = new ZeebeDbState(partitionId, zeebeDb, transactionContext);
+    final ZeebeDbState zeebeState =
+        new ZeebeDbState(
+            partitionId,
+            zeebeDb,
+            transactionContext,
+            processingContext.getExecutableProcessCache());
 
     processingContext.transactionContext(transactionContext);
     processingContext.zeebeState(zeebeState);
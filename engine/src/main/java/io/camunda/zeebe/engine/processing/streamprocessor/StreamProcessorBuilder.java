@@ -8,8 +8,10 @@
 package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourcePreparer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.EventApplier;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.util.sched.ActorSchedulingService;
@@ -81,6 +83,18 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder executableProcessCache(
+      final ExecutableProcessCache executableProcessCache) {
+    processingContext.executableProcessCache(executableProcessCache);
+    return this;
+  }
+
+  public StreamProcessorBuilder deploymentResourcePreparer(
+      final DeploymentResourcePreparer deploymentResourcePreparer) {
+    processingContext.deploymentResourcePreparer(deploymentResourcePreparer);
+    return this;
+  }
+
   public TypedRecordProcessorFactory getTypedRecordProcessorFactory() {
     return typedRecordProcessorFactory;
   }
@@ -87,5 +87,11 @@ public enum ZbColumnFamilies {
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT
+  AWAIT_WORKLOW_RESULT,
+
+  EXPORTER_SPILLED_POSITION,
+
+  // large variable values
+  VARIABLE_VALUES,
+  VARIABLE_VALUE_REFERENCES
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbEventScopeInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbIncidentState;
@@ -82,20 +83,30 @@ public class ZeebeDbState implements MutableZeebeState {
       final int partitionId,
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext) {
+    this(partitionId, zeebeDb, transactionContext, new ExecutableProcessCache());
+  }
+
+  public ZeebeDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final ExecutableProcessCache executableProcessCache) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyGenerator = new DbKeyGenerator(partitionId, zeebeDb, transactionContext);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
+    processState = new DbProcessState(zeebeDb, transactionContext, executableProcessCache);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
-    elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
+    elementInstanceState =
+        new DbElementInstanceState(zeebeDb, transactionContext, variableState, partitionId);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     jobState = new DbJobState(zeebeDb, transactionContext, partitionId);
-    messageState = new DbMessageState(zeebeDb, transactionContext);
-    messageSubscriptionState = new DbMessageSubscriptionState(zeebeDb, transactionContext);
+    messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
+    messageSubscriptionState =
+        new DbMessageSubscriptionState(zeebeDb, transactionContext, partitionId);
     messageStartEventSubscriptionState =
         new DbMessageStartEventSubscriptionState(zeebeDb, transactionContext);
     processMessageSubscriptionState =
@@ -45,6 +45,7 @@ public final class DbProcessState implements MutableProcessState {
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+  private final ExecutableProcessCache executableProcessCache;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
@@ -69,7 +70,10 @@ public final class DbProcessState implements MutableProcessState {
   private final NextValueManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final ExecutableProcessCache executableProcessCache) {
+    this.executableProcessCache = executableProcessCache;
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     processColumnFamily =
@@ -164,9 +168,12 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+    // the resource was usually transformed already on deployment, or by another partition
+    final DirectBuffer resource = copiedProcess.getResource();
+    final List<ExecutableProcess> definitions =
+        executableProcessCache.computeIfAbsent(
+            resource,
+            () -> transformer.transformDefinitions(readModelInstanceFromBuffer(resource)));
 
     final ExecutableProcess executableProcess =
         definitions.stream()
@@ -183,7 +190,7 @@ public final class DbProcessState implements MutableProcessState {
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      return Bpmn.readModelFromStreamInSinglePass(stream);
     }
   }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the executable processes of the deployed BPMN resources, so that a resource is parsed,
+ * validated and transformed only once, and not again by every partition which uses it. The
+ * resources are identified by their content.
+ *
+ * <p>The cache can be shared by the partitions of a broker. It is thread safe, and the executable
+ * processes are not modified after their transformation, so that they can be used by multiple
+ * stream processors. The least recently used resources are evicted if the capacity is reached.
+ */
+public final class ExecutableProcessCache {
+
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private final Map<DirectBuffer, List<ExecutableProcess>> processesByResource;
+
+  public ExecutableProcessCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ExecutableProcessCache(final int capacity) {
+    processesByResource =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              final Entry<DirectBuffer, List<ExecutableProcess>> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * Returns the executable processes of the given resource. If the resource is not cached yet, then
+   * it is transformed by the given transformer and cached. The transformation is not done under the
+   * lock of the cache; if two partitions transform the same resource concurrently, then both get
+   * the result which was cached first.
+   *
+   * @param resource the BPMN resource
+   * @param transformer parses and transforms the resource; it is only called if the resource is not
+   *     cached yet
+   * @return the executable processes of the resource
+   */
+  public List<ExecutableProcess> computeIfAbsent(
+      final DirectBuffer resource, final Supplier<List<ExecutableProcess>> transformer) {
+    final var cachedProcesses = get(resource);
+    if (cachedProcesses != null) {
+      return cachedProcesses;
+    }
+
+    final var processes = List.copyOf(transformer.get());
+    synchronized (processesByResource) {
+      final var key = new UnsafeBuffer(BufferUtil.bufferAsArray(resource));
+      final var existingProcesses = processesByResource.putIfAbsent(key, processes);
+      return existingProcesses != null ? existingProcesses : processes;
+    }
+  }
+
+  /** @return the cached executable processes of the given resource, or {@code null} */
+  public List<ExecutableProcess> get(final DirectBuffer resource) {
+    final var key = new UnsafeBuffer(resource, 0, resource.capacity());
+    synchronized (processesByResource) {
+      return processesByResource.get(key);
+    }
+  }
+
+  public int size() {
+    synchronized (processesByResource) {
+      return processesByResource.size();
+    }
+  }
+}
@@ -18,6 +18,18 @@ public interface ElementInstanceState {
 
   List<ElementInstance> getChildren(long parentKey);
 
+  /**
+   * Visits the children of the given element instance whose keys are lower than the given upper
+   * bound in descending order of their keys, until the visitor returns {@code false}. Unlike {@link
+   * #getChildren(long)}, only the visited children are read from the state.
+   *
+   * @param parentKey the key of the element instance to visit the children of
+   * @param upperBoundKey the exclusive upper bound of the keys of the visited children
+   * @param visitor the visitor which is invoked for each child
+   */
+  void visitChildrenDescending(
+      long parentKey, long upperBoundKey, ElementInstanceVisitor visitor);
+
   AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(long processInstanceKey);
 
   /**
@@ -31,4 +43,9 @@ public interface ElementInstanceState {
    * @return the number of taken sequence flows of the given gateway
    */
   int getNumberOfTakenSequenceFlows(final long flowScopeKey, final DirectBuffer gatewayElementId);
+
+  @FunctionalInterface
+  interface ElementInstanceVisitor {
+    boolean visit(ElementInstance elementInstance);
+  }
 }
@@ -26,7 +26,11 @@ public interface JobState {
 
   JobRecord getJob(long key);
 
-  void setJobsAvailableCallback(Consumer<String> callback);
+  /**
+   * Sets the callback which is invoked every time a job becomes activatable, with the type of the
+   * job. The buffer is only valid during the invocation and must be copied if it is retained.
+   */
+  void setJobsAvailableCallback(Consumer<DirectBuffer> callback);
 
   enum State {
     ACTIVATABLE((byte) 0),
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
+import org.agrona.collections.Long2ObjectCache;
+
+/**
+ * A bounded, set associative cache with primitive long keys, which counts its hits, misses and
+ * evictions. When a set is full, the least recently used entry of the set is evicted.
+ *
+ * <p>The cache is not thread safe; it is meant to be used by the stream processor only.
+ */
+final class BoundedLongCache<V> {
+
+  private final Long2ObjectCache<V> cache;
+  private final StateCacheMetrics metrics;
+
+  // the underlying cache calls the eviction consumer also for removed and replaced entries
+  private boolean isRemovingExplicitly;
+
+  BoundedLongCache(final int numSets, final int setSize, final StateCacheMetrics metrics) {
+    this.metrics = metrics;
+    cache = new Long2ObjectCache<>(numSets, setSize, this::onEviction);
+  }
+
+  private BoundedLongCache() {
+    metrics = null;
+    cache = null;
+  }
+
+  /**
+   * @return a cache which never holds a value, for states whose writes are not visible to them,
+   *     e.g. because they are made through another state instance
+   */
+  static <V> BoundedLongCache<V> disabled() {
+    return new BoundedLongCache<>();
+  }
+
+  V get(final long key) {
+    if (cache == null) {
+      return null;
+    }
+
+    final V value = cache.get(key);
+    if (value != null) {
+      metrics.countHit();
+    } else {
+      metrics.countMiss();
+    }
+    return value;
+  }
+
+  /** @return the cached value, without counting it as hit or miss */
+  V peek(final long key) {
+    return cache == null ? null : cache.get(key);
+  }
+
+  void put(final long key, final V value) {
+    if (cache == null) {
+      return;
+    }
+
+    isRemovingExplicitly = cache.containsKey(key);
+    try {
+      cache.put(key, value);
+    } finally {
+      isRemovingExplicitly = false;
+    }
+  }
+
+  void remove(final long key) {
+    if (cache == null) {
+      return;
+    }
+
+    isRemovingExplicitly = true;
+    try {
+      cache.remove(key);
+    } finally {
+      isRemovingExplicitly = false;
+    }
+  }
+
+  void clear() {
+    if (cache == null) {
+      return;
+    }
+
+    isRemovingExplicitly = true;
+    try {
+      cache.clear();
+    } finally {
+      isRemovingExplicitly = false;
+    }
+  }
+
+  int size() {
+    return cache == null ? 0 : cache.size();
+  }
+
+  private void onEviction(final V value) {
+    if (!isRemovingExplicitly) {
+      metrics.countEviction();
+    }
+  }
+}
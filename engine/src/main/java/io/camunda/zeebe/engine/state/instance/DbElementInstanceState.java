@@ -15,7 +15,9 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
@@ -24,11 +26,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
 
+  // 16384 element instances and the children keys of 1024 element instances
+  private static final int INSTANCE_CACHE_SETS = 2048;
+  private static final int INSTANCE_CACHE_SET_SIZE = 8;
+  private static final int CHILDREN_CACHE_SETS = 256;
+  private static final int CHILDREN_CACHE_SET_SIZE = 4;
+
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> parentChildColumnFamily;
   private final DbCompositeKey<DbLong, DbLong> parentChildKey;
   private final DbLong parentKey;
@@ -56,12 +65,46 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   private final MutableVariableState variableState;
 
+  /**
+   * Read-through caches in front of the element instance and parent-child column families. The
+   * instance cache holds the serialized element instances, the children cache the sorted keys of
+   * the children of an element instance. Both are updated on every write; as they can contain
+   * uncommitted writes, they are cleared when a transaction is rolled back.
+   */
+  private final BoundedLongCache<byte[]> instanceCache;
+
+  private final BoundedLongCache<LongArrayList> childrenCache;
+
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final MutableVariableState variableState) {
+      final MutableVariableState variableState,
+      final int partitionId) {
+    this(
+        zeebeDb,
+        transactionContext,
+        variableState,
+        new BoundedLongCache<>(
+            INSTANCE_CACHE_SETS,
+            INSTANCE_CACHE_SET_SIZE,
+            new StateCacheMetrics(partitionId, "element-instance")),
+        new BoundedLongCache<>(
+            CHILDREN_CACHE_SETS,
+            CHILDREN_CACHE_SET_SIZE,
+            new StateCacheMetrics(partitionId, "element-instance-children")));
+    transactionContext.addRollbackListener(this::clearCaches);
+  }
+
+  private DbElementInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final MutableVariableState variableState,
+      final BoundedLongCache<byte[]> instanceCache,
+      final BoundedLongCache<LongArrayList> childrenCache) {
 
     this.variableState = variableState;
+    this.instanceCache = instanceCache;
+    this.childrenCache = childrenCache;
 
     elementInstanceKey = new DbLong();
     parentKey = new DbLong();
@@ -100,6 +143,23 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             numberOfTakenSequenceFlows);
   }
 
+  /**
+   * Creates a state which reads the element instances directly from the database, without caching
+   * them. It is meant for readers of the database which don't see the writes of the stream
+   * processor, e.g. the query service, since these writes don't update their caches.
+   */
+  public static ElementInstanceState uncached(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final MutableVariableState variableState) {
+    return new DbElementInstanceState(
+        zeebeDb,
+        transactionContext,
+        variableState,
+        BoundedLongCache.disabled(),
+        BoundedLongCache.disabled());
+  }
+
   @Override
   public ElementInstance newInstance(
       final long key, final ProcessInstanceRecord value, final ProcessInstanceIntent state) {
@@ -135,6 +195,9 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
       parentChildColumnFamily.delete(parentChildKey);
       elementInstanceColumnFamily.delete(elementInstanceKey);
+      instanceCache.remove(key);
+      childrenCache.remove(key);
+      removeCachedChild(instance.getParentKey(), key);
 
       variableState.removeScope(key);
 
@@ -221,13 +284,27 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceColumnFamily.put(elementInstanceKey, instance);
     parentChildColumnFamily.put(parentChildKey, DbNil.INSTANCE);
     variableState.createScope(elementInstanceKey.getValue(), parentKey.getValue());
+
+    instanceCache.put(instance.getKey(), serialize(instance));
+    addCachedChild(instance.getParentKey(), instance.getKey());
   }
 
   @Override
   public ElementInstance getInstance(final long key) {
+    final byte[] cachedInstance = instanceCache.get(key);
+    if (cachedInstance != null) {
+      return deserialize(cachedInstance);
+    }
+
     elementInstanceKey.wrapLong(key);
     final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    if (elementInstance == null) {
+      return null;
+    }
+
+    final byte[] serializedInstance = serialize(elementInstance);
+    instanceCache.put(key, serializedInstance);
+    return deserialize(serializedInstance);
   }
 
   @Override
@@ -235,19 +312,91 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     final List<ElementInstance> children = new ArrayList<>();
     final ElementInstance parentInstance = getInstance(parentKey);
     if (parentInstance != null) {
-      this.parentKey.wrapLong(parentKey);
+      final LongArrayList childKeys = getChildKeys(parentKey);
+      for (int i = 0; i < childKeys.size(); i++) {
+        final ElementInstance childInstance = getInstance(childKeys.getLong(i));
+        if (childInstance != null) {
+          children.add(childInstance);
+        }
+      }
+    }
+    return children;
+  }
 
-      parentChildColumnFamily.whileEqualPrefix(
-          this.parentKey,
-          (key, value) -> {
-            final DbLong childKey = key.getSecond();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
+  @Override
+  public void visitChildrenDescending(
+      final long parentKey, final long upperBoundKey, final ElementInstanceVisitor visitor) {
+    final LongArrayList childKeys = getChildKeys(parentKey);
+    final int index = binarySearch(childKeys, upperBoundKey);
+    // start with the highest key which is lower than the upper bound
+    final int startIndex = index >= 0 ? index - 1 : -(index + 1) - 1;
+    for (int i = startIndex; i >= 0; i--) {
+      final ElementInstance childInstance = getInstance(childKeys.getLong(i));
+      if (childInstance != null && !visitor.visit(childInstance)) {
+        return;
+      }
+    }
+  }
 
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
-          });
+  private LongArrayList getChildKeys(final long parentKey) {
+    final LongArrayList cachedChildKeys = childrenCache.get(parentKey);
+    if (cachedChildKeys != null) {
+      return cachedChildKeys;
     }
-    return children;
+
+    // the keys are visited in ascending order, as the element instance keys are positive
+    final LongArrayList childKeys = new LongArrayList();
+    this.parentKey.wrapLong(parentKey);
+    parentChildColumnFamily.whileEqualPrefix(
+        this.parentKey,
+        (key, value) -> {
+          childKeys.addLong(key.getSecond().getValue());
+        });
+
+    childrenCache.put(parentKey, childKeys);
+    return childKeys;
+  }
+
+  private void addCachedChild(final long parentKey, final long childKey) {
+    final LongArrayList childKeys = childrenCache.peek(parentKey);
+    if (childKeys != null) {
+      final int index = binarySearch(childKeys, childKey);
+      if (index < 0) {
+        childKeys.addLong(-(index + 1), childKey);
+      }
+    }
+  }
+
+  private void removeCachedChild(final long parentKey, final long childKey) {
+    final LongArrayList childKeys = childrenCache.peek(parentKey);
+    if (childKeys != null) {
+      final int index = binarySearch(childKeys, childKey);
+      if (index >= 0) {
+        childKeys.remove(index);
+      }
+    }
+  }
+
+  private static int binarySearch(final LongArrayList sortedKeys, final long key) {
+    int low = 0;
+    int high = sortedKeys.size() - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final long middleKey = sortedKeys.getLong(middle);
+      if (middleKey < key) {
+        low = middle + 1;
+      } else if (middleKey > key) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private void clearCaches() {
+    instanceCache.clear();
+    childrenCache.clear();
   }
 
   @Override
@@ -273,17 +422,21 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return count.get();
   }
 
-  private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
-    if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+  private static byte[] serialize(final ElementInstance elementInstance) {
+    final byte[] bytes = new byte[elementInstance.getLength()];
+    elementInstance.write(new UnsafeBuffer(bytes), 0);
+    return bytes;
+  }
 
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
-    }
-    return null;
+  /**
+   * Returns a new element instance, which is read from the given bytes. The bytes may be shared
+   * with the cache, but they are never modified, as the element instance copies its properties on
+   * modification.
+   */
+  private static ElementInstance deserialize(final byte[] bytes) {
+    final ElementInstance elementInstance = new ElementInstance();
+    elementInstance.wrap(new UnsafeBuffer(bytes), 0, bytes.length);
+    return elementInstance;
   }
 
   private void removeNumberOfTakenSequenceFlows(final long flowScopeKey) {
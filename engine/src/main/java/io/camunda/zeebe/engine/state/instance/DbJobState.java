@@ -21,7 +21,6 @@ import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
-import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
@@ -56,7 +55,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private final JobMetrics metrics;
 
-  private Consumer<String> onJobsAvailableCallback;
+  private Consumer<DirectBuffer> onJobsAvailableCallback;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
@@ -277,7 +276,7 @@ public final class DbJobState implements JobState, MutableJobState {
   }
 
   @Override
-  public void setJobsAvailableCallback(final Consumer<String> onJobsAvailableCallback) {
+  public void setJobsAvailableCallback(final Consumer<DirectBuffer> onJobsAvailableCallback) {
     this.onJobsAvailableCallback = onJobsAvailableCallback;
   }
 
@@ -296,7 +295,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private void notifyJobAvailable(final DirectBuffer jobType) {
     if (onJobsAvailableCallback != null) {
-      onJobsAvailableCallback.accept(BufferUtil.bufferAsString(jobType));
+      onJobsAvailableCallback.accept(jobType);
     }
   }
 
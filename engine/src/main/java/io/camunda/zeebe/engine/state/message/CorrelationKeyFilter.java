@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import io.camunda.zeebe.engine.metrics.CorrelationKeyFilterMetrics;
+import java.util.Arrays;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * An in-memory counting Bloom filter over pairs of buffers, e.g. message name and correlation key.
+ * It is used to skip the lookups in the state if no entry can exist for a pair. A lookup may return
+ * a false positive, but never a false negative.
+ *
+ * <p>The filter is disabled until its size is set; a disabled filter holds no counters and every
+ * entry might be contained in it. It is only enabled for the state of the stream processor, since
+ * other readers of the state don't see its changes.
+ *
+ * <p>The filter is loaded lazily from the state by the given loader, on the first lookup. It must
+ * be kept up to date by adding and removing each entry which is put into or deleted from the state,
+ * and must be notified when a transaction is committed or rolled back. On a rollback, the removals
+ * of the transaction are undone, while its additions are kept, which can only result in false
+ * positives. Only if the filter was loaded in the rolled back transaction, it is loaded again on
+ * the next lookup, since it may have been loaded from uncommitted changes.
+ *
+ * <p>The counters saturate at 255; a saturated counter is never decremented again, which can only
+ * result in false positives.
+ *
+ * <p>The filter is not thread safe; it is meant to be used by the stream processor only.
+ */
+final class CorrelationKeyFilter {
+
+  private static final int NUM_HASHES = 3;
+  private static final int MAX_COUNT = 0xFF;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final Runnable loader;
+  private final CorrelationKeyFilterMetrics metrics;
+  private final int[] indexes = new int[NUM_HASHES];
+  // the indexes of the counters which were decremented in the current transaction
+  private final IntArrayList decrementedIndexes = new IntArrayList();
+  private int numCounters;
+  private int mask;
+  private byte[] counters;
+  private boolean isLoaded;
+  private boolean isLoadedInTransaction;
+
+  /**
+   * @param loader adds all entries of the state to the filter
+   * @param metrics the metrics of the filter
+   */
+  CorrelationKeyFilter(final Runnable loader, final CorrelationKeyFilterMetrics metrics) {
+    this.loader = loader;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Sets the number of counters, i.e. the size of the filter in bytes. The counters are allocated
+   * on the next lookup.
+   *
+   * @param numCounters the number of counters, must be a power of two, or 0 to disable the filter
+   */
+  void setNumCounters(final int numCounters) {
+    if (numCounters != 0 && Integer.bitCount(numCounters) != 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the number of counters to be 0 or a power of two, but was %d",
+              numCounters));
+    }
+
+    this.numCounters = numCounters;
+    mask = numCounters - 1;
+    counters = null;
+    invalidate();
+  }
+
+  boolean isEnabled() {
+    return numCounters > 0;
+  }
+
+  void add(final DirectBuffer first, final DirectBuffer second) {
+    if (!isLoaded) {
+      return;
+    }
+
+    computeIndexes(first, second);
+    for (final int index : indexes) {
+      final int count = Byte.toUnsignedInt(counters[index]);
+      if (count < MAX_COUNT) {
+        counters[index] = (byte) (count + 1);
+      }
+    }
+  }
+
+  /** Must only be called for an entry which was added before and is not removed yet. */
+  void remove(final DirectBuffer first, final DirectBuffer second) {
+    if (!isLoaded) {
+      return;
+    }
+
+    computeIndexes(first, second);
+    for (final int index : indexes) {
+      final int count = Byte.toUnsignedInt(counters[index]);
+      if (count > 0 && count < MAX_COUNT) {
+        counters[index] = (byte) (count - 1);
+        decrementedIndexes.addInt(index);
+      }
+    }
+  }
+
+  /**
+   * @return {@code false} if no entry exists for the given pair, or {@code true} if an entry may
+   *     exist for it
+   */
+  boolean mightContain(final DirectBuffer first, final DirectBuffer second) {
+    if (!isEnabled()) {
+      return true;
+    }
+
+    ensureLoaded();
+
+    computeIndexes(first, second);
+    for (final int index : indexes) {
+      if (counters[index] == 0) {
+        metrics.countNegative();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records the result of the lookup in the state, after {@link #mightContain(DirectBuffer,
+   * DirectBuffer)} returned {@code true}.
+   *
+   * @param found {@code true} if an entry was found in the state
+   */
+  void recordLookup(final boolean found) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    if (found) {
+      metrics.countTruePositive();
+    } else {
+      metrics.countFalsePositive();
+    }
+  }
+
+  /** Keeps the changes of the committed transaction. */
+  void onCommit() {
+    decrementedIndexes.clear();
+    isLoadedInTransaction = false;
+  }
+
+  /** Undoes the removals of the rolled back transaction. */
+  void onRollback() {
+    if (isLoadedInTransaction) {
+      invalidate();
+      return;
+    }
+
+    for (int i = 0; i < decrementedIndexes.size(); i++) {
+      final int index = decrementedIndexes.getInt(i);
+      final int count = Byte.toUnsignedInt(counters[index]);
+      if (count < MAX_COUNT) {
+        counters[index] = (byte) (count + 1);
+      }
+    }
+    decrementedIndexes.clear();
+  }
+
+  /** Drops all entries; the filter is loaded again from the state on the next lookup. */
+  void invalidate() {
+    isLoaded = false;
+    isLoadedInTransaction = false;
+    decrementedIndexes.clear();
+  }
+
+  private void ensureLoaded() {
+    if (isLoaded) {
+      return;
+    }
+
+    if (counters == null) {
+      counters = new byte[numCounters];
+    } else {
+      Arrays.fill(counters, (byte) 0);
+    }
+    isLoaded = true;
+    isLoadedInTransaction = true;
+    try {
+      loader.run();
+      metrics.countRebuild();
+    } catch (final RuntimeException e) {
+      isLoaded = false;
+      throw e;
+    }
+  }
+
+  private void computeIndexes(final DirectBuffer first, final DirectBuffer second) {
+    long hash = hash(FNV_OFFSET_BASIS, first);
+    // include the length to distinguish e.g. ("ab", "c") from ("a", "bc")
+    hash = (hash ^ first.capacity()) * FNV_PRIME;
+    hash = mix(hash(hash, second));
+
+    // double hashing: derive all indexes from two halves of the hash
+    final int hash1 = (int) hash;
+    final int hash2 = (int) (hash >>> 32) | 1;
+    for (int i = 0; i < NUM_HASHES; i++) {
+      indexes[i] = (hash1 + i * hash2) & mask;
+    }
+  }
+
+  private static long hash(final long seed, final DirectBuffer buffer) {
+    long hash = seed;
+    for (int i = 0; i < buffer.capacity(); i++) {
+      hash = (hash ^ buffer.getByte(i)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  // the finalization step of MurmurHash3, to spread the bits of the FNV hash
+  private static long mix(final long hash) {
+    long h = hash;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -17,6 +17,7 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.CorrelationKeyFilterMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -97,8 +98,19 @@ public final class DbMessageState implements MutableMessageState {
 
   private final ColumnFamily<DbLong, DbString> processInstanceCorrelationKeyColumnFamiliy;
 
+  /**
+   * in-memory filters of the name and correlation key of the messages, and of the bpmn process id
+   * and correlation key of the active process instances, to skip the lookups if no entry can exist
+   */
+  private final CorrelationKeyFilter messageFilter;
+
+  private final CorrelationKeyFilter activeProcessInstanceFilter;
+  private boolean hasVisitedMessage;
+
   public DbMessageState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     messageKey = new DbLong();
     message = new StoredMessage();
     messageColumnFamily =
@@ -158,6 +170,30 @@ public final class DbMessageState implements MutableMessageState {
             transactionContext,
             processInstanceKey,
             correlationKey);
+
+    messageFilter =
+        new CorrelationKeyFilter(
+            this::loadMessageFilter, new CorrelationKeyFilterMetrics(partitionId, "message"));
+    activeProcessInstanceFilter =
+        new CorrelationKeyFilter(
+            this::loadActiveProcessInstanceFilter,
+            new CorrelationKeyFilterMetrics(partitionId, "active-process-instance"));
+    transactionContext.addCommitListener(
+        () -> {
+          messageFilter.onCommit();
+          activeProcessInstanceFilter.onCommit();
+        });
+    transactionContext.addRollbackListener(
+        () -> {
+          messageFilter.onRollback();
+          activeProcessInstanceFilter.onRollback();
+        });
+  }
+
+  @Override
+  public void setCorrelationKeyFilterSize(final int size) {
+    messageFilter.setNumCounters(size);
+    activeProcessInstanceFilter.setNumCounters(size);
   }
 
   @Override
@@ -169,6 +205,7 @@ public final class DbMessageState implements MutableMessageState {
     messageName.wrapBuffer(record.getNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     nameCorrelationMessageColumnFamily.put(nameCorrelationMessageKey, DbNil.INSTANCE);
+    messageFilter.add(record.getNameBuffer(), record.getCorrelationKeyBuffer());
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.put(deadlineMessageKey, DbNil.INSTANCE);
@@ -218,9 +255,16 @@ public final class DbMessageState implements MutableMessageState {
     ensureNotNullOrEmpty("BPMN process id", bpmnProcessId);
     ensureNotNullOrEmpty("correlation key", correlationKey);
 
+    if (!activeProcessInstanceFilter.mightContain(bpmnProcessId, correlationKey)) {
+      return false;
+    }
+
     bpmnProcessIdKey.wrapBuffer(bpmnProcessId);
     this.correlationKey.wrapBuffer(correlationKey);
-    return activeProcessInstancesByCorrelationKeyColumnFamiliy.exists(bpmnProcessIdCorrelationKey);
+    final boolean exists =
+        activeProcessInstancesByCorrelationKeyColumnFamiliy.exists(bpmnProcessIdCorrelationKey);
+    activeProcessInstanceFilter.recordLookup(exists);
+    return exists;
   }
 
   @Override
@@ -233,6 +277,9 @@ public final class DbMessageState implements MutableMessageState {
     this.correlationKey.wrapBuffer(correlationKey);
     activeProcessInstancesByCorrelationKeyColumnFamiliy.put(
         bpmnProcessIdCorrelationKey, DbNil.INSTANCE);
+    // putting an existing entry again counts it twice in the filter, which can only result in
+    // false positives; this is cheaper than to look it up on every put
+    activeProcessInstanceFilter.add(bpmnProcessId, correlationKey);
   }
 
   @Override
@@ -243,7 +290,14 @@ public final class DbMessageState implements MutableMessageState {
 
     bpmnProcessIdKey.wrapBuffer(bpmnProcessId);
     this.correlationKey.wrapBuffer(correlationKey);
-    activeProcessInstancesByCorrelationKeyColumnFamiliy.delete(bpmnProcessIdCorrelationKey);
+    // the filter must only count the removal of an existing entry
+    if (!activeProcessInstanceFilter.isEnabled()) {
+      activeProcessInstancesByCorrelationKeyColumnFamiliy.delete(bpmnProcessIdCorrelationKey);
+    } else if (activeProcessInstancesByCorrelationKeyColumnFamiliy.exists(
+        bpmnProcessIdCorrelationKey)) {
+      activeProcessInstancesByCorrelationKeyColumnFamiliy.delete(bpmnProcessIdCorrelationKey);
+      activeProcessInstanceFilter.remove(bpmnProcessId, correlationKey);
+    }
   }
 
   @Override
@@ -280,16 +334,23 @@ public final class DbMessageState implements MutableMessageState {
   public void visitMessages(
       final DirectBuffer name, final DirectBuffer correlationKey, final MessageVisitor visitor) {
 
+    if (!messageFilter.mightContain(name, correlationKey)) {
+      return;
+    }
+
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    hasVisitedMessage = false;
     nameCorrelationMessageColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
+          hasVisitedMessage = true;
           final long messageKey = compositeKey.getSecond().getValue();
           final StoredMessage message = getMessage(messageKey);
           return visitor.visit(message);
         });
+    messageFilter.recordLookup(hasVisitedMessage);
   }
 
   @Override
@@ -315,6 +376,11 @@ public final class DbMessageState implements MutableMessageState {
   @Override
   public boolean exist(
       final DirectBuffer name, final DirectBuffer correlationKey, final DirectBuffer messageId) {
+    // the message ids are stored and removed together with their messages
+    if (!messageFilter.mightContain(name, correlationKey)) {
+      return false;
+    }
+
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
     this.messageId.wrapBuffer(messageId);
@@ -336,6 +402,9 @@ public final class DbMessageState implements MutableMessageState {
     correlationKey.wrapBuffer(storedMessage.getMessage().getCorrelationKeyBuffer());
 
     nameCorrelationMessageColumnFamily.delete(nameCorrelationMessageKey);
+    messageFilter.remove(
+        storedMessage.getMessage().getNameBuffer(),
+        storedMessage.getMessage().getCorrelationKeyBuffer());
 
     final DirectBuffer messageId = storedMessage.getMessage().getMessageIdBuffer();
     if (messageId.capacity() > 0) {
@@ -352,4 +421,22 @@ public final class DbMessageState implements MutableMessageState {
           correlatedMessageColumnFamily.delete(compositeKey);
         }));
   }
+
+  private void loadMessageFilter() {
+    nameCorrelationMessageColumnFamily.forEach(
+        (compositeKey, nil) -> {
+          final var nameAndCorrelationKey = compositeKey.getFirst();
+          messageFilter.add(
+              nameAndCorrelationKey.getFirst().getBuffer(),
+              nameAndCorrelationKey.getSecond().getBuffer());
+        });
+  }
+
+  private void loadActiveProcessInstanceFilter() {
+    activeProcessInstancesByCorrelationKeyColumnFamiliy.forEach(
+        (bpmnProcessIdAndCorrelationKey, nil) ->
+            activeProcessInstanceFilter.add(
+                bpmnProcessIdAndCorrelationKey.getFirst().getBuffer(),
+                bpmnProcessIdAndCorrelationKey.getSecond().getBuffer()));
+  }
 }
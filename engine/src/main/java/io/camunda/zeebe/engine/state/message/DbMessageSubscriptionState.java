@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.CorrelationKeyFilterMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
@@ -44,11 +45,18 @@ public final class DbMessageSubscriptionState
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // (messageName, correlationKey) of all subscriptions, to skip the lookup of a published message
+  // if no subscription can match
+  private final CorrelationKeyFilter subscriptionFilter;
+  private boolean hasVisitedSubscription;
+
   private final PendingMessageSubscriptionState transientState =
       new PendingMessageSubscriptionState(this);
 
   public DbMessageSubscriptionState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
 
     elementInstanceKey = new DbLong();
     messageName = new DbString();
@@ -71,6 +79,18 @@ public final class DbMessageSubscriptionState
             transactionContext,
             nameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+
+    subscriptionFilter =
+        new CorrelationKeyFilter(
+            this::loadSubscriptionFilter,
+            new CorrelationKeyFilterMetrics(partitionId, "message-subscription"));
+    transactionContext.addCommitListener(subscriptionFilter::onCommit);
+    transactionContext.addRollbackListener(subscriptionFilter::onRollback);
+  }
+
+  @Override
+  public void setCorrelationKeyFilterSize(final int size) {
+    subscriptionFilter.setNumCounters(size);
   }
 
   @Override
@@ -96,14 +116,21 @@ public final class DbMessageSubscriptionState
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    if (!subscriptionFilter.mightContain(messageName, correlationKey)) {
+      return;
+    }
+
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    hasVisitedSubscription = false;
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
+          hasVisitedSubscription = true;
           return visitMessageSubscription(elementKeyAndMessageName, visitor);
         });
+    subscriptionFilter.recordLookup(hasVisitedSubscription);
   }
 
   @Override
@@ -127,6 +154,8 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.put(
         nameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+
+    subscriptionFilter.add(record.getMessageNameBuffer(), record.getCorrelationKeyBuffer());
   }
 
   @Override
@@ -183,10 +212,21 @@ public final class DbMessageSubscriptionState
     messageName.wrapBuffer(record.getMessageNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.delete(nameCorrelationAndElementInstanceKey);
+    subscriptionFilter.remove(record.getMessageNameBuffer(), record.getCorrelationKeyBuffer());
 
     transientState.remove(subscription.getRecord());
   }
 
+  private void loadSubscriptionFilter() {
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (compositeKey, nil) -> {
+          final var nameAndCorrelationKey = compositeKey.getFirst();
+          subscriptionFilter.add(
+              nameAndCorrelationKey.getFirst().getBuffer(),
+              nameAndCorrelationKey.getSecond().getBuffer());
+        });
+  }
+
   private void updateCorrelatingFlag(
       final MessageSubscription subscription, final boolean correlating) {
     final var record = subscription.getRecord();
@@ -13,6 +13,14 @@ import org.agrona.DirectBuffer;
 
 public interface MutableMessageState extends MessageState {
 
+  /**
+   * Sets the size of the in-memory filters, which are used to skip the lookups by correlation key
+   * if no entry can exist for it. The filters are allocated on the first lookup.
+   *
+   * @param size the size of each filter in bytes, must be a power of two, or 0 to disable them
+   */
+  void setCorrelationKeyFilterSize(int size);
+
   void put(long messageKey, MessageRecord message);
 
   void putMessageCorrelation(long messageKey, DirectBuffer bpmnProcessId);
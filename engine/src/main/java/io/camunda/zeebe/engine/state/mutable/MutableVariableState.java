@@ -56,6 +56,15 @@ public interface MutableVariableState extends VariableState {
       int valueOffset,
       int valueLength);
 
+  /**
+   * Sets the size from which on the values of variables are stored once, by their digest, and are
+   * shared by all variables with the same value. The values of existing variables are not affected.
+   *
+   * @param threshold the size in bytes from which on a value is stored by its digest, or 0 to store
+   *     all values with their variables
+   */
+  void setLargeValueThreshold(int threshold);
+
   void createScope(long childKey, long parentKey);
 
   void removeScope(long scopeKey);
@@ -14,8 +14,19 @@ import io.camunda.zeebe.engine.state.NextValueManager;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.Protocol;
 
+/**
+ * Generates the keys of a partition from blocks of reserved keys. Only the upper bound of the
+ * current block is persisted in the state, when the block is reserved, and the keys of the block
+ * are handed out from memory. This avoids reading and writing the state for every generated key.
+ *
+ * <p>Keys of a block which are not handed out before a restart are skipped, as the next block
+ * starts after the persisted upper bound. When the transaction in which a block was reserved is
+ * rolled back, the block is discarded as well, since its upper bound was never persisted.
+ */
 public final class DbKeyGenerator implements KeyGeneratorControls {
 
+  static final long KEY_BLOCK_SIZE = 1_000;
+
   private static final long INITIAL_VALUE = 0;
 
   private static final String LATEST_KEY = "latestKey";
@@ -23,6 +34,11 @@ public final class DbKeyGenerator implements KeyGeneratorControls {
   private final long keyStartValue;
   private final NextValueManager nextValueManager;
 
+  // the last handed out key and the upper bound of the reserved block
+  private long currentKey;
+  private long reservedUpperBound;
+  private boolean hasReservedBlock;
+
   /**
    * Initializes the key state with the corresponding partition id, so that unique keys are
    * generated over all partitions.
@@ -34,19 +50,38 @@ public final class DbKeyGenerator implements KeyGeneratorControls {
     keyStartValue = Protocol.encodePartitionId(partitionId, INITIAL_VALUE);
     nextValueManager =
         new NextValueManager(keyStartValue, zeebeDb, transactionContext, ZbColumnFamilies.KEY);
+    transactionContext.addRollbackListener(this::discardReservedBlock);
   }
 
   @Override
   public long nextKey() {
-    return nextValueManager.getNextValue(LATEST_KEY);
+    if (!hasReservedBlock || currentKey >= reservedUpperBound) {
+      reserveBlock();
+    }
+
+    return ++currentKey;
   }
 
   @Override
   public void setKeyIfHigher(final long key) {
-    final var currentKey = nextValueManager.getCurrentValue(LATEST_KEY);
+    final var persistedKey = nextValueManager.getCurrentValue(LATEST_KEY);
 
-    if (key > currentKey) {
+    if (key > persistedKey) {
       nextValueManager.setValue(LATEST_KEY, key);
+      discardReservedBlock();
+    } else if (hasReservedBlock && key > currentKey) {
+      currentKey = key;
     }
   }
+
+  private void reserveBlock() {
+    currentKey = nextValueManager.getCurrentValue(LATEST_KEY);
+    reservedUpperBound = currentKey + KEY_BLOCK_SIZE;
+    nextValueManager.setValue(LATEST_KEY, reservedUpperBound);
+    hasReservedBlock = true;
+  }
+
+  private void discardReservedBlock() {
+    hasReservedBlock = false;
+  }
 }
@@ -7,17 +7,21 @@
  */
 package io.camunda.zeebe.engine.state.query;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
-import io.camunda.zeebe.engine.state.ZeebeDbState;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
-import io.camunda.zeebe.engine.state.immutable.ZeebeState;
+import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
@@ -29,11 +33,18 @@ public final class StateQueryService implements QueryService {
 
   private volatile boolean isClosed;
 
-  public StateQueryService(final ZeebeDb<ZbColumnFamilies> zeebeDb) {
-    final ZeebeState state = new ZeebeDbState(zeebeDb, zeebeDb.createContext());
-    processes = state.getProcessState();
-    instances = state.getElementInstanceState();
-    jobs = state.getJobState();
+  /**
+   * The states are read concurrently to the stream processor, which writes through its own state
+   * instances. The element instances are therefore read without caches, which would not see these
+   * writes.
+   */
+  public StateQueryService(final ZeebeDb<ZbColumnFamilies> zeebeDb, final int partitionId) {
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    processes = new DbProcessState(zeebeDb, transactionContext, new ExecutableProcessCache());
+    instances =
+        DbElementInstanceState.uncached(
+            zeebeDb, transactionContext, new DbVariableState(zeebeDb, transactionContext));
+    jobs = new DbJobState(zeebeDb, transactionContext, partitionId);
   }
 
   @Override
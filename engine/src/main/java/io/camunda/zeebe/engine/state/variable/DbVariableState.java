@@ -30,6 +30,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final DirectBuffer EMPTY_VALUE = new UnsafeBuffer(0, 0);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -49,6 +51,16 @@ public class DbVariableState implements MutableVariableState {
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
+  // the values of large variables, by their digest
+  private final LargeVariableValueStore largeValueStore;
+  private final ExpandableArrayBuffer previousDigestBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer previousDigestView = new UnsafeBuffer(0, 0);
+  private int largeValueThreshold;
+  // whether a variable may refer to a large value, if the threshold is 0; unknown until the store
+  // is checked, and after a rollback
+  private boolean isLargeValueStoreChecked;
+  private boolean hasLargeValues;
+
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
@@ -72,6 +84,15 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    largeValueStore = new LargeVariableValueStore(zeebeDb, transactionContext);
+    transactionContext.addRollbackListener(() -> isLargeValueStoreChecked = false);
+  }
+
+  @Override
+  public void setLargeValueThreshold(final int threshold) {
+    largeValueThreshold = threshold;
+    isLargeValueStoreChecked = false;
   }
 
   @Override
@@ -97,15 +118,30 @@ public class DbVariableState implements MutableVariableState {
       final int valueOffset,
       final int valueLength) {
 
+    // the previous variable is only read if it may refer to a large value, which must be released
+    final DirectBuffer previousDigest =
+        mayReferToLargeValues()
+            ? getLargeValueDigest(scopeKey, name, nameOffset, nameLength)
+            : null;
+
     newVariable.reset();
-    newVariable.setValue(value, valueOffset, valueLength);
     newVariable.setKey(key);
+    if (largeValueThreshold > 0 && valueLength >= largeValueThreshold) {
+      newVariable.setValue(EMPTY_VALUE, 0, 0);
+      newVariable.setDigest(largeValueStore.addReference(value, valueOffset, valueLength));
+    } else {
+      newVariable.setValue(value, valueOffset, valueLength);
+    }
 
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+
+    if (previousDigest != null) {
+      largeValueStore.removeReference(previousDigest);
+    }
   }
 
   @Override
@@ -131,7 +167,12 @@ public class DbVariableState implements MutableVariableState {
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
+        (dbString, variable) -> {
+          if (variable.isReference()) {
+            largeValueStore.removeReference(variable.getDigest());
+          }
+          variablesColumnFamily.delete(scopeKeyVariableNameKey);
+        },
         () -> false);
   }
 
@@ -202,7 +243,7 @@ public class DbVariableState implements MutableVariableState {
         (name, value) -> {
           final DirectBuffer variableNameBuffer = name.getBuffer();
           writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(resolveValue(value));
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -233,7 +274,7 @@ public class DbVariableState implements MutableVariableState {
         name -> variablesToCollect.contains(name.getBuffer()),
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(resolveValue(value));
 
           variablesToCollect.remove(name.getBuffer());
         },
@@ -256,7 +297,7 @@ public class DbVariableState implements MutableVariableState {
         name -> true,
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(resolveValue(value));
 
           variableCount.addAndGet(1);
         },
@@ -270,7 +311,9 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && largeValueStore.isEmpty();
   }
 
   @Override
@@ -292,7 +335,63 @@ public class DbVariableState implements MutableVariableState {
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+    final VariableInstance variable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    if (variable != null && variable.isReference()) {
+      final DirectBuffer value = resolveValue(variable);
+      variable.setValue(value, 0, value.capacity());
+    }
+    return variable;
+  }
+
+  /**
+   * @return a copy of the digest of the local variable, if its value is stored in the large value
+   *     store, or {@code null} otherwise
+   */
+  private DirectBuffer getLargeValueDigest(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    this.scopeKey.wrapLong(scopeKey);
+    variableNameView.wrap(name, nameOffset, nameLength);
+    variableName.wrapBuffer(variableNameView);
+
+    final VariableInstance variable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    if (variable == null || !variable.isReference()) {
+      return null;
+    }
+
+    final DirectBuffer digest = variable.getDigest();
+    previousDigestBuffer.putBytes(0, digest, 0, digest.capacity());
+    previousDigestView.wrap(previousDigestBuffer, 0, digest.capacity());
+    return previousDigestView;
+  }
+
+  private boolean mayReferToLargeValues() {
+    if (largeValueThreshold > 0) {
+      return true;
+    }
+
+    // without a threshold, no large values are added anymore, but values which were added with a
+    // previous threshold may still be referenced
+    if (!isLargeValueStoreChecked) {
+      hasLargeValues = !largeValueStore.isEmpty();
+      isLargeValueStoreChecked = true;
+    }
+    return hasLargeValues;
+  }
+
+  private DirectBuffer resolveValue(final VariableInstance variable) {
+    if (!variable.isReference()) {
+      return variable.getValue();
+    }
+
+    final DirectBuffer value = largeValueStore.getValue(variable.getDigest());
+    if (value == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to find the value of the variable with key %d in the large value store, "
+                  + "but it was not found",
+              variable.getKey()));
+    }
+    return value;
   }
 
   /**
@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import org.agrona.DirectBuffer;
+
+public final class LargeVariableValue extends UnpackedObject implements DbValue {
+
+  private final BinaryProperty valueProp = new BinaryProperty("value");
+
+  public LargeVariableValue() {
+    declareProperty(valueProp);
+  }
+
+  public LargeVariableValue setValue(final DirectBuffer value, final int offset, final int length) {
+    valueProp.setValue(value, offset, length);
+    return this;
+  }
+
+  public DirectBuffer getValue() {
+    return valueProp.getValue();
+  }
+}
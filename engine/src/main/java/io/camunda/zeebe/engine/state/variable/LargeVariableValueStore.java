@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Stores the values of large variables once, keyed by the SHA-256 digest of the value. Variables
+ * with the same value, e.g. a payload which is passed on from one task to the next, refer to the
+ * same stored value. The store counts the references of each value and removes a value together
+ * with its last reference.
+ */
+final class LargeVariableValueStore {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  // (digest) => (value)
+  private final ColumnFamily<DbString, LargeVariableValue> valuesColumnFamily;
+  // (digest) => (number of variables which refer to the value)
+  private final ColumnFamily<DbString, DbLong> referencesColumnFamily;
+  private final DbString digestKey = new DbString();
+  private final DbLong referenceCount = new DbLong();
+  private final LargeVariableValue newValue = new LargeVariableValue();
+
+  private final MessageDigest messageDigest;
+  private final DirectBuffer digestView = new UnsafeBuffer(0, 0);
+  private final ExpandableArrayBuffer valueCopyBuffer = new ExpandableArrayBuffer();
+
+  LargeVariableValueStore(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    valuesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_VALUES,
+            transactionContext,
+            digestKey,
+            new LargeVariableValue());
+    referencesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_VALUE_REFERENCES,
+            transactionContext,
+            digestKey,
+            referenceCount);
+
+    try {
+      messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(
+          String.format("Expected to find the digest algorithm %s", DIGEST_ALGORITHM), e);
+    }
+  }
+
+  /**
+   * Adds a reference to the given value, and stores the value if it is not stored yet.
+   *
+   * @return the digest of the value, which is valid until the next value is added
+   */
+  DirectBuffer addReference(final DirectBuffer value, final int offset, final int length) {
+    digestView.wrap(digest(value, offset, length));
+    digestKey.wrapBuffer(digestView);
+
+    final DbLong references = referencesColumnFamily.get(digestKey);
+    if (references == null) {
+      newValue.reset();
+      newValue.setValue(value, offset, length);
+      valuesColumnFamily.put(digestKey, newValue);
+      referenceCount.wrapLong(1);
+    } else {
+      referenceCount.wrapLong(references.getValue() + 1);
+    }
+    referencesColumnFamily.put(digestKey, referenceCount);
+
+    return digestView;
+  }
+
+  /**
+   * Removes a reference to the value with the given digest, and removes the value if it was the
+   * last reference.
+   */
+  void removeReference(final DirectBuffer digest) {
+    digestKey.wrapBuffer(digest);
+
+    final DbLong references = referencesColumnFamily.get(digestKey);
+    if (references == null) {
+      return;
+    }
+
+    final long remainingReferences = references.getValue() - 1;
+    if (remainingReferences > 0) {
+      referenceCount.wrapLong(remainingReferences);
+      referencesColumnFamily.put(digestKey, referenceCount);
+    } else {
+      referencesColumnFamily.delete(digestKey);
+      valuesColumnFamily.delete(digestKey);
+    }
+  }
+
+  /**
+   * @return the value with the given digest, which is valid until the next value is read, or {@code
+   *     null} if no value with this digest is stored
+   */
+  DirectBuffer getValue(final DirectBuffer digest) {
+    digestKey.wrapBuffer(digest);
+
+    final LargeVariableValue value = valuesColumnFamily.get(digestKey);
+    return value != null ? value.getValue() : null;
+  }
+
+  boolean isEmpty() {
+    return valuesColumnFamily.isEmpty() && referencesColumnFamily.isEmpty();
+  }
+
+  private byte[] digest(final DirectBuffer value, final int offset, final int length) {
+    messageDigest.reset();
+
+    if (value.byteArray() != null) {
+      messageDigest.update(value.byteArray(), (int) value.wrapAdjustment() + offset, length);
+    } else if (value.byteBuffer() != null) {
+      final ByteBuffer input = value.byteBuffer().duplicate();
+      final int start = (int) value.wrapAdjustment() + offset;
+      input.limit(start + length).position(start);
+      messageDigest.update(input);
+    } else {
+      valueCopyBuffer.putBytes(0, value, offset, length);
+      messageDigest.update(valueCopyBuffer.byteArray(), 0, length);
+    }
+
+    return messageDigest.digest();
+  }
+}
@@ -11,15 +11,43 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.BinaryProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class VariableInstance extends UnpackedObject implements DbValue {
 
   private final LongProperty keyProp = new LongProperty("key");
   private final BinaryProperty valueProp = new BinaryProperty("value");
+  // the digest of the value, if the value is stored in the large variable value store
+  private final BinaryProperty digestProp = new BinaryProperty("digest", new UnsafeBuffer(0, 0));
 
   public VariableInstance() {
-    declareProperty(keyProp).declareProperty(valueProp);
+    declareProperty(keyProp).declareProperty(valueProp).declareProperty(digestProp);
+  }
+
+  @Override
+  public void write(final MsgPackWriter writer) {
+    if (isReference()) {
+      super.write(writer);
+      return;
+    }
+
+    // the digest is only written for references, so other variables don't grow by it
+    writer.writeMapHeader(2);
+    keyProp.write(writer);
+    valueProp.write(writer);
+  }
+
+  @Override
+  public int getEncodedLength() {
+    if (isReference()) {
+      return super.getEncodedLength();
+    }
+
+    return MsgPackWriter.getEncodedMapHeaderLenght(2)
+        + keyProp.getEncodedLength()
+        + valueProp.getEncodedLength();
   }
 
   public long getKey() {
@@ -39,4 +67,21 @@ public final class VariableInstance extends UnpackedObject implements DbValue {
   public DirectBuffer getValue() {
     return valueProp.getValue();
   }
+
+  public DirectBuffer getDigest() {
+    return digestProp.getValue();
+  }
+
+  public VariableInstance setDigest(final DirectBuffer digest) {
+    digestProp.setValue(digest);
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the value is stored in the large variable value store and this instance
+   *     only refers to it by its digest
+   */
+  public boolean isReference() {
+    return getDigest().capacity() > 0;
+  }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MultiInstanceActivationChunkTest {
+
+  private static final int CHUNK_SIZE = 3;
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfiguration(
+              new EngineConfiguration().setMultiInstanceActivationChunkSize(CHUNK_SIZE));
+
+  private static final String PROCESS_ID = "process";
+  private static final String ELEMENT_ID = "task";
+  private static final List<Integer> INPUT_COLLECTION =
+      IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldActivateInnerInstancesInChunks() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .manualTask(ELEMENT_ID)
+                .multiInstance(
+                    m ->
+                        m.parallel()
+                            .zeebeInputCollectionExpression("items")
+                            .zeebeInputElement("item")
+                            .zeebeOutputElementExpression("item * 2")
+                            .zeebeOutputCollection("results"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", INPUT_COLLECTION)
+            .create();
+
+    // then
+    final var activateCommands =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ACTIVATE_ELEMENT)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MANUAL_TASK)
+            .limit(INPUT_COLLECTION.size())
+            .collect(Collectors.groupingBy(Record::getSourceRecordPosition, Collectors.counting()));
+
+    assertThat(activateCommands.values())
+        .describedAs("Expected the inner instances to be activated in chunks")
+        .containsExactlyInAnyOrder(3L, 3L, 3L, 1L);
+
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withScopeKey(processInstanceKey)
+                .withName("results")
+                .getFirst()
+                .getValue()
+                .getValue())
+        .isEqualTo("[2,4,6,8,10,12,14,16,18,20]");
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementType(BpmnElementType.MANUAL_TASK)
+                .count())
+        .isEqualTo(INPUT_COLLECTION.size());
+  }
+
+  @Test
+  public void shouldSetInputElementsOfAllChunks() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .manualTask(ELEMENT_ID)
+                .multiInstance(
+                    m ->
+                        m.parallel()
+                            .zeebeInputCollectionExpression("for x in items return x * 10")
+                            .zeebeInputElement("item")
+                            .zeebeOutputElementExpression("item + loopCounter")
+                            .zeebeOutputCollection("results"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", INPUT_COLLECTION)
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withScopeKey(processInstanceKey)
+                .withName("results")
+                .getFirst()
+                .getValue()
+                .getValue())
+        .isEqualTo("[11,22,33,44,55,66,77,88,99,110]");
+  }
+
+  @Test
+  public void shouldActivateNextChunkOnlyOnceWhenResolvingIncident() {
+    // given
+    final var jobType = helper.getJobType();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask(
+                    ELEMENT_ID,
+                    t ->
+                        t.zeebeJobTypeExpression(
+                                "if item = 1 then missingJobType else \"" + jobType + "\"")
+                            .multiInstance(
+                                m ->
+                                    m.parallel()
+                                        .zeebeInputCollectionExpression("items")
+                                        .zeebeInputElement("item")))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", INPUT_COLLECTION)
+            .create();
+
+    final var incident =
+        RecordingExporter.incidentRecords(IncidentIntent.CREATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .getFirst();
+
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .limit(INPUT_COLLECTION.size() - 1)
+        .count();
+
+    // when
+    ENGINE
+        .variables()
+        .ofScope(processInstanceKey)
+        .withDocument(Map.of("missingJobType", jobType))
+        .update();
+    ENGINE.incident().ofInstance(processInstanceKey).withKey(incident.getKey()).resolve();
+
+    ENGINE
+        .jobs()
+        .withType(jobType)
+        .withMaxJobsToActivate(INPUT_COLLECTION.size())
+        .activate()
+        .getValue()
+        .getJobKeys()
+        .forEach(jobKey -> ENGINE.job().withKey(jobKey).complete());
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .count())
+        .isEqualTo(INPUT_COLLECTION.size());
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapArray;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public final class DeploymentResourcePreparerTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final DeploymentResourcePreparer preparer = new DeploymentResourcePreparer(executor);
+
+  @After
+  public void tearDown() {
+    preparer.close();
+  }
+
+  @Test
+  public void shouldPrepareValidResource() throws InterruptedException {
+    // given
+    final byte[] resource =
+        Bpmn.convertToString(Bpmn.createExecutableProcess("process").startEvent().done())
+            .getBytes(StandardCharsets.UTF_8);
+
+    // when
+    prepareAndAwait(resource);
+
+    // then
+    final PreparedResource prepared = preparer.take(wrapArray(resource));
+    assertThat(prepared).isNotNull();
+    assertThat(prepared.getDefinition()).isNotNull();
+    assertThat(prepared.getValidationError()).isNull();
+    assertThat(prepared.getExecutableProcesses()).hasSize(1);
+    assertThat(prepared.getChecksum().capacity()).isEqualTo(16);
+  }
+
+  @Test
+  public void shouldPrepareInvalidResource() throws InterruptedException {
+    // given
+    final byte[] resource =
+        Bpmn.convertToString(Bpmn.createExecutableProcess("process").done())
+            .getBytes(StandardCharsets.UTF_8);
+
+    // when
+    prepareAndAwait(resource);
+
+    // then
+    final PreparedResource prepared = preparer.take(wrapArray(resource));
+    assertThat(prepared.getValidationError()).contains("Must have at least one start event");
+    assertThat(prepared.getExecutableProcesses()).isNull();
+  }
+
+  @Test
+  public void shouldPrepareUnreadableResource() throws InterruptedException {
+    // given
+    final byte[] resource = "not a bpmn".getBytes(StandardCharsets.UTF_8);
+
+    // when
+    prepareAndAwait(resource);
+
+    // then
+    final PreparedResource prepared = preparer.take(wrapArray(resource));
+    assertThatThrownBy(prepared::getDefinition).isInstanceOf(RuntimeException.class);
+  }
+
+  @Test
+  public void shouldTakePreparedResourceOnlyOnce() throws InterruptedException {
+    // given
+    final byte[] resource = "not a bpmn".getBytes(StandardCharsets.UTF_8);
+    prepareAndAwait(resource);
+
+    // when
+    preparer.take(wrapArray(resource));
+
+    // then
+    assertThat(preparer.take(wrapArray(resource))).isNull();
+  }
+
+  @Test
+  public void shouldNotTakeResourceWhichIsNotPrepared() {
+    // when
+    final PreparedResource prepared = preparer.take(wrapString("resource"));
+
+    // then
+    assertThat(prepared).isNull();
+  }
+
+  @Test
+  public void shouldNotPrepareWithoutThreadPool() {
+    // given
+    final var preparerWithoutPool = new DeploymentResourcePreparer();
+    final byte[] resource = "not a bpmn".getBytes(StandardCharsets.UTF_8);
+
+    // when
+    preparerWithoutPool.prepare(deploymentOf(resource));
+
+    // then
+    assertThat(preparerWithoutPool.take(wrapArray(resource))).isNull();
+  }
+
+  @Test
+  public void shouldDropEldestResourcesAboveMaxSize() throws InterruptedException {
+    // given
+    final byte[] first = "first bpmn".getBytes(StandardCharsets.UTF_8);
+    final byte[] second = "second bpmn".getBytes(StandardCharsets.UTF_8);
+    final var executor = Executors.newSingleThreadExecutor();
+    final var boundedPreparer =
+        new DeploymentResourcePreparer(executor, first.length + second.length - 1);
+
+    // when
+    boundedPreparer.prepare(deploymentOf(first));
+    boundedPreparer.prepare(deploymentOf(second));
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    assertThat(boundedPreparer.take(wrapArray(first))).isNull();
+    assertThat(boundedPreparer.take(wrapArray(second))).isNotNull();
+    boundedPreparer.close();
+  }
+
+  @Test
+  public void shouldNotPrepareResourceLargerThanMaxSize() throws InterruptedException {
+    // given
+    final byte[] resource = "not a bpmn".getBytes(StandardCharsets.UTF_8);
+    final var executor = Executors.newSingleThreadExecutor();
+    final var boundedPreparer = new DeploymentResourcePreparer(executor, resource.length - 1);
+
+    // when
+    boundedPreparer.prepare(deploymentOf(resource));
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    assertThat(boundedPreparer.take(wrapArray(resource))).isNull();
+    boundedPreparer.close();
+  }
+
+  @Test
+  public void shouldCancelPreparationWhichIsTakenBeforeItIsCompleted()
+      throws InterruptedException {
+    // given
+    final var latch = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          try {
+            latch.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    final byte[] resource = "not a bpmn".getBytes(StandardCharsets.UTF_8);
+    preparer.prepare(deploymentOf(resource));
+
+    // when
+    final PreparedResource prepared = preparer.take(wrapArray(resource));
+
+    // then
+    assertThat(prepared).isNull();
+    latch.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(preparer.take(wrapArray(resource))).isNull();
+  }
+
+  private void prepareAndAwait(final byte[] resource) throws InterruptedException {
+    preparer.prepare(deploymentOf(resource));
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private static DeploymentRecord deploymentOf(final byte[] resource) {
+    final DeploymentRecord deployment = new DeploymentRecord();
+    deployment.resources().add().setResourceName("process.bpmn").setResource(resource);
+    return deployment;
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class TerminationChunkTest {
+
+  private static final int CHUNK_SIZE = 3;
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfiguration(new EngineConfiguration().setTerminationChunkSize(CHUNK_SIZE));
+
+  private static final String PROCESS_ID = "process";
+  private static final String ELEMENT_ID = "task";
+  private static final List<Integer> INPUT_COLLECTION =
+      IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldTerminateInnerInstancesInChunks() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask(
+                    ELEMENT_ID,
+                    t ->
+                        t.zeebeJobType(helper.getJobType())
+                            .multiInstance(
+                                m -> m.parallel().zeebeInputCollectionExpression("items")))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", INPUT_COLLECTION)
+            .create();
+
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.SERVICE_TASK)
+        .limit(INPUT_COLLECTION.size())
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    final var terminateCommands =
+        RecordingExporter.processInstanceRecords()
+            .withProcessInstanceKey(processInstanceKey)
+            .limitToProcessInstanceTerminated()
+            .withIntent(ProcessInstanceIntent.TERMINATE_ELEMENT)
+            .withElementType(BpmnElementType.SERVICE_TASK)
+            .collect(Collectors.groupingBy(Record::getSourceRecordPosition, Collectors.counting()));
+
+    assertThat(terminateCommands.values())
+        .describedAs("Expected the inner instances to be terminated in chunks")
+        .containsExactlyInAnyOrder(3L, 3L, 3L, 1L);
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceTerminated()
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .count())
+        .isEqualTo(INPUT_COLLECTION.size());
+
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceTerminated()
+                .withRecordType(RecordType.COMMAND_REJECTION)
+                .exists())
+        .describedAs("Expected no inner instance to be terminated twice")
+        .isFalse();
+  }
+
+  @Test
+  public void shouldContinueTerminatingIfChildInstanceOfChunkIsLeft() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask(
+                    ELEMENT_ID,
+                    t ->
+                        t.zeebeJobType(helper.getJobType())
+                            .multiInstance(
+                                m -> m.parallel().zeebeInputCollectionExpression("items")))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", INPUT_COLLECTION)
+            .create();
+
+    final var multiInstanceBody =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+            .getFirst();
+
+    final var lastInnerInstance =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.SERVICE_TASK)
+            .limit(INPUT_COLLECTION.size())
+            .max(Comparator.comparingLong(Record::getKey))
+            .orElseThrow();
+
+    // when
+    // the inner instance with the highest key belongs to the first chunk, but it is left before
+    // the termination command of the chunk is processed
+    ENGINE.writeRecords(
+        RecordToWrite.command()
+            .key(multiInstanceBody.getKey())
+            .processInstance(ProcessInstanceIntent.TERMINATE_ELEMENT, multiInstanceBody.getValue()),
+        RecordToWrite.command()
+            .key(lastInnerInstance.getKey())
+            .processInstance(
+                ProcessInstanceIntent.TERMINATE_ELEMENT, lastInnerInstance.getValue()));
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+                .exists())
+        .describedAs("Expected the multi-instance body to be terminated")
+        .isTrue();
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .limit(INPUT_COLLECTION.size())
+                .count())
+        .isEqualTo(INPUT_COLLECTION.size());
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.TERMINATE_ELEMENT)
+                .withProcessInstanceKey(processInstanceKey)
+                .withRecordType(RecordType.COMMAND_REJECTION)
+                .withRecordKey(lastInnerInstance.getKey())
+                .exists())
+        .describedAs("Expected the termination of the left inner instance to be rejected")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldTerminateChildInstancesOfProcessInChunks() {
+    // given
+    final var jobType = helper.getJobType();
+    final AbstractFlowNodeBuilder<?, ?> builder =
+        Bpmn.createExecutableProcess(PROCESS_ID).startEvent().parallelGateway("fork");
+    IntStream.range(0, 5)
+        .forEach(
+            i ->
+                builder
+                    .moveToNode("fork")
+                    .subProcess("subProcess" + i)
+                    .embeddedSubProcess()
+                    .startEvent()
+                    .serviceTask("task" + i, t -> t.zeebeJobType(jobType))
+                    .endEvent()
+                    .subProcessDone()
+                    .endEvent());
+    ENGINE.deployment().withXmlResource(builder.done()).deploy();
+
+    final long processInstanceKey = ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create();
+
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.SERVICE_TASK)
+        .limit(5)
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    final var terminateCommands =
+        RecordingExporter.processInstanceRecords()
+            .withProcessInstanceKey(processInstanceKey)
+            .limitToProcessInstanceTerminated()
+            .withIntent(ProcessInstanceIntent.TERMINATE_ELEMENT)
+            .withElementType(BpmnElementType.SUB_PROCESS)
+            .collect(Collectors.groupingBy(Record::getSourceRecordPosition, Collectors.counting()));
+
+    assertThat(terminateCommands.values())
+        .describedAs("Expected the sub-processes to be terminated in chunks")
+        .containsExactlyInAnyOrder(3L, 2L);
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceTerminated()
+                .withElementType(BpmnElementType.SUB_PROCESS)
+                .count())
+        .isEqualTo(5);
+
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceTerminated()
+                .withRecordType(RecordType.COMMAND_REJECTION)
+                .exists())
+        .isFalse();
+  }
+
+  @Test
+  public void shouldTerminateChildInstancesInChunksIfInterruptedByEventSubProcess() {
+    // given
+    final var jobType = helper.getJobType();
+    final AbstractFlowNodeBuilder<?, ?> builder =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .eventSubProcess(
+                "eventSubProcess",
+                s ->
+                    s.startEvent()
+                        .interrupting(true)
+                        .message(
+                            m ->
+                                m.name(helper.getMessageName())
+                                    .zeebeCorrelationKeyExpression("key"))
+                        .endEvent())
+            .startEvent()
+            .parallelGateway("fork");
+    IntStream.range(0, 5)
+        .forEach(
+            i ->
+                builder
+                    .moveToNode("fork")
+                    .serviceTask("task" + i, t -> t.zeebeJobType(jobType))
+                    .endEvent());
+    ENGINE.deployment().withXmlResource(builder.done()).deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("key", helper.getCorrelationValue())
+            .create();
+
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.SERVICE_TASK)
+        .limit(5)
+        .await();
+
+    // when
+    ENGINE
+        .message()
+        .withName(helper.getMessageName())
+        .withCorrelationKey(helper.getCorrelationValue())
+        .publish();
+
+    // then
+    final var terminateCommands =
+        RecordingExporter.processInstanceRecords()
+            .withProcessInstanceKey(processInstanceKey)
+            .limitToProcessInstanceCompleted()
+            .withIntent(ProcessInstanceIntent.TERMINATE_ELEMENT)
+            .withElementType(BpmnElementType.SERVICE_TASK)
+            .collect(Collectors.groupingBy(Record::getSourceRecordPosition, Collectors.counting()));
+
+    assertThat(terminateCommands.values())
+        .describedAs("Expected the service tasks to be terminated in chunks")
+        .containsExactlyInAnyOrder(3L, 2L);
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementType(BpmnElementType.EVENT_SUB_PROCESS)
+                .exists())
+        .describedAs("Expected the event sub-process to be activated after all terminations")
+        .isTrue();
+  }
+}
@@ -127,6 +127,9 @@ public class ReplayStateRandomizedPropertyTest {
 
               processingState.entrySet().stream()
                   .filter(entry -> entry.getKey() != ZbColumnFamilies.DEFAULT)
+                  // the processing state contains the upper bound of the reserved key block, while
+                  // the replay restores the highest key that was used
+                  .filter(entry -> entry.getKey() != ZbColumnFamilies.KEY)
                   .forEach(
                       entry -> {
                         final var column = entry.getKey();
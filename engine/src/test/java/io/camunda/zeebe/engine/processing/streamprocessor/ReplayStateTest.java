@@ -387,6 +387,9 @@ public final class ReplayStateTest {
 
               processingState.entrySet().stream()
                   .filter(entry -> entry.getKey() != ZbColumnFamilies.DEFAULT)
+                  // the processing state contains the upper bound of the reserved key block, while
+                  // the replay restores the highest key that was used
+                  .filter(entry -> entry.getKey() != ZbColumnFamilies.KEY)
                   .forEach(
                       entry -> {
                         final var column = entry.getKey();
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.variable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class LargeVariableValueTest {
+
+  private static final int THRESHOLD = 1024;
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfiguration(
+              new EngineConfiguration().setLargeVariableValueThreshold(THRESHOLD));
+
+  private static final String PROCESS_ID = "process";
+  private static final String PAYLOAD = "x".repeat(THRESHOLD * 4);
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldPassLargeValueToJobs() {
+    // given
+    final var jobType = helper.getJobType();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask("task-1", t -> t.zeebeJobType(jobType))
+                .serviceTask("task-2", t -> t.zeebeJobType(jobType))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("payload", PAYLOAD)
+            .create();
+
+    // when
+    awaitJobCreated(processInstanceKey, "task-1");
+    final var firstJobs = ENGINE.jobs().withType(jobType).activate();
+    ENGINE.job().ofInstance(processInstanceKey).withType(jobType).complete();
+
+    awaitJobCreated(processInstanceKey, "task-2");
+    final var secondJobs = ENGINE.jobs().withType(jobType).activate();
+
+    // then
+    assertThat(firstJobs.getValue().getJobs())
+        .extracting(JobRecordValue::getVariables)
+        .containsExactly(Map.of("payload", PAYLOAD));
+    assertThat(secondJobs.getValue().getJobs())
+        .extracting(JobRecordValue::getVariables)
+        .containsExactly(Map.of("payload", PAYLOAD));
+  }
+
+  @Test
+  public void shouldEvaluateExpressionWithLargeValue() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .exclusiveGateway()
+                .sequenceFlowId("large")
+                .conditionExpression("string length(payload) > " + THRESHOLD)
+                .endEvent("large-end")
+                .moveToLastExclusiveGateway()
+                .defaultFlow()
+                .endEvent("small-end")
+                .done())
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("payload", PAYLOAD)
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.END_EVENT)
+                .getFirst()
+                .getValue()
+                .getElementId())
+        .isEqualTo("large-end");
+  }
+
+  private static void awaitJobCreated(final long processInstanceKey, final String elementId) {
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementId(elementId)
+        .await();
+  }
+}
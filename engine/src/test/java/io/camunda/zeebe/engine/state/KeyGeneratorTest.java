@@ -9,10 +9,14 @@ package io.camunda.zeebe.engine.state;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
 import io.camunda.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -75,4 +79,59 @@ public final class KeyGeneratorTest {
 
     newDb.close();
   }
+
+  @Test
+  public void shouldNotReuseKeysAfterRestart() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final long key = new ZeebeDbState(db, db.createContext()).getKeyGenerator().nextKey();
+
+    // when
+    final long keyAfterRestart =
+        new ZeebeDbState(db, db.createContext()).getKeyGenerator().nextKey();
+
+    // then
+    assertThat(keyAfterRestart).isGreaterThan(key);
+    db.close();
+  }
+
+  @Test
+  public void shouldNotReuseKeysAfterRollback() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final TransactionContext transactionContext = db.createContext();
+    final KeyGenerator generator = new ZeebeDbState(db, transactionContext).getKeyGenerator();
+
+    final ZeebeDbTransaction rolledBackTransaction = transactionContext.getCurrentTransaction();
+    rolledBackTransaction.run(generator::nextKey);
+    rolledBackTransaction.rollback();
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    final List<Long> keys = new ArrayList<>();
+    transaction.run(() -> keys.add(generator.nextKey()));
+    transaction.commit();
+
+    // then
+    final long keyAfterRestart =
+        new ZeebeDbState(db, db.createContext()).getKeyGenerator().nextKey();
+    assertThat(keyAfterRestart).isGreaterThan(keys.get(0));
+    db.close();
+  }
+
+  @Test
+  public void shouldContinueAfterHigherKey() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final KeyGeneratorControls keyGeneratorControls =
+        new ZeebeDbState(db, db.createContext()).getKeyGeneratorControls();
+    final long key = keyGeneratorControls.nextKey();
+
+    // when
+    keyGeneratorControls.setKeyIfHigher(key + 10_000);
+
+    // then
+    assertThat(keyGeneratorControls.nextKey()).isEqualTo(key + 10_001);
+    db.close();
+  }
 }
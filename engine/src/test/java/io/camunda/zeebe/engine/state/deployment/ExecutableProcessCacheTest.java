@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class ExecutableProcessCacheTest {
+
+  private final AtomicInteger transformations = new AtomicInteger();
+
+  @Test
+  public void shouldTransformResourceOnlyOnce() {
+    // given
+    final var cache = new ExecutableProcessCache();
+    final var processes = cache.computeIfAbsent(wrapString("resource"), this::transform);
+
+    // when
+    final var cachedProcesses = cache.computeIfAbsent(wrapString("resource"), this::transform);
+
+    // then
+    assertThat(cachedProcesses).isSameAs(processes);
+    assertThat(transformations).hasValue(1);
+  }
+
+  @Test
+  public void shouldIdentifyResourceByContent() {
+    // given
+    final var cache = new ExecutableProcessCache();
+    final var processes = cache.computeIfAbsent(wrapString("resource"), this::transform);
+
+    // when
+    final var otherProcesses = cache.computeIfAbsent(wrapString("other"), this::transform);
+
+    // then
+    assertThat(otherProcesses).isNotSameAs(processes);
+    assertThat(transformations).hasValue(2);
+    assertThat(cache.get(wrapString("resource"))).isSameAs(processes);
+    assertThat(cache.get(wrapString("unknown"))).isNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedResource() {
+    // given
+    final var cache = new ExecutableProcessCache(2);
+    cache.computeIfAbsent(wrapString("first"), this::transform);
+    cache.computeIfAbsent(wrapString("second"), this::transform);
+    cache.get(wrapString("first"));
+
+    // when
+    cache.computeIfAbsent(wrapString("third"), this::transform);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(wrapString("first"))).isNotNull();
+    assertThat(cache.get(wrapString("second"))).isNull();
+    assertThat(cache.get(wrapString("third"))).isNotNull();
+  }
+
+  private List<ExecutableProcess> transform() {
+    transformations.incrementAndGet();
+    return List.of(new ExecutableProcess("process-" + transformations.get()));
+  }
+}
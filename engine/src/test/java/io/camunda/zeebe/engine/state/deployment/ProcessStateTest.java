@@ -10,9 +10,12 @@ package io.camunda.zeebe.engine.state.deployment;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.KeyGenerator;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.ZeebeDbState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -425,6 +428,35 @@ public final class ProcessStateTest {
     Assertions.assertThat(serviceTask).isNotNull();
   }
 
+  @Test
+  public void shouldShareExecutableProcessBetweenPartitions() throws Exception {
+    // given
+    final var executableProcessCache = new ExecutableProcessCache();
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final ZeebeDb<ZbColumnFamilies> otherDb = stateRule.createNewDb();
+    final var processState =
+        new ZeebeDbState(1, db, db.createContext(), executableProcessCache).getProcessState();
+    final var otherProcessState =
+        new ZeebeDbState(2, otherDb, otherDb.createContext(), executableProcessCache)
+            .getProcessState();
+
+    final DeploymentRecord deploymentRecord = creatingDeploymentRecord(zeebeState);
+    processState.putDeployment(deploymentRecord);
+    otherProcessState.putDeployment(deploymentRecord);
+
+    // when
+    final ExecutableProcess process = processState.getProcessByKey(FIRST_PROCESS_KEY).getProcess();
+    final ExecutableProcess otherProcess =
+        otherProcessState.getProcessByKey(FIRST_PROCESS_KEY).getProcess();
+
+    // then
+    assertThat(otherProcess).isSameAs(process);
+    assertThat(executableProcessCache.size()).isOne();
+
+    db.close();
+    otherDb.close();
+  }
+
   @Test
   public void shouldGetAllProcesses() {
     // given
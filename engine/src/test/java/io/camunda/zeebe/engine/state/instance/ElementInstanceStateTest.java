@@ -11,7 +11,11 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static java.util.function.Predicate.not;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.ZeebeDbState;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -20,6 +24,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -281,6 +286,89 @@ public final class ElementInstanceStateTest {
     assertChildInstance(children.get(1), 102, "subProcess2");
   }
 
+  @Test
+  public void shouldCollectChildInstancesAfterChildrenChanged() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    processInstanceRecord.setElementId("subProcess");
+    elementInstanceState.newInstance(
+        parentInstance, 102, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 103, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    assertThat(elementInstanceState.getChildren(100L)).hasSize(2);
+
+    // when
+    processInstanceRecord.setElementId("subProcess2");
+    elementInstanceState.newInstance(
+        elementInstanceState.getInstance(100),
+        101,
+        processInstanceRecord,
+        ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.removeInstance(103);
+
+    // then
+    final List<ElementInstance> children = elementInstanceState.getChildren(100L);
+    Assertions.assertThat(children).hasSize(2);
+    assertChildInstance(children.get(0), 101, "subProcess2");
+    assertChildInstance(children.get(1), 102, "subProcess");
+  }
+
+  @Test
+  public void shouldVisitChildInstancesBelowUpperBoundInDescendingOrder() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    processInstanceRecord.setElementId("subProcess");
+    Arrays.asList(101L, 102L, 104L, 105L)
+        .forEach(
+            key ->
+                elementInstanceState.newInstance(
+                    parentInstance,
+                    key,
+                    processInstanceRecord,
+                    ProcessInstanceIntent.ELEMENT_ACTIVATING));
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final List<Long> visitedKeysBelowMissingKey = new ArrayList<>();
+    elementInstanceState.visitChildrenDescending(
+        100L, 104L, child -> visitedKeys.add(child.getKey()));
+    elementInstanceState.visitChildrenDescending(
+        100L, 103L, child -> visitedKeysBelowMissingKey.add(child.getKey()));
+
+    // then
+    assertThat(visitedKeys).containsExactly(102L, 101L);
+    assertThat(visitedKeysBelowMissingKey).containsExactly(102L, 101L);
+  }
+
+  @Test
+  public void shouldNotGetInstanceOfRolledBackTransaction() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final TransactionContext transactionContext = db.createContext();
+    final MutableElementInstanceState state =
+        new ZeebeDbState(db, transactionContext).getElementInstanceState();
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () ->
+            state.newInstance(
+                100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED));
+    assertThat(state.getInstance(100)).isNotNull();
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(state.getInstance(100)).isNull();
+    db.close();
+  }
+
   @Test
   public void shouldNotLeakMemoryOnRemoval() {
     // given
@@ -0,0 +1,237 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.metrics.CorrelationKeyFilterMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class CorrelationKeyFilterTest {
+
+  private static final int NUM_COUNTERS = 1 << 16;
+
+  private final List<String[]> entries = new ArrayList<>();
+  private final CorrelationKeyFilter filter =
+      new CorrelationKeyFilter(this::loadEntries, new CorrelationKeyFilterMetrics(1, "test"));
+
+  @Before
+  public void setUp() {
+    filter.setNumCounters(NUM_COUNTERS);
+  }
+
+  @Test
+  public void shouldNotContainEntryOfEmptyFilter() {
+    // when
+    final boolean mightContain = mightContain("message", "key");
+
+    // then
+    assertThat(mightContain).isFalse();
+  }
+
+  @Test
+  public void shouldContainAddedEntry() {
+    // given
+    mightContain("message", "key");
+
+    // when
+    add("message", "key");
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+    assertThat(mightContain("message", "other-key")).isFalse();
+    assertThat(mightContain("other-message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldDistinguishConcatenatedEntries() {
+    // given
+    mightContain("message", "key");
+
+    // when
+    add("ab", "c");
+
+    // then
+    assertThat(mightContain("ab", "c")).isTrue();
+    assertThat(mightContain("a", "bc")).isFalse();
+  }
+
+  @Test
+  public void shouldNotContainRemovedEntry() {
+    // given
+    mightContain("message", "key");
+    add("message", "key");
+
+    // when
+    remove("message", "key");
+
+    // then
+    assertThat(mightContain("message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldContainEntryUntilAllAreRemoved() {
+    // given
+    mightContain("message", "key");
+    add("message", "key");
+    add("message", "key");
+
+    // when
+    remove("message", "key");
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+
+    remove("message", "key");
+    assertThat(mightContain("message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldNotDecrementSaturatedCounters() {
+    // given
+    mightContain("message", "key");
+    for (int i = 0; i < 300; i++) {
+      add("message", "key");
+    }
+
+    // when
+    for (int i = 0; i < 300; i++) {
+      remove("message", "key");
+    }
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+  }
+
+  @Test
+  public void shouldLoadEntriesOnFirstLookup() {
+    // given
+    entries.add(new String[] {"message", "key"});
+
+    // when
+    final boolean mightContain = mightContain("message", "key");
+
+    // then
+    assertThat(mightContain).isTrue();
+  }
+
+  @Test
+  public void shouldIgnoreChangesBeforeLoaded() {
+    // given
+    add("message", "key");
+    remove("other-message", "key");
+
+    // when
+    entries.add(new String[] {"other-message", "key"});
+
+    // then
+    assertThat(mightContain("message", "key")).isFalse();
+    assertThat(mightContain("other-message", "key")).isTrue();
+  }
+
+  @Test
+  public void shouldLoadEntriesAgainAfterInvalidate() {
+    // given
+    mightContain("message", "key");
+    add("message", "key");
+
+    // when
+    filter.invalidate();
+
+    // then
+    assertThat(mightContain("message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldContainRemovedEntryAfterRollback() {
+    // given
+    mightContain("message", "key");
+    add("message", "key");
+    filter.onCommit();
+    remove("message", "key");
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+    assertThat(mightContain("other-message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldNotContainRemovedEntryAfterCommit() {
+    // given
+    mightContain("message", "key");
+    add("message", "key");
+    filter.onCommit();
+    remove("message", "key");
+    filter.onCommit();
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(mightContain("message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldLoadEntriesAgainAfterRollbackOfTransactionInWhichItWasLoaded() {
+    // given
+    entries.add(new String[] {"message", "key"});
+    mightContain("message", "key");
+    entries.clear();
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(mightContain("message", "key")).isFalse();
+  }
+
+  @Test
+  public void shouldContainEveryEntryIfDisabled() {
+    // given
+    filter.setNumCounters(0);
+
+    // when
+    final boolean mightContain = mightContain("message", "key");
+
+    // then
+    assertThat(mightContain).isTrue();
+    assertThat(filter.isEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldRejectNumberOfCountersWhichIsNoPowerOfTwo() {
+    // when + then
+    assertThatThrownBy(() -> filter.setNumCounters(1000))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("power of two");
+  }
+
+  private boolean mightContain(final String first, final String second) {
+    return filter.mightContain(wrapString(first), wrapString(second));
+  }
+
+  private void add(final String first, final String second) {
+    filter.add(wrapString(first), wrapString(second));
+  }
+
+  private void remove(final String first, final String second) {
+    filter.remove(wrapString(first), wrapString(second));
+  }
+
+  private void loadEntries() {
+    entries.forEach(entry -> add(entry[0], entry[1]));
+  }
+}
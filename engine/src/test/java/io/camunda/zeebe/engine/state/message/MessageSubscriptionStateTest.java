@@ -10,6 +10,11 @@ package io.camunda.zeebe.engine.state.message;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.ZeebeDbState;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -176,6 +181,67 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionIfRemovalIsRolledBack() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final TransactionContext transactionContext = db.createContext();
+    final MutableMessageSubscriptionState state =
+        new ZeebeDbState(db, transactionContext).getMessageSubscriptionState();
+    state.setCorrelationKeyFilterSize(1 << 10);
+
+    transactionContext.runInTransaction(
+        () -> state.put(1L, subscription("messageName", "correlationKey", 1L)));
+    assertThat(visitSubscriptionKeys(state)).containsExactly(1L);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> state.remove(1L, wrapString("messageName")));
+    assertThat(visitSubscriptionKeys(state)).isEmpty();
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(visitSubscriptionKeys(state)).containsExactly(1L);
+    db.close();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionIfRemovalIsRolledBackAfterFilterWasLoaded() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb();
+    final TransactionContext transactionContext = db.createContext();
+    final MutableMessageSubscriptionState state =
+        new ZeebeDbState(db, transactionContext).getMessageSubscriptionState();
+    state.setCorrelationKeyFilterSize(1 << 10);
+
+    transactionContext.runInTransaction(
+        () -> state.put(1L, subscription("messageName", "correlationKey", 1L)));
+    assertThat(visitSubscriptionKeys(state)).containsExactly(1L);
+    transactionContext.runInTransaction(
+        () -> state.put(2L, subscription("otherMessageName", "correlationKey", 2L)));
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> state.remove(1L, wrapString("messageName")));
+    assertThat(visitSubscriptionKeys(state)).isEmpty();
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(visitSubscriptionKeys(state)).containsExactly(1L);
+    db.close();
+  }
+
+  private List<Long> visitSubscriptionKeys(final MutableMessageSubscriptionState state) {
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    return keys;
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
@@ -40,7 +40,7 @@ final class StateQueryServiceTest {
 
   @BeforeEach
   void setup() {
-    sut = new StateQueryService(db);
+    sut = new StateQueryService(db, 1);
   }
 
   @ParameterizedTest(name = "[{index}] should throw ClosedServiceException when closed")
@@ -0,0 +1,218 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class LargeVariableValueStateTest {
+
+  private static final int THRESHOLD = 64;
+  private static final long PARENT = 1;
+  private static final long CHILD = 2;
+  private static final long OTHER_CHILD = 3;
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private final DirectBuffer largeValue = asMsgPack("payload", "x".repeat(THRESHOLD * 2));
+  private final DirectBuffer otherLargeValue = asMsgPack("payload", "y".repeat(THRESHOLD * 2));
+  private final DirectBuffer smallValue = asMsgPack("payload", "x");
+
+  private MutableVariableState variableState;
+  private long variableKey;
+
+  @Before
+  public void setUp() {
+    variableState = stateRule.getZeebeState().getVariableState();
+    variableState.setLargeValueThreshold(THRESHOLD);
+
+    variableState.createScope(PARENT, MutableVariableState.NO_PARENT);
+    variableState.createScope(CHILD, PARENT);
+    variableState.createScope(OTHER_CHILD, PARENT);
+  }
+
+  @Test
+  public void shouldStoreLargeValueByDigest() {
+    // when
+    setVariable(CHILD, "large", largeValue);
+    setVariable(CHILD, "small", smallValue);
+
+    // then
+    final VariableInstance largeVariable =
+        variableState.getVariableInstanceLocal(CHILD, wrapString("large"));
+    assertThat(largeVariable.isReference()).isTrue();
+    assertThat(largeVariable.getValue()).isEqualTo(largeValue);
+
+    final VariableInstance smallVariable =
+        variableState.getVariableInstanceLocal(CHILD, wrapString("small"));
+    assertThat(smallVariable.isReference()).isFalse();
+    assertThat(smallVariable.getValue()).isEqualTo(smallValue);
+  }
+
+  @Test
+  public void shouldResolveLargeValues() {
+    // given
+    setVariable(PARENT, "a", largeValue);
+    setVariable(CHILD, "b", otherLargeValue);
+
+    // when - then
+    assertThat(variableState.getVariable(CHILD, wrapString("a"))).isEqualTo(largeValue);
+    assertThat(variableState.getVariableLocal(CHILD, wrapString("b"))).isEqualTo(otherLargeValue);
+    assertEquality(
+        variableState.getVariablesAsDocument(CHILD),
+        String.format(
+            "{'a': {'payload': '%s'}, 'b': {'payload': '%s'}}",
+            "x".repeat(THRESHOLD * 2), "y".repeat(THRESHOLD * 2)));
+    assertEquality(
+        variableState.getVariablesAsDocument(CHILD, List.of(wrapString("a"))),
+        String.format("{'a': {'payload': '%s'}}", "x".repeat(THRESHOLD * 2)));
+    assertEquality(
+        variableState.getVariablesLocalAsDocument(CHILD),
+        String.format("{'b': {'payload': '%s'}}", "y".repeat(THRESHOLD * 2)));
+  }
+
+  @Test
+  public void shouldShareLargeValueBetweenVariables() {
+    // given
+    setVariable(CHILD, "a", largeValue);
+    setVariable(OTHER_CHILD, "a", largeValue);
+    final DirectBuffer digest =
+        variableState.getVariableInstanceLocal(CHILD, wrapString("a")).getDigest();
+
+    // when
+    variableState.removeScope(CHILD);
+
+    // then
+    final VariableInstance variable =
+        variableState.getVariableInstanceLocal(OTHER_CHILD, wrapString("a"));
+    assertThat(variable.getDigest()).isEqualTo(digest);
+    assertThat(variable.getValue()).isEqualTo(largeValue);
+  }
+
+  @Test
+  public void shouldRemoveLargeValueWithLastReference() {
+    // given
+    setVariable(PARENT, "a", largeValue);
+    setVariable(CHILD, "a", largeValue);
+    setVariable(CHILD, "b", otherLargeValue);
+
+    // when
+    variableState.removeScope(CHILD);
+    variableState.removeScope(OTHER_CHILD);
+    variableState.removeScope(PARENT);
+
+    // then
+    assertThat(variableState.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldReleaseLargeValueOnUpdate() {
+    // given
+    setVariable(CHILD, "a", largeValue);
+
+    // when
+    setVariable(CHILD, "a", smallValue);
+
+    // then
+    assertThat(variableState.getVariableLocal(CHILD, wrapString("a"))).isEqualTo(smallValue);
+
+    variableState.removeScope(CHILD);
+    variableState.removeScope(OTHER_CHILD);
+    variableState.removeScope(PARENT);
+    assertThat(variableState.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldKeepLargeValueWhenSetAgain() {
+    // given
+    setVariable(CHILD, "a", largeValue);
+
+    // when
+    setVariable(CHILD, "a", largeValue);
+
+    // then
+    assertThat(variableState.getVariableLocal(CHILD, wrapString("a"))).isEqualTo(largeValue);
+  }
+
+  @Test
+  public void shouldResolveLargeValueWhenStoreIsDisabled() {
+    // given
+    setVariable(CHILD, "a", largeValue);
+
+    // when
+    variableState.setLargeValueThreshold(0);
+    setVariable(CHILD, "b", largeValue);
+
+    // then
+    assertThat(variableState.getVariableInstanceLocal(CHILD, wrapString("a")).isReference())
+        .isTrue();
+    assertThat(variableState.getVariableInstanceLocal(CHILD, wrapString("b")).isReference())
+        .isFalse();
+    assertThat(variableState.getVariableLocal(CHILD, wrapString("a"))).isEqualTo(largeValue);
+  }
+
+  @Test
+  public void shouldReleaseLargeValueOnUpdateWhenStoreIsDisabled() {
+    // given
+    setVariable(CHILD, "a", largeValue);
+
+    // when
+    variableState.setLargeValueThreshold(0);
+    setVariable(CHILD, "a", smallValue);
+
+    // then
+    variableState.removeScope(CHILD);
+    variableState.removeScope(OTHER_CHILD);
+    variableState.removeScope(PARENT);
+    assertThat(variableState.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldWriteDigestOnlyForLargeValues() {
+    // given
+    final var smallVariable =
+        new VariableInstance().setKey(1).setValue(smallValue, 0, smallValue.capacity());
+    final var largeVariable = new VariableInstance().setKey(1).setValue(smallValue, 0, 0);
+    largeVariable.setDigest(wrapString("digest"));
+
+    // when
+    final var smallBuffer = new UnsafeBuffer(new byte[smallVariable.getLength()]);
+    smallVariable.write(smallBuffer, 0);
+    final var largeBuffer = new UnsafeBuffer(new byte[largeVariable.getLength()]);
+    largeVariable.write(largeBuffer, 0);
+
+    // then
+    assertThat(new MsgPackReader().wrap(smallBuffer, 0, smallBuffer.capacity()).readMapHeader())
+        .isEqualTo(2);
+    assertThat(new MsgPackReader().wrap(largeBuffer, 0, largeBuffer.capacity()).readMapHeader())
+        .isEqualTo(3);
+
+    final var readVariable = new VariableInstance();
+    readVariable.wrap(smallBuffer);
+    assertThat(readVariable.isReference()).isFalse();
+    assertThat(readVariable.getKey()).isEqualTo(1);
+    readVariable.wrap(largeBuffer);
+    assertThat(readVariable.getDigest()).isEqualTo(wrapString("digest"));
+  }
+
+  private void setVariable(final long scopeKey, final String name, final DirectBuffer value) {
+    variableState.setVariableLocal(++variableKey, scopeKey, 1, wrapString(name), value);
+  }
+}
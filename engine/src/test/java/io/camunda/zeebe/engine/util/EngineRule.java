@@ -8,10 +8,12 @@
 package io.camunda.zeebe.engine.util;
 
 import static io.camunda.zeebe.test.util.record.RecordingExporter.jobRecords;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributor;
 import io.camunda.zeebe.engine.processing.message.command.PartitionCommandSender;
@@ -94,6 +96,7 @@ public final class EngineRule extends ExternalResource {
   private Consumer<TypedRecord> onProcessedCallback = record -> {};
   private Consumer<LoggedEvent> onSkippedCallback = record -> {};
   private DeploymentDistributor deploymentDistributor = new DeploymentDistributionImpl();
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
 
   private final Int2ObjectHashMap<SubscriptionCommandMessageHandler> subscriptionHandlers =
       new Int2ObjectHashMap<>();
@@ -165,6 +168,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withEngineConfiguration(final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+    return this;
+  }
+
   public EngineRule withOnProcessedCallback(final Consumer<TypedRecord> onProcessedCallback) {
     this.onProcessedCallback = this.onProcessedCallback.andThen(onProcessedCallback);
     return this;
@@ -212,7 +220,8 @@ public final class EngineRule extends ExternalResource {
                               partitionId, new PartitionCommandSenderImpl()),
                           deploymentDistributor,
                           (key, partition) -> {},
-                          jobsAvailableCallback)
+                          jobType -> jobsAvailableCallback.accept(bufferAsString(jobType)),
+                          engineConfiguration)
                       .withListener(new ProcessingExporterTransistor())
                       .withListener(reprocessingCompletedListener));
 
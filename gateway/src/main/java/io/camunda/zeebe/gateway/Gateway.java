@@ -10,9 +10,11 @@ package io.camunda.zeebe.gateway;
 import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.cluster.messaging.ClusterEventService;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.concurrent.Threads;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClientImpl;
 import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.gateway.impl.configuration.GrpcCfg;
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
@@ -29,6 +31,12 @@ import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -36,6 +44,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import me.dinowernli.grpc.prometheus.Configuration;
@@ -53,9 +62,12 @@ public final class Gateway {
   private final Function<GatewayCfg, BrokerClient> brokerClientFactory;
   private final GatewayCfg gatewayCfg;
   private final ActorSchedulingService actorSchedulingService;
+  private final BooleanSupplier isEpollAvailable;
 
   private Server server;
   private BrokerClient brokerClient;
+  private EventLoopGroup bossEventLoopGroup;
+  private EventLoopGroup workerEventLoopGroup;
 
   private volatile Status status = Status.INITIAL;
 
@@ -84,10 +96,25 @@ public final class Gateway {
       final Function<GatewayCfg, BrokerClient> brokerClientFactory,
       final Function<GatewayCfg, ServerBuilder> serverBuilderFactory,
       final ActorSchedulingService actorSchedulingService) {
+    this(
+        gatewayCfg,
+        brokerClientFactory,
+        serverBuilderFactory,
+        actorSchedulingService,
+        Epoll::isAvailable);
+  }
+
+  Gateway(
+      final GatewayCfg gatewayCfg,
+      final Function<GatewayCfg, BrokerClient> brokerClientFactory,
+      final Function<GatewayCfg, ServerBuilder> serverBuilderFactory,
+      final ActorSchedulingService actorSchedulingService,
+      final BooleanSupplier isEpollAvailable) {
     this.gatewayCfg = gatewayCfg;
     this.brokerClientFactory = brokerClientFactory;
     this.serverBuilderFactory = serverBuilderFactory;
     this.actorSchedulingService = actorSchedulingService;
+    this.isEpollAvailable = isEpollAvailable;
   }
 
   public GatewayCfg getGatewayCfg() {
@@ -102,6 +129,10 @@ public final class Gateway {
     return brokerClient;
   }
 
+  EventLoopGroup getWorkerEventLoopGroup() {
+    return workerEventLoopGroup;
+  }
+
   public void start() throws IOException {
     status = Status.STARTING;
     brokerClient = buildBrokerClient();
@@ -113,12 +144,22 @@ public final class Gateway {
       actorSchedulingService.submitActor(longPollingHandler);
       activateJobsHandler = longPollingHandler;
     } else {
-      activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+      activateJobsHandler =
+          new RoundRobinActivateJobsHandler(brokerClient, getMaxActivateJobsResponseSize());
     }
 
     final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
     final ServerBuilder<?> serverBuilder = serverBuilderFactory.apply(gatewayCfg);
+    if (serverBuilder instanceof NettyServerBuilder) {
+      setTransportConfig((NettyServerBuilder) serverBuilder, gatewayCfg.getGrpc());
+    }
+
+    if (gatewayCfg.getGrpc().isDirectExecutorEnabled()) {
+      // the calls are handled on the event loop threads, which is only safe as long as no handler
+      // or interceptor blocks
+      serverBuilder.directExecutor();
+    }
 
     final SecurityCfg securityCfg = gatewayCfg.getSecurity();
     if (securityCfg.isEnabled()) {
@@ -142,6 +183,56 @@ public final class Gateway {
         .permitKeepAliveWithoutCalls(false);
   }
 
+  private void setTransportConfig(final NettyServerBuilder serverBuilder, final GrpcCfg cfg) {
+    if (cfg.getBossThreads() < 1) {
+      throw new IllegalArgumentException("Number of gRPC boss threads must be positive.");
+    }
+
+    if (cfg.getWorkerThreads() < 0) {
+      throw new IllegalArgumentException("Number of gRPC worker threads must not be negative.");
+    }
+
+    if (cfg.getMaxConcurrentCallsPerConnection() < 1) {
+      throw new IllegalArgumentException(
+          "Maximum number of concurrent calls per connection must be positive.");
+    }
+
+    final int flowControlWindow = Math.toIntExact(cfg.getFlowControlWindow().toBytes());
+    if (flowControlWindow < 1) {
+      throw new IllegalArgumentException("gRPC flow control window must be positive.");
+    }
+
+    final boolean useEpoll = cfg.isEpollEnabled() && isEpollAvailable.getAsBoolean();
+    if (cfg.isEpollEnabled() && !useEpoll) {
+      // the native transport is only shipped for linux-x86_64
+      LOG.info("The native epoll transport is not available on this platform, using NIO instead");
+    }
+
+    if (useEpoll) {
+      bossEventLoopGroup =
+          new EpollEventLoopGroup(
+              cfg.getBossThreads(), Threads.namedThreads("grpc-epoll-boss-%d", LOG));
+      workerEventLoopGroup =
+          new EpollEventLoopGroup(
+              cfg.getWorkerThreads(), Threads.namedThreads("grpc-epoll-worker-%d", LOG));
+      serverBuilder.channelType(EpollServerSocketChannel.class);
+    } else {
+      bossEventLoopGroup =
+          new NioEventLoopGroup(
+              cfg.getBossThreads(), Threads.namedThreads("grpc-nio-boss-%d", LOG));
+      workerEventLoopGroup =
+          new NioEventLoopGroup(
+              cfg.getWorkerThreads(), Threads.namedThreads("grpc-nio-worker-%d", LOG));
+      serverBuilder.channelType(NioServerSocketChannel.class);
+    }
+
+    serverBuilder
+        .bossEventLoopGroup(bossEventLoopGroup)
+        .workerEventLoopGroup(workerEventLoopGroup)
+        .flowControlWindow(flowControlWindow)
+        .maxConcurrentCallsPerConnection(cfg.getMaxConcurrentCallsPerConnection());
+  }
+
   private void setSecurityConfig(final ServerBuilder<?> serverBuilder, final SecurityCfg security) {
     if (security.getCertificateChainPath() == null) {
       throw new IllegalArgumentException(
@@ -180,7 +271,14 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setMaxResponseSize(getMaxActivateJobsResponseSize())
+        .build();
+  }
+
+  private int getMaxActivateJobsResponseSize() {
+    return Math.toIntExact(gatewayCfg.getGrpc().getMaxActivateJobsResponseSize().toBytes());
   }
 
   private ServerServiceDefinition applyInterceptors(final GatewayGrpcService service) {
@@ -213,6 +311,17 @@ public final class Gateway {
       }
     }
 
+    // the event loops are not owned by the server, so they have to be closed after it
+    if (bossEventLoopGroup != null) {
+      bossEventLoopGroup.shutdownGracefully();
+      bossEventLoopGroup = null;
+    }
+
+    if (workerEventLoopGroup != null) {
+      workerEventLoopGroup.shutdownGracefully();
+      workerEventLoopGroup = null;
+    }
+
     if (brokerClient != null) {
       brokerClient.close();
       brokerClient = null;
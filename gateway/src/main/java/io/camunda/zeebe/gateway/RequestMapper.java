@@ -38,7 +38,6 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
 public final class RequestMapper {
 
@@ -158,7 +157,7 @@ public final class RequestMapper {
       return DocumentValue.EMPTY_DOCUMENT;
     } else {
       try {
-        return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(value));
+        return MsgPackConverter.convertToMsgPackBuffer(value);
       } catch (final RuntimeException e) {
         final var cause = e.getCause();
         if (cause instanceof JsonParseException) {
@@ -7,9 +7,9 @@
  */
 package io.camunda.zeebe.gateway;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.CodedOutputStream;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
@@ -34,6 +34,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -120,42 +121,125 @@ public final class ResponseMapper {
     final Iterator<JobRecord> jobs = brokerResponse.jobs().iterator();
 
     while (jobKeys.hasNext() && jobs.hasNext()) {
-      final LongValue jobKey = jobKeys.next();
-      final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
-          ActivatedJob.newBuilder()
-              .setKey(jobKey.getValue())
-              .setType(bufferAsString(job.getTypeBuffer()))
-              .setBpmnProcessId(job.getBpmnProcessId())
-              .setElementId(job.getElementId())
-              .setProcessInstanceKey(job.getProcessInstanceKey())
-              .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
-              .setProcessDefinitionKey(job.getProcessDefinitionKey())
-              .setElementInstanceKey(job.getElementInstanceKey())
-              .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
-              .setWorker(bufferAsString(job.getWorkerBuffer()))
-              .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
-
-      responseBuilder.addJobs(activatedJob);
+      responseBuilder.addJobs(toActivatedJob(jobKeys.next(), jobs.next()));
     }
 
     return responseBuilder.build();
   }
 
+  /**
+   * Maps the jobs of the given batch lazily to responses which are at most the given size. A job is
+   * only converted when the response which contains it is requested, so that only the jobs of a
+   * single response are materialized at the same time. A job which is larger than the given size is
+   * returned in a response of its own.
+   *
+   * <p>The returned responses iterate over the given batch, so the batch must not be modified or
+   * reused until all responses are consumed.
+   */
+  public static ActivateJobsResponses toActivateJobsResponses(
+      final JobBatchRecord brokerResponse, final int maxResponseSize) {
+    return new ActivateJobsResponses(brokerResponse, maxResponseSize);
+  }
+
+  private static ActivatedJob toActivatedJob(final LongValue jobKey, final JobRecord job) {
+    return ActivatedJob.newBuilder()
+        .setKey(jobKey.getValue())
+        .setType(bufferAsString(job.getTypeBuffer()))
+        .setBpmnProcessId(job.getBpmnProcessId())
+        .setElementId(job.getElementId())
+        .setProcessInstanceKey(job.getProcessInstanceKey())
+        .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
+        .setProcessDefinitionKey(job.getProcessDefinitionKey())
+        .setElementInstanceKey(job.getElementInstanceKey())
+        .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
+        .setWorker(bufferAsString(job.getWorkerBuffer()))
+        .setRetries(job.getRetries())
+        .setDeadline(job.getDeadline())
+        .setVariables(bufferAsJson(job.getVariablesBuffer()))
+        .build();
+  }
+
   public static ResolveIncidentResponse toResolveIncidentResponse(
       final long key, final IncidentRecord incident) {
     return ResolveIncidentResponse.getDefaultInstance();
   }
 
   private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+    return MsgPackConverter.convertToJson(customHeaders);
   }
 
   @FunctionalInterface
   public interface BrokerResponseMapper<BrokerResponseDto, GrpcResponseT> {
     GrpcResponseT apply(long key, BrokerResponseDto responseDto);
   }
+
+  /**
+   * The responses to an activate jobs request for a single job batch, see {@link
+   * #toActivateJobsResponses(JobBatchRecord, int)}.
+   */
+  public static final class ActivateJobsResponses implements Iterator<ActivateJobsResponse> {
+
+    private final Iterator<LongValue> jobKeys;
+    private final Iterator<JobRecord> jobs;
+    private final int maxResponseSize;
+    private final int jobsCount;
+
+    // the job which didn't fit into the previous response anymore
+    private ActivatedJob nextJob;
+
+    private ActivateJobsResponses(final JobBatchRecord brokerResponse, final int maxResponseSize) {
+      this.maxResponseSize = maxResponseSize;
+
+      int jobsCount = 0;
+      for (final LongValue ignored : brokerResponse.jobKeys()) {
+        jobsCount++;
+      }
+      this.jobsCount = jobsCount;
+
+      jobKeys = brokerResponse.jobKeys().iterator();
+      jobs = brokerResponse.jobs().iterator();
+    }
+
+    /** @return the number of jobs in all responses */
+    public int getJobsCount() {
+      return jobsCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextJob != null || hasNextJob();
+    }
+
+    @Override
+    public ActivateJobsResponse next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("Expected to map the next response, but no jobs are left");
+      }
+
+      final ActivateJobsResponse.Builder responseBuilder = ActivateJobsResponse.newBuilder();
+      int responseSize = 0;
+
+      while (nextJob != null || hasNextJob()) {
+        if (nextJob == null) {
+          nextJob = toActivatedJob(jobKeys.next(), jobs.next());
+        }
+
+        final int jobSize =
+            CodedOutputStream.computeMessageSize(ActivateJobsResponse.JOBS_FIELD_NUMBER, nextJob);
+        if (responseBuilder.getJobsCount() > 0 && responseSize + jobSize > maxResponseSize) {
+          break;
+        }
+
+        responseBuilder.addJobs(nextJob);
+        responseSize += jobSize;
+        nextJob = null;
+      }
+
+      return responseBuilder.build();
+    }
+
+    private boolean hasNextJob() {
+      return jobKeys.hasNext() && jobs.hasNext();
+    }
+  }
 }
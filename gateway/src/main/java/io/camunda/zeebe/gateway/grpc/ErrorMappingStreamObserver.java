@@ -27,6 +27,7 @@ public final class ErrorMappingStreamObserver<GrpcResponseT>
 
   private final ServerCallStreamObserver<GrpcResponseT> delegate;
   private final GrpcErrorMapper errorMapper;
+  private volatile Runnable onReadyHandler = () -> {};
 
   public ErrorMappingStreamObserver(final ServerCallStreamObserver<GrpcResponseT> delegate) {
     this(delegate, DEFAULT_ERROR_MAPPER);
@@ -38,6 +39,9 @@ public final class ErrorMappingStreamObserver<GrpcResponseT>
     this.errorMapper = errorMapper;
 
     suppressCancelException();
+    // the handler of the delegate can only be set before the call returns, but the response may be
+    // sent asynchronously, so the handler is registered here and can be replaced at any time
+    delegate.setOnReadyHandler(this::onReady);
   }
 
   /**
@@ -69,7 +73,7 @@ public final class ErrorMappingStreamObserver<GrpcResponseT>
 
   @Override
   public void setOnReadyHandler(final Runnable onReadyHandler) {
-    delegate.setOnReadyHandler(onReadyHandler);
+    this.onReadyHandler = onReadyHandler;
   }
 
   @Override
@@ -132,5 +136,11 @@ public final class ErrorMappingStreamObserver<GrpcResponseT>
   private void onCancel() {
     Loggers.GATEWAY_LOGGER.trace(
         "Attempted to respond to a cancelled call, indicating the client most likely went away");
+    // a cancelled call never becomes ready again
+    onReadyHandler.run();
+  }
+
+  private void onReady() {
+    onReadyHandler.run();
   }
 }
@@ -20,4 +20,21 @@ import io.grpc.stub.StreamObserver;
  */
 public interface ServerStreamObserver<GrpcResponseT> extends StreamObserver<GrpcResponseT> {
   boolean isCancelled();
+
+  /**
+   * @return {@code true} if a response can be sent without being buffered, see {@link
+   *     io.grpc.stub.ServerCallStreamObserver#isReady()}
+   */
+  default boolean isReady() {
+    return true;
+  }
+
+  /**
+   * Sets the handler which is called whenever the observer becomes ready, see {@link
+   * io.grpc.stub.ServerCallStreamObserver#setOnReadyHandler(Runnable)}. The handler is also called
+   * if the call is cancelled, so that a sender which waits for it notices the cancellation.
+   *
+   * @param onReadyHandler the handler to call
+   */
+  default void setOnReadyHandler(final Runnable onReadyHandler) {}
 }
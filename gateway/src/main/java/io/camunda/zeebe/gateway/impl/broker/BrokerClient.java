@@ -13,6 +13,7 @@ import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 public interface BrokerClient extends AutoCloseable {
 
@@ -82,5 +83,12 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
-  void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+  /**
+   * Subscribes to the given job available notification topic. The handler is invoked with the
+   * number of jobs which became available.
+   */
+  void subscribeJobAvailableNotification(String topic, IntConsumer handler);
+
+  /** Closes the subscription of the given job available notification topic, if there is one. */
+  void unsubscribeJobAvailableNotification(String topic);
 }
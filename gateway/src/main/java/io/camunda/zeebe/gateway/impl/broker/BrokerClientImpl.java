@@ -25,11 +25,14 @@ import io.camunda.zeebe.util.exception.UncheckedExecutionException;
 import io.camunda.zeebe.util.sched.ActorScheduler;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import org.slf4j.Logger;
 
 public final class BrokerClientImpl implements BrokerClient {
@@ -42,7 +45,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final boolean ownsActorScheduler;
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final Map<String, CompletableFuture<Subscription>> jobAvailableSubscriptions =
+      new ConcurrentHashMap<>();
   private final ClusterEventService eventService;
 
   public BrokerClientImpl(
@@ -104,7 +108,8 @@ public final class BrokerClientImpl implements BrokerClient {
             atomixTransportAdapter,
             topologyManager,
             new RoundRobinDispatchStrategy(topologyManager),
-            clusterCfg.getRequestTimeout());
+            clusterCfg.getRequestTimeout(),
+            clusterCfg.getCommandBatching());
     actorScheduler.submitActor(requestManager);
   }
 
@@ -121,9 +126,7 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(topologyManager::close);
     LOG.debug("topology manager closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.keySet().forEach(this::unsubscribeJobAvailableNotification);
 
     if (ownsActorScheduler) {
       try {
@@ -185,17 +188,24 @@ public final class BrokerClientImpl implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
-        eventService
-            .subscribe(
-                topic,
+  public void subscribeJobAvailableNotification(final String topic, final IntConsumer handler) {
+    jobAvailableSubscriptions.computeIfAbsent(
+        topic,
+        t ->
+            eventService.subscribe(
+                t,
                 msg -> {
-                  handler.accept((String) msg);
+                  handler.accept((Integer) msg);
                   return CompletableFuture.completedFuture(null);
-                })
-            .join();
+                }));
+  }
+
+  @Override
+  public void unsubscribeJobAvailableNotification(final String topic) {
+    final var subscription = jobAvailableSubscriptions.remove(topic);
+    if (subscription != null) {
+      subscription.thenAccept(Subscription::close);
+    }
   }
 
   private void doAndLogException(final Runnable r) {
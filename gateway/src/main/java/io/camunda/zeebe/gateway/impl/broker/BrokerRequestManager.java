@@ -20,22 +20,30 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.CommandBatchingCfg;
 import io.camunda.zeebe.gateway.metrics.GatewayMetrics;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.transport.BatchFrames;
 import io.camunda.zeebe.transport.ClientRequest;
+import io.camunda.zeebe.transport.ClientRequestBatch;
 import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.sched.Actor;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 
 final class BrokerRequestManager extends Actor {
 
@@ -46,16 +54,22 @@ final class BrokerRequestManager extends Actor {
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final CommandBatchingCfg commandBatching;
+  private final Int2ObjectHashMap<List<PendingCommand<?>>> pendingBatches =
+      new Int2ObjectHashMap<>();
+  private final BatchFrames.Reader batchReader = new BatchFrames.Reader();
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
-      final Duration requestTimeout) {
+      final Duration requestTimeout,
+      final CommandBatchingCfg commandBatching) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.commandBatching = commandBatching;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -79,6 +93,29 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  /**
+   * A batch response is only retried if every single response in it is a partition leader mismatch,
+   * i.e. if the whole batch was sent to a node which is not the leader (anymore).
+   */
+  private static boolean batchResponseValidation(final DirectBuffer responseContent) {
+    final BatchFrames.Reader reader = new BatchFrames.Reader();
+    final UnsafeBuffer frame = new UnsafeBuffer();
+    try {
+      reader.wrap(responseContent, 0, responseContent.capacity());
+      while (reader.hasNext()) {
+        reader.next();
+        frame.wrap(responseContent, reader.getFrameOffset(), reader.getFrameLength());
+        if (responseValidation(frame)) {
+          return true;
+        }
+      }
+      return reader.getFrameCount() == 0;
+    } catch (final RuntimeException e) {
+      // let the response handling deal with malformed batches
+      return true;
+    }
+  }
+
   <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(final BrokerRequest<T> request) {
     return sendRequestWithRetry(request, requestTimeout);
   }
@@ -128,36 +165,159 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    if (isBatchable(request, sender, requestTimeout)) {
+      addToBatch(request, returnFuture);
+      return;
+    }
+
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
 
+    actor.runOnCompletion(
+        responseFuture,
+        (clientResponse, error) ->
+            onResponse(request, returnFuture, startTime, clientResponse, error));
+  }
+
+  private <T> void onResponse(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final long startTime,
+      final DirectBuffer clientResponse,
+      final Throwable error) {
+    RequestResult result = null;
+    try {
+      if (error == null) {
+        final BrokerResponse<T> response = request.getResponse(clientResponse);
+
+        result = handleResponse(response, returnFuture);
+        if (result.wasProcessed()) {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
+          GatewayMetrics.registerSuccessfulRequest(
+              request.getPartitionId(), request.getType(), elapsedTime);
+          return;
+        }
+      } else {
+        returnFuture.completeExceptionally(error);
+      }
+    } catch (final RuntimeException e) {
+      returnFuture.completeExceptionally(new ClientResponseException(e));
+    }
+
+    registerFailure(request, result, error);
+  }
+
+  /**
+   * Only commands for a specific partition, which are sent with retries and the default timeout,
+   * are batched; any other request has expectations (e.g. a custom timeout for long polling) which
+   * a shared batch request could not honor.
+   */
+  private boolean isBatchable(
+      final BrokerRequest<?> request,
+      final TransportRequestSender sender,
+      final Duration requestTimeout) {
+    return commandBatching.isEnabled()
+        && sender == SENDER_WITH_RETRY
+        && request.getRequestType() == RequestType.COMMAND
+        && (request.addressesSpecificPartition() || request.requiresPartitionId())
+        && this.requestTimeout.equals(requestTimeout);
+  }
+
+  private <T> void addToBatch(
+      final BrokerRequest<T> request, final CompletableFuture<BrokerResponse<T>> returnFuture) {
+    final int partitionId = request.getPartitionId();
+    List<PendingCommand<?>> batch = pendingBatches.get(partitionId);
+
+    if (batch == null) {
+      batch = new ArrayList<>();
+      pendingBatches.put(partitionId, batch);
+
+      final Duration window = commandBatching.getWindow();
+      if (window.isZero() || window.isNegative()) {
+        // flush once all commands which are already enqueued for this actor have been added
+        actor.submit(() -> flushBatch(partitionId));
+      } else {
+        actor.runDelayed(window, () -> flushBatch(partitionId));
+      }
+    }
+
+    batch.add(new PendingCommand<>(request, returnFuture));
+    if (batch.size() >= commandBatching.getMaxBatchSize()) {
+      flushBatch(partitionId);
+    }
+  }
+
+  private void flushBatch(final int partitionId) {
+    final List<PendingCommand<?>> commands = pendingBatches.remove(partitionId);
+    if (commands == null) {
+      // already flushed because the batch was full
+      return;
+    }
+
+    final ClientRequest request;
+    if (commands.size() == 1) {
+      request = commands.get(0).request;
+    } else {
+      final ClientRequestBatch batch = new ClientRequestBatch(partitionId);
+      commands.forEach(command -> batch.add(command.request));
+      request = batch;
+    }
+
+    final ActorFuture<DirectBuffer> responseFuture =
+        clientTransport.sendRequestWithRetry(
+            new BrokerAddressProvider(partitionId),
+            commands.size() == 1
+                ? BrokerRequestManager::responseValidation
+                : BrokerRequestManager::batchResponseValidation,
+            request,
+            requestTimeout);
+    final long startTime = System.currentTimeMillis();
+
     actor.runOnCompletion(
         responseFuture,
         (clientResponse, error) -> {
-          RequestResult result = null;
-          try {
-            if (error == null) {
-              final BrokerResponse<T> response = request.getResponse(clientResponse);
-
-              result = handleResponse(response, returnFuture);
-              if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                GatewayMetrics.registerSuccessfulRequest(
-                    request.getPartitionId(), request.getType(), elapsedTime);
-                return;
-              }
-            } else {
-              returnFuture.completeExceptionally(error);
-            }
-          } catch (final RuntimeException e) {
-            returnFuture.completeExceptionally(new ClientResponseException(e));
+          if (commands.size() == 1) {
+            commands.get(0).onResponse(startTime, clientResponse, error);
+          } else {
+            onBatchResponse(commands, startTime, clientResponse, error);
           }
-
-          registerFailure(request, result, error);
         });
   }
 
+  private void onBatchResponse(
+      final List<PendingCommand<?>> commands,
+      final long startTime,
+      final DirectBuffer clientResponse,
+      final Throwable error) {
+    if (error != null) {
+      commands.forEach(command -> command.onResponse(startTime, null, error));
+      return;
+    }
+
+    try {
+      batchReader.wrap(clientResponse, 0, clientResponse.capacity());
+      if (batchReader.getFrameCount() != commands.size()) {
+        throw new IllegalBrokerResponseException(
+            String.format(
+                "Expected batch response to contain %d responses, but it contains %d",
+                commands.size(), batchReader.getFrameCount()));
+      }
+    } catch (final RuntimeException e) {
+      commands.forEach(
+          command -> command.onResponse(startTime, null, new ClientResponseException(e)));
+      return;
+    }
+
+    for (final PendingCommand<?> command : commands) {
+      batchReader.next();
+      final DirectBuffer response =
+          new UnsafeBuffer(
+              clientResponse, batchReader.getFrameOffset(), batchReader.getFrameLength());
+      command.onResponse(startTime, response, null);
+    }
+  }
+
   private <T> void registerFailure(
       final BrokerRequest<T> request, final RequestResult result, final Throwable error) {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
@@ -276,6 +436,22 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  private final class PendingCommand<T> {
+    private final BrokerRequest<T> request;
+    private final CompletableFuture<BrokerResponse<T>> returnFuture;
+
+    private PendingCommand(
+        final BrokerRequest<T> request, final CompletableFuture<BrokerResponse<T>> returnFuture) {
+      this.request = request;
+      this.returnFuture = returnFuture;
+    }
+
+    private void onResponse(
+        final long startTime, final DirectBuffer clientResponse, final Throwable error) {
+      BrokerRequestManager.this.onResponse(request, returnFuture, startTime, clientResponse, error);
+    }
+  }
+
   private interface TransportRequestSender {
 
     ActorFuture<DirectBuffer> send(
@@ -27,6 +27,7 @@ public final class ClusterCfg {
   private String host = DEFAULT_CLUSTER_HOST;
   private int port = DEFAULT_CLUSTER_PORT;
   private MembershipCfg membership = new MembershipCfg();
+  private CommandBatchingCfg commandBatching = new CommandBatchingCfg();
 
   public String getMemberId() {
     return memberId;
@@ -90,9 +91,19 @@ public final class ClusterCfg {
     this.membership = membership;
   }
 
+  public CommandBatchingCfg getCommandBatching() {
+    return commandBatching;
+  }
+
+  public ClusterCfg setCommandBatching(final CommandBatchingCfg commandBatching) {
+    this.commandBatching = commandBatching;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(contactPoint, requestTimeout, clusterName, memberId, host, port);
+    return Objects.hash(
+        contactPoint, requestTimeout, clusterName, memberId, host, port, commandBatching);
   }
 
   @Override
@@ -109,7 +120,8 @@ public final class ClusterCfg {
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
         && Objects.equals(memberId, that.memberId)
-        && Objects.equals(host, that.host);
+        && Objects.equals(host, that.host)
+        && Objects.equals(commandBatching, that.commandBatching);
   }
 
   @Override
@@ -131,6 +143,8 @@ public final class ClusterCfg {
         + '\''
         + ", port="
         + port
+        + ", commandBatching="
+        + commandBatching
         + '}';
   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_COMMAND_BATCHING_ENABLED;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_COMMAND_BATCHING_MAX_BATCH_SIZE;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_COMMAND_BATCHING_WINDOW;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public final class CommandBatchingCfg {
+
+  private boolean enabled = DEFAULT_COMMAND_BATCHING_ENABLED;
+  private int maxBatchSize = DEFAULT_COMMAND_BATCHING_MAX_BATCH_SIZE;
+  private Duration window = DEFAULT_COMMAND_BATCHING_WINDOW;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public CommandBatchingCfg setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public CommandBatchingCfg setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  public CommandBatchingCfg setWindow(final Duration window) {
+    this.window = window;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, maxBatchSize, window);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final CommandBatchingCfg that = (CommandBatchingCfg) o;
+    return enabled == that.enabled
+        && maxBatchSize == that.maxBatchSize
+        && Objects.equals(window, that.window);
+  }
+
+  @Override
+  public String toString() {
+    return "CommandBatchingCfg{"
+        + "enabled="
+        + enabled
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", window="
+        + window
+        + '}';
+  }
+}
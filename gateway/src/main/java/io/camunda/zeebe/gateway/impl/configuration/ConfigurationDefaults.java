@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.impl.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class ConfigurationDefaults {
 
@@ -20,6 +21,9 @@ public final class ConfigurationDefaults {
   public static final String DEFAULT_MAX_MESSAGE_SIZE = "4M";
   public static final int DEFAULT_MAX_MESSAGE_COUNT = 16;
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(15);
+  public static final boolean DEFAULT_COMMAND_BATCHING_ENABLED = false;
+  public static final int DEFAULT_COMMAND_BATCHING_MAX_BATCH_SIZE = 32;
+  public static final Duration DEFAULT_COMMAND_BATCHING_WINDOW = Duration.ZERO;
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final boolean DEFAULT_TLS_ENABLED = false;
 
@@ -30,5 +34,14 @@ public final class ConfigurationDefaults {
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
 
+  public static final boolean DEFAULT_GRPC_EPOLL_ENABLED = true;
+  public static final int DEFAULT_GRPC_BOSS_THREADS = 1;
+  public static final int DEFAULT_GRPC_WORKER_THREADS = 0;
+  public static final boolean DEFAULT_GRPC_DIRECT_EXECUTOR_ENABLED = false;
+  public static final DataSize DEFAULT_GRPC_FLOW_CONTROL_WINDOW = DataSize.ofMegabytes(1);
+  public static final int DEFAULT_GRPC_MAX_CONCURRENT_CALLS_PER_CONNECTION = Integer.MAX_VALUE;
+  public static final DataSize DEFAULT_GRPC_MAX_ACTIVATE_JOBS_RESPONSE_SIZE =
+      DataSize.ofMegabytes(1);
+
   public static final String DEFAULT_KEEP_ALIVE_INTERVAL = "30s";
 }
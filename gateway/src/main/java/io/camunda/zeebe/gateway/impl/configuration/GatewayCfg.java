@@ -24,6 +24,7 @@ public class GatewayCfg {
   private NetworkCfg network = new NetworkCfg();
   private ClusterCfg cluster = new ClusterCfg();
   private ThreadsCfg threads = new ThreadsCfg();
+  private GrpcCfg grpc = new GrpcCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
@@ -69,6 +70,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public GrpcCfg getGrpc() {
+    return grpc;
+  }
+
+  public GatewayCfg setGrpc(final GrpcCfg grpc) {
+    this.grpc = grpc;
+    return this;
+  }
+
   public SecurityCfg getSecurity() {
     return security;
   }
@@ -97,7 +107,7 @@ public class GatewayCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, security, longPolling, interceptors);
+    return Objects.hash(network, cluster, threads, grpc, security, longPolling, interceptors);
   }
 
   @Override
@@ -112,6 +122,7 @@ public class GatewayCfg {
     return Objects.equals(network, that.network)
         && Objects.equals(cluster, that.cluster)
         && Objects.equals(threads, that.threads)
+        && Objects.equals(grpc, that.grpc)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
         && Objects.equals(interceptors, that.interceptors);
@@ -126,6 +137,8 @@ public class GatewayCfg {
         + cluster
         + ", threadsCfg="
         + threads
+        + ", grpcCfg="
+        + grpc
         + ", securityCfg="
         + security
         + ", longPollingCfg="
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_BOSS_THREADS;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_DIRECT_EXECUTOR_ENABLED;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_EPOLL_ENABLED;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_FLOW_CONTROL_WINDOW;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_MAX_ACTIVATE_JOBS_RESPONSE_SIZE;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_MAX_CONCURRENT_CALLS_PER_CONNECTION;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_WORKER_THREADS;
+
+import java.util.Objects;
+import org.springframework.util.unit.DataSize;
+
+/** Tunes the transport of the gRPC server which accepts the requests of the clients. */
+public final class GrpcCfg {
+
+  private boolean epollEnabled = DEFAULT_GRPC_EPOLL_ENABLED;
+  private int bossThreads = DEFAULT_GRPC_BOSS_THREADS;
+  private int workerThreads = DEFAULT_GRPC_WORKER_THREADS;
+  private boolean directExecutorEnabled = DEFAULT_GRPC_DIRECT_EXECUTOR_ENABLED;
+  private DataSize flowControlWindow = DEFAULT_GRPC_FLOW_CONTROL_WINDOW;
+  private int maxConcurrentCallsPerConnection = DEFAULT_GRPC_MAX_CONCURRENT_CALLS_PER_CONNECTION;
+  private DataSize maxActivateJobsResponseSize = DEFAULT_GRPC_MAX_ACTIVATE_JOBS_RESPONSE_SIZE;
+
+  public boolean isEpollEnabled() {
+    return epollEnabled;
+  }
+
+  public GrpcCfg setEpollEnabled(final boolean epollEnabled) {
+    this.epollEnabled = epollEnabled;
+    return this;
+  }
+
+  public int getBossThreads() {
+    return bossThreads;
+  }
+
+  public GrpcCfg setBossThreads(final int bossThreads) {
+    this.bossThreads = bossThreads;
+    return this;
+  }
+
+  /** @return the number of worker threads, or 0 to use twice the number of available cores */
+  public int getWorkerThreads() {
+    return workerThreads;
+  }
+
+  public GrpcCfg setWorkerThreads(final int workerThreads) {
+    this.workerThreads = workerThreads;
+    return this;
+  }
+
+  public boolean isDirectExecutorEnabled() {
+    return directExecutorEnabled;
+  }
+
+  public GrpcCfg setDirectExecutorEnabled(final boolean directExecutorEnabled) {
+    this.directExecutorEnabled = directExecutorEnabled;
+    return this;
+  }
+
+  public DataSize getFlowControlWindow() {
+    return flowControlWindow;
+  }
+
+  public GrpcCfg setFlowControlWindow(final DataSize flowControlWindow) {
+    this.flowControlWindow = flowControlWindow;
+    return this;
+  }
+
+  public int getMaxConcurrentCallsPerConnection() {
+    return maxConcurrentCallsPerConnection;
+  }
+
+  public GrpcCfg setMaxConcurrentCallsPerConnection(final int maxConcurrentCallsPerConnection) {
+    this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a single response to an activate jobs request; the activated jobs
+   *     are sent in as many responses as needed
+   */
+  public DataSize getMaxActivateJobsResponseSize() {
+    return maxActivateJobsResponseSize;
+  }
+
+  public GrpcCfg setMaxActivateJobsResponseSize(final DataSize maxActivateJobsResponseSize) {
+    this.maxActivateJobsResponseSize = maxActivateJobsResponseSize;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        epollEnabled,
+        bossThreads,
+        workerThreads,
+        directExecutorEnabled,
+        flowControlWindow,
+        maxConcurrentCallsPerConnection,
+        maxActivateJobsResponseSize);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final GrpcCfg that = (GrpcCfg) o;
+    return epollEnabled == that.epollEnabled
+        && bossThreads == that.bossThreads
+        && workerThreads == that.workerThreads
+        && directExecutorEnabled == that.directExecutorEnabled
+        && maxConcurrentCallsPerConnection == that.maxConcurrentCallsPerConnection
+        && Objects.equals(flowControlWindow, that.flowControlWindow)
+        && Objects.equals(maxActivateJobsResponseSize, that.maxActivateJobsResponseSize);
+  }
+
+  @Override
+  public String toString() {
+    return "GrpcCfg{"
+        + "epollEnabled="
+        + epollEnabled
+        + ", bossThreads="
+        + bossThreads
+        + ", workerThreads="
+        + workerThreads
+        + ", directExecutorEnabled="
+        + directExecutorEnabled
+        + ", flowControlWindow="
+        + flowControlWindow
+        + ", maxConcurrentCallsPerConnection="
+        + maxConcurrentCallsPerConnection
+        + ", maxActivateJobsResponseSize="
+        + maxActivateJobsResponseSize
+        + '}';
+  }
+}
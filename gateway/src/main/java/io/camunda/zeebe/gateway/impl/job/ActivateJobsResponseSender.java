@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Sends the responses of an activate jobs request to the client, respecting the flow control of the
+ * response observer. The next response is only taken from the iterator, i.e. materialized, when the
+ * previous one was handed to the observer and the observer is ready to send it. Otherwise, sending
+ * is continued when the observer becomes ready again.
+ *
+ * <p>Only a single batch of responses must be sent at the same time.
+ */
+final class ActivateJobsResponseSender {
+
+  private final AtomicReference<Runnable> pendingSend = new AtomicReference<>();
+  private final ServerStreamObserver<ActivateJobsResponse> responseObserver;
+  private final Consumer<ActivateJobsResponse> onResponse;
+  private final BooleanSupplier isClosed;
+
+  /**
+   * @param responseObserver the observer to check whether it is ready to send
+   * @param onResponse called with every response that should be sent
+   * @param isClosed returns {@code true} if no more responses should be sent
+   */
+  ActivateJobsResponseSender(
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final BooleanSupplier isClosed) {
+    this.responseObserver = responseObserver;
+    this.onResponse = onResponse;
+    this.isClosed = isClosed;
+
+    responseObserver.setOnReadyHandler(this::onReady);
+  }
+
+  /**
+   * Sends the given responses. If the request is closed before all responses are sent, the
+   * remaining responses are dropped.
+   *
+   * @param responses the responses to send
+   * @param executor the executor to continue sending on, when the observer becomes ready
+   * @param onSent called once all responses are sent or dropped
+   */
+  void send(
+      final Iterator<ActivateJobsResponse> responses,
+      final Executor executor,
+      final Runnable onSent) {
+    while (responses.hasNext() && !isClosed.getAsBoolean()) {
+      if (!responseObserver.isReady()) {
+        final Runnable retry = () -> executor.execute(() -> send(responses, executor, onSent));
+        pendingSend.set(retry);
+
+        // the observer may have become ready before the retry was set, in which case it was not
+        // picked up by the on ready handler
+        if (!responseObserver.isReady() || !pendingSend.compareAndSet(retry, null)) {
+          return;
+        }
+      } else {
+        onResponse.accept(responses.next());
+      }
+    }
+
+    onSent.run();
+  }
+
+  private void onReady() {
+    final var retry = pendingSend.getAndSet(null);
+    if (retry != null) {
+      retry.run();
+    }
+  }
+}
@@ -18,11 +18,13 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.util.sched.Actor;
 import io.camunda.zeebe.util.sched.ScheduledTimer;
 import io.grpc.protobuf.StatusProto;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -31,10 +33,15 @@ import org.slf4j.Logger;
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>The handler subscribes to the job available notifications of each job type it receives
+ * requests for, such that the brokers only notify the gateways which wait for jobs of a type. A
+ * notification contains the number of jobs which became available, and only unblocks as many
+ * pending requests as needed to activate these jobs. The subscription of a job type is closed after
+ * no requests were received for it for the long polling timeout.
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -45,6 +52,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   // jobType -> state
   private final Map<String, InFlightLongPollingActivateJobsRequestsState> jobTypeState =
       new HashMap<>();
+  // jobType -> last time a request of this type was received
+  private final Map<String, Long> jobTypeSubscriptions = new HashMap<>();
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
@@ -55,9 +64,10 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final int maxResponseSize) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient, maxResponseSize);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -71,10 +81,15 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   @Override
   protected void onActorStarted() {
-    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
+  @Override
+  protected void onActorClosing() {
+    jobTypeSubscriptions.keySet().forEach(this::unsubscribe);
+    jobTypeSubscriptions.clear();
+  }
+
   @Override
   public void activateJobs(
       final ActivateJobsRequest request,
@@ -89,6 +104,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
         () -> {
           final InFlightLongPollingActivateJobsRequestsState state =
               getJobTypeState(request.getType());
+          subscribe(request.getType());
 
           if (state.getFailedAttempts() < failedAttemptThreshold) {
             activateJobsUnchecked(state, request);
@@ -117,17 +133,28 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           request.getRequest(),
           request.getMaxJobsToActivate(),
           request.getType(),
-          response -> onResponse(request, response),
+          (responses, onSent) -> onResponses(request, responses, onSent),
           error -> onError(request, error),
           (remainingAmount, containedResourceExhaustedResponse) ->
               onCompleted(state, request, remainingAmount, containedResourceExhaustedResponse));
     }
   }
 
-  private void onNotification(final String jobType) {
-    LOG.trace("Received jobs available notification for type {}.", jobType);
+  private void subscribe(final String jobType) {
+    if (jobTypeSubscriptions.put(jobType, currentTimeMillis()) == null) {
+      brokerClient.subscribeJobAvailableNotification(
+          Protocol.getJobsAvailableTopic(jobType), jobCount -> onNotification(jobType, jobCount));
+    }
+  }
+
+  private void unsubscribe(final String jobType) {
+    brokerClient.unsubscribeJobAvailableNotification(Protocol.getJobsAvailableTopic(jobType));
+  }
+
+  private void onNotification(final String jobType, final int jobCount) {
+    LOG.trace("Received jobs available notification for {} jobs of type {}.", jobCount, jobType);
 
-    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
+    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType, jobCount));
   }
 
   private void onCompleted(
@@ -171,22 +198,28 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           () -> {
             request.complete();
             state.removeActiveRequest(request);
-            resetFailedAttemptsAndHandlePendingRequests(request.getType());
+            resetFailedAttemptsAndHandlePendingRequests(request.getType(), Integer.MAX_VALUE);
           });
     }
   }
 
-  private void onResponse(
+  private void onResponses(
       final LongPollingActivateJobsRequest request,
-      final ActivateJobsResponse activateJobsResponse) {
-    actor.submit(() -> request.onResponse(activateJobsResponse));
+      final Iterator<ActivateJobsResponse> responses,
+      final Runnable onSent) {
+    actor.submit(() -> request.sendResponses(responses, actor::submit, onSent));
   }
 
   private void onError(final LongPollingActivateJobsRequest request, final Throwable error) {
     actor.submit(() -> request.onError(error));
   }
 
-  private void resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
+  /**
+   * Unblocks the pending requests of the job type, until the requests can activate at least the
+   * given number of available jobs.
+   */
+  private void resetFailedAttemptsAndHandlePendingRequests(
+      final String jobType, final int availableJobs) {
     final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
 
     state.resetFailedAttempts();
@@ -194,11 +227,16 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     final Queue<LongPollingActivateJobsRequest> pendingRequests = state.getPendingRequests();
 
     if (!pendingRequests.isEmpty()) {
-      pendingRequests.forEach(
-          nextPendingRequest -> {
-            LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
-            activateJobs(nextPendingRequest);
-          });
+      long requestedJobs = 0;
+      for (final LongPollingActivateJobsRequest nextPendingRequest : pendingRequests) {
+        if (requestedJobs >= availableJobs) {
+          break;
+        }
+
+        LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
+        activateJobs(nextPendingRequest);
+        requestedJobs += nextPendingRequest.getMaxJobsToActivate();
+      }
     } else {
       if (!state.hasActiveRequests()) {
         jobTypeState.remove(jobType);
@@ -258,6 +296,22 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
             }
           }
         });
+
+    // keep the subscriptions of recently requested job types, to avoid re-subscribing frequently
+    final long subscriptionExpiry = now - longPollingTimeout.toMillis();
+    jobTypeSubscriptions
+        .entrySet()
+        .removeIf(
+            subscription -> {
+              final String jobType = subscription.getKey();
+              final boolean isExpired =
+                  !jobTypeState.containsKey(jobType)
+                      && subscription.getValue() < subscriptionExpiry;
+              if (isExpired) {
+                unsubscribe(jobType);
+              }
+              return isExpired;
+            });
   }
 
   public static Builder newBuilder() {
@@ -275,6 +329,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int maxResponseSize = RoundRobinActivateJobsHandler.DEFAULT_MAX_RESPONSE_SIZE;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -296,10 +351,15 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       return this;
     }
 
+    public Builder setMaxResponseSize(final int maxResponseSize) {
+      this.maxResponseSize = maxResponseSize;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses, maxResponseSize);
     }
   }
 }
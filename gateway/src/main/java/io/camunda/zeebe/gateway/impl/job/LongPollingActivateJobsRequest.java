@@ -15,6 +15,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.util.sched.ScheduledTimer;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 
 public final class LongPollingActivateJobsRequest {
@@ -26,6 +28,7 @@ public final class LongPollingActivateJobsRequest {
   private final String worker;
   private final int maxJobsToActivate;
   private final Duration longPollingTimeout;
+  private final ActivateJobsResponseSender responseSender;
 
   private ScheduledTimer scheduledTimer;
   private boolean isTimedOut;
@@ -57,6 +60,9 @@ public final class LongPollingActivateJobsRequest {
     maxJobsToActivate = maxJobstoActivate;
     this.longPollingTimeout =
         longPollingTimeout == 0 ? null : Duration.ofMillis(longPollingTimeout);
+    responseSender =
+        new ActivateJobsResponseSender(
+            responseObserver, this::onResponse, () -> isCompleted() || isCanceled());
   }
 
   public void complete() {
@@ -88,6 +94,21 @@ public final class LongPollingActivateJobsRequest {
     }
   }
 
+  /**
+   * Sends the given responses to the client, one after the other when the client is ready to
+   * receive them. Must be called from the given executor.
+   *
+   * @param responses the responses to send
+   * @param executor the executor to continue sending on
+   * @param onSent called once all responses are sent or dropped
+   */
+  public void sendResponses(
+      final Iterator<ActivateJobsResponse> responses,
+      final Executor executor,
+      final Runnable onSent) {
+    responseSender.send(responses, executor, onSent);
+  }
+
   public void onError(final Throwable error) {
     if (isCompleted() || isCanceled()) {
       return;
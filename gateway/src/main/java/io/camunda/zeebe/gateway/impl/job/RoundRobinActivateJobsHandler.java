@@ -20,9 +20,11 @@ import io.camunda.zeebe.gateway.impl.broker.RoundRobinDispatchStrategy;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.protocol.record.ErrorCode;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
@@ -34,13 +36,27 @@ import java.util.function.Consumer;
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
+  public static final int DEFAULT_MAX_RESPONSE_SIZE =
+      Math.toIntExact(ConfigurationDefaults.DEFAULT_GRPC_MAX_ACTIVATE_JOBS_RESPONSE_SIZE.toBytes());
+
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final int maxResponseSize;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, DEFAULT_MAX_RESPONSE_SIZE);
+  }
+
+  /**
+   * @param brokerClient the client to send the activate requests with
+   * @param maxResponseSize the maximum size in bytes of a single response to the client; the jobs
+   *     which are activated on a partition are sent in as many responses as needed
+   */
+  public RoundRobinActivateJobsHandler(final BrokerClient brokerClient, final int maxResponseSize) {
     this.brokerClient = brokerClient;
+    this.maxResponseSize = maxResponseSize;
     topologyManager = brokerClient.getTopologyManager();
   }
 
@@ -51,12 +67,15 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
     if (topology != null) {
       final int partitionsCount = topology.getPartitionsCount();
+      final var sender =
+          new ActivateJobsResponseSender(
+              responseObserver, responseObserver::onNext, responseObserver::isCancelled);
       activateJobs(
           partitionsCount,
           RequestMapper.toActivateJobsRequest(request),
           request.getMaxJobsToActivate(),
           request.getType(),
-          responseObserver::onNext,
+          (responses, onSent) -> sender.send(responses, Runnable::run, onSent),
           responseObserver::onError,
           (remainingAmount, resourceExhaustedWasPresent) -> responseObserver.onCompleted());
     }
@@ -67,7 +86,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final BrokerActivateJobsRequest request,
       final int maxJobsToActivate,
       final String type,
-      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Iterator<ActivateJobsResponse>, Runnable> onResponses,
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted) {
     activateJobs(
@@ -75,7 +94,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         partitionIdIteratorForType(type, partitionsCount),
         maxJobsToActivate,
         type,
-        onResponse,
+        onResponses,
         onError,
         onCompleted);
   }
@@ -85,7 +104,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final PartitionIdIterator partitionIdIterator,
       final int remainingAmount,
       final String jobType,
-      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Iterator<ActivateJobsResponse>, Runnable> onResponses,
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted) {
     activateJobs(
@@ -93,7 +112,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         partitionIdIterator,
         remainingAmount,
         jobType,
-        onResponse,
+        onResponses,
         onError,
         onCompleted,
         false,
@@ -105,7 +124,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final PartitionIdIterator partitionIdIterator,
       final int remainingAmount,
       final String jobType,
-      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Iterator<ActivateJobsResponse>, Runnable> onResponses,
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted,
       final boolean pollPrevPartition,
@@ -125,24 +144,28 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
           .whenComplete(
               (response, error) -> {
                 if (error == null) {
-                  final ActivateJobsResponse grpcResponse =
-                      ResponseMapper.toActivateJobsResponse(
-                          response.getKey(), response.getResponse());
-                  final int jobsCount = grpcResponse.getJobsCount();
-                  if (jobsCount > 0) {
-                    onResponse.accept(grpcResponse);
-                  }
-
-                  activateJobs(
-                      request,
-                      partitionIdIterator,
-                      remainingAmount - jobsCount,
-                      jobType,
-                      onResponse,
-                      onError,
-                      onCompleted,
-                      response.getResponse().getTruncated(),
-                      resourceExhaustedWasPresent);
+                  // the jobs are sent in multiple smaller responses, to not materialize all of
+                  // them at once; the request is reused for the next partition, so it is only sent
+                  // after all responses are mapped
+                  final var responses =
+                      ResponseMapper.toActivateJobsResponses(
+                          response.getResponse(), maxResponseSize);
+                  final int jobsCount = responses.getJobsCount();
+                  final boolean truncated = response.getResponse().getTruncated();
+
+                  onResponses.accept(
+                      responses,
+                      () ->
+                          activateJobs(
+                              request,
+                              partitionIdIterator,
+                              remainingAmount - jobsCount,
+                              jobType,
+                              onResponses,
+                              onError,
+                              onCompleted,
+                              truncated,
+                              resourceExhaustedWasPresent));
                 } else {
                   final boolean wasResourceExhausted = wasResourceExhausted(error);
                   if (isRejection(error)) {
@@ -157,7 +180,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                       partitionIdIterator,
                       remainingAmount,
                       jobType,
-                      onResponse,
+                      onResponses,
                       onError,
                       onCompleted,
                       false,
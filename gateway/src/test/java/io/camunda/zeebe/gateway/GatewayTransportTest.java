@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import io.camunda.zeebe.gateway.Gateway.Status;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.util.sched.ActorScheduler;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.function.BooleanSupplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class GatewayTransportTest {
+
+  private final ActorScheduler actorScheduler = ActorScheduler.newActorScheduler().build();
+  private final InetSocketAddress address = SocketUtil.getNextAddress();
+  private Gateway gateway;
+
+  @Before
+  public void setUp() {
+    actorScheduler.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (gateway != null) {
+      gateway.stop();
+    }
+    actorScheduler.close();
+  }
+
+  @Test
+  public void shouldStartWithNioIfEpollIsUnavailable() throws IOException {
+    // given
+    final var cfg = new GatewayCfg();
+    cfg.getGrpc().setEpollEnabled(true);
+    gateway = buildGateway(cfg, () -> false);
+
+    // when
+    gateway.start();
+
+    // then
+    assertThat(gateway.getStatus()).isEqualTo(Status.RUNNING);
+    assertThat(gateway.getWorkerEventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+    assertAcceptsConnections();
+  }
+
+  @Test
+  public void shouldStartWithNioIfEpollIsDisabled() throws IOException {
+    // given
+    final var cfg = new GatewayCfg();
+    cfg.getGrpc().setEpollEnabled(false);
+    gateway = buildGateway(cfg, () -> true);
+
+    // when
+    gateway.start();
+
+    // then
+    assertThat(gateway.getStatus()).isEqualTo(Status.RUNNING);
+    assertThat(gateway.getWorkerEventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+    assertAcceptsConnections();
+  }
+
+  @Test
+  public void shouldStartWithEpollIfAvailable() throws IOException {
+    // given
+    assumeTrue("the native epoll transport is available", Epoll.isAvailable());
+    final var cfg = new GatewayCfg();
+    cfg.getGrpc().setEpollEnabled(true);
+    gateway = buildGateway(cfg, Epoll::isAvailable);
+
+    // when
+    gateway.start();
+
+    // then
+    assertThat(gateway.getStatus()).isEqualTo(Status.RUNNING);
+    assertThat(gateway.getWorkerEventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+    assertAcceptsConnections();
+  }
+
+  private Gateway buildGateway(final GatewayCfg cfg, final BooleanSupplier isEpollAvailable) {
+    return new Gateway(
+        cfg,
+        ignored -> new StubbedBrokerClient(),
+        ignored -> NettyServerBuilder.forAddress(address),
+        actorScheduler,
+        isEpollAvailable);
+  }
+
+  private void assertAcceptsConnections() throws IOException {
+    try (final var socket = new Socket(address.getAddress(), address.getPort())) {
+      assertThat(socket.isConnected()).isTrue();
+    }
+  }
+}
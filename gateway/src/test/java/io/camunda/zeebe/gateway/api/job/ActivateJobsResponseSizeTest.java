@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.springframework.util.unit.DataSize;
+
+@RunWith(Parameterized.class)
+public final class ActivateJobsResponseSizeTest extends GatewayTest {
+
+  public ActivateJobsResponseSizeTest(final boolean isLongPollingEnabled) {
+    super(getConfig(isLongPollingEnabled));
+  }
+
+  @Parameters(name = "{index}: longPolling.enabled[{0}]")
+  public static Iterable<Object[]> data() {
+    return Arrays.asList(new Object[][] {{true}, {false}});
+  }
+
+  private static GatewayCfg getConfig(final boolean isLongPollingEnabled) {
+    final var config = new GatewayCfg();
+    config.getLongPolling().setEnabled(isLongPollingEnabled);
+    // smaller than any job, such that each job is sent in a response of its own
+    config.getGrpc().setMaxActivateJobsResponseSize(DataSize.ofBytes(1));
+    return config;
+  }
+
+  @Test
+  public void shouldSendJobsInMultipleResponses() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String jobType = "testJob";
+    final int maxJobsToActivate = 5;
+    stub.addAvailableJobs(jobType, maxJobsToActivate);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(jobType)
+            .setWorker("testWorker")
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+
+    // when
+    final List<ActivateJobsResponse> responses = new ArrayList<>();
+    client.activateJobs(request).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses)
+        .hasSize(maxJobsToActivate)
+        .allSatisfy(response -> assertThat(response.getJobsCount()).isOne());
+
+    assertThat(responses)
+        .flatExtracting(ActivateJobsResponse::getJobsList)
+        .extracting(ActivatedJob::getKey)
+        .hasSize(maxJobsToActivate)
+        .doesNotHaveDuplicates();
+  }
+}
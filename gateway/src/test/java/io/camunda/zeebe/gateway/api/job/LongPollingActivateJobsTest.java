@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.api.job;
 import static io.camunda.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
@@ -159,6 +160,54 @@ public final class LongPollingActivateJobsTest {
         .handle(any());
   }
 
+  @Test
+  public void shouldUnblockOnlyRequestsForTheNotifiedNumberOfJobs() throws Exception {
+    // given
+    final int amount = 3;
+    activateJobsAndWaitUntilBlocked(amount);
+    final int firstRound = amount * partitionsCount;
+
+    // when
+    // each request activates up to two jobs
+    brokerClient.notifyJobsAvailable(TYPE, 3);
+
+    // then
+    final int invTriggeredByNotification = 2 * partitionsCount;
+    verify(stub, after(500).times(firstRound + invTriggeredByNotification)).handle(any());
+  }
+
+  @Test
+  public void shouldSubscribeToNotificationsOfRequestedJobTypes() {
+    // given
+    final String otherType = "other-type";
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+
+    // when
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // then
+    assertThat(brokerClient.isSubscribedToJobsAvailable(TYPE)).isTrue();
+    assertThat(brokerClient.isSubscribedToJobsAvailable(otherType)).isFalse();
+  }
+
+  @Test
+  public void shouldUnsubscribeFromNotificationsOfIdleJobTypes() {
+    // given
+    final String otherType = "other-type";
+    stub.addAvailableJobs(otherType, 2);
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest(otherType);
+    handler.activateJobs(request);
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+    assertThat(brokerClient.isSubscribedToJobsAvailable(otherType)).isTrue();
+
+    // when
+    actorClock.addTime(Duration.ofMillis(LONG_POLLING_TIMEOUT + PROBE_TIMEOUT));
+
+    // then
+    waitUntil(() -> !brokerClient.isSubscribedToJobsAvailable(otherType));
+  }
+
   @Test
   public void shouldCompleteAfterRequestTimeout() {
     // given
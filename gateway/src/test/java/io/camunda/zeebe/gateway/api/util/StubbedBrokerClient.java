@@ -25,13 +25,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final Map<String, IntConsumer> jobsAvailableHandlers = new ConcurrentHashMap<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
@@ -114,9 +116,13 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+  public void subscribeJobAvailableNotification(final String topic, final IntConsumer handler) {
+    jobsAvailableHandlers.put(topic, handler);
+  }
+
+  @Override
+  public void unsubscribeJobAvailableNotification(final String topic) {
+    jobsAvailableHandlers.remove(topic);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -126,7 +132,18 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    notifyJobsAvailable(type, Integer.MAX_VALUE);
+  }
+
+  public void notifyJobsAvailable(final String type, final int jobCount) {
+    final var handler = jobsAvailableHandlers.get(Protocol.getJobsAvailableTopic(type));
+    if (handler != null) {
+      handler.accept(jobCount);
+    }
+  }
+
+  public boolean isSubscribedToJobsAvailable(final String type) {
+    return jobsAvailableHandlers.containsKey(Protocol.getJobsAvailableTopic(type));
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
@@ -31,10 +31,15 @@ public final class StubbedGatewayRule extends ExternalResource {
 
   private static ActivateJobsHandler getActivateJobsHandler(
       final GatewayCfg config, final StubbedBrokerClient brokerClient) {
+    final int maxResponseSize =
+        Math.toIntExact(config.getGrpc().getMaxActivateJobsResponseSize().toBytes());
     if (config.getLongPolling().isEnabled()) {
-      return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+      return LongPollingActivateJobsHandler.newBuilder()
+          .setBrokerClient(brokerClient)
+          .setMaxResponseSize(maxResponseSize)
+          .build();
     }
-    return new RoundRobinActivateJobsHandler(brokerClient);
+    return new RoundRobinActivateJobsHandler(brokerClient, maxResponseSize);
   }
 
   @Override
@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.broker;
+
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.AtomixCluster;
+import io.atomix.cluster.Node;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClientImpl;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerError;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.test.broker.protocol.brokerapi.ExecuteCommandRequest;
+import io.camunda.zeebe.test.broker.protocol.brokerapi.StubBrokerRule;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.util.sched.clock.ControlledActorClock;
+import io.netty.util.NetUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class BrokerClientCommandBatchingTest {
+
+  @Rule public final StubBrokerRule broker = new StubBrokerRule();
+  private BrokerClient client;
+  private AtomixCluster atomixCluster;
+
+  @After
+  public void tearDown() {
+    if (client != null) {
+      client.close();
+    }
+    if (atomixCluster != null) {
+      atomixCluster.stop().join();
+    }
+  }
+
+  @Test
+  public void shouldRespondToEachBatchedCommand() {
+    // given
+    startClient(10, Duration.ofMillis(100));
+    registerCreateProcessInstanceCommand();
+
+    // when
+    final List<CompletableFuture<BrokerResponse<ProcessInstanceCreationRecord>>> futures =
+        sendCreateProcessInstanceRequests(5);
+
+    // then
+    futures.forEach(future -> assertThat(future.join().isResponse()).isTrue());
+    assertThat(broker.getReceivedCommandRequests()).hasSize(5);
+  }
+
+  @Test
+  public void shouldFlushBatchWhenMaxBatchSizeIsReached() throws Exception {
+    // given - a window which is way longer than the request timeout
+    startClient(3, Duration.ofHours(1));
+    registerCreateProcessInstanceCommand();
+
+    // when
+    final List<CompletableFuture<BrokerResponse<ProcessInstanceCreationRecord>>> futures =
+        sendCreateProcessInstanceRequests(3);
+
+    // then
+    for (final var future : futures) {
+      assertThat(future.get(2, TimeUnit.SECONDS).isResponse()).isTrue();
+    }
+    assertThat(broker.getReceivedCommandRequests()).hasSize(3);
+  }
+
+  @Test
+  public void shouldReturnErrorForEachBatchedCommand() {
+    // given
+    startClient(10, Duration.ofMillis(100));
+    broker
+        .onExecuteCommandRequest(
+            ValueType.PROCESS_INSTANCE_CREATION, ProcessInstanceCreationIntent.CREATE)
+        .respondWithError()
+        .errorCode(ErrorCode.INTERNAL_ERROR)
+        .errorData("test")
+        .register();
+
+    // when
+    final List<CompletableFuture<BrokerResponse<ProcessInstanceCreationRecord>>> futures =
+        sendCreateProcessInstanceRequests(3);
+
+    // then
+    futures.forEach(
+        future ->
+            assertThatThrownBy(future::join)
+                .hasCause(
+                    new BrokerErrorException(new BrokerError(ErrorCode.INTERNAL_ERROR, "test"))));
+  }
+
+  private List<CompletableFuture<BrokerResponse<ProcessInstanceCreationRecord>>>
+      sendCreateProcessInstanceRequests(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> client.sendRequestWithRetry(new BrokerCreateProcessInstanceRequest()))
+        .collect(Collectors.toList());
+  }
+
+  private void startClient(final int maxBatchSize, final Duration window) {
+    final GatewayCfg configuration = new GatewayCfg();
+    configuration
+        .getCluster()
+        .setHost("0.0.0.0")
+        .setPort(SocketUtil.getNextAddress().getPort())
+        .setContactPoint(NetUtil.toSocketAddressString(broker.getSocketAddress()))
+        .setRequestTimeout(Duration.ofSeconds(3))
+        .getCommandBatching()
+        .setEnabled(true)
+        .setMaxBatchSize(maxBatchSize)
+        .setWindow(window);
+    configuration.init();
+
+    final var stubAddress = Address.from(broker.getCurrentStubHost(), broker.getCurrentStubPort());
+    final var stubNode = Node.builder().withAddress(stubAddress).build();
+    atomixCluster =
+        AtomixCluster.builder()
+            .withPort(SocketUtil.getNextAddress().getPort())
+            .withMemberId("gateway")
+            .withClusterId("cluster")
+            .withMembershipProvider(
+                BootstrapDiscoveryProvider.builder().withNodes(List.of(stubNode)).build())
+            .build();
+    atomixCluster.start().join();
+
+    client =
+        new BrokerClientImpl(
+            configuration,
+            atomixCluster.getMessagingService(),
+            atomixCluster.getMembershipService(),
+            atomixCluster.getEventService(),
+            new ControlledActorClock());
+
+    final BrokerClusterStateImpl topology = new BrokerClusterStateImpl();
+    topology.addPartitionIfAbsent(START_PARTITION_ID);
+    topology.setPartitionLeader(START_PARTITION_ID, 0, 1);
+    topology.addBrokerIfAbsent(0);
+    topology.setBrokerAddressIfPresent(0, stubAddress.toString());
+
+    ((BrokerTopologyManagerImpl) client.getTopologyManager()).setTopology(topology);
+  }
+
+  private void registerCreateProcessInstanceCommand() {
+    broker
+        .onExecuteCommandRequest(
+            ValueType.PROCESS_INSTANCE_CREATION, ProcessInstanceCreationIntent.CREATE)
+        .respondWith()
+        .event()
+        .intent(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+        .key(ExecuteCommandRequest::key)
+        .value()
+        .allOf(ExecuteCommandRequest::getCommand)
+        .done()
+        .register();
+  }
+}
@@ -12,11 +12,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -38,6 +42,28 @@ public final class MsgPackConverterTest {
     assertThat(msgPack).isEqualTo(MSG_PACK);
   }
 
+  @Test
+  public void shouldConvertFromJsonStringToMsgPackBuffer() {
+    // when
+    final DirectBuffer msgPack = MsgPackConverter.convertToMsgPackBuffer(JSON);
+
+    // then
+    assertThat(BufferUtil.bufferAsArray(msgPack)).isEqualTo(MSG_PACK);
+  }
+
+  @Test
+  public void shouldConvertLargeJsonStringToMsgPackBuffer() {
+    // given
+    final String value = "x".repeat(64 * 1024);
+    final String json = "{\"key\":\"" + value + "\"}";
+
+    // when
+    final DirectBuffer msgPack = MsgPackConverter.convertToMsgPackBuffer(json);
+
+    // then
+    assertThat(MsgPackConverter.convertToJson(msgPack)).isEqualTo(json);
+  }
+
   @Test
   public void shouldConvertFromJsonStreamToMsgPack() {
     // given
@@ -59,6 +85,33 @@ public final class MsgPackConverterTest {
     assertThat(json).isEqualTo(JSON);
   }
 
+  @Test
+  public void shouldConvertFromMsgPackBufferViewToJsonString() {
+    // given
+    final byte[] bytes = new byte[MSG_PACK.length + 4];
+    System.arraycopy(MSG_PACK, 0, bytes, 2, MSG_PACK.length);
+    final DirectBuffer view = new UnsafeBuffer(bytes, 2, MSG_PACK.length);
+
+    // when
+    final String json = MsgPackConverter.convertToJson(view);
+
+    // then
+    assertThat(json).isEqualTo(JSON);
+  }
+
+  @Test
+  public void shouldConvertFromMsgPackDirectBufferToJsonString() {
+    // given
+    final UnsafeBuffer directBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MSG_PACK.length));
+    directBuffer.putBytes(0, MSG_PACK);
+
+    // when
+    final String json = MsgPackConverter.convertToJson(directBuffer);
+
+    // then
+    assertThat(json).isEqualTo(JSON);
+  }
+
   @Test
   public void shouldConvertFromMsgPackToJsonStream() throws Exception {
     // when
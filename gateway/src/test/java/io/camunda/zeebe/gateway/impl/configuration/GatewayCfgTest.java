@@ -17,6 +17,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class GatewayCfgTest {
 
@@ -46,6 +47,14 @@ public final class GatewayCfgTest {
         .setCertificateChainPath("certificateChainPath")
         .setPrivateKeyPath("privateKeyPath");
     CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG
+        .getGrpc()
+        .setEpollEnabled(false)
+        .setBossThreads(2)
+        .setWorkerThreads(16)
+        .setDirectExecutorEnabled(true)
+        .setFlowControlWindow(DataSize.ofMegabytes(4))
+        .setMaxConcurrentCallsPerConnection(1000);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
@@ -151,6 +160,10 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.network.port", "5432");
     setEnv("zeebe.gateway.cluster.contactPoint", "broker:432");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
+    setEnv("zeebe.gateway.grpc.epollEnabled", "false");
+    setEnv("zeebe.gateway.grpc.workerThreads", "8");
+    setEnv("zeebe.gateway.grpc.directExecutorEnabled", "true");
+    setEnv("zeebe.gateway.grpc.flowControlWindow", "2MB");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
     setEnv("zeebe.gateway.cluster.longPollingEnabled", "false");
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
@@ -190,6 +203,12 @@ public final class GatewayCfgTest {
         .setHost("envHost")
         .setPort(12345);
     expected.getThreads().setManagementThreads(32);
+    expected
+        .getGrpc()
+        .setEpollEnabled(false)
+        .setWorkerThreads(8)
+        .setDirectExecutorEnabled(true)
+        .setFlowControlWindow(DataSize.ofMegabytes(2));
     expected
         .getSecurity()
         .setEnabled(false)
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class ActivateJobsResponseSenderTest {
+
+  private final TestObserver observer = new TestObserver();
+  private final AtomicBoolean isSent = new AtomicBoolean();
+  private final AtomicInteger mappedResponses = new AtomicInteger();
+
+  @Test
+  public void shouldSendAllResponsesIfReady() {
+    // given
+    final var sender = new ActivateJobsResponseSender(observer, observer::onNext, () -> false);
+
+    // when
+    sender.send(responses(3), Runnable::run, () -> isSent.set(true));
+
+    // then
+    assertThat(observer.responses).hasSize(3);
+    assertThat(isSent).isTrue();
+  }
+
+  @Test
+  public void shouldNotMapNextResponseUntilReady() {
+    // given
+    final var sender = new ActivateJobsResponseSender(observer, observer::onNext, () -> false);
+    observer.isReady = false;
+
+    // when
+    sender.send(responses(3), Runnable::run, () -> isSent.set(true));
+
+    // then
+    assertThat(observer.responses).isEmpty();
+    assertThat(mappedResponses).hasValue(0);
+    assertThat(isSent).isFalse();
+  }
+
+  @Test
+  public void shouldContinueSendingWhenReady() {
+    // given
+    final var sender = new ActivateJobsResponseSender(observer, observer::onNext, () -> false);
+    observer.isReady = false;
+    sender.send(responses(3), Runnable::run, () -> isSent.set(true));
+
+    // when
+    observer.becomeReady();
+
+    // then
+    assertThat(observer.responses).hasSize(3);
+    assertThat(isSent).isTrue();
+  }
+
+  @Test
+  public void shouldDropResponsesIfClosed() {
+    // given
+    final var isClosed = new AtomicBoolean();
+    final var sender = new ActivateJobsResponseSender(observer, observer::onNext, isClosed::get);
+    observer.isReady = false;
+    sender.send(responses(3), Runnable::run, () -> isSent.set(true));
+
+    // when
+    isClosed.set(true);
+    observer.onReadyHandler.run();
+
+    // then
+    assertThat(observer.responses).isEmpty();
+    assertThat(mappedResponses).hasValue(0);
+    assertThat(isSent).isTrue();
+  }
+
+  private Iterator<ActivateJobsResponse> responses(final int count) {
+    return new Iterator<>() {
+      private int remaining = count;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public ActivateJobsResponse next() {
+        remaining--;
+        mappedResponses.incrementAndGet();
+        return ActivateJobsResponse.newBuilder()
+            .addJobs(ActivatedJob.newBuilder().setKey(remaining))
+            .build();
+      }
+    };
+  }
+
+  private static final class TestObserver implements ServerStreamObserver<ActivateJobsResponse> {
+    private final List<ActivateJobsResponse> responses = new ArrayList<>();
+    private boolean isReady = true;
+    private Runnable onReadyHandler = () -> {};
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public boolean isReady() {
+      return isReady;
+    }
+
+    @Override
+    public void setOnReadyHandler(final Runnable onReadyHandler) {
+      this.onReadyHandler = onReadyHandler;
+    }
+
+    @Override
+    public void onNext(final ActivateJobsResponse value) {
+      responses.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {}
+
+    @Override
+    public void onCompleted() {}
+
+    private void becomeReady() {
+      isReady = true;
+      onReadyHandler.run();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for flushing the current segment of the journal to disk. Only flushes
+ * which take longer than the threshold are recorded.
+ */
+@Name("io.camunda.zeebe.journal.Flush")
+@Label("Journal Flush")
+@Category({"Zeebe", "Journal"})
+@Description("Flushing the current segment of the journal to disk")
+@Threshold("10 ms")
+@StackTrace(false)
+final class JournalFlushEvent extends Event {
+
+  @Label("Journal")
+  String journalName;
+
+  @Label("Segment")
+  long segmentId;
+
+  @Label("Last Index")
+  @Description("The index of the last entry which was flushed")
+  long lastIndex;
+}
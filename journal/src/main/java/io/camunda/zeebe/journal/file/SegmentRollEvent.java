@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for rolling the journal over to a new segment, which flushes the current
+ * segment and creates the next one. Only rolls which take longer than the threshold are recorded.
+ */
+@Name("io.camunda.zeebe.journal.SegmentRoll")
+@Label("Journal Segment Roll")
+@Category({"Zeebe", "Journal"})
+@Description("Rolling the journal over to a new segment")
+@Threshold("10 ms")
+@StackTrace(false)
+final class SegmentRollEvent extends Event {
+
+  @Label("Journal")
+  String journalName;
+
+  @Label("Previous Segment")
+  long previousSegmentId;
+
+  @Label("Segment")
+  long segmentId;
+}
@@ -623,6 +623,10 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  String getName() {
+    return name;
+  }
+
   public JournalMetrics getJournalMetrics() {
     return journalMetrics;
   }
@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalException.SegmentSizeTooSmall;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
 import org.agrona.DirectBuffer;
 
 class SegmentedJournalWriter {
@@ -98,7 +99,22 @@ class SegmentedJournalWriter {
   }
 
   public void flush() {
+    final var flushEvent =
+        FlightRecorderEvents.beginIfEnabled(JournalFlushEvent.class, JournalFlushEvent::new);
+
     journalMetrics.observeSegmentFlush(currentWriter::flush);
+
+    if (flushEvent == null) {
+      return;
+    }
+
+    flushEvent.end();
+    if (flushEvent.shouldCommit()) {
+      flushEvent.journalName = journal.getName();
+      flushEvent.segmentId = currentSegment.id();
+      flushEvent.lastIndex = currentWriter.getLastIndex();
+      flushEvent.commit();
+    }
   }
 
   public void close() {
@@ -106,8 +122,24 @@ class SegmentedJournalWriter {
   }
 
   private void createNewSegment() {
+    final var rollEvent =
+        FlightRecorderEvents.beginIfEnabled(SegmentRollEvent.class, SegmentRollEvent::new);
+    final long previousSegmentId = currentSegment.id();
+
     currentWriter.flush();
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
+
+    if (rollEvent == null) {
+      return;
+    }
+
+    rollEvent.end();
+    if (rollEvent.shouldCommit()) {
+      rollEvent.journalName = journal.getName();
+      rollEvent.previousSegmentId = previousSegmentId;
+      rollEvent.segmentId = currentSegment.id();
+      rollEvent.commit();
+    }
   }
 }
@@ -42,6 +42,22 @@ public class AppenderMetrics {
           .help("Latency to commit an event to the log in seconds")
           .labelNames("partition")
           .register();
+  private static final Histogram COMPRESSION_RATIO =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_compression_ratio")
+          .help("Ratio of the uncompressed to the appended size of the compressed blocks")
+          .labelNames("partition")
+          .buckets(1, 1.5, 2, 3, 4, 6, 8, 12, 16, 32)
+          .register();
+  private static final Histogram COMPRESSION_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_compression_time")
+          .help("Time spent to compress a block before it is appended to the log in seconds")
+          .labelNames("partition")
+          .buckets(0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05)
+          .register();
 
   private final String partitionLabel;
 
@@ -64,4 +80,12 @@ public class AppenderMetrics {
   public Histogram.Timer startCommitLatencyTimer() {
     return COMMIT_LATENCY.labels(partitionLabel).startTimer();
   }
+
+  public Histogram.Timer startCompressionTimer() {
+    return COMPRESSION_TIME.labels(partitionLabel).startTimer();
+  }
+
+  public void observeCompressionRatio(final double ratio) {
+    COMPRESSION_RATIO.labels(partitionLabel).observe(ratio);
+  }
 }
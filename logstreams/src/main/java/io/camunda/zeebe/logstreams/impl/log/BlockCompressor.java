@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
+import io.camunda.zeebe.protocol.Protocol;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the blocks which are appended to the log storage, see {@link
+ * CompressedBlockDescriptor}. It is not thread safe; it is only used by the {@link
+ * LogStorageAppender}.
+ */
+final class BlockCompressor implements AutoCloseable {
+
+  private final LogBlockCompression compression;
+  private final Deflater deflater;
+
+  BlockCompressor(final LogBlockCompression compression) {
+    this.compression = compression;
+    deflater =
+        compression == LogBlockCompression.DEFLATE ? new Deflater(Deflater.BEST_SPEED) : null;
+  }
+
+  boolean isEnabled() {
+    return deflater != null;
+  }
+
+  /**
+   * Compresses the given block. The position and limit of the given buffer are not modified.
+   *
+   * @param block the block to compress
+   * @param lowestPosition the position of the first record of the block
+   * @param highestPosition the position of the last record of the block
+   * @return a new buffer which contains the compressed block, or {@code null} if the block would
+   *     not become smaller by compressing it
+   */
+  ByteBuffer compress(
+      final ByteBuffer block, final long lowestPosition, final long highestPosition) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    final int length = block.remaining();
+    // the compressed block is only used if it is smaller than the uncompressed block
+    final ByteBuffer compressed = ByteBuffer.allocate(length).order(Protocol.ENDIANNESS);
+    compressed.position(CompressedBlockDescriptor.HEADER_LENGTH);
+
+    deflater.reset();
+    deflater.setInput(block.duplicate());
+    deflater.finish();
+    while (!deflater.finished() && compressed.hasRemaining()) {
+      deflater.deflate(compressed);
+    }
+
+    if (!deflater.finished() || !compressed.hasRemaining()) {
+      return null;
+    }
+
+    compressed
+        .putInt(CompressedBlockDescriptor.MARKER_OFFSET, CompressedBlockDescriptor.MARKER)
+        .putShort(CompressedBlockDescriptor.COMPRESSION_OFFSET, compression.getId())
+        .putInt(CompressedBlockDescriptor.UNCOMPRESSED_LENGTH_OFFSET, length)
+        .putLong(CompressedBlockDescriptor.LOWEST_POSITION_OFFSET, lowestPosition)
+        .putLong(CompressedBlockDescriptor.HIGHEST_POSITION_OFFSET, highestPosition);
+    // the log storage appends the whole capacity of the buffer
+    return compressed.flip().slice();
+  }
+
+  @Override
+  public void close() {
+    if (deflater != null) {
+      deflater.end();
+    }
+  }
+}
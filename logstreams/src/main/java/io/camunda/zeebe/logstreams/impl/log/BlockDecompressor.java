@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Decompresses the compressed blocks of the log storage, see {@link CompressedBlockDescriptor}. It
+ * is not thread safe; each {@link LogStreamReaderImpl} has its own.
+ *
+ * <p>The blocks are decompressed alternately into one of two buffers, so that the events of the
+ * previous block stay valid while the next block is read, as it is the case for uncompressed
+ * blocks.
+ */
+final class BlockDecompressor implements AutoCloseable {
+
+  private final ExpandableDirectByteBuffer[] blockBuffers = {
+    new ExpandableDirectByteBuffer(), new ExpandableDirectByteBuffer()
+  };
+  private final DirectBuffer decompressedBlock = new UnsafeBuffer();
+  private Inflater inflater;
+  private int blockBufferIndex;
+
+  /**
+   * Decompresses the given block.
+   *
+   * @param block the compressed block
+   * @return a view of the decompressed block, which is valid until the next but one block is
+   *     decompressed
+   * @throws IllegalStateException if the block can't be decompressed
+   */
+  DirectBuffer decompress(final DirectBuffer block) {
+    final LogBlockCompression compression =
+        LogBlockCompression.ofId(CompressedBlockDescriptor.getCompression(block));
+    if (compression != LogBlockCompression.DEFLATE) {
+      throw new IllegalStateException(
+          String.format("Expected a compressed block, but it has the compression %s", compression));
+    }
+
+    final int length = CompressedBlockDescriptor.getUncompressedLength(block);
+    blockBufferIndex = 1 - blockBufferIndex;
+    final ExpandableDirectByteBuffer blockBuffer = blockBuffers[blockBufferIndex];
+    blockBuffer.checkLimit(length);
+
+    final ByteBuffer output = blockBuffer.byteBuffer().duplicate();
+    output.clear().limit(length);
+    inflate(block, output);
+
+    decompressedBlock.wrap(blockBuffer, 0, length);
+    return decompressedBlock;
+  }
+
+  @Override
+  public void close() {
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+  }
+
+  private void inflate(final DirectBuffer block, final ByteBuffer output) {
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+
+    inflater.reset();
+    setInput(block);
+
+    try {
+      while (!inflater.finished() && output.hasRemaining()) {
+        if (inflater.inflate(output) == 0
+            && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+      }
+    } catch (final DataFormatException e) {
+      throw new IllegalStateException("Expected to decompress block, but it is corrupted", e);
+    }
+
+    if (!inflater.finished() || output.hasRemaining()) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to decompress block to %d bytes, but got %d bytes",
+              output.limit(), output.position()));
+    }
+  }
+
+  private void setInput(final DirectBuffer block) {
+    final int offset = CompressedBlockDescriptor.HEADER_LENGTH;
+    final int length = block.capacity() - offset;
+
+    if (block.byteArray() != null) {
+      inflater.setInput(block.byteArray(), (int) block.wrapAdjustment() + offset, length);
+    } else if (block.byteBuffer() != null) {
+      final ByteBuffer input = block.byteBuffer().duplicate();
+      final int start = (int) block.wrapAdjustment() + offset;
+      input.limit(start + length).position(start);
+      inflater.setInput(input);
+    } else {
+      final byte[] input = new byte[length];
+      block.getBytes(offset, input);
+      inflater.setInput(input);
+    }
+  }
+}
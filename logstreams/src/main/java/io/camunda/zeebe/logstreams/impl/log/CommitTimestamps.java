@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogStream;
+
+/**
+ * Remembers when the most recently appended blocks were committed, so that the commit time of a
+ * record can be looked up by its position, e.g. to attribute the latency of a record to its stages.
+ * The blocks are kept in a ring, in the order in which they are committed, which is the order of
+ * their positions; the oldest block is overwritten when the ring is full.
+ *
+ * <p>The blocks are added by the {@link LogStorageAppender}, and looked up by the readers of the
+ * log stream on other threads.
+ */
+public final class CommitTimestamps {
+
+  public static final long UNKNOWN = LogStream.UNKNOWN_COMMIT_TIMESTAMP;
+
+  private static final int DEFAULT_CAPACITY = 4096;
+
+  private final long[] lowestPositions;
+  private final long[] highestPositions;
+  private final long[] timestamps;
+  private int head;
+  private int size;
+
+  public CommitTimestamps() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public CommitTimestamps(final int capacity) {
+    lowestPositions = new long[capacity];
+    highestPositions = new long[capacity];
+    timestamps = new long[capacity];
+  }
+
+  /**
+   * Adds a committed block. The blocks must be added in the order of their positions.
+   *
+   * @param lowestPosition the position of the first record in the block
+   * @param highestPosition the position of the last record in the block
+   * @param timestamp when the block was committed, in milliseconds since the epoch
+   */
+  public synchronized void add(
+      final long lowestPosition, final long highestPosition, final long timestamp) {
+    if (size > 0 && lowestPosition <= highestPositions[index(size - 1)]) {
+      // the log was truncated and is appended again, e.g. after a leader change
+      size = 0;
+    }
+
+    final int index = (head + size) % timestamps.length;
+    lowestPositions[index] = lowestPosition;
+    highestPositions[index] = highestPosition;
+    timestamps[index] = timestamp;
+
+    if (size < timestamps.length) {
+      size++;
+    } else {
+      head = (head + 1) % timestamps.length;
+    }
+  }
+
+  /**
+   * @return when the block which contains the record with the given position was committed, or
+   *     {@link #UNKNOWN} if the block is not known (anymore)
+   */
+  public synchronized long get(final long position) {
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int index = index(middle);
+
+      if (highestPositions[index] < position) {
+        low = middle + 1;
+      } else if (lowestPositions[index] > position) {
+        high = middle - 1;
+      } else {
+        return timestamps[index];
+      }
+    }
+
+    return UNKNOWN;
+  }
+
+  private int index(final int offset) {
+    return (head + offset) % timestamps.length;
+  }
+}
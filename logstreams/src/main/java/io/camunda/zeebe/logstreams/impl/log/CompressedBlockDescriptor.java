@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.SIZE_OF_SHORT;
+
+import io.camunda.zeebe.protocol.Protocol;
+import org.agrona.DirectBuffer;
+
+/**
+ * The layout of a compressed block in the log storage. An uncompressed block starts with the length
+ * of its first frame, which is always positive; a compressed block starts with a negative marker
+ * instead, so that both can be told apart and can be mixed in the same log.
+ *
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                            MARKER                             |
+ *  +---------------------------------------------------------------+
+ *  |          COMPRESSION           |              R               |
+ *  +---------------------------------------------------------------+
+ *  |                      UNCOMPRESSED LENGTH                      |
+ *  +---------------------------------------------------------------+
+ *  |                                                               |
+ *  +                        LOWEST POSITION                        +
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                                                               |
+ *  +                        HIGHEST POSITION                       +
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                     ...COMPRESSED BLOCK...                    |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ *
+ * <p>The lowest and highest position are the positions of the first and the last record of the
+ * block, so that they can be validated without decompressing the block.
+ */
+public final class CompressedBlockDescriptor {
+
+  public static final int MARKER = -1;
+
+  public static final int MARKER_OFFSET;
+
+  public static final int COMPRESSION_OFFSET;
+
+  public static final int UNCOMPRESSED_LENGTH_OFFSET;
+
+  public static final int LOWEST_POSITION_OFFSET;
+
+  public static final int HIGHEST_POSITION_OFFSET;
+
+  public static final int HEADER_LENGTH;
+
+  static {
+    int offset = 0;
+
+    MARKER_OFFSET = offset;
+    offset += SIZE_OF_INT;
+
+    COMPRESSION_OFFSET = offset;
+    offset += SIZE_OF_SHORT;
+
+    // reserved offset
+    offset += SIZE_OF_SHORT;
+
+    UNCOMPRESSED_LENGTH_OFFSET = offset;
+    offset += SIZE_OF_INT;
+
+    LOWEST_POSITION_OFFSET = offset;
+    offset += SIZE_OF_LONG;
+
+    HIGHEST_POSITION_OFFSET = offset;
+    offset += SIZE_OF_LONG;
+
+    HEADER_LENGTH = offset;
+  }
+
+  private CompressedBlockDescriptor() {}
+
+  public static boolean isCompressed(final DirectBuffer block) {
+    return block.capacity() >= HEADER_LENGTH
+        && block.getInt(MARKER_OFFSET, Protocol.ENDIANNESS) == MARKER;
+  }
+
+  public static short getCompression(final DirectBuffer block) {
+    return block.getShort(COMPRESSION_OFFSET, Protocol.ENDIANNESS);
+  }
+
+  public static int getUncompressedLength(final DirectBuffer block) {
+    return block.getInt(UNCOMPRESSED_LENGTH_OFFSET, Protocol.ENDIANNESS);
+  }
+
+  public static long getLowestPosition(final DirectBuffer block) {
+    return block.getLong(LOWEST_POSITION_OFFSET, Protocol.ENDIANNESS);
+  }
+
+  public static long getHighestPosition(final DirectBuffer block) {
+    return block.getLong(HIGHEST_POSITION_OFFSET, Protocol.ENDIANNESS);
+  }
+}
@@ -14,16 +14,19 @@ import java.util.NoSuchElementException;
 
 public final class Listener implements AppendListener {
   private final LogStorageAppender appender;
+  private final long lowestPosition;
   private final long highestPosition;
   private final Timer appendLatencyTimer;
   private final Timer commitLatencyTimer;
 
   public Listener(
       final LogStorageAppender appender,
+      final long lowestPosition,
       final long highestPosition,
       final Timer startAppendLatencyTimer,
       final Timer startCommitLatencyTimer) {
     this.appender = appender;
+    this.lowestPosition = lowestPosition;
     this.highestPosition = highestPosition;
     appendLatencyTimer = startAppendLatencyTimer;
     commitLatencyTimer = startCommitLatencyTimer;
@@ -53,7 +56,7 @@ public final class Listener implements AppendListener {
   @Override
   public void onCommit(final long address) {
     releaseBackPressure();
-    appender.notifyCommitPosition(highestPosition, commitLatencyTimer);
+    appender.notifyCommitPosition(lowestPosition, highestPosition, commitLatencyTimer);
   }
 
   @Override
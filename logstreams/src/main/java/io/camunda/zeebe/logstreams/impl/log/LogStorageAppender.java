@@ -20,6 +20,7 @@ import io.camunda.zeebe.logstreams.impl.backpressure.AppenderGradient2Cfg;
 import io.camunda.zeebe.logstreams.impl.backpressure.AppenderVegasCfg;
 import io.camunda.zeebe.logstreams.impl.backpressure.BackpressureConstants;
 import io.camunda.zeebe.logstreams.impl.backpressure.NoopAppendLimiter;
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.util.Environment;
 import io.camunda.zeebe.util.collection.Tuple;
@@ -27,6 +28,7 @@ import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthStatus;
 import io.camunda.zeebe.util.sched.Actor;
+import io.camunda.zeebe.util.sched.clock.ActorClock;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import io.prometheus.client.Histogram.Timer;
@@ -54,8 +56,11 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   private final LoggedEventImpl positionReader = new LoggedEventImpl();
   private final AppenderMetrics appenderMetrics;
   private final Set<FailureListener> failureListeners = new HashSet<>();
+  private final CommitTimestamps commitTimestamps;
   private final ActorFuture<Void> closeFuture;
   private final int partitionId;
+  private final BlockCompressor blockCompressor;
+  private final RecentBlockCache blockCache;
 
   public LogStorageAppender(
       final String name,
@@ -63,6 +68,60 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
       final LogStorage logStorage,
       final Subscription writeBufferSubscription,
       final int maxBlockSize) {
+    this(
+        name,
+        partitionId,
+        logStorage,
+        writeBufferSubscription,
+        maxBlockSize,
+        LogBlockCompression.NONE);
+  }
+
+  public LogStorageAppender(
+      final String name,
+      final int partitionId,
+      final LogStorage logStorage,
+      final Subscription writeBufferSubscription,
+      final int maxBlockSize,
+      final LogBlockCompression blockCompression) {
+    this(
+        name,
+        partitionId,
+        logStorage,
+        writeBufferSubscription,
+        maxBlockSize,
+        blockCompression,
+        new CommitTimestamps());
+  }
+
+  public LogStorageAppender(
+      final String name,
+      final int partitionId,
+      final LogStorage logStorage,
+      final Subscription writeBufferSubscription,
+      final int maxBlockSize,
+      final LogBlockCompression blockCompression,
+      final CommitTimestamps commitTimestamps) {
+    this(
+        name,
+        partitionId,
+        logStorage,
+        writeBufferSubscription,
+        maxBlockSize,
+        blockCompression,
+        commitTimestamps,
+        RecentBlockCache.disabled());
+  }
+
+  public LogStorageAppender(
+      final String name,
+      final int partitionId,
+      final LogStorage logStorage,
+      final Subscription writeBufferSubscription,
+      final int maxBlockSize,
+      final LogBlockCompression blockCompression,
+      final CommitTimestamps commitTimestamps,
+      final RecentBlockCache blockCache) {
     appenderMetrics = new AppenderMetrics(Integer.toString(partitionId));
     env = new Environment();
     this.name = name;
@@ -77,6 +136,9 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     appendEntryLimiter =
         isBackpressureEnabled ? initBackpressure(partitionId) : initNoBackpressure(partitionId);
     closeFuture = new CompletableActorFuture<>();
+    blockCompressor = new BlockCompressor(blockCompression);
+    this.commitTimestamps = commitTimestamps;
+    this.blockCache = blockCache;
   }
 
   private AppendLimiter initBackpressure(final int partitionId) {
@@ -120,10 +182,19 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
       final var listener =
           new Listener(
               this,
+              positions.getLeft(),
               positions.getRight(),
               appenderMetrics.startAppendLatencyTimer(),
               appenderMetrics.startCommitLatencyTimer());
-      logStorage.append(positions.getLeft(), positions.getRight(), copiedBuffer, listener);
+      // the copied buffer is not modified anymore, so the readers can share it; it is added before
+      // it is appended, such that it is known once it is committed
+      blockCache.add(positions.getLeft(), positions.getRight(), copiedBuffer);
+
+      // compress only once back pressure admitted the block, otherwise a block which is deferred
+      // would be compressed again each time it is retried
+      final ByteBuffer block =
+          compressBlock(copiedBuffer, positions.getLeft(), positions.getRight());
+      logStorage.append(positions.getLeft(), positions.getRight(), block, listener);
 
       blockPeek.markCompleted();
     } else {
@@ -136,6 +207,27 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     }
   }
 
+  private ByteBuffer compressBlock(
+      final ByteBuffer block, final long lowestPosition, final long highestPosition) {
+    if (!blockCompressor.isEnabled()) {
+      return block;
+    }
+
+    final Timer compressionTimer = appenderMetrics.startCompressionTimer();
+    final ByteBuffer compressedBlock =
+        blockCompressor.compress(block, lowestPosition, highestPosition);
+    compressionTimer.observeDuration();
+
+    if (compressedBlock == null) {
+      appenderMetrics.observeCompressionRatio(1);
+      return block;
+    }
+
+    appenderMetrics.observeCompressionRatio(
+        (double) block.remaining() / compressedBlock.remaining());
+    return compressedBlock;
+  }
+
   @Override
   protected Map<String, String> createContext() {
     final var context = super.createContext();
@@ -155,6 +247,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
 
   @Override
   protected void onActorClosed() {
+    blockCompressor.close();
     closeFuture.complete(null);
   }
 
@@ -174,6 +267,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
 
   @Override
   public void onActorFailed() {
+    blockCompressor.close();
     closeFuture.complete(null);
   }
 
@@ -240,7 +334,10 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
         });
   }
 
-  void notifyCommitPosition(final long highestPosition, final Timer commitLatencyTimer) {
+  void notifyCommitPosition(
+      final long lowestPosition, final long highestPosition, final Timer commitLatencyTimer) {
+    commitTimestamps.add(lowestPosition, highestPosition, ActorClock.currentTimeMillis());
+    blockCache.commit(highestPosition);
     actor.run(
         () -> {
           appenderMetrics.setLastCommittedPosition(highestPosition);
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -23,6 +24,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private LogStorage logStorage;
   private String logName;
   private int nodeId = 0;
+  private LogBlockCompression blockCompression = LogBlockCompression.NONE;
 
   @Override
   public LogStreamBuilder withActorSchedulingService(
@@ -37,6 +39,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withBlockCompression(final LogBlockCompression blockCompression) {
+    this.blockCompression = blockCompression;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withLogStorage(final LogStorage logStorage) {
     this.logStorage = logStorage;
@@ -67,7 +75,13 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
 
     final var logStreamService =
         new LogStreamImpl(
-            actorSchedulingService, logName, partitionId, nodeId, maxFragmentSize, logStorage);
+            actorSchedulingService,
+            logName,
+            partitionId,
+            nodeId,
+            maxFragmentSize,
+            logStorage,
+            blockCompression);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -87,6 +101,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private void validate() {
     Objects.requireNonNull(actorSchedulingService, "Must specify a actor scheduler");
     Objects.requireNonNull(logStorage, "Must specify a log storage");
+    Objects.requireNonNull(blockCompression, "Must specify a block compression");
 
     if (maxFragmentSize < MINIMUM_FRAGMENT_SIZE) {
       throw new IllegalArgumentException(
@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 import io.camunda.zeebe.dispatcher.Dispatcher;
 import io.camunda.zeebe.dispatcher.Dispatchers;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
@@ -49,7 +50,10 @@ public final class LogStreamImpl extends Actor
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final int nodeId;
+  private final LogBlockCompression blockCompression;
   private final Set<FailureListener> failureListeners = new HashSet<>();
+  private final CommitTimestamps commitTimestamps = new CommitTimestamps();
+  private final RecentBlockCache blockCache = new RecentBlockCache();
   private ActorFuture<LogStorageAppender> appenderFuture;
   private Dispatcher writeBuffer;
   private LogStorageAppender appender;
@@ -63,7 +67,8 @@ public final class LogStreamImpl extends Actor
       final int partitionId,
       final int nodeId,
       final int maxFrameLength,
-      final LogStorage logStorage) {
+      final LogStorage logStorage,
+      final LogBlockCompression blockCompression) {
     this.actorSchedulingService = actorSchedulingService;
     this.logName = logName;
 
@@ -73,6 +78,7 @@ public final class LogStreamImpl extends Actor
 
     this.maxFrameLength = maxFrameLength;
     this.logStorage = logStorage;
+    this.blockCompression = blockCompression;
     closeFuture = new CompletableActorFuture<>();
 
     readers = new ArrayList<>();
@@ -181,6 +187,11 @@ public final class LogStreamImpl extends Actor
     return writerFuture;
   }
 
+  @Override
+  public long getCommitTimestamp(final long position) {
+    return commitTimestamps.get(position);
+  }
+
   @Override
   public void registerRecordAvailableListener(final LogRecordAwaiter recordAwaiter) {
     actor.call(() -> recordAwaiters.add(recordAwaiter));
@@ -201,7 +212,7 @@ public final class LogStreamImpl extends Actor
   }
 
   private LogStreamReader createLogStreamReader() {
-    final LogStreamReader newReader = new LogStreamReaderImpl(logStorage.newReader());
+    final LogStreamReader newReader = new LogStreamReaderImpl(logStorage.newReader(), blockCache);
     readers.add(newReader);
     return newReader;
   }
@@ -245,6 +256,8 @@ public final class LogStreamImpl extends Actor
         .closeAsync()
         .onComplete(
             (v, t) -> {
+              // the blocks which are not committed yet may be truncated by the next leader
+              blockCache.clear();
               if (t == null) {
                 toCloseWriteBuffer.closeAsync().onComplete(closeAppenderFuture);
               } else {
@@ -298,7 +311,10 @@ public final class LogStreamImpl extends Actor
                         partitionId,
                         logStorage,
                         subscription,
-                        maxFrameLength);
+                        maxFrameLength,
+                        blockCompression,
+                        commitTimestamps,
+                        blockCache);
 
                 actorSchedulingService
                     .submitActor(appender)
@@ -19,10 +19,14 @@ import org.agrona.concurrent.UnsafeBuffer;
  * the {@link LogStorageReader}.
  *
  * <p>This implementation assumes that blocks have no padding - they contain a contiguous series of
- * {@link LoggedEvent} which fits exactly within the block.
+ * {@link LoggedEvent} which fits exactly within the block. Compressed blocks are decompressed
+ * before their events are read.
  */
 public final class LogStreamReaderImpl implements LogStreamReader {
   private final LogStorageReader reader;
+  private final RecentBlockCache blockCache;
+  private final BlockDecompressor blockDecompressor = new BlockDecompressor();
+  private final DirectBuffer cachedBlock = new UnsafeBuffer();
 
   private final LoggedEventImpl currentEvent;
   private final DirectBuffer currentEventBuffer;
@@ -31,9 +35,16 @@ public final class LogStreamReaderImpl implements LogStreamReader {
   private final DirectBuffer nextEventBuffer;
 
   private int nextEventOffset;
+  // the number of blocks which were read from the cache, without advancing the storage reader
+  private int blocksReadFromCache;
 
   public LogStreamReaderImpl(final LogStorageReader reader) {
+    this(reader, RecentBlockCache.disabled());
+  }
+
+  public LogStreamReaderImpl(final LogStorageReader reader, final RecentBlockCache blockCache) {
     this.reader = reader;
+    this.blockCache = blockCache;
 
     currentEvent = new LoggedEventImpl();
     currentEventBuffer = new UnsafeBuffer();
@@ -98,6 +109,7 @@ public final class LogStreamReaderImpl implements LogStreamReader {
   @Override
   public boolean seek(final long position) {
     reader.seek(position);
+    blocksReadFromCache = 0;
     reset();
     readNextBlock();
 
@@ -150,6 +162,7 @@ public final class LogStreamReaderImpl implements LogStreamReader {
   public void close() {
     reset();
     reader.close();
+    blockDecompressor.close();
   }
 
   private long getCurrentPosition() {
@@ -190,18 +203,88 @@ public final class LogStreamReaderImpl implements LogStreamReader {
   }
 
   private boolean readNextBlock() {
+    final long currentPosition = getCurrentPosition();
+    if (currentPosition < 0) {
+      // the reader was reset, so the next block is the one at which the storage reader is
+      return readNextBlockFromStorage();
+    }
+
+    final long nextPosition = currentPosition + 1;
+    if (blockCache.wrapBlock(nextPosition, cachedBlock)) {
+      blocksReadFromCache++;
+      wrapNextBlock(cachedBlock);
+      return true;
+    }
+
+    if (blocksReadFromCache > 0) {
+      return catchUpStorageReader(nextPosition);
+    }
+
+    return readNextBlockFromStorage();
+  }
+
+  /**
+   * Moves the storage reader past the blocks which were read from the cache, and reads the block
+   * which contains the given position from the storage.
+   */
+  private boolean catchUpStorageReader(final long nextPosition) {
+    // the cached blocks are usually the next blocks of the storage reader, which are skipped
+    // without decompressing them
+    while (blocksReadFromCache > 0 && reader.hasNext()) {
+      reader.next();
+      blocksReadFromCache--;
+    }
+
+    if (blocksReadFromCache == 0) {
+      if (!readNextBlockFromStorage()) {
+        return false;
+      }
+
+      if (nextEvent.getPosition() == nextPosition) {
+        return true;
+      }
+    }
+
+    // otherwise, the storage reader has to find the block by the position
+    blocksReadFromCache = 0;
+    reader.seek(nextPosition);
+
+    // the storage reader may return the last block if no block contains the position yet
+    while (readNextBlockFromStorage()) {
+      while (hasBufferedEvents() && nextEvent.getPosition() < nextPosition) {
+        nextEventOffset += nextEvent.getLength();
+        nextEvent.wrap(nextEventBuffer, nextEventOffset);
+      }
+
+      if (hasBufferedEvents()) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean readNextBlockFromStorage() {
     if (!reader.hasNext()) {
       return false;
     }
 
     final DirectBuffer nextBlock = reader.next();
-    nextEventBuffer.wrap(nextBlock);
-    nextEventOffset = 0;
-    nextEvent.wrap(nextEventBuffer, nextEventOffset);
+    if (CompressedBlockDescriptor.isCompressed(nextBlock)) {
+      wrapNextBlock(blockDecompressor.decompress(nextBlock));
+    } else {
+      wrapNextBlock(nextBlock);
+    }
 
     return true;
   }
 
+  private void wrapNextBlock(final DirectBuffer block) {
+    nextEventBuffer.wrap(block);
+    nextEventOffset = 0;
+    nextEvent.wrap(nextEventBuffer, nextEventOffset);
+  }
+
   private boolean isEventBufferValid(final DirectBuffer eventBuffer) {
     return eventBuffer.addressOffset() != 0;
   }
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps the most recently appended blocks of a partition in memory, so that the readers of the log
+ * stream which trail the head of the log, e.g. the stream processor and the exporters, can read
+ * them without going to the log storage. The blocks are kept uncompressed and are shared by all
+ * readers, which only wrap them.
+ *
+ * <p>The blocks are added by the {@link LogStorageAppender} when they are appended, but can only be
+ * read once they are committed. They are kept in a ring, in the order of their positions; the
+ * oldest block is dropped when the ring is full or the blocks take more than the given number of
+ * bytes. A dropped block is not modified, so a reader can still read a block which it wrapped
+ * before it was dropped.
+ */
+public final class RecentBlockCache {
+
+  private static final int DEFAULT_CAPACITY = 1024;
+  private static final long DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+
+  private final long[] lowestPositions;
+  private final long[] highestPositions;
+  private final DirectBuffer[] blocks;
+  private final long maxBytes;
+  private int head;
+  private int size;
+  private long bytes;
+  private long commitPosition = -1;
+
+  public RecentBlockCache() {
+    this(DEFAULT_CAPACITY, DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * @param capacity the maximum number of blocks to keep, or 0 to not keep any blocks
+   * @param maxBytes the maximum number of bytes of all blocks to keep
+   */
+  public RecentBlockCache(final int capacity, final long maxBytes) {
+    lowestPositions = new long[capacity];
+    highestPositions = new long[capacity];
+    blocks = new DirectBuffer[capacity];
+    this.maxBytes = maxBytes;
+  }
+
+  /** @return a cache which does not keep any blocks */
+  public static RecentBlockCache disabled() {
+    return new RecentBlockCache(0, 0);
+  }
+
+  /**
+   * Adds an appended block, which can be read once it is committed. The blocks must be added in the
+   * order of their positions. The given buffer must not be modified afterwards.
+   *
+   * @param lowestPosition the position of the first record in the block
+   * @param highestPosition the position of the last record in the block
+   * @param block the uncompressed block, from its position until its limit
+   */
+  public synchronized void add(
+      final long lowestPosition, final long highestPosition, final ByteBuffer block) {
+    final int length = block.remaining();
+    if (blocks.length == 0 || length > maxBytes) {
+      return;
+    }
+
+    if (size > 0 && lowestPosition <= highestPositions[index(size - 1)]) {
+      // the log was truncated and is appended again, e.g. after a leader change
+      clear();
+    }
+
+    while (size == blocks.length || bytes + length > maxBytes) {
+      removeOldest();
+    }
+
+    final int index = index(size);
+    lowestPositions[index] = lowestPosition;
+    highestPositions[index] = highestPosition;
+    blocks[index] = new UnsafeBuffer(block, block.position(), length);
+    bytes += length;
+    size++;
+  }
+
+  /**
+   * Marks the blocks until the given position as committed, which makes them readable.
+   *
+   * @param highestPosition the position of the last record of the committed block
+   */
+  public synchronized void commit(final long highestPosition) {
+    commitPosition = Math.max(commitPosition, highestPosition);
+  }
+
+  /**
+   * Wraps the given buffer around the committed block which starts with the given position, if the
+   * block is kept.
+   *
+   * @param lowestPosition the position of the first record in the block
+   * @param buffer the buffer to wrap around the block
+   * @return {@code true} if the block is kept and was wrapped, otherwise {@code false}
+   */
+  public synchronized boolean wrapBlock(final long lowestPosition, final DirectBuffer buffer) {
+    if (lowestPosition > commitPosition) {
+      return false;
+    }
+
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int index = index(middle);
+
+      if (lowestPositions[index] < lowestPosition) {
+        low = middle + 1;
+      } else if (lowestPositions[index] > lowestPosition) {
+        high = middle - 1;
+      } else if (highestPositions[index] <= commitPosition) {
+        buffer.wrap(blocks[index]);
+        return true;
+      } else {
+        return false;
+      }
+    }
+
+    return false;
+  }
+
+  /** Drops all blocks, e.g. when the blocks which are not committed yet may be truncated. */
+  public synchronized void clear() {
+    while (size > 0) {
+      removeOldest();
+    }
+    head = 0;
+    commitPosition = -1;
+  }
+
+  private void removeOldest() {
+    bytes -= blocks[head].capacity();
+    blocks[head] = null;
+    head = (head + 1) % blocks.length;
+    size--;
+  }
+
+  private int index(final int offset) {
+    return (head + offset) % blocks.length;
+  }
+}
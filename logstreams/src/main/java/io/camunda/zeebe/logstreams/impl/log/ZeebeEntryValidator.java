@@ -20,6 +20,12 @@ public class ZeebeEntryValidator implements EntryValidator {
     long lastPosition = lastEntry != null ? lastEntry.highestPosition() : -1;
     int offset = 0;
 
+    if (CompressedBlockDescriptor.isCompressed(reader)) {
+      // a compressed block is not decompressed again; the appender wrote the positions of its
+      // first and last record into its header
+      return validateCompressedBlock(reader, lastPosition, entry);
+    }
+
     do {
       final long position = LogEntryDescriptor.getPosition(reader, offset);
       if (lastPosition != -1 && position != lastPosition + 1) {
@@ -35,4 +41,31 @@ public class ZeebeEntryValidator implements EntryValidator {
 
     return ValidationResult.success();
   }
+
+  private ValidationResult validateCompressedBlock(
+      final UnsafeBuffer block, final long lastPosition, final ApplicationEntry entry) {
+    final long lowestPosition = CompressedBlockDescriptor.getLowestPosition(block);
+    final long highestPosition = CompressedBlockDescriptor.getHighestPosition(block);
+
+    if (lowestPosition != entry.lowestPosition()
+        || highestPosition != entry.highestPosition()
+        || highestPosition < lowestPosition) {
+      return ValidationResult.failure(
+          String.format(
+              "Unexpected positions <%d, %d> of compressed block when appending positions <%d, %d>.",
+              lowestPosition,
+              highestPosition,
+              entry.lowestPosition(),
+              entry.highestPosition()));
+    }
+
+    if (lastPosition != -1 && lowestPosition != lastPosition + 1) {
+      return ValidationResult.failure(
+          String.format(
+              "Unexpected position %d was encountered after position %d when appending positions <%d, %d>.",
+              lowestPosition, lastPosition, entry.lowestPosition(), entry.highestPosition()));
+    }
+
+    return ValidationResult.success();
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.log;
+
+/**
+ * The compression which is applied to the blocks that are appended to the log storage. A block is
+ * compressed as a whole, once, before it is appended; the readers of the log decompress it
+ * transparently, regardless of the compression which is configured for the log stream.
+ */
+public enum LogBlockCompression {
+  /** The blocks are appended as they are. */
+  NONE((short) 0),
+
+  /**
+   * The blocks are compressed with DEFLATE at its fastest level. A block is only appended
+   * compressed if that makes it smaller.
+   */
+  DEFLATE((short) 1);
+
+  private final short id;
+
+  LogBlockCompression(final short id) {
+    this.id = id;
+  }
+
+  /** @return the id of the compression, which is stored with each compressed block */
+  public short getId() {
+    return id;
+  }
+
+  /**
+   * @param id the id which is stored with a compressed block
+   * @return the compression with the given id
+   * @throws IllegalArgumentException if there is no compression with the given id
+   */
+  public static LogBlockCompression ofId(final short id) {
+    for (final LogBlockCompression compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        String.format("Expected a known log block compression, but got id %d", id));
+  }
+}
@@ -21,6 +21,9 @@ import io.camunda.zeebe.util.sched.future.ActorFuture;
  */
 public interface LogStream extends AsyncClosable, AutoCloseable, HealthMonitorable {
 
+  /** Returned as commit time of a record if it is not known. */
+  long UNKNOWN_COMMIT_TIMESTAMP = -1L;
+
   /** @return a new default LogStream builder */
   static LogStreamBuilder builder() {
     return new LogStreamBuilderImpl();
@@ -51,6 +54,17 @@ public interface LogStream extends AsyncClosable, AutoCloseable, HealthMonitorab
    */
   ActorFuture<LogStreamBatchWriter> newLogStreamBatchWriter();
 
+  /**
+   * Returns when the record with the given position was committed. The commit time is only known
+   * for the records which were recently appended by this log stream, i.e. while it was the leader
+   * of the partition.
+   *
+   * @param position the position of the record
+   * @return the commit time of the record in milliseconds since the epoch, or {@link
+   *     #UNKNOWN_COMMIT_TIMESTAMP} if it is not known
+   */
+  long getCommitTimestamp(long position);
+
   /**
    * Registers a listener that will be notified when new records are available to read from the
    * logstream.
@@ -25,6 +25,15 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * Returns whether an additional event of the given length can still be added to the batch,
+   * without the batch exceeding the maximum fragment length.
+   *
+   * @param length the length of the event's metadata and value
+   * @return true if the event fits into the batch, false otherwise
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
@@ -31,6 +31,15 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMaxFragmentSize(int maxFragmentSize);
 
+  /**
+   * The compression of the blocks which are appended to the log storage. The blocks are always
+   * decompressed when they are read, so the compression can be changed for an existing log.
+   *
+   * @param blockCompression the compression of the appended blocks
+   * @return this builder
+   */
+  LogStreamBuilder withBlockCompression(LogBlockCompression blockCompression);
+
   /**
    * The underlying log storage to read from/write to.
    *
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public final class CommitTimestampsTest {
+
+  private final CommitTimestamps commitTimestamps = new CommitTimestamps(3);
+
+  @Test
+  public void shouldReturnCommitTimestampOfBlock() {
+    // given
+    commitTimestamps.add(1, 3, 100);
+    commitTimestamps.add(4, 4, 200);
+    commitTimestamps.add(5, 10, 300);
+
+    // when - then
+    assertThat(commitTimestamps.get(1)).isEqualTo(100);
+    assertThat(commitTimestamps.get(3)).isEqualTo(100);
+    assertThat(commitTimestamps.get(4)).isEqualTo(200);
+    assertThat(commitTimestamps.get(7)).isEqualTo(300);
+    assertThat(commitTimestamps.get(10)).isEqualTo(300);
+  }
+
+  @Test
+  public void shouldNotReturnCommitTimestampOfUnknownPosition() {
+    // given
+    commitTimestamps.add(5, 10, 300);
+
+    // when - then
+    assertThat(commitTimestamps.get(4)).isEqualTo(CommitTimestamps.UNKNOWN);
+    assertThat(commitTimestamps.get(11)).isEqualTo(CommitTimestamps.UNKNOWN);
+  }
+
+  @Test
+  public void shouldOverwriteOldestBlock() {
+    // given
+    commitTimestamps.add(1, 3, 100);
+    commitTimestamps.add(4, 4, 200);
+    commitTimestamps.add(5, 10, 300);
+
+    // when
+    commitTimestamps.add(11, 12, 400);
+
+    // then
+    assertThat(commitTimestamps.get(2)).isEqualTo(CommitTimestamps.UNKNOWN);
+    assertThat(commitTimestamps.get(4)).isEqualTo(200);
+    assertThat(commitTimestamps.get(6)).isEqualTo(300);
+    assertThat(commitTimestamps.get(12)).isEqualTo(400);
+  }
+
+  @Test
+  public void shouldForgetBlocksWhenLogIsAppendedAgain() {
+    // given
+    commitTimestamps.add(1, 3, 100);
+    commitTimestamps.add(4, 6, 200);
+
+    // when
+    commitTimestamps.add(4, 5, 300);
+
+    // then
+    assertThat(commitTimestamps.get(2)).isEqualTo(CommitTimestamps.UNKNOWN);
+    assertThat(commitTimestamps.get(5)).isEqualTo(300);
+    assertThat(commitTimestamps.get(6)).isEqualTo(CommitTimestamps.UNKNOWN);
+  }
+}
@@ -11,7 +11,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -22,6 +24,7 @@ import io.camunda.zeebe.dispatcher.Dispatcher;
 import io.camunda.zeebe.dispatcher.Dispatchers;
 import io.camunda.zeebe.dispatcher.Subscription;
 import io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
@@ -32,6 +35,7 @@ import io.camunda.zeebe.util.buffer.BufferReader;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -40,11 +44,14 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.awaitility.Awaitility;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 
 public final class LogStorageAppenderTest {
 
@@ -147,6 +154,81 @@ public final class LogStorageAppenderTest {
     }
   }
 
+  @Test
+  public void shouldRememberCommitTimestampOfBlocks() {
+    // given
+    final var commitTimestamps = new CommitTimestamps();
+    appender =
+        new LogStorageAppender(
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            LogBlockCompression.NONE,
+            commitTimestamps);
+
+    // when
+    final var position = writer.valueWriter(new Value(1)).tryWrite();
+    schedulerRule.submitActor(appender).join();
+
+    // then
+    Awaitility.await("until the block is committed")
+        .until(() -> commitTimestamps.get(position), t -> t != CommitTimestamps.UNKNOWN);
+    assertThat(commitTimestamps.get(position + 1)).isEqualTo(CommitTimestamps.UNKNOWN);
+  }
+
+  @Test
+  public void shouldAppendCompressedBlocks() throws InterruptedException {
+    // given
+    appender =
+        new LogStorageAppender(
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            LogBlockCompression.DEFLATE);
+    final var values = new ArrayList<Value>();
+    for (int i = 0; i < 10; i++) {
+      values.add(new Value(i));
+    }
+    final var latch = new CountDownLatch(1);
+
+    // when
+    final var lowestPosition = writer.valueWriter(values.get(0)).tryWrite();
+    long highestPosition = lowestPosition;
+    for (final var value : values.subList(1, values.size())) {
+      highestPosition = writer.valueWriter(value).tryWrite();
+    }
+    final long lastPosition = highestPosition;
+    logStorageRule.setPositionListener(
+        position -> {
+          if (position == lastPosition) {
+            latch.countDown();
+          }
+        });
+    schedulerRule.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+    final ArgumentCaptor<ByteBuffer> blocks = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(logStorage, atLeastOnce())
+        .append(anyLong(), anyLong(), blocks.capture(), any(AppendListener.class));
+    assertThat(blocks.getAllValues())
+        .allMatch(block -> CompressedBlockDescriptor.isCompressed(new UnsafeBuffer(block)));
+
+    final Value expected = new Value();
+    assertThat(reader.seek(lowestPosition)).isTrue();
+    for (final var value : values) {
+      assertThat(reader.hasNext()).isTrue();
+      reader.next().readValue(expected);
+      assertThat(expected).isEqualTo(value);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
   @Test
   public void shouldDetectInconsistentEntry() throws InterruptedException {
     // given
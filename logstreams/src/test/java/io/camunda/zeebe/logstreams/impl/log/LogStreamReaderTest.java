@@ -214,6 +214,29 @@ public final class LogStreamReaderTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldReadEventsWhichAreWrittenWhileReading() {
+    // given
+    final long firstPosition = writer.writeEvent(EVENT_VALUE);
+    assertThat(reader.next().getPosition()).isEqualTo(firstPosition);
+
+    // when
+    final long secondPosition = writer.writeEvent(EVENT_VALUE);
+    final long thirdPosition = writer.writeEvent(EVENT_VALUE);
+    final long secondReadPosition = reader.next().getPosition();
+    final long thirdReadPosition = reader.next().getPosition();
+    final boolean hasNextBeforeFourthEvent = reader.hasNext();
+
+    final long fourthPosition = writer.writeEvent(EVENT_VALUE);
+
+    // then
+    assertThat(secondReadPosition).isEqualTo(secondPosition);
+    assertThat(thirdReadPosition).isEqualTo(thirdPosition);
+    assertThat(hasNextBeforeFourthEvent).isFalse();
+    assertThat(reader.next().getPosition()).isEqualTo(fourthPosition);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
   @Test
   public void shouldSeekToMiddleOfBatch() {
     // given
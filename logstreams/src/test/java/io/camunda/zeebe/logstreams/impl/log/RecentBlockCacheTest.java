@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class RecentBlockCacheTest {
+
+  private final RecentBlockCache blockCache = new RecentBlockCache(3, 100);
+  private final DirectBuffer buffer = new UnsafeBuffer();
+
+  @Test
+  public void shouldWrapCommittedBlock() {
+    // given
+    final ByteBuffer block = block(10);
+    blockCache.add(1, 3, block);
+    blockCache.add(4, 5, block(10));
+
+    // when
+    blockCache.commit(3);
+
+    // then
+    assertThat(blockCache.wrapBlock(1, buffer)).isTrue();
+    assertThat(buffer.byteArray()).isSameAs(block.array());
+    assertThat(buffer.capacity()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotWrapBlockWhichIsNotCommitted() {
+    // given
+    blockCache.add(1, 3, block(10));
+    blockCache.add(4, 5, block(10));
+
+    // when
+    blockCache.commit(3);
+
+    // then
+    assertThat(blockCache.wrapBlock(4, buffer)).isFalse();
+  }
+
+  @Test
+  public void shouldOnlyWrapBlockByItsLowestPosition() {
+    // given
+    blockCache.add(1, 3, block(10));
+    blockCache.commit(3);
+
+    // when - then
+    assertThat(blockCache.wrapBlock(2, buffer)).isFalse();
+  }
+
+  @Test
+  public void shouldDropOldestBlockWhenFull() {
+    // given
+    blockCache.add(1, 1, block(10));
+    blockCache.add(2, 2, block(10));
+    blockCache.add(3, 3, block(10));
+
+    // when
+    blockCache.add(4, 4, block(10));
+    blockCache.commit(4);
+
+    // then
+    assertThat(blockCache.wrapBlock(1, buffer)).isFalse();
+    assertThat(blockCache.wrapBlock(2, buffer)).isTrue();
+    assertThat(blockCache.wrapBlock(4, buffer)).isTrue();
+  }
+
+  @Test
+  public void shouldDropOldestBlocksWhenExceedingMaxBytes() {
+    // given
+    blockCache.add(1, 1, block(40));
+    blockCache.add(2, 2, block(40));
+
+    // when
+    blockCache.add(3, 3, block(40));
+    blockCache.commit(3);
+
+    // then
+    assertThat(blockCache.wrapBlock(1, buffer)).isFalse();
+    assertThat(blockCache.wrapBlock(2, buffer)).isTrue();
+    assertThat(blockCache.wrapBlock(3, buffer)).isTrue();
+  }
+
+  @Test
+  public void shouldNotAddBlockLargerThanMaxBytes() {
+    // given
+    blockCache.add(1, 1, block(10));
+
+    // when
+    blockCache.add(2, 2, block(101));
+    blockCache.commit(2);
+
+    // then
+    assertThat(blockCache.wrapBlock(1, buffer)).isTrue();
+    assertThat(blockCache.wrapBlock(2, buffer)).isFalse();
+  }
+
+  @Test
+  public void shouldDropBlocksWhenLogIsAppendedAgain() {
+    // given
+    blockCache.add(1, 3, block(10));
+    blockCache.add(4, 6, block(10));
+    blockCache.commit(3);
+
+    // when
+    blockCache.add(4, 5, block(10));
+    blockCache.commit(5);
+
+    // then
+    assertThat(blockCache.wrapBlock(1, buffer)).isFalse();
+    assertThat(blockCache.wrapBlock(4, buffer)).isTrue();
+    assertThat(buffer.capacity()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotWrapBlockAfterClear() {
+    // given
+    blockCache.add(1, 3, block(10));
+    blockCache.commit(3);
+
+    // when
+    blockCache.clear();
+
+    // then
+    assertThat(blockCache.wrapBlock(1, buffer)).isFalse();
+  }
+
+  private static ByteBuffer block(final int length) {
+    return ByteBuffer.allocate(length);
+  }
+}
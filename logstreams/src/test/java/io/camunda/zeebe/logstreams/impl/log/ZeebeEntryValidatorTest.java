@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.storage.log.entry.ApplicationEntry;
+import io.atomix.raft.zeebe.ValidationResult;
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
+import io.camunda.zeebe.protocol.Protocol;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public final class ZeebeEntryValidatorTest {
+
+  private final ZeebeEntryValidator validator = new ZeebeEntryValidator();
+
+  @Test
+  public void shouldAcceptCompressedBlockWhichFollowsLastEntry() {
+    // given
+    final var lastEntry = new ApplicationEntry(1, 4, compressedBlock(1, 4));
+    final var entry = new ApplicationEntry(5, 7, compressedBlock(5, 7));
+
+    // when
+    final ValidationResult result = validator.validateEntry(lastEntry, entry);
+
+    // then
+    assertThat(result.failed()).isFalse();
+  }
+
+  @Test
+  public void shouldRejectCompressedBlockWhichDoesNotFollowLastEntry() {
+    // given
+    final var lastEntry = new ApplicationEntry(1, 4, compressedBlock(1, 4));
+    final var entry = new ApplicationEntry(6, 7, compressedBlock(6, 7));
+
+    // when
+    final ValidationResult result = validator.validateEntry(lastEntry, entry);
+
+    // then
+    assertThat(result.failed()).isTrue();
+    assertThat(result.getErrorMessage()).contains("Unexpected position 6");
+  }
+
+  @Test
+  public void shouldRejectCompressedBlockWithOtherHighestPositionThanEntry() {
+    // given
+    final var lastEntry = new ApplicationEntry(1, 4, compressedBlock(1, 4));
+    final var entry = new ApplicationEntry(5, 9, compressedBlock(5, 7));
+
+    // when
+    final ValidationResult result = validator.validateEntry(lastEntry, entry);
+
+    // then
+    assertThat(result.failed()).isTrue();
+    assertThat(result.getErrorMessage()).contains("<5, 7> of compressed block");
+  }
+
+  @Test
+  public void shouldRejectCompressedBlockWithHighestPositionBelowLowestPosition() {
+    // given
+    final var entry = new ApplicationEntry(5, 4, compressedBlock(5, 4));
+
+    // when
+    final ValidationResult result = validator.validateEntry(null, entry);
+
+    // then
+    assertThat(result.failed()).isTrue();
+  }
+
+  private static ByteBuffer compressedBlock(final long lowestPosition, final long highestPosition) {
+    // the validator reads only the header, so the compressed content doesn't matter
+    return ByteBuffer.allocate(CompressedBlockDescriptor.HEADER_LENGTH + 1)
+        .order(Protocol.ENDIANNESS)
+        .putInt(CompressedBlockDescriptor.MARKER_OFFSET, CompressedBlockDescriptor.MARKER)
+        .putShort(
+            CompressedBlockDescriptor.COMPRESSION_OFFSET, LogBlockCompression.DEFLATE.getId())
+        .putInt(CompressedBlockDescriptor.UNCOMPRESSED_LENGTH_OFFSET, 1)
+        .putLong(CompressedBlockDescriptor.LOWEST_POSITION_OFFSET, lowestPosition)
+        .putLong(CompressedBlockDescriptor.HIGHEST_POSITION_OFFSET, highestPosition);
+  }
+}
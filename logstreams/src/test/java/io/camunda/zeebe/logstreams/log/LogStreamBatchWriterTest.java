@@ -426,4 +426,15 @@ public final class LogStreamBatchWriterTest {
     // then
     assertThat(pos).isEqualTo(-1);
   }
+
+  @Test
+  public void shouldNotWriteAdditionalEventExceedingMaxFragmentLength() {
+    // given
+    final int maxFragmentLength = writer.getMaxFragmentLength();
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+
+    // when + then
+    assertThat(writer.canWriteAdditionalEvent(EVENT_VALUE_2.capacity())).isTrue();
+    assertThat(writer.canWriteAdditionalEvent(maxFragmentLength)).isFalse();
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.util;
 
+import io.camunda.zeebe.logstreams.log.LogBlockCompression;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -42,6 +43,12 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withBlockCompression(final LogBlockCompression blockCompression) {
+    delegate.withBlockCompression(blockCompression);
+    return this;
+  }
+
   @Override
   public SyncLogStreamBuilder withLogStorage(final LogStorage logStorage) {
     delegate.withLogStorage(logStorage);
@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.protocol.impl.encoding;
 
-import static io.camunda.zeebe.util.StringUtil.getBytes;
-
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -26,17 +24,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
 
   private static final JsonEncoding JSON_ENCODING = JsonEncoding.UTF8;
-  private static final Charset JSON_CHARSET = StandardCharsets.UTF_8;
   private static final TypeReference<HashMap<String, Object>> OBJECT_MAP_TYPE_REFERENCE =
       new TypeReference<>() {};
   private static final TypeReference<HashMap<String, String>> STRING_MAP_TYPE_REFERENCE =
@@ -66,9 +67,29 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static byte[] convertToMsgPack(final String json) {
-    final byte[] jsonBytes = getBytes(json, JSON_CHARSET);
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(jsonBytes);
-    return convertToMsgPack(inputStream);
+    final DirectBuffer msgPack = convertToMsgPackBuffer(json);
+    return Arrays.copyOf(msgPack.byteArray(), msgPack.capacity());
+  }
+
+  /**
+   * Converts the JSON document into MessagePack, without encoding the string into bytes first. The
+   * MessagePack is written directly into the returned buffer, which may be backed by a larger array
+   * than the document, so it can be passed on without copying it again.
+   */
+  public static DirectBuffer convertToMsgPackBuffer(final String json) {
+    // the MessagePack of a document is usually smaller than its JSON, so it is rarely expanded
+    final ExpandableArrayBuffer msgPackBuffer = new ExpandableArrayBuffer(json.length() + 16);
+    final ExpandableDirectBufferOutputStream outputStream =
+        new ExpandableDirectBufferOutputStream(msgPackBuffer);
+
+    try (final JsonParser parser = JSON_FACTORY.createParser(json);
+        final JsonGenerator generator = MESSAGE_PACK_FACTORY.createGenerator(outputStream)) {
+      copyDocument(parser, generator);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert JSON to MessagePack", e);
+    }
+
+    return new UnsafeBuffer(msgPackBuffer, 0, outputStream.position());
   }
 
   public static byte[] convertToMsgPack(final InputStream inputStream) {
@@ -85,17 +106,36 @@ public final class MsgPackConverter {
   ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
+  /**
+   * Converts the MessagePack document into JSON. The document is read directly from the buffer and
+   * the JSON is written as characters, so neither is copied into an intermediate byte array.
+   */
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    final StringWriter writer = new StringWriter(buffer.capacity());
+
+    try (final JsonParser parser = createMsgPackParser(buffer);
+        final JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      copyDocument(parser, generator);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
+
+    return writer.toString();
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
+    return convertToJson(new UnsafeBuffer(msgPack));
   }
 
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+  private static JsonParser createMsgPackParser(final DirectBuffer buffer) throws IOException {
+    final byte[] array = buffer.byteArray();
+    if (array != null) {
+      return MESSAGE_PACK_FACTORY.createParser(
+          array, (int) buffer.wrapAdjustment(), buffer.capacity());
+    }
+
+    return MESSAGE_PACK_FACTORY.createParser(
+        new DirectBufferInputStream(buffer, 0, buffer.capacity()));
   }
 
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
@@ -126,16 +166,20 @@ public final class MsgPackConverter {
       throws Exception {
     try (final JsonParser parser = inFormat.createParser(in);
         final JsonGenerator generator = outFormat.createGenerator(out, JSON_ENCODING)) {
+      copyDocument(parser, generator);
+    }
+  }
 
-      final JsonToken token = parser.nextToken();
-      if (!token.isStructStart() && !token.isScalarValue()) {
-        throw new RuntimeException(
-            "Document does not begin with an object, an array, or a scalar value");
-      }
-
-      generator.copyCurrentStructure(parser);
-      generator.flush();
+  private static void copyDocument(final JsonParser parser, final JsonGenerator generator)
+      throws IOException {
+    final JsonToken token = parser.nextToken();
+    if (token == null || (!token.isStructStart() && !token.isScalarValue())) {
+      throw new RuntimeException(
+          "Document does not begin with an object, an array, or a scalar value");
     }
+
+    generator.copyCurrentStructure(parser);
+    generator.flush();
   }
 
   ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -84,6 +84,7 @@ public final class StubBrokerRule extends ExternalResource {
 
     channelHandler = new StubRequestHandler(msgPackHelper);
     serverTransport.subscribe(1, RequestType.COMMAND, channelHandler);
+    serverTransport.subscribe(1, RequestType.COMMAND_BATCH, channelHandler);
 
     currentTopology.set(topology);
   }
@@ -68,6 +68,17 @@ public final class Protocol {
   /** Task header key used for user tasks to contain form key from BPMN XML */
   public static final String USER_TASK_FORM_KEY_HEADER_NAME = "io.camunda.zeebe:formKey";
 
+  /** Prefix of the topics on which the brokers notify the gateways about available jobs */
+  private static final String JOBS_AVAILABLE_TOPIC_PREFIX = "jobsAvailable-";
+
+  /**
+   * @return the topic on which the brokers notify the subscribed gateways about the number of jobs
+   *     of the given type which became available
+   */
+  public static String getJobsAvailableTopic(final String jobType) {
+    return JOBS_AVAILABLE_TOPIC_PREFIX + jobType;
+  }
+
   public static long encodePartitionId(final int partitionId, final long key) {
     return ((long) partitionId << KEY_BITS) + key;
   }
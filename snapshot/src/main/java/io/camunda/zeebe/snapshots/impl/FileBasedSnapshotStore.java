@@ -569,6 +569,10 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotsDirectory.resolve(metadata.getSnapshotIdAsString() + CHECKSUM_SUFFIX);
   }
 
+  int getPartitionId() {
+    return partitionId;
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
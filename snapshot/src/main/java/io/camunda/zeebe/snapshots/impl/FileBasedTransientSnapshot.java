@@ -12,6 +12,7 @@ import io.camunda.zeebe.snapshots.SnapshotException.SnapshotNotFoundException;
 import io.camunda.zeebe.snapshots.SnapshotId;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
 import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
 import io.camunda.zeebe.util.sched.ActorControl;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
@@ -56,6 +57,8 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   private void takeInternal(final Consumer<Path> takeSnapshot) {
     final var snapshotMetrics = snapshotStore.getSnapshotMetrics();
+    final var takenEvent =
+        FlightRecorderEvents.beginIfEnabled(SnapshotTakenEvent.class, SnapshotTakenEvent::new);
 
     try (final var ignored = snapshotMetrics.startTimer()) {
       try {
@@ -83,6 +86,17 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
         takenFuture.completeExceptionally(exception);
       }
     }
+
+    if (takenEvent != null) {
+      takenEvent.end();
+      if (takenEvent.shouldCommit()) {
+        takenEvent.partitionId = snapshotStore.getPartitionId();
+        takenEvent.snapshotId = metadata.getSnapshotIdAsString();
+        takenEvent.processedPosition = metadata.getProcessedPosition();
+        takenEvent.succeeded = isValid;
+        takenEvent.commit();
+      }
+    }
   }
 
   @Override
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for taking a transient snapshot, i.e. writing the state into the snapshot
+ * directory and calculating its checksum. Only snapshots which take longer than the threshold are
+ * recorded.
+ */
+@Name("io.camunda.zeebe.snapshot.Taken")
+@Label("Snapshot Taken")
+@Category({"Zeebe", "Snapshot"})
+@Description("Taking a transient snapshot of the state")
+@Threshold("100 ms")
+@StackTrace(false)
+final class SnapshotTakenEvent extends Event {
+
+  @Label("Partition")
+  int partitionId;
+
+  @Label("Snapshot")
+  String snapshotId;
+
+  @Label("Processed Position")
+  long processedPosition;
+
+  @Label("Succeeded")
+  boolean succeeded;
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport;
+
+import java.nio.ByteOrder;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Frames several messages into a single transport message, and reads them back. Used for batched
+ * requests (see {@link RequestType#COMMAND_BATCH}) and their batched responses.
+ *
+ * <p>The layout is the number of frames, followed by the length and the content of each frame:
+ *
+ * <pre>
+ * +-------+----------+---------+----------+---------+-----+
+ * | count | length 0 | frame 0 | length 1 | frame 1 | ... |
+ * +-------+----------+---------+----------+---------+-----+
+ * </pre>
+ *
+ * All integers are encoded in little endian.
+ */
+public final class BatchFrames {
+
+  public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+  public static final int HEADER_LENGTH = Integer.BYTES;
+  public static final int FRAME_HEADER_LENGTH = Integer.BYTES;
+
+  private BatchFrames() {}
+
+  /** @return the length of the batch header plus the frame header for the given frame count */
+  public static int framingOverhead(final int frameCount) {
+    return HEADER_LENGTH + frameCount * FRAME_HEADER_LENGTH;
+  }
+
+  /** @return the number of frames of the batch at the given offset */
+  public static int readFrameCount(final DirectBuffer buffer, final int offset) {
+    return buffer.getInt(offset, BYTE_ORDER);
+  }
+
+  /**
+   * Writes the batch header at the given offset.
+   *
+   * @return the offset at which the first frame must be written
+   */
+  public static int writeHeader(
+      final MutableDirectBuffer buffer, final int offset, final int frameCount) {
+    buffer.putInt(offset, frameCount, BYTE_ORDER);
+    return offset + HEADER_LENGTH;
+  }
+
+  /**
+   * Writes the given bytes as frame at the given offset.
+   *
+   * @return the offset at which the next frame must be written
+   */
+  public static int writeFrame(
+      final MutableDirectBuffer buffer,
+      final int offset,
+      final DirectBuffer frame,
+      final int frameOffset,
+      final int frameLength) {
+    buffer.putInt(offset, frameLength, BYTE_ORDER);
+    buffer.putBytes(offset + FRAME_HEADER_LENGTH, frame, frameOffset, frameLength);
+    return offset + FRAME_HEADER_LENGTH + frameLength;
+  }
+
+  /**
+   * Writes the given bytes as frame at the given offset.
+   *
+   * @return the offset at which the next frame must be written
+   */
+  public static int writeFrame(
+      final MutableDirectBuffer buffer, final int offset, final byte[] frame) {
+    buffer.putInt(offset, frame.length, BYTE_ORDER);
+    buffer.putBytes(offset + FRAME_HEADER_LENGTH, frame);
+    return offset + FRAME_HEADER_LENGTH + frame.length;
+  }
+
+  /**
+   * Reads the frames of a batch one after another; can be reused by wrapping another batch.
+   *
+   * <pre>{@code
+   * reader.wrap(buffer, offset, length);
+   * while (reader.hasNext()) {
+   *   reader.next();
+   *   handle(buffer, reader.getFrameOffset(), reader.getFrameLength());
+   * }
+   * }</pre>
+   */
+  public static final class Reader {
+    private DirectBuffer buffer;
+    private int limit;
+    private int frameCount;
+    private int frameIndex;
+    private int nextFrameOffset;
+    private int frameOffset;
+    private int frameLength;
+
+    /**
+     * Wraps the given batch.
+     *
+     * @throws IllegalArgumentException if the batch header is malformed
+     */
+    public Reader wrap(final DirectBuffer buffer, final int offset, final int length) {
+      if (length < HEADER_LENGTH) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected batch to be at least %d bytes long, but was %d", HEADER_LENGTH, length));
+      }
+
+      this.buffer = buffer;
+      limit = offset + length;
+      frameCount = readFrameCount(buffer, offset);
+      if (frameCount < 0) {
+        throw new IllegalArgumentException(
+            String.format("Expected a non negative frame count, but was %d", frameCount));
+      }
+
+      frameIndex = -1;
+      nextFrameOffset = offset + HEADER_LENGTH;
+      frameOffset = 0;
+      frameLength = 0;
+      return this;
+    }
+
+    public int getFrameCount() {
+      return frameCount;
+    }
+
+    public boolean hasNext() {
+      return frameIndex + 1 < frameCount;
+    }
+
+    /**
+     * Moves to the next frame.
+     *
+     * @throws IllegalStateException if the frame exceeds the batch
+     */
+    public void next() {
+      if (nextFrameOffset + FRAME_HEADER_LENGTH > limit) {
+        throw new IllegalStateException(
+            String.format(
+                "Expected frame %d at offset %d to be within the batch limit %d",
+                frameIndex + 1, nextFrameOffset, limit));
+      }
+
+      final int length = buffer.getInt(nextFrameOffset, BYTE_ORDER);
+      final int offset = nextFrameOffset + FRAME_HEADER_LENGTH;
+      if (length < 0 || offset + length > limit) {
+        throw new IllegalStateException(
+            String.format(
+                "Expected frame %d of length %d at offset %d to be within the batch limit %d",
+                frameIndex + 1, length, offset, limit));
+      }
+
+      frameIndex++;
+      frameOffset = offset;
+      frameLength = length;
+      nextFrameOffset = offset + length;
+    }
+
+    public int getFrameIndex() {
+      return frameIndex;
+    }
+
+    public int getFrameOffset() {
+      return frameOffset;
+    }
+
+    public int getFrameLength() {
+      return frameLength;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Several requests for the same partition, sent as a single {@link RequestType#COMMAND_BATCH}
+ * request. The response is a batch of the responses to the single requests, in the same order; see
+ * {@link BatchFrames}.
+ */
+public final class ClientRequestBatch implements ClientRequest {
+
+  private final int partitionId;
+  private final List<ClientRequest> requests = new ArrayList<>();
+
+  public ClientRequestBatch(final int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public ClientRequestBatch add(final ClientRequest request) {
+    if (request.getPartitionId() != partitionId) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected request to be for partition %d, but was for partition %d",
+              partitionId, request.getPartitionId()));
+    }
+
+    requests.add(request);
+    return this;
+  }
+
+  public List<ClientRequest> getRequests() {
+    return requests;
+  }
+
+  public int size() {
+    return requests.size();
+  }
+
+  public boolean isEmpty() {
+    return requests.isEmpty();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND_BATCH;
+  }
+
+  @Override
+  public int getLength() {
+    int length = BatchFrames.framingOverhead(requests.size());
+    for (final ClientRequest request : requests) {
+      length += request.getLength();
+    }
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int frameOffset = BatchFrames.writeHeader(buffer, offset, requests.size());
+    for (final ClientRequest request : requests) {
+      final int length = request.getLength();
+      buffer.putInt(frameOffset, length, BatchFrames.BYTE_ORDER);
+      frameOffset += BatchFrames.FRAME_HEADER_LENGTH;
+      request.write(buffer, frameOffset);
+      frameOffset += length;
+    }
+  }
+}
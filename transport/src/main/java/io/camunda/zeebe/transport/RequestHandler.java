@@ -29,4 +29,40 @@ public interface RequestHandler {
       DirectBuffer buffer,
       int offset,
       int length);
+
+  /**
+   * Called on a new batch of requests on the given partition, see {@link BatchFrames}. Each frame
+   * of the batch is a request on its own, and must be responded to separately; the request id of a
+   * frame is the given first request id plus the index of the frame in the batch.
+   *
+   * <p>By default, each frame is handled separately via {@link #onRequest(ServerOutput, int, long,
+   * DirectBuffer, int, int)}. Handlers can override this to handle all requests of the batch at
+   * once.
+   *
+   * @param serverOutput output to write the responses
+   * @param partitionId the corresponding partition id
+   * @param firstRequestId the request id of the first frame of the batch
+   * @param buffer the buffer which contains the batch
+   * @param offset the offset of the batch in the buffer
+   * @param length the length of the batch
+   */
+  default void onRequestBatch(
+      final ServerOutput serverOutput,
+      final int partitionId,
+      final long firstRequestId,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
+    final var reader = new BatchFrames.Reader().wrap(buffer, offset, length);
+    while (reader.hasNext()) {
+      reader.next();
+      onRequest(
+          serverOutput,
+          partitionId,
+          firstRequestId + reader.getFrameIndex(),
+          buffer,
+          reader.getFrameOffset(),
+          reader.getFrameLength());
+    }
+  }
 }
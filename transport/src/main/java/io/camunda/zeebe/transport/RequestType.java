@@ -19,6 +19,8 @@ package io.camunda.zeebe.transport;
 public enum RequestType {
   // Supported request types
   COMMAND("command"),
+  // Several commands for the same partition, framed into a single message; see BatchFrames
+  COMMAND_BATCH("command-batch"),
   QUERY("query"),
 
   // All other request types are considered unknown
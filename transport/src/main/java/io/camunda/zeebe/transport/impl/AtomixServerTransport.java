@@ -8,6 +8,7 @@
 package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingService;
+import io.camunda.zeebe.transport.BatchFrames;
 import io.camunda.zeebe.transport.RequestHandler;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerResponse;
@@ -34,6 +35,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
       partitionsRequestMap;
   private final AtomicLong requestCount;
   private final DirectBuffer reusableRequestBuffer;
+  private final BatchFrames.Reader batchFrameReader = new BatchFrames.Reader();
   private final MessagingService messagingService;
   private final String actorName;
 
@@ -73,10 +75,17 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
             LOG.trace("Subscribe for topic {}", topicName);
           }
           partitionsRequestMap.computeIfAbsent(partitionId, id -> new Long2ObjectHashMap<>());
-          messagingService.registerHandler(
-              topicName,
-              (sender, request) ->
-                  handleAtomixRequest(request, partitionId, requestType, requestHandler));
+          if (requestType == RequestType.COMMAND_BATCH) {
+            messagingService.registerHandler(
+                topicName,
+                (sender, request) ->
+                    handleAtomixBatchRequest(request, partitionId, requestType, requestHandler));
+          } else {
+            messagingService.registerHandler(
+                topicName,
+                (sender, request) ->
+                    handleAtomixRequest(request, partitionId, requestType, requestHandler));
+          }
         });
   }
 
@@ -145,6 +154,85 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     return completableFuture;
   }
 
+  private CompletableFuture<byte[]> handleAtomixBatchRequest(
+      final byte[] requestBytes,
+      final int partitionId,
+      final RequestType requestType,
+      final RequestHandler requestHandler) {
+    final var batchFuture = new CompletableFuture<byte[]>();
+    actor.call(
+        () -> {
+          final var requestMap = partitionsRequestMap.get(partitionId);
+          if (requestMap == null) {
+            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+            LOG.trace(errorMsg);
+            batchFuture.completeExceptionally(new IllegalStateException(errorMsg));
+            return;
+          }
+
+          try {
+            reusableRequestBuffer.wrap(requestBytes);
+            final var frameCount =
+                batchFrameReader
+                    .wrap(reusableRequestBuffer, 0, requestBytes.length)
+                    .getFrameCount();
+            // each request of the batch gets its own id, such that it can be responded to
+            // separately; the batch is responded to when all of its requests are
+            final var firstRequestId = requestCount.getAndAdd(frameCount);
+            requestHandler.onRequestBatch(
+                this, partitionId, firstRequestId, reusableRequestBuffer, 0, requestBytes.length);
+            if (LOG.isTraceEnabled()) {
+              LOG.trace(
+                  "Handled batch of {} requests starting with request {} for topic {}",
+                  frameCount,
+                  firstRequestId,
+                  topicName(partitionId, requestType));
+            }
+
+            // we only add the requests to the map after successful handling
+            final CompletableFuture<byte[]>[] responseFutures = new CompletableFuture[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+              responseFutures[i] = new CompletableFuture<>();
+              requestMap.put(firstRequestId + i, responseFutures[i]);
+            }
+
+            CompletableFuture.allOf(responseFutures)
+                .whenComplete(
+                    (ok, error) -> {
+                      if (error == null) {
+                        batchFuture.complete(frameResponses(responseFutures));
+                      } else {
+                        batchFuture.completeExceptionally(error);
+                      }
+                    });
+          } catch (final Exception exception) {
+            LOG.error(
+                "Unexpected exception on handling request batch for partition {}.",
+                partitionId,
+                exception);
+            batchFuture.completeExceptionally(exception);
+          }
+        });
+
+    return batchFuture;
+  }
+
+  private static byte[] frameResponses(final CompletableFuture<byte[]>[] responseFutures) {
+    int length = BatchFrames.framingOverhead(responseFutures.length);
+    for (final var responseFuture : responseFutures) {
+      length += responseFuture.join().length;
+    }
+
+    final var bytes = new byte[length];
+    final var buffer = new UnsafeBuffer(bytes);
+    int offset = BatchFrames.writeHeader(buffer, 0, responseFutures.length);
+    for (final var responseFuture : responseFutures) {
+      offset = BatchFrames.writeFrame(buffer, offset, responseFuture.join());
+    }
+
+    return bytes;
+  }
+
   @Override
   public void sendResponse(final ServerResponse response) {
     final var requestId = response.getRequestId();
@@ -17,16 +17,20 @@ import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.impl.NettyMessagingService;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.transport.BatchFrames;
 import io.camunda.zeebe.transport.ClientRequest;
+import io.camunda.zeebe.transport.ClientRequestBatch;
 import io.camunda.zeebe.transport.ClientTransport;
 import io.camunda.zeebe.transport.RequestHandler;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.transport.ServerTransport;
 import io.camunda.zeebe.transport.TransportFactory;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -41,6 +45,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -368,6 +373,65 @@ public class AtomixTransportTest {
     assertThat(response.byteArray()).isEqualTo("messageABC".getBytes());
   }
 
+  @Test
+  public void shouldRespondToEachRequestOfBatch() {
+    // given
+    serverTransport.subscribe(0, RequestType.COMMAND_BATCH, new EchoResponder()).join();
+    final var batch =
+        new ClientRequestBatch(0)
+            .add(new Request("messageA"))
+            .add(new Request("messageBC"))
+            .add(new Request("messageDEF"));
+
+    // when
+    final var requestFuture =
+        clientTransport.sendRequestWithRetry(nodeAddressSupplier, batch, REQUEST_TIMEOUT);
+
+    // then
+    final var response = requestFuture.join();
+    final var reader = new BatchFrames.Reader().wrap(response, 0, response.capacity());
+    final var responses = new ArrayList<String>();
+    while (reader.hasNext()) {
+      reader.next();
+      responses.add(
+          BufferUtil.bufferAsString(
+              new UnsafeBuffer(response, reader.getFrameOffset(), reader.getFrameLength())));
+    }
+    assertThat(responses).containsExactly("messageA", "messageBC", "messageDEF");
+  }
+
+  @Test
+  public void shouldNotRespondToBatchUntilAllRequestsAreResponded() {
+    // given
+    final var respondedRequests = new ArrayList<Long>();
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND_BATCH,
+            (output, partitionId, requestId, buffer, offset, length) -> {
+              // only respond to the first request of the batch
+              if (respondedRequests.isEmpty()) {
+                respondedRequests.add(requestId);
+                output.sendResponse(
+                    new ServerResponseImpl()
+                        .buffer(buffer, offset, length)
+                        .setRequestId(requestId)
+                        .setPartitionId(partitionId));
+              }
+            })
+        .join();
+    final var batch =
+        new ClientRequestBatch(0).add(new Request("messageA")).add(new Request("messageB"));
+
+    // when
+    final var requestFuture =
+        clientTransport.sendRequest(nodeAddressSupplier, batch, REQUEST_TIMEOUT_NO_SUCCESS);
+
+    // then
+    assertThatThrownBy(requestFuture::join).hasCauseInstanceOf(TimeoutException.class);
+    assertThat(respondedRequests).hasSize(1);
+  }
+
   private static final class Request implements ClientRequest {
 
     private final String msg;
@@ -427,6 +491,24 @@ public class AtomixTransportTest {
     }
   }
 
+  private static final class EchoResponder implements RequestHandler {
+
+    @Override
+    public void onRequest(
+        final ServerOutput serverOutput,
+        final int partitionId,
+        final long requestId,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      serverOutput.sendResponse(
+          new ServerResponseImpl()
+              .buffer(buffer, offset, length)
+              .setRequestId(requestId)
+              .setPartitionId(partitionId));
+    }
+  }
+
   private static final class FailingResponder implements RequestHandler {
 
     @Override
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.jfr;
+
+import java.util.function.Supplier;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/** Utilities to record flight recorder events on hot paths. */
+public final class FlightRecorderEvents {
+
+  private static final ClassValue<EventType> EVENT_TYPES =
+      new ClassValue<>() {
+        @Override
+        protected EventType computeValue(final Class<?> eventClass) {
+          return EventType.getEventType(eventClass.asSubclass(Event.class));
+        }
+      };
+
+  private FlightRecorderEvents() {}
+
+  /**
+   * Returns a started event if the event is enabled in a running recording, otherwise {@code null},
+   * such that no event is allocated when nothing is recorded.
+   *
+   * @param eventClass the class of the event, to check whether it is enabled
+   * @param eventFactory creates a new event of the given class
+   * @return the started event, or {@code null} if the event is not enabled
+   */
+  public static <T extends Event> T beginIfEnabled(
+      final Class<T> eventClass, final Supplier<T> eventFactory) {
+    if (!EVENT_TYPES.get(eventClass).isEnabled()) {
+      return null;
+    }
+
+    final var event = eventFactory.get();
+    event.begin();
+    return event;
+  }
+}
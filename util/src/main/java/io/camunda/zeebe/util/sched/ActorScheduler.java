@@ -13,6 +13,9 @@ import java.util.Arrays;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 
 public final class ActorScheduler implements AutoCloseable, ActorSchedulingService {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
@@ -104,6 +107,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
   }
 
   public static class ActorSchedulerBuilder {
+    private static final Supplier<IdleStrategy> DEFAULT_IDLE_STRATEGY_SUPPLIER =
+        () -> new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+
     private final double[] priorityQuotas = new double[] {0.60, 0.30, 0.10};
     private String schedulerName = "";
     private ActorClock actorClock;
@@ -116,6 +122,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
 
     private ActorTimerQueue actorTimerQueue;
+    private Supplier<IdleStrategy> idleStrategySupplier = DEFAULT_IDLE_STRATEGY_SUPPLIER;
 
     public String getSchedulerName() {
       return schedulerName;
@@ -162,6 +169,23 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public Supplier<IdleStrategy> getIdleStrategySupplier() {
+      return idleStrategySupplier;
+    }
+
+    /**
+     * Sets the supplier of the idle strategy used by each actor thread when it has no work to do.
+     * The supplier is called once per thread, as idle strategies are usually stateful.
+     *
+     * @param idleStrategySupplier supplies a new idle strategy per actor thread
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setIdleStrategySupplier(
+        final Supplier<IdleStrategy> idleStrategySupplier) {
+      this.idleStrategySupplier = idleStrategySupplier;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
@@ -229,8 +253,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
         final ActorThreadGroup threadGroup,
         final TaskScheduler taskScheduler,
         final ActorClock clock,
-        final ActorTimerQueue timerQueue) {
-      return new ActorThread(name, id, threadGroup, taskScheduler, clock, timerQueue);
+        final ActorTimerQueue timerQueue,
+        final IdleStrategy idleStrategy) {
+      return new ActorThread(name, id, threadGroup, taskScheduler, clock, timerQueue, idleStrategy);
     }
   }
 
@@ -241,7 +266,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
         ActorThreadGroup threadGroup,
         TaskScheduler taskScheduler,
         ActorClock clock,
-        ActorTimerQueue timerQueue);
+        ActorTimerQueue timerQueue,
+        IdleStrategy idleStrategy);
   }
 
   private enum SchedulerState {
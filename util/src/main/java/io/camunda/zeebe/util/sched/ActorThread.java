@@ -12,11 +12,10 @@ import io.camunda.zeebe.util.Loggers;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
 import io.camunda.zeebe.util.sched.clock.DefaultActorClock;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.UnsafeAccess;
-import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
@@ -38,7 +37,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
       new ManyToManyConcurrentArrayQueue<>(1024 * 24);
   protected final ActorTimerQueue timerJobQueue;
-  protected ActorTaskRunnerIdleStrategy idleStrategy = new ActorTaskRunnerIdleStrategy();
+  protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
@@ -46,6 +45,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final TaskScheduler taskScheduler;
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
+  private final ActorThreadMetrics metrics;
   private volatile ActorThreadState state;
 
   public ActorThread(
@@ -54,7 +54,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       final ActorThreadGroup threadGroup,
       final TaskScheduler taskScheduler,
       final ActorClock clock,
-      final ActorTimerQueue timerQueue) {
+      final ActorTimerQueue timerQueue,
+      final IdleStrategy idleStrategy) {
     setName(name);
     state = ActorThreadState.NEW;
     threadId = id;
@@ -62,6 +63,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
+    this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
+    metrics = new ActorThreadMetrics(name);
   }
 
   private void doWork() {
@@ -244,13 +247,16 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
-    final BackoffIdleStrategy backoff =
-        new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    final IdleStrategy idleStrategy;
     boolean isIdle;
 
     long idleTimeStart;
     long busyTimeStart;
 
+    protected ActorTaskRunnerIdleStrategy(final IdleStrategy idleStrategy) {
+      this.idleStrategy = idleStrategy;
+    }
+
     void init() {
       isIdle = true;
       idleTimeStart = System.nanoTime();
@@ -263,18 +269,20 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     protected void onIdle() {
       if (!isIdle) {
         clock.update();
-        idleTimeStart = clock.getNanoTime();
+        idleTimeStart = System.nanoTime();
+        metrics.recordBusyTime(idleTimeStart - busyTimeStart);
         isIdle = true;
       }
 
-      backoff.idle();
+      idleStrategy.idle();
     }
 
     protected void onTaskExecuted() {
-      backoff.reset();
+      idleStrategy.reset();
 
       if (isIdle) {
-        busyTimeStart = clock.getNanoTime();
+        busyTimeStart = System.nanoTime();
+        metrics.recordIdleTime(busyTimeStart - idleTimeStart);
         isIdle = false;
       }
     }
@@ -47,7 +47,8 @@ public abstract class ActorThreadGroup {
                   this,
                   taskScheduler,
                   builder.getActorClock(),
-                  builder.getActorTimerQueue());
+                  builder.getActorTimerQueue(),
+                  builder.getIdleStrategySupplier().get());
 
       threads[t] = thread;
     }
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.sched;
+
+import io.prometheus.client.Counter;
+
+final class ActorThreadMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private static final Counter IDLE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_time_seconds_total")
+          .help("Total time in seconds an actor thread spent idle, waiting for work")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time_seconds_total")
+          .help("Total time in seconds an actor thread spent executing tasks")
+          .labelNames("thread")
+          .register();
+
+  private final Counter.Child idleTime;
+  private final Counter.Child busyTime;
+
+  ActorThreadMetrics(final String threadName) {
+    idleTime = IDLE_TIME.labels(threadName);
+    busyTime = BUSY_TIME.labels(threadName);
+  }
+
+  void recordIdleTime(final long nanos) {
+    idleTime.inc(nanos / NANOS_PER_SECOND);
+  }
+
+  void recordBusyTime(final long nanos) {
+    busyTime.inc(nanos / NANOS_PER_SECOND);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.sched;
+
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An idle strategy which adapts to how quickly work recently arrived after the thread became idle.
+ *
+ * <p>The strategy keeps a moving average of the length of the last idle periods. As long as work
+ * tends to arrive faster than the minimum park period, the thread spins and then yields before
+ * parking, as parking would only add latency. When the thread has been idle for longer periods, it
+ * skips the spinning and yielding phases and parks right away, with an exponentially growing park
+ * period up to the configured maximum, so that idle threads do not burn CPU.
+ *
+ * <p>Like other idle strategies, an instance is stateful and must not be shared between threads.
+ */
+public final class AdaptiveIdleStrategy implements IdleStrategy {
+
+  // weight of the newest idle period in the moving average, as a right shift (i.e. 1/8)
+  private static final int AVERAGE_WEIGHT_SHIFT = 3;
+
+  private final long maxSpins;
+  private final long maxYields;
+  private final long minParkPeriodNs;
+  private final long maxParkPeriodNs;
+
+  private long averageIdlePeriodNs;
+  private long idleStartNs;
+  private long spins;
+  private long yields;
+  private long parkPeriodNs;
+  private boolean idling;
+
+  public AdaptiveIdleStrategy(
+      final long maxSpins,
+      final long maxYields,
+      final long minParkPeriodNs,
+      final long maxParkPeriodNs) {
+    if (minParkPeriodNs < 1 || maxParkPeriodNs < minParkPeriodNs) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected 1 <= minParkPeriodNs <= maxParkPeriodNs, but got min %d and max %d",
+              minParkPeriodNs, maxParkPeriodNs));
+    }
+
+    this.maxSpins = maxSpins;
+    this.maxYields = maxYields;
+    this.minParkPeriodNs = minParkPeriodNs;
+    this.maxParkPeriodNs = maxParkPeriodNs;
+    parkPeriodNs = minParkPeriodNs;
+  }
+
+  @Override
+  public void idle(final int workCount) {
+    if (workCount > 0) {
+      reset();
+    } else {
+      idle();
+    }
+  }
+
+  @Override
+  public void idle() {
+    if (!idling) {
+      idling = true;
+      idleStartNs = System.nanoTime();
+
+      if (!isWorkExpectedSoon()) {
+        // skip spinning and yielding altogether, work did not arrive quickly in the recent past
+        spins = maxSpins;
+        yields = maxYields;
+      }
+    }
+
+    if (spins < maxSpins) {
+      spins++;
+      Thread.onSpinWait();
+    } else if (yields < maxYields) {
+      yields++;
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(parkPeriodNs);
+      parkPeriodNs = Math.min(parkPeriodNs << 1, maxParkPeriodNs);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (idling) {
+      final long idlePeriodNs = System.nanoTime() - idleStartNs;
+      averageIdlePeriodNs += (idlePeriodNs - averageIdlePeriodNs) >> AVERAGE_WEIGHT_SHIFT;
+      idling = false;
+    }
+
+    spins = 0;
+    yields = 0;
+    parkPeriodNs = minParkPeriodNs;
+  }
+
+  @Override
+  public String alias() {
+    return "adaptive";
+  }
+
+  long getAverageIdlePeriodNs() {
+    return averageIdlePeriodNs;
+  }
+
+  private boolean isWorkExpectedSoon() {
+    return averageIdlePeriodNs < minParkPeriodNs;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveIdleStrategy{"
+        + "maxSpins="
+        + maxSpins
+        + ", maxYields="
+        + maxYields
+        + ", minParkPeriodNs="
+        + minParkPeriodNs
+        + ", maxParkPeriodNs="
+        + maxParkPeriodNs
+        + '}';
+  }
+}
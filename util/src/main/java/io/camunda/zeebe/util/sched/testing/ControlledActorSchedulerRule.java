@@ -20,6 +20,7 @@ import io.camunda.zeebe.util.sched.clock.ControlledActorClock;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.concurrent.Callable;
+import org.agrona.concurrent.IdleStrategy;
 import org.junit.rules.ExternalResource;
 
 public final class ControlledActorSchedulerRule extends ExternalResource {
@@ -106,9 +107,11 @@ public final class ControlledActorSchedulerRule extends ExternalResource {
         final ActorThreadGroup threadGroup,
         final TaskScheduler taskScheduler,
         final ActorClock clock,
-        final ActorTimerQueue timerQueue) {
+        final ActorTimerQueue timerQueue,
+        final IdleStrategy idleStrategy) {
       controlledThread =
-          new ControlledActorThread(name, id, threadGroup, taskScheduler, clock, timerQueue);
+          new ControlledActorThread(
+              name, id, threadGroup, taskScheduler, clock, timerQueue, idleStrategy);
       return controlledThread;
     }
   }
@@ -15,6 +15,7 @@ import io.camunda.zeebe.util.sched.clock.ActorClock;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.IdleStrategy;
 
 public final class ControlledActorThread extends ActorThread {
   private final CyclicBarrier barrier = new CyclicBarrier(2);
@@ -25,9 +26,10 @@ public final class ControlledActorThread extends ActorThread {
       final ActorThreadGroup threadGroup,
       final TaskScheduler taskScheduler,
       final ActorClock clock,
-      final ActorTimerQueue timerQueue) {
-    super(name, id, threadGroup, taskScheduler, clock, timerQueue);
-    idleStrategy = new ControlledIdleStartegy();
+      final ActorTimerQueue timerQueue,
+      final IdleStrategy idleStrategy) {
+    super(name, id, threadGroup, taskScheduler, clock, timerQueue, idleStrategy);
+    this.idleStrategy = new ControlledIdleStartegy(idleStrategy);
   }
 
   public void workUntilDone() {
@@ -43,6 +45,10 @@ public final class ControlledActorThread extends ActorThread {
   }
 
   class ControlledIdleStartegy extends ActorTaskRunnerIdleStrategy {
+    ControlledIdleStartegy(final IdleStrategy idleStrategy) {
+      super(idleStrategy);
+    }
+
     @Override
     protected void onIdle() {
       super.onIdle();
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import org.junit.Test;
+
+public final class FlightRecorderEventsTest {
+
+  private static final String EVENT_NAME = "io.camunda.zeebe.util.jfr.Test";
+
+  private final AtomicInteger createdEvents = new AtomicInteger();
+
+  @Test
+  public void shouldNotBeginEventWithoutRecording() {
+    // when
+    final var event = FlightRecorderEvents.beginIfEnabled(TestEvent.class, this::newEvent);
+
+    // then
+    assertThat(event).isNull();
+    assertThat(createdEvents).hasValue(0);
+  }
+
+  @Test
+  public void shouldBeginEventIfEnabled() {
+    try (final var recording = new Recording()) {
+      // given
+      recording.enable(EVENT_NAME);
+      recording.start();
+
+      // when
+      final var event = FlightRecorderEvents.beginIfEnabled(TestEvent.class, this::newEvent);
+
+      // then
+      assertThat(event).isNotNull();
+      assertThat(createdEvents).hasValue(1);
+    }
+  }
+
+  private TestEvent newEvent() {
+    createdEvents.incrementAndGet();
+    return new TestEvent();
+  }
+
+  @Name(EVENT_NAME)
+  private static final class TestEvent extends Event {}
+}
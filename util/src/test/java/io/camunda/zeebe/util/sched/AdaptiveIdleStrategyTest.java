@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveIdleStrategyTest {
+
+  @Test
+  void shouldRejectInvalidParkPeriods() {
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(1, 1, 0, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(1, 1, 10, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldNotTrackIdlePeriodIfNeverIdle() {
+    // given
+    final var strategy = new AdaptiveIdleStrategy(1, 1, 1, 10);
+
+    // when
+    strategy.reset();
+    strategy.idle(1);
+
+    // then
+    assertThat(strategy.getAverageIdlePeriodNs()).isZero();
+  }
+
+  @Test
+  void shouldTrackAverageIdlePeriod() {
+    // given
+    final var minParkPeriodNs = TimeUnit.MICROSECONDS.toNanos(1);
+    final var strategy = new AdaptiveIdleStrategy(0, 0, minParkPeriodNs, minParkPeriodNs);
+
+    // when
+    strategy.idle();
+    strategy.idle();
+    strategy.reset();
+
+    // then
+    assertThat(strategy.getAverageIdlePeriodNs()).isPositive();
+  }
+
+  @Test
+  void shouldResetIdlePeriodTrackingOnWork() {
+    // given
+    final var strategy = new AdaptiveIdleStrategy(0, 0, 1, 1);
+    strategy.idle();
+    strategy.reset();
+    final var average = strategy.getAverageIdlePeriodNs();
+
+    // when
+    strategy.reset();
+
+    // then
+    assertThat(strategy.getAverageIdlePeriodNs()).isEqualTo(average);
+  }
+}
@@ -34,4 +34,22 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener, which is called whenever a transaction of this context is rolled back
+   * after changes were made in it. Caches of data which is read or written in transactions of this
+   * context can use it to drop changes which were never committed.
+   *
+   * @param listener the listener to call after a rollback
+   */
+  void addRollbackListener(Runnable listener);
+
+  /**
+   * Registers a listener, which is called whenever a transaction of this context is committed.
+   * Caches which track the changes of the current transaction, to undo them on a rollback, can use
+   * it to forget these changes once they are committed.
+   *
+   * @param listener the listener to call after a commit
+   */
+  void addCommitListener(Runnable listener);
 }
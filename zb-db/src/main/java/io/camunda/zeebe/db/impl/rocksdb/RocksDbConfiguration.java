@@ -18,6 +18,10 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_STATISTICS_ENABLED = false;
   public static final boolean DEFAULT_WAL_DISABLED = false;
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final CompressionProfile DEFAULT_COMPRESSION_PROFILE = CompressionProfile.LZ4;
+  public static final BloomFilterType DEFAULT_BLOOM_FILTER_TYPE = BloomFilterType.WHOLE_KEY;
+  public static final long DEFAULT_BLOCK_SIZE = 32 * 1024L;
+  public static final boolean DEFAULT_CACHE_INDEX_AND_FILTER_BLOCKS = true;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -46,6 +50,21 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  private CompressionProfile compressionProfile = DEFAULT_COMPRESSION_PROFILE;
+  private BloomFilterType bloomFilterType = DEFAULT_BLOOM_FILTER_TYPE;
+
+  /**
+   * The size of the data blocks of the SST files. Larger blocks compress better and need smaller
+   * indexes, but each read has to load and decompress more data.
+   */
+  private long blockSize = DEFAULT_BLOCK_SIZE;
+
+  /**
+   * Whether index and filter blocks are kept in the block cache, and thus accounted for in the
+   * memory limit, instead of being held by the table readers outside of it.
+   */
+  private boolean cacheIndexAndFilterBlocks = DEFAULT_CACHE_INDEX_AND_FILTER_BLOCKS;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -120,4 +139,69 @@ public final class RocksDbConfiguration {
     this.walDisabled = walDisabled;
     return this;
   }
+
+  public CompressionProfile getCompressionProfile() {
+    return compressionProfile;
+  }
+
+  public RocksDbConfiguration setCompressionProfile(final CompressionProfile compressionProfile) {
+    this.compressionProfile = compressionProfile;
+    return this;
+  }
+
+  public BloomFilterType getBloomFilterType() {
+    return bloomFilterType;
+  }
+
+  public RocksDbConfiguration setBloomFilterType(final BloomFilterType bloomFilterType) {
+    this.bloomFilterType = bloomFilterType;
+    return this;
+  }
+
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  public RocksDbConfiguration setBlockSize(final long blockSize) {
+    this.blockSize = blockSize;
+    return this;
+  }
+
+  public boolean isCacheIndexAndFilterBlocks() {
+    return cacheIndexAndFilterBlocks;
+  }
+
+  public RocksDbConfiguration setCacheIndexAndFilterBlocks(
+      final boolean cacheIndexAndFilterBlocks) {
+    this.cacheIndexAndFilterBlocks = cacheIndexAndFilterBlocks;
+    return this;
+  }
+
+  /** Controls how the data of the different levels of the LSM tree is compressed. */
+  public enum CompressionProfile {
+    /** Nothing is compressed; cheapest on CPU, but the state is the largest. */
+    NONE,
+    /** L0 and L1 are not compressed, all levels below are compressed with LZ4; the default. */
+    LZ4,
+    /**
+     * L0 and L1 are not compressed, the middle levels are compressed with LZ4, and the bottommost
+     * level, which holds most of the data, is compressed with ZSTD. Results in a smaller state, at
+     * the cost of more CPU for compactions and for reads which miss the block cache.
+     */
+    TIERED
+  }
+
+  /** Controls which keys are added to the bloom filters of the SST files. */
+  public enum BloomFilterType {
+    /**
+     * Whole keys and their column family prefixes are added, such that both point lookups and
+     * prefix seeks can skip files; the default.
+     */
+    WHOLE_KEY,
+    /**
+     * Only the column family prefixes are added, which makes the filters much smaller, but point
+     * lookups can then only skip files which contain no key of the column family.
+     */
+    PREFIX
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.BloomFilterType;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.time.Duration;
@@ -38,6 +39,8 @@ import org.rocksdb.TableFormatConfig;
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final int NUM_LEVELS = 4;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -133,12 +136,47 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
+      final var ignoredSettings = getSettingsIgnoredByUserOptions();
+      if (!ignoredSettings.isEmpty()) {
+        Loggers.DB_LOGGER.warn(
+            "Expected to configure RocksDB with {}, but these settings are ignored because custom "
+                + "column family options are set [User-provided ColumnFamilyOptions: {}]",
+            ignoredSettings,
+            userProvidedColumnFamilyOptions);
+      }
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
     return createDefaultColumnFamilyOptions(closeables);
   }
 
+  /**
+   * The user-provided column family options replace all of Zeebe's defaults, including those which
+   * are derived from the typed settings.
+   *
+   * @return the names of the typed settings which differ from their defaults, but are not applied
+   *     if user-provided column family options are set
+   */
+  List<String> getSettingsIgnoredByUserOptions() {
+    final List<String> ignoredSettings = new ArrayList<>();
+    if (rocksDbConfiguration.getCompressionProfile()
+        != RocksDbConfiguration.DEFAULT_COMPRESSION_PROFILE) {
+      ignoredSettings.add("compressionProfile");
+    }
+    if (rocksDbConfiguration.getBloomFilterType()
+        != RocksDbConfiguration.DEFAULT_BLOOM_FILTER_TYPE) {
+      ignoredSettings.add("bloomFilterType");
+    }
+    if (rocksDbConfiguration.getBlockSize() != RocksDbConfiguration.DEFAULT_BLOCK_SIZE) {
+      ignoredSettings.add("blockSize");
+    }
+    if (rocksDbConfiguration.isCacheIndexAndFilterBlocks()
+        != RocksDbConfiguration.DEFAULT_CACHE_INDEX_AND_FILTER_BLOCKS) {
+      ignoredSettings.add("cacheIndexAndFilterBlocks");
+    }
+    return ignoredSettings;
+  }
+
   private ColumnFamilyOptions createFromUserOptions(
       final Properties userProvidedColumnFamilyOptions) {
     final var columnFamilyOptions =
@@ -182,7 +220,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
 
     final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
 
-    return columnFamilyOptions
+    columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
         .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
@@ -204,18 +242,10 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             maxConcurrentMemtableCount + (maxConcurrentMemtableCount / 2))
         .setLevel0StopWritesTrigger(maxConcurrentMemtableCount * 2)
         // configure 4 levels: L1 = 32mb, L2 = 320mb, L3 = 3.2Gb, L4 >= 3.2Gb
-        // level 1 and 2 are uncompressed, level 3 and above are compressed using a CPU-cheap
-        // compression algo. compressed blocks are stored in the OS page cache, and uncompressed in
-        // the LRUCache created above. note L0 is always uncompressed
-        .setNumLevels(4)
+        // the compression of each level is set below based on the configured profile
+        .setNumLevels(NUM_LEVELS)
         .setMaxBytesForLevelBase(32 * 1024 * 1024L)
         .setMaxBytesForLevelMultiplier(10)
-        .setCompressionPerLevel(
-            List.of(
-                CompressionType.NO_COMPRESSION,
-                CompressionType.NO_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION))
         // Target file size for compaction.
         // Defines the desired SST file size for different levels (but not guaranteed, it is usually
         // lower)
@@ -229,9 +259,46 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setTargetFileSizeMultiplier(2)
         // misc
         .setTableFormatConfig(tableConfig);
+
+    return configureCompression(columnFamilyOptions);
   }
 
-  private TableFormatConfig createTableFormatConfig(
+  private ColumnFamilyOptions configureCompression(final ColumnFamilyOptions columnFamilyOptions) {
+    // compressed blocks are stored in the OS page cache, and uncompressed in the block cache. L0
+    // and L1 are always uncompressed: L0 is flushed often and L1 is rewritten by most compactions,
+    // so compressing them costs a lot of CPU for little gain
+    switch (rocksDbConfiguration.getCompressionProfile()) {
+      case NONE:
+        return columnFamilyOptions.setCompressionPerLevel(
+            compressionPerLevel(CompressionType.NO_COMPRESSION));
+      case LZ4:
+        return columnFamilyOptions.setCompressionPerLevel(
+            compressionPerLevel(CompressionType.LZ4_COMPRESSION));
+      case TIERED:
+        // with dynamic level bytes the per level compression is relative to the base level, so
+        // while the state is small the bottommost level would use the settings of L1; setting the
+        // bottommost compression explicitly ensures most of the data is always compressed well
+        return columnFamilyOptions
+            .setCompressionPerLevel(compressionPerLevel(CompressionType.LZ4_COMPRESSION))
+            .setBottommostCompressionType(CompressionType.ZSTD_COMPRESSION);
+      default:
+        throw new IllegalStateException(
+            "Expected a known compression profile, but got "
+                + rocksDbConfiguration.getCompressionProfile());
+    }
+  }
+
+  private static List<CompressionType> compressionPerLevel(final CompressionType compressionType) {
+    final var compressionPerLevel = new ArrayList<CompressionType>(NUM_LEVELS);
+    compressionPerLevel.add(CompressionType.NO_COMPRESSION);
+    compressionPerLevel.add(CompressionType.NO_COMPRESSION);
+    while (compressionPerLevel.size() < NUM_LEVELS) {
+      compressionPerLevel.add(compressionType);
+    }
+    return compressionPerLevel;
+  }
+
+  TableFormatConfig createTableFormatConfig(
       final List<AutoCloseable> closeables, final long blockCacheMemory) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
@@ -241,10 +308,12 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
+    final var cacheIndexAndFilterBlocks = rocksDbConfiguration.isCacheIndexAndFilterBlocks();
+
     return new BlockBasedTableConfig()
         .setBlockCache(cache)
         // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
+        .setBlockSize(rocksDbConfiguration.getBlockSize())
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
@@ -252,9 +321,9 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         // caching and pinning indexes and filters is important to keep reads/seeks fast when we
         // have many memtables, and pinning them ensures they are never evicted from the block
         // cache
-        .setCacheIndexAndFilterBlocks(true)
-        .setPinL0FilterAndIndexBlocksInCache(true)
-        .setCacheIndexAndFilterBlocksWithHighPriority(true)
+        .setCacheIndexAndFilterBlocks(cacheIndexAndFilterBlocks)
+        .setPinL0FilterAndIndexBlocksInCache(cacheIndexAndFilterBlocks)
+        .setCacheIndexAndFilterBlocksWithHighPriority(cacheIndexAndFilterBlocks)
         // default is binary search, but all of our scans are prefix based which is a good use
         // case for efficient hashing
         .setIndexType(IndexType.kHashSearch)
@@ -265,7 +334,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         // while we mostly care about the prefixes, these are covered below by the
         // setMemtablePrefixBloomSizeRatio which will create a separate index for prefixes, so
         // keeping the whole keys in the prefixes is still useful for efficient gets. think of
-        // it as a two-tiered index
-        .setWholeKeyFiltering(true);
+        // it as a two-tiered index; filtering only by prefix trades this for smaller filters
+        .setWholeKeyFiltering(
+            rocksDbConfiguration.getBloomFilterType() == BloomFilterType.WHOLE_KEY);
   }
 }
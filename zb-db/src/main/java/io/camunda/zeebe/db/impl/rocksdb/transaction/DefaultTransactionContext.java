@@ -56,6 +56,16 @@ public final class DefaultTransactionContext implements TransactionContext {
     return transaction;
   }
 
+  @Override
+  public void addRollbackListener(final Runnable listener) {
+    transaction.addRollbackListener(listener);
+  }
+
+  @Override
+  public void addCommitListener(final Runnable listener) {
+    transaction.addCommitListener(listener);
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
@@ -35,9 +35,7 @@ public final class RocksDbInternal {
 
   static Field nativeHandle;
 
-  static Method putWithHandle;
   static Method getWithHandle;
-  static Method removeWithHandle;
 
   static Method seekMethod;
 
@@ -54,9 +52,7 @@ public final class RocksDbInternal {
   private static void resolveInternalMethods() throws NoSuchFieldException, NoSuchMethodException {
     nativeHandles();
 
-    putWithHandle();
     getWithHandle();
-    removeWithHandle();
 
     seekWithHandle();
   }
@@ -66,24 +62,6 @@ public final class RocksDbInternal {
     nativeHandle.setAccessible(true);
   }
 
-  //    private native void put(final long handle, final byte[] key,
-  //      final int keyLength, final byte[] value, final int valueLength,
-  //      final long columnFamilyHandle)
-
-  private static void putWithHandle() throws NoSuchMethodException {
-    putWithHandle =
-        Transaction.class.getDeclaredMethod(
-            "put",
-            Long.TYPE,
-            byte[].class,
-            Integer.TYPE,
-            byte[].class,
-            Integer.TYPE,
-            Long.TYPE,
-            Boolean.TYPE);
-    putWithHandle.setAccessible(true);
-  }
-
   private static void getWithHandle() throws NoSuchMethodException {
     getWithHandle =
         Transaction.class.getDeclaredMethod(
@@ -91,13 +69,6 @@ public final class RocksDbInternal {
     getWithHandle.setAccessible(true);
   }
 
-  private static void removeWithHandle() throws NoSuchMethodException {
-    removeWithHandle =
-        Transaction.class.getDeclaredMethod(
-            "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE, Boolean.TYPE);
-    removeWithHandle.setAccessible(true);
-  }
-
   private static void seekWithHandle() throws NoSuchMethodException {
     seekMethod =
         RocksIterator.class.getDeclaredMethod("seek0", long.class, byte[].class, int.class);
@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for committing a transaction to RocksDB, which includes applying the
+ * collected writes to the RocksDB transaction. Only commits which take longer than the threshold
+ * are recorded.
+ */
+@Name("io.camunda.zeebe.db.TransactionCommit")
+@Label("RocksDB Transaction Commit")
+@Category({"Zeebe", "RocksDB"})
+@Description("Committing a transaction to RocksDB")
+@Threshold("5 ms")
+@StackTrace(false)
+final class TransactionCommitEvent extends Event {
+
+  @Label("Writes")
+  @Description("The number of keys which were put or deleted in the transaction")
+  int writes;
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
+
+/**
+ * The pending writes of a single column family within a transaction, sorted like RocksDB sorts its
+ * keys (i.e. bytewise). Deletes are kept as tombstones, so that they hide the committed value of a
+ * key until the transaction is committed.
+ *
+ * <p>Values are copied on write, and keys when they are written for the first time. A value array
+ * is never modified afterwards, such that views on a returned value stay valid even if the key is
+ * written again. The stored keys wrap an array of exactly their length. Lookups wrap the given key
+ * without copying it.
+ *
+ * <p>A write set is not thread safe, like the transaction it belongs to.
+ */
+final class TransactionWriteSet {
+
+  private static final byte[] TOMBSTONE = new byte[0];
+
+  private final NavigableMap<DirectBuffer, byte[]> writes =
+      new TreeMap<>(TransactionWriteSet::compareUnsigned);
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private final ColumnFamilyHandle columnFamilyHandle;
+
+  TransactionWriteSet(final ColumnFamilyHandle columnFamilyHandle) {
+    this.columnFamilyHandle = columnFamilyHandle;
+  }
+
+  void put(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    write(key, keyLength, Arrays.copyOf(value, valueLength));
+  }
+
+  void delete(final byte[] key, final int keyLength) {
+    write(key, keyLength, TOMBSTONE);
+  }
+
+  /**
+   * @return the pending value for the given key, or null if the key was not written in this
+   *     transaction; use {@link #isDeleted(byte[])} to check whether the key was deleted
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    return writes.isEmpty() ? null : writes.get(wrapLookupKey(key, keyLength));
+  }
+
+  /** @return the first pending entry with a key equal to or greater than the given key */
+  Entry<DirectBuffer, byte[]> ceilingEntry(final byte[] key, final int keyLength) {
+    return writes.isEmpty() ? null : writes.ceilingEntry(wrapLookupKey(key, keyLength));
+  }
+
+  /** @return the first pending entry with a key strictly greater than the given key */
+  Entry<DirectBuffer, byte[]> higherEntry(final byte[] key) {
+    return writes.isEmpty() ? null : writes.higherEntry(wrapLookupKey(key, key.length));
+  }
+
+  boolean isEmpty() {
+    return writes.isEmpty();
+  }
+
+  int size() {
+    return writes.size();
+  }
+
+  /**
+   * @return the pending writes; the key buffers wrap an array of exactly their length, which can be
+   *     accessed via {@link DirectBuffer#byteArray()}
+   */
+  NavigableMap<DirectBuffer, byte[]> getWrites() {
+    return writes;
+  }
+
+  ColumnFamilyHandle getColumnFamilyHandle() {
+    return columnFamilyHandle;
+  }
+
+  void clear() {
+    writes.clear();
+  }
+
+  static boolean isDeleted(final byte[] value) {
+    return value == TOMBSTONE;
+  }
+
+  private void write(final byte[] key, final int keyLength, final byte[] value) {
+    // the key is only copied if it was not written before in this transaction
+    if (writes.replace(wrapLookupKey(key, keyLength), value) == null) {
+      writes.put(new UnsafeBuffer(Arrays.copyOf(key, keyLength)), value);
+    }
+  }
+
+  private DirectBuffer wrapLookupKey(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    return lookupKey;
+  }
+
+  /** Compares the keys bytewise; all keys wrap an array starting at offset 0. */
+  private static int compareUnsigned(final DirectBuffer key, final DirectBuffer otherKey) {
+    return Arrays.compareUnsigned(
+        key.byteArray(), 0, key.capacity(), otherKey.byteArray(), 0, otherKey.capacity());
+  }
+}
@@ -14,6 +14,8 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
+import java.util.Arrays;
+import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -271,22 +273,80 @@ class TransactionalColumnFamily<
                 transaction -> {
                   try (final RocksIterator iterator =
                       newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+                    RocksDbInternal.seek(
+                        iterator,
+                        ZeebeTransactionDb.getNativeHandle(iterator),
+                        prefixKey,
+                        prefixLength);
+
+                    final TransactionWriteSet writeSet =
+                        transaction.getWriteSet(transactionDb.getDefaultNativeHandle());
+                    // the pending writes are looked up again after each visited key, as the visitor
+                    // may write to the same column family while iterating
+                    byte[] lastVisitedKey = null;
                     boolean shouldVisitNext = true;
 
-                    for (RocksDbInternal.seek(
-                            iterator,
-                            ZeebeTransactionDb.getNativeHandle(iterator),
-                            prefixKey,
-                            prefixLength);
-                        iterator.isValid() && shouldVisitNext;
-                        iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                    while (shouldVisitNext) {
+                      byte[] committedKey = iterator.isValid() ? iterator.key() : null;
+                      if (committedKey != null
+                          && !startsWith(
+                              prefixKey, 0, prefixLength, committedKey, 0, committedKey.length)) {
+                        committedKey = null;
+                      }
+
+                      Entry<DirectBuffer, byte[]> pendingWrite =
+                          lastVisitedKey == null
+                              ? writeSet.ceilingEntry(prefixKey, prefixLength)
+                              : writeSet.higherEntry(lastVisitedKey);
+                      if (pendingWrite != null
+                          && !startsWith(
+                              prefixKey,
+                              0,
+                              prefixLength,
+                              pendingWrite.getKey().byteArray(),
+                              0,
+                              pendingWrite.getKey().capacity())) {
+                        pendingWrite = null;
+                      }
+
+                      if (committedKey == null && pendingWrite == null) {
                         break;
                       }
 
-                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                      final int order =
+                          committedKey == null
+                              ? 1
+                              : pendingWrite == null
+                                  ? -1
+                                  : Arrays.compareUnsigned(
+                                      committedKey, pendingWrite.getKey().byteArray());
+                      if (order < 0) {
+                        lastVisitedKey = committedKey;
+                        shouldVisitNext =
+                            visit(
+                                keyInstance,
+                                valueInstance,
+                                visitor,
+                                committedKey,
+                                iterator.value());
+                        iterator.next();
+                      } else {
+                        if (order == 0) {
+                          // the pending write overrides the committed value
+                          iterator.next();
+                        }
+
+                        lastVisitedKey = pendingWrite.getKey().byteArray();
+                        if (!TransactionWriteSet.isDeleted(pendingWrite.getValue())) {
+                          shouldVisitNext =
+                              visit(
+                                  keyInstance,
+                                  valueInstance,
+                                  visitor,
+                                  lastVisitedKey,
+                                  pendingWrite.getValue());
+                        }
+                      }
                     }
                   }
                 }));
@@ -296,11 +356,10 @@ class TransactionalColumnFamily<
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
-      final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
+      final byte[] keyBytes,
+      final byte[] valueBytes) {
     columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+    columnFamilyContext.wrapValueView(valueBytes);
 
     final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
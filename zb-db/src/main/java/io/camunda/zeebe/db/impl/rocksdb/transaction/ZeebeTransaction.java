@@ -12,23 +12,41 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Transaction;
-
+import org.rocksdb.WriteBatch;
+
+/**
+ * Wraps a RocksDB transaction. Writes are not passed to RocksDB right away, but collected in a
+ * {@link TransactionWriteSet} per column family, which serves reads of keys written in the same
+ * transaction without crossing into native code. When the transaction is committed, the collected
+ * writes are applied to RocksDB atomically, with a single write batch; they are dropped when it is
+ * rolled back. The RocksDB transaction itself is only used to read committed keys.
+ */
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  private final ZeebeTransactionDb<?> transactionDb;
+  private final WriteBatch writeBatch = new WriteBatch();
+  private final Long2ObjectHashMap<TransactionWriteSet> writeSets = new Long2ObjectHashMap<>();
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
+  private final List<Runnable> commitListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
   public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
+      final Transaction transaction, final ZeebeTransactionDb<?> transactionDb) {
+    this.transactionDb = transactionDb;
     this.transaction = transaction;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
@@ -44,8 +62,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
-    RocksDbInternal.putWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    getWriteSet(columnFamilyHandle).put(key, keyLength, value, valueLength);
   }
 
   public byte[] get(
@@ -54,6 +71,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
+    final TransactionWriteSet writeSet = writeSets.get(columnFamilyHandle);
+    if (writeSet != null) {
+      final byte[] pendingValue = writeSet.get(key, keyLength);
+      if (pendingValue != null) {
+        return TransactionWriteSet.isDeleted(pendingValue) ? null : pendingValue;
+      }
+    }
+
     return (byte[])
         RocksDbInternal.getWithHandle.invoke(
             transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
@@ -61,8 +86,21 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
-    RocksDbInternal.removeWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    getWriteSet(columnFamilyHandle).delete(key, keyLength);
+  }
+
+  /**
+   * Returns the writes of this transaction to the given column family, which have not been applied
+   * to RocksDB yet. Iterators created via {@link #newIterator(ReadOptions, ColumnFamilyHandle)} do
+   * not see these, so they have to be merged with the write set.
+   */
+  TransactionWriteSet getWriteSet(final long columnFamilyHandle) {
+    TransactionWriteSet writeSet = writeSets.get(columnFamilyHandle);
+    if (writeSet == null) {
+      writeSet = new TransactionWriteSet(transactionDb.getColumnFamilyHandle(columnFamilyHandle));
+      writeSets.put(columnFamilyHandle, writeSet);
+    }
+    return writeSet;
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
@@ -70,7 +108,8 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    clearWriteSets();
+    transaction = transactionDb.renewTransaction(transaction);
     inCurrentTransaction = true;
   }
 
@@ -118,16 +157,91 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void commitInternal() throws RocksDBException {
+    final var commitEvent =
+        FlightRecorderEvents.beginIfEnabled(
+            TransactionCommitEvent.class, TransactionCommitEvent::new);
+
     inCurrentTransaction = false;
-    transaction.commit();
+    // the write sets are only cleared once committed, such that a failed commit can be retried;
+    // applying the same writes again is idempotent
+    applyWriteSets();
+
+    if (commitEvent != null) {
+      commitEvent.end();
+      if (commitEvent.shouldCommit()) {
+        commitEvent.writes = countPendingWrites();
+        commitEvent.commit();
+      }
+    }
+    clearWriteSets();
+    commitListeners.forEach(Runnable::run);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    final boolean hasDiscardedWrites = hasPendingWrites();
+    clearWriteSets();
+    try {
+      transaction.rollback();
+    } finally {
+      if (hasDiscardedWrites) {
+        rollbackListeners.forEach(Runnable::run);
+      }
+    }
+  }
+
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
+  }
+
+  void addCommitListener(final Runnable listener) {
+    commitListeners.add(listener);
+  }
+
+  private boolean hasPendingWrites() {
+    for (final TransactionWriteSet writeSet : writeSets.values()) {
+      if (!writeSet.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int countPendingWrites() {
+    int writes = 0;
+    for (final TransactionWriteSet writeSet : writeSets.values()) {
+      writes += writeSet.size();
+    }
+    return writes;
+  }
+
+  private void applyWriteSets() throws RocksDBException {
+    if (!hasPendingWrites()) {
+      return;
+    }
+
+    writeBatch.clear();
+    for (final TransactionWriteSet writeSet : writeSets.values()) {
+      final ColumnFamilyHandle columnFamilyHandle = writeSet.getColumnFamilyHandle();
+      for (final Entry<DirectBuffer, byte[]> write : writeSet.getWrites().entrySet()) {
+        final byte[] key = write.getKey().byteArray();
+        final byte[] value = write.getValue();
+        if (TransactionWriteSet.isDeleted(value)) {
+          writeBatch.delete(columnFamilyHandle, key);
+        } else {
+          writeBatch.put(columnFamilyHandle, key, value);
+        }
+      }
+    }
+    transactionDb.write(writeBatch);
+  }
+
+  private void clearWriteSets() {
+    writeSets.values().forEach(TransactionWriteSet::clear);
   }
 
   public void close() {
+    writeBatch.close();
     transaction.close();
   }
 }
@@ -28,6 +28,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -111,6 +112,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return defaultNativeHandle;
   }
 
+  ColumnFamilyHandle getColumnFamilyHandle(final long nativeHandle) {
+    if (nativeHandle != defaultNativeHandle) {
+      throw new IllegalArgumentException(
+          "Expected the native handle of the default column family, but got " + nativeHandle);
+    }
+    return defaultHandle;
+  }
+
+  /** Writes the given batch atomically, with the default write options. */
+  void write(final WriteBatch writeBatch) throws RocksDBException {
+    optimisticTransactionDB.write(defaultWriteOptions, writeBatch);
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
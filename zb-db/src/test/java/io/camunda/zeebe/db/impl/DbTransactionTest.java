@@ -15,7 +15,9 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -459,6 +461,152 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldIterateOverCommittedAndUncommittedValues() throws Exception {
+    // given
+    transactionContext.runInTransaction(
+        () -> {
+          for (long key = 1; key <= 4; key++) {
+            oneKey.wrapLong(key);
+            oneValue.wrapLong(key);
+            oneColumnFamily.put(oneKey, oneValue);
+          }
+        });
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(2);
+          oneColumnFamily.delete(oneKey);
+          oneKey.wrapLong(3);
+          oneValue.wrapLong(30);
+          oneColumnFamily.put(oneKey, oneValue);
+          oneKey.wrapLong(5);
+          oneValue.wrapLong(50);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+
+    // when
+    final Map<Long, Long> values = new HashMap<>();
+    oneColumnFamily.forEach((key, value) -> values.put(key.getValue(), value.getValue()));
+
+    // then
+    assertThat(values)
+        .containsOnly(Map.entry(1L, 1L), Map.entry(3L, 30L), Map.entry(4L, 4L), Map.entry(5L, 50L));
+  }
+
+  @Test
+  public void shouldVisitValuesWrittenWhileIterating() throws Exception {
+    // given
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    final List<Long> visitedKeys = new ArrayList<>();
+    transaction.run(
+        () ->
+            oneColumnFamily.forEach(
+                (key, value) -> {
+                  final long visitedKey = key.getValue();
+                  visitedKeys.add(visitedKey);
+                  if (visitedKey < 3) {
+                    oneColumnFamily.delete(key);
+                    oneKey.wrapLong(visitedKey + 1);
+                    oneValue.wrapLong(visitedKey + 1);
+                    oneColumnFamily.put(oneKey, oneValue);
+                  }
+                }));
+    transaction.commit();
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L, 2L, 3L);
+    final Map<Long, Long> values = new HashMap<>();
+    oneColumnFamily.forEach((key, value) -> values.put(key.getValue(), value.getValue()));
+    assertThat(values).containsOnly(Map.entry(3L, 3L));
+  }
+
+  @Test
+  public void shouldNotSeeUncommittedValuesAfterRollback() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    assertThat(oneColumnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerWhenWritesAreDiscarded() throws Exception {
+    // given
+    final AtomicLong rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenerWhenWritesAreCommitted() {
+    // given
+    final AtomicLong rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
+
+  @Test
+  public void shouldNotifyCommitListenerWhenTransactionIsCommitted() {
+    // given
+    final AtomicLong commits = new AtomicLong();
+    transactionContext.addCommitListener(commits::incrementAndGet);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+
+    // then
+    assertThat(commits).hasValue(1);
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
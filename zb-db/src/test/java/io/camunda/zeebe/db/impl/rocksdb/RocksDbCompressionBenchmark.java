@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.BloomFilterType;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.CompressionProfile;
+import io.camunda.zeebe.util.ByteValue;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.agrona.CloseHelper;
+import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/**
+ * Compares the state size and the read and write amplification of the compression profiles and
+ * bloom filter types, using the column family options created by {@link ZeebeRocksDbFactory}.
+ *
+ * <p>Each run writes and then updates the given number of keys with values that resemble the
+ * MessagePack encoded records of the state, waits for the compactions to finish and then looks up
+ * random keys. It reports:
+ *
+ * <ul>
+ *   <li>the size of the live SST files, i.e. what is part of a snapshot
+ *   <li>the write amplification, i.e. the bytes written by flushes and compactions per byte written
+ *       by the user; since the user bytes are uncompressed, compression can push it below the
+ *       number of times each byte is rewritten
+ *   <li>the read amplification, i.e. the blocks which are read from disk per lookup
+ * </ul>
+ *
+ * <p>It is not run as part of the build; run it with the test classpath, optionally passing the
+ * number of keys and the memory limit in megabytes.
+ */
+public final class RocksDbCompressionBenchmark {
+
+  private static final int LOOKUPS = 100_000;
+  private static final long SEED = 42;
+
+  private RocksDbCompressionBenchmark() {}
+
+  public static void main(final String[] args) throws Exception {
+    final int keys = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+    final long memoryLimit = ByteValue.ofMegabytes(args.length > 1 ? Long.parseLong(args[1]) : 64);
+
+    System.out.printf(
+        "%d keys, %d MB memory limit, %d lookups%n",
+        keys, memoryLimit / 1024 / 1024, LOOKUPS);
+    System.out.printf(
+        "%-8s %-10s %12s %10s %12s %10s %12s%n",
+        "profile", "filter", "state (MB)", "write amp", "write (s)", "read amp", "lookup (us)");
+
+    for (final CompressionProfile compressionProfile : CompressionProfile.values()) {
+      for (final BloomFilterType bloomFilterType : BloomFilterType.values()) {
+        final var configuration =
+            new RocksDbConfiguration()
+                .setMemoryLimit(memoryLimit)
+                .setCompressionProfile(compressionProfile)
+                .setBloomFilterType(bloomFilterType);
+        run(configuration, keys);
+      }
+    }
+  }
+
+  private static void run(final RocksDbConfiguration configuration, final int keys)
+      throws RocksDBException, IOException, InterruptedException {
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>) ZeebeRocksDbFactory.newFactory(configuration);
+    final Path directory = Files.createTempDirectory("rocksdb-benchmark");
+    final List<AutoCloseable> closeables = new ArrayList<>();
+
+    try {
+      // closed in reverse order, so the column family options are closed last
+      final var columnFamilyOptions = factory.createColumnFamilyOptions(closeables);
+      closeables.add(0, columnFamilyOptions);
+      final var statistics = new Statistics();
+      closeables.add(statistics);
+      final var dbOptions =
+          new DBOptions()
+              .setCreateIfMissing(true)
+              .setMaxBackgroundJobs(2)
+              .setStatistics(statistics);
+      closeables.add(dbOptions);
+      final var options = new Options(dbOptions, columnFamilyOptions);
+      closeables.add(options);
+      final var db = RocksDB.open(options, directory.toString());
+      closeables.add(db);
+
+      final var random = new Random(SEED);
+      final long writeStart = System.nanoTime();
+      // the second pass updates every key, which is what makes the compactions rewrite data
+      for (int pass = 0; pass < 2; pass++) {
+        for (int key = 0; key < keys; key++) {
+          db.put(key(key), value(key, random));
+        }
+      }
+      try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      awaitCompactions(db);
+      final long writeNanos = System.nanoTime() - writeStart;
+
+      final long stateSize = Long.parseLong(db.getProperty("rocksdb.live-sst-files-size"));
+      final long userBytesWritten = statistics.getTickerCount(TickerType.BYTES_WRITTEN);
+      final long bytesWritten =
+          statistics.getTickerCount(TickerType.FLUSH_WRITE_BYTES)
+              + statistics.getTickerCount(TickerType.COMPACT_WRITE_BYTES);
+
+      final long blocksReadBefore = blocksRead(statistics);
+      final long lookupStart = System.nanoTime();
+      for (int i = 0; i < LOOKUPS; i++) {
+        db.get(key(random.nextInt(keys)));
+      }
+      final long lookupNanos = System.nanoTime() - lookupStart;
+      final long blocksRead = blocksRead(statistics) - blocksReadBefore;
+
+      System.out.printf(
+          "%-8s %-10s %12.1f %10.2f %12.1f %10.2f %12.1f%n",
+          configuration.getCompressionProfile(),
+          configuration.getBloomFilterType(),
+          stateSize / 1024.0 / 1024.0,
+          bytesWritten / (double) userBytesWritten,
+          writeNanos / 1e9,
+          blocksRead / (double) LOOKUPS,
+          lookupNanos / 1e3 / LOOKUPS);
+    } finally {
+      for (int i = closeables.size() - 1; i >= 0; i--) {
+        CloseHelper.quietClose(closeables.get(i));
+      }
+      deleteDirectory(directory);
+    }
+  }
+
+  private static long blocksRead(final Statistics statistics) {
+    return statistics.getTickerCount(TickerType.BLOCK_CACHE_DATA_MISS)
+        + statistics.getTickerCount(TickerType.BLOCK_CACHE_INDEX_MISS)
+        + statistics.getTickerCount(TickerType.BLOCK_CACHE_FILTER_MISS);
+  }
+
+  private static void awaitCompactions(final RocksDB db)
+      throws RocksDBException, InterruptedException {
+    while (!"0".equals(db.getProperty("rocksdb.compaction-pending"))
+        || !"0".equals(db.getProperty("rocksdb.num-running-compactions"))) {
+      Thread.sleep(100);
+    }
+  }
+
+  /** Like the keys of the state: the column family as long prefix, followed by a long key. */
+  private static byte[] key(final long key) {
+    return ByteBuffer.allocate(2 * Long.BYTES)
+        .putLong(DefaultColumnFamily.DEFAULT.ordinal())
+        .putLong(key)
+        .array();
+  }
+
+  /**
+   * Like the values of the state: a document with the same property names in every value, but
+   * different keys and variables.
+   */
+  private static byte[] value(final long key, final Random random) {
+    return String.format(
+            "{\"bpmnProcessId\":\"order-process\",\"version\":3,\"processDefinitionKey\":%d,"
+                + "\"processInstanceKey\":%d,\"elementId\":\"task-%d\",\"bpmnElementType\":"
+                + "\"SERVICE_TASK\",\"flowScopeKey\":%d,\"variables\":{\"orderId\":\"%s\","
+                + "\"amount\":%d,\"customer\":\"customer-%d\"}}",
+            2251799813685249L,
+            2251799813685249L + key,
+            key % 10,
+            2251799813685249L + key / 10,
+            Long.toHexString(random.nextLong()),
+            random.nextInt(10_000),
+            random.nextInt(1_000))
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void deleteDirectory(final Path directory) throws IOException {
+    try (final Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+}
@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.BloomFilterType;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.CompressionProfile;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
@@ -20,8 +22,10 @@ import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompressionType;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -98,6 +102,110 @@ public final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  public void shouldCompressWithLz4PerDefault() {
+    // given
+    final var factory = (ZeebeRocksDbFactory<DefaultColumnFamily>) ZeebeRocksDbFactory.newFactory();
+
+    // when
+    final var options = factory.createColumnFamilyOptions(new ArrayList<>());
+
+    // then
+    assertThat(options.compressionPerLevel())
+        .containsExactly(
+            CompressionType.NO_COMPRESSION,
+            CompressionType.NO_COMPRESSION,
+            CompressionType.LZ4_COMPRESSION,
+            CompressionType.LZ4_COMPRESSION);
+    assertThat(options.bottommostCompressionType())
+        .isEqualTo(CompressionType.DISABLE_COMPRESSION_OPTION);
+  }
+
+  @Test
+  public void shouldCompressBottommostLevelWithZstdIfTiered() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                new RocksDbConfiguration().setCompressionProfile(CompressionProfile.TIERED));
+
+    // when
+    final var options = factory.createColumnFamilyOptions(new ArrayList<>());
+
+    // then
+    assertThat(options.compressionPerLevel())
+        .containsExactly(
+            CompressionType.NO_COMPRESSION,
+            CompressionType.NO_COMPRESSION,
+            CompressionType.LZ4_COMPRESSION,
+            CompressionType.LZ4_COMPRESSION);
+    assertThat(options.bottommostCompressionType()).isEqualTo(CompressionType.ZSTD_COMPRESSION);
+  }
+
+  @Test
+  public void shouldNotCompressWithoutCompressionProfile() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                new RocksDbConfiguration().setCompressionProfile(CompressionProfile.NONE));
+
+    // when
+    final var options = factory.createColumnFamilyOptions(new ArrayList<>());
+
+    // then
+    assertThat(options.compressionPerLevel()).containsOnly(CompressionType.NO_COMPRESSION);
+    assertThat(options.bottommostCompressionType())
+        .isEqualTo(CompressionType.DISABLE_COMPRESSION_OPTION);
+  }
+
+  @Test
+  public void shouldConfigureTableFormat() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                new RocksDbConfiguration()
+                    .setBloomFilterType(BloomFilterType.PREFIX)
+                    .setBlockSize(ByteValue.ofKilobytes(16))
+                    .setCacheIndexAndFilterBlocks(false));
+
+    // when
+    final var tableFormatConfig =
+        factory.createTableFormatConfig(new ArrayList<>(), ByteValue.ofMegabytes(1));
+
+    // then
+    assertThat(tableFormatConfig)
+        .isInstanceOfSatisfying(
+            BlockBasedTableConfig.class,
+            tableConfig -> {
+              assertThat(tableConfig.wholeKeyFiltering()).isFalse();
+              assertThat(tableConfig.blockSize()).isEqualTo(ByteValue.ofKilobytes(16));
+              assertThat(tableConfig.cacheIndexAndFilterBlocks()).isFalse();
+              assertThat(tableConfig.pinL0FilterAndIndexBlocksInCache()).isFalse();
+            });
+  }
+
+  @Test
+  public void shouldReportTypedSettingsIgnoredByUserOptions() {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("write_buffer_size", String.valueOf(ByteValue.ofMegabytes(16)));
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                new RocksDbConfiguration()
+                    .setColumnFamilyOptions(customProperties)
+                    .setCompressionProfile(CompressionProfile.NONE)
+                    .setBlockSize(ByteValue.ofKilobytes(16)));
+
+    // when
+    final var ignoredSettings = factory.getSettingsIgnoredByUserOptions();
+
+    // then
+    assertThat(ignoredSettings).containsExactly("compressionProfile", "blockSize");
+  }
+
   @Test
   public void shouldFailIfPropertiesDoesntExist() throws Exception {
     // given
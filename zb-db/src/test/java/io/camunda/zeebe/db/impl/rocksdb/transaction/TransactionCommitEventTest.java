@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.util.jfr.FlightRecorderEvents;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class TransactionCommitEventTest {
+
+  private static final String EVENT_NAME = "io.camunda.zeebe.db.TransactionCommit";
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(temporaryFolder.newFolder());
+    transactionContext = zeebeDb.createContext();
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldNotBeginEventWithoutRecording() {
+    // when
+    final var event =
+        FlightRecorderEvents.beginIfEnabled(
+            TransactionCommitEvent.class, TransactionCommitEvent::new);
+
+    // then
+    assertThat(event).isNull();
+  }
+
+  @Test
+  public void shouldRecordCommit() throws Exception {
+    // given
+    final Path recordingFile = temporaryFolder.newFile("commit.jfr").toPath();
+
+    try (final var recording = new Recording()) {
+      recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+      recording.start();
+
+      // when
+      transactionContext.runInTransaction(
+          () -> {
+            putValue(1);
+            putValue(2);
+            columnFamily.delete(key);
+          });
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // then
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+    assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals(EVENT_NAME))
+        .extracting(event -> event.getInt("writes"))
+        .containsExactly(2);
+  }
+
+  private void putValue(final long keyValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(keyValue);
+    columnFamily.put(key, value);
+  }
+}